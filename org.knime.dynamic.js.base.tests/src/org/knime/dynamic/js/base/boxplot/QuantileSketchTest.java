@@ -0,0 +1,140 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   17 Oct 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.dynamic.js.base.boxplot;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link QuantileSketch}.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+public class QuantileSketchTest {
+
+    /**
+     * An empty sketch has no quantiles.
+     */
+    @Test
+    public void testEmpty() {
+        QuantileSketch sketch = new QuantileSketch();
+        assertEquals(0, sketch.getCount());
+        assertTrue(Double.isNaN(sketch.getQuantile(0.5)));
+        assertTrue(Double.isNaN(sketch.getMin()));
+    }
+
+    /**
+     * As long as the sketch is not compacted, the quantiles are the exact, interpolated quantiles of the values.
+     */
+    @Test
+    public void testExactBeforeCompaction() {
+        int n = QuantileSketch.DEFAULT_K;
+        QuantileSketch sketch = new QuantileSketch();
+        for (int value : shuffledValues(n, 1)) {
+            sketch.update(value);
+        }
+        assertEquals(n, sketch.getCount());
+        assertEquals(0, sketch.getMin(), 0);
+        assertEquals(n - 1, sketch.getMax(), 0);
+        double[] qs = {0, 0.1, 0.25, 0.5, 0.75, 0.9, 1};
+        double[] quantiles = sketch.getQuantiles(qs);
+        for (int i = 0; i < qs.length; i++) {
+            assertEquals("Quantile " + qs[i], qs[i] * (n - 1), quantiles[i], 1e-9);
+        }
+    }
+
+    /**
+     * After compactions and merges of partial sketches the rank error stays within the documented bound.
+     */
+    @Test
+    public void testRankErrorAfterMerges() {
+        int n = 1000000;
+        int parts = 10;
+        int[] values = shuffledValues(n, 42);
+        QuantileSketch merged = new QuantileSketch();
+        for (int p = 0; p < parts; p++) {
+            QuantileSketch part = new QuantileSketch();
+            for (int i = p * (n / parts); i < (p + 1) * (n / parts); i++) {
+                part.update(values[i]);
+            }
+            merged.merge(part);
+        }
+        assertEquals(n, merged.getCount());
+        assertEquals(0, merged.getMin(), 0);
+        assertEquals(n - 1, merged.getMax(), 0);
+        double bound = 1.7 / QuantileSketch.DEFAULT_K;
+        for (int i = 1; i < 100; i++) {
+            double q = i / 100d;
+            // the values are their own ranks
+            double rankError = Math.abs(merged.getQuantile(q) - q * (n - 1)) / n;
+            assertThat("Rank error of quantile " + q, rankError, lessThanOrEqualTo(bound));
+        }
+    }
+
+    /** The values 0 to n - 1 in random order. */
+    private static int[] shuffledValues(final int n, final long seed) {
+        int[] values = new int[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = i;
+        }
+        Random random = new Random(seed);
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = values[i];
+            values[i] = values[j];
+            values[j] = tmp;
+        }
+        return values;
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   17 Oct 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.dynamic.js.base.scorer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.base.node.mine.scorer.accuracy.AccuracyScorerCalculator;
+import org.knime.base.util.SortingStrategy;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTable;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.RowIterator;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.data.filestore.internal.NotInWorkflowDataRepository;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.SingleNodeContainer.MemoryPolicy;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkPortObjectInNodeFactory;
+
+/**
+ * Compares the confusion matrix and the statistics of the {@link ScorerProcessor}, which are derived from a
+ * {@link ConfusionMatrixCounter}, with the ones of the {@link AccuracyScorerCalculator}.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+public class ConfusionMatrixCounterTest {
+
+    /** More rows than the minimum chunk size, so several chunks are counted and merged. */
+    private static final int NUM_ROWS = 250000;
+
+    private ExecutionContext m_exec;
+
+    private BufferedDataTable m_table;
+
+    /**
+     * Creates a table with an actual and a predicted class column, some missing values and a predicted class which is
+     * never the actual class.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Before
+    public void createTable() {
+        NodeFactory<NodeModel> dummyFactory =
+            (NodeFactory)new VirtualParallelizedChunkPortObjectInNodeFactory(new PortType[0]);
+        m_exec = new ExecutionContext(new DefaultNodeProgressMonitor(), new Node(dummyFactory),
+            MemoryPolicy.CacheSmallInMemory, NotInWorkflowDataRepository.newInstance());
+        String[] labels = new String[]{"setosa", "versicolor", "virginica", "unknown", "other"};
+        BufferedDataContainer container = m_exec.createDataContainer(
+            new DataTableSpec(new DataColumnSpecCreator("actual", StringCell.TYPE).createSpec(),
+                new DataColumnSpecCreator("predicted", StringCell.TYPE).createSpec()));
+        Random random = new Random(42);
+        for (int i = 0; i < NUM_ROWS; i++) {
+            // the last label is only predicted, mostly the prediction is correct
+            String actualLabel = labels[random.nextInt(labels.length - 1)];
+            String predictedLabel = random.nextInt(3) == 0 ? labels[random.nextInt(labels.length)] : actualLabel;
+            DataCell actual = random.nextInt(1000) == 0 ? DataType.getMissingCell() : new StringCell(actualLabel);
+            DataCell predicted =
+                random.nextInt(1000) == 0 ? DataType.getMissingCell() : new StringCell(predictedLabel);
+            container.addRowToTable(new DefaultRow(RowKey.createRowKey((long)i), actual, predicted));
+        }
+        container.close();
+        m_table = container.getTable();
+    }
+
+    /**
+     * The labels are in the order of their first occurrence.
+     *
+     * @throws Exception if counting fails
+     */
+    @Test
+    public void testInsertionOrder() throws Exception {
+        compareWithCalculator(SortingStrategy.InsertionOrder, false);
+    }
+
+    /**
+     * The labels are sorted lexically and the order is reversed.
+     *
+     * @throws Exception if counting fails
+     */
+    @Test
+    public void testLexicalReversed() throws Exception {
+        compareWithCalculator(SortingStrategy.Lexical, true);
+    }
+
+    private void compareWithCalculator(final SortingStrategy strategy, final boolean reversed) throws Exception {
+        AccuracyScorerCalculator.ScorerCalculatorConfiguration calculatorConfig =
+            new AccuracyScorerCalculator.ScorerCalculatorConfiguration();
+        calculatorConfig.setSortingStrategy(strategy);
+        calculatorConfig.setSortingReversed(reversed);
+        calculatorConfig.setIgnoreMissingValues(true);
+        AccuracyScorerCalculator calculator =
+            AccuracyScorerCalculator.createCalculator(m_table, "actual", "predicted", calculatorConfig, m_exec);
+
+        ConfusionMatrixCounter counter = new ConfusionMatrixCounter(0, 1, true, true);
+        counter.count(m_table, strategy == SortingStrategy.Lexical, reversed, m_exec);
+        String[] labels = counter.getLabels();
+        long[][] counts = counter.getCounts();
+        assertTrue("Rows with missing values were not counted", counter.getNumMissing() > 0);
+
+        assertTableEquals(calculator.getConfusionMatrixTable(m_exec),
+            ScorerProcessor.createConfusionMatrixTable(labels, counts));
+
+        AccuracyScorerCalculator.ClassStatisticsConfiguration classStatsConfig =
+            new AccuracyScorerCalculator.ClassStatisticsConfiguration();
+        classStatsConfig.withTpCalculated(true).withFpCalculated(true).withTnCalculated(true).withFnCalculated(true)
+            .withAccuracyCalculated(true).withBalancedAccuracyCalculated(true).withErrorRateCalculated(true)
+            .withFalseNegativeRateCalculated(true).withRecallCalculated(true).withPrecisionCalculated(true)
+            .withSensitivityCalculated(true).withSpecifityCalculated(true).withFmeasureCalculated(true);
+        boolean[] classStats = new boolean[ScorerProcessor.CLASS_STATISTICS.length];
+        Arrays.fill(classStats, true);
+        assertTableEquals(calculator.getClassStatisticsTable(classStatsConfig, m_exec),
+            ScorerProcessor.createClassStatisticsTable(labels, counts, classStats));
+
+        AccuracyScorerCalculator.OverallStatisticsConfiguration overallStatsConfig =
+            new AccuracyScorerCalculator.OverallStatisticsConfiguration();
+        overallStatsConfig.withOverallAccuracyCalculated(true).withOverallErrorCalculated(true)
+            .withCohensKappaCalculated(true).withCorrectClassifiedCalculated(true)
+            .withWrongClassifiedCalculated(true);
+        boolean[] overallStats = new boolean[ScorerProcessor.OVERALL_STATISTICS.length];
+        Arrays.fill(overallStats, true);
+        assertTableEquals(calculator.getOverallStatisticsTable(overallStatsConfig, m_exec),
+            ScorerProcessor.createOverallStatisticsTable(counts, overallStats));
+
+        List<RowKey>[][] keyStore = calculator.getKeyStore();
+        List<String>[][] rowKeys = counter.getRowKeys();
+        assertEquals("Unexpected number of classes", keyStore.length, rowKeys.length);
+        for (int a = 0; a < keyStore.length; a++) {
+            for (int p = 0; p < keyStore.length; p++) {
+                List<String> expected = new ArrayList<String>();
+                keyStore[a][p].forEach(k -> expected.add(k.getString()));
+                assertEquals("Unexpected row keys in cell " + a + "/" + p, expected, rowKeys[a][p]);
+            }
+        }
+    }
+
+    /** Compares the column names, the row keys and the values, doubles with a small tolerance. */
+    private static void assertTableEquals(final DataTable expected, final DataTable actual) {
+        DataTableSpec expectedSpec = expected.getDataTableSpec();
+        DataTableSpec actualSpec = actual.getDataTableSpec();
+        assertEquals("Unexpected columns", Arrays.asList(expectedSpec.getColumnNames()),
+            Arrays.asList(actualSpec.getColumnNames()));
+        RowIterator expectedIt = expected.iterator();
+        RowIterator actualIt = actual.iterator();
+        while (expectedIt.hasNext()) {
+            assertTrue("Too few rows", actualIt.hasNext());
+            DataRow expectedRow = expectedIt.next();
+            DataRow actualRow = actualIt.next();
+            assertEquals("Unexpected row key", expectedRow.getKey(), actualRow.getKey());
+            for (int i = 0; i < expectedRow.getNumCells(); i++) {
+                DataCell expectedCell = expectedRow.getCell(i);
+                DataCell actualCell = actualRow.getCell(i);
+                String message =
+                    "Unexpected value in row " + expectedRow.getKey() + ", column " + expectedSpec.getColumnNames()[i];
+                assertEquals(message, expectedCell.isMissing(), actualCell.isMissing());
+                if (!expectedCell.isMissing()) {
+                    assertEquals(message, ((DoubleValue)expectedCell).getDoubleValue(),
+                        ((DoubleValue)actualCell).getDoubleValue(), 1e-9);
+                }
+            }
+        }
+        assertTrue("Too many rows", !actualIt.hasNext());
+    }
+}
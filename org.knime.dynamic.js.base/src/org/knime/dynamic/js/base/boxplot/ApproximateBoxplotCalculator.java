@@ -0,0 +1,463 @@
+package org.knime.dynamic.js.base.boxplot;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.knime.base.node.viz.plotter.box.BoxplotStatistics;
+import org.knime.base.node.viz.plotter.box.Outlier;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.container.filter.TableFilter;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.util.ThreadPool;
+
+/**
+ * Calculates approximate box plot statistics with {@link QuantileSketch}es instead of sorting the data.
+ *
+ * <p>
+ * The table is read twice, both times in parallel chunks. The first pass builds one sketch per column and class, the
+ * chunk results are merged afterwards. The second pass only looks at the values beyond the fences derived from the
+ * estimated quartiles, it determines the exact whiskers and collects the outliers. Memory is therefore bounded by the
+ * number of sketches and the number of outliers, not by the number of rows.
+ * </p>
+ *
+ * <p>
+ * The results are in the same format as the ones of the exact {@code BoxplotCalculator}. Minimum, maximum, whiskers
+ * and outliers are exact, the quartiles and the median are estimates.
+ * </p>
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+final class ApproximateBoxplotCalculator {
+
+    /** Name of the class for rows with a missing value in the category column, as expected by the view. */
+    static final String MISSING_VALUES_CLASS = "Missing values";
+
+    private static final int MIN_CHUNK_SIZE = 100000;
+
+    private String[] m_excludedDataCols = new String[0];
+
+    private LinkedHashMap<String, Long> m_numMissValPerCol = new LinkedHashMap<String, Long>();
+
+    private LinkedHashMap<String, String[]> m_excludedClasses = new LinkedHashMap<String, String[]>();
+
+    private LinkedHashMap<String, LinkedHashMap<String, Long>> m_ignoredMissVals =
+        new LinkedHashMap<String, LinkedHashMap<String, Long>>();
+
+    /**
+     * Calculates the statistics for several columns.
+     *
+     * @param table the input table
+     * @param columns the numeric columns to calculate the statistics for
+     * @param failOnSpecialDoubles true if NaN and infinite values should fail the calculation, false to treat them as
+     *            missing values
+     * @param exec the monitor to report progress to and to check for cancellation
+     * @return the statistics by column, columns without any valid value are omitted
+     * @throws Exception if the calculation fails or is canceled
+     */
+    LinkedHashMap<String, BoxplotStatistics> calculateMultiple(final BufferedDataTable table, final String[] columns,
+        final boolean failOnSpecialDoubles, final ExecutionMonitor exec) throws Exception {
+        final Map<String, ClassStatistics> classes = calculate(table, -1, columns, failOnSpecialDoubles, exec);
+        final ClassStatistics stats = classes.isEmpty() ? new ClassStatistics(null, columns.length)
+            : classes.values().iterator().next();
+        final LinkedHashMap<String, BoxplotStatistics> result = new LinkedHashMap<String, BoxplotStatistics>();
+        final List<String> excluded = new ArrayList<String>();
+        m_numMissValPerCol = new LinkedHashMap<String, Long>();
+        for (int c = 0; c < columns.length; c++) {
+            if (stats.m_sketches[c].getCount() == 0) {
+                excluded.add(columns[c]);
+                continue;
+            }
+            result.put(columns[c], stats.createStatistics(c));
+            if (stats.m_missing[c] > 0) {
+                m_numMissValPerCol.put(columns[c], stats.m_missing[c]);
+            }
+        }
+        m_excludedDataCols = excluded.toArray(new String[0]);
+        return result;
+    }
+
+    /**
+     * Calculates the statistics for several columns, separately for every class of a category column.
+     *
+     * @param table the input table
+     * @param catCol the category column
+     * @param columns the numeric columns to calculate the statistics for
+     * @param failOnSpecialDoubles true if NaN and infinite values should fail the calculation, false to treat them as
+     *            missing values
+     * @param exec the monitor to report progress to and to check for cancellation
+     * @return the statistics by column and class, classes without any valid value are omitted
+     * @throws Exception if the calculation fails or is canceled
+     */
+    LinkedHashMap<String, LinkedHashMap<String, BoxplotStatistics>> calculateMultipleConditional(
+        final BufferedDataTable table, final String catCol, final String[] columns,
+        final boolean failOnSpecialDoubles, final ExecutionMonitor exec) throws Exception {
+        final int catIndex = table.getDataTableSpec().findColumnIndex(catCol);
+        final Map<String, ClassStatistics> classes = calculate(table, catIndex, columns, failOnSpecialDoubles, exec);
+        // classes in the order a sort on the category column would produce, missing values first
+        final Comparator<DataCell> cellComparator =
+            table.getDataTableSpec().getColumnSpec(catIndex).getType().getComparator();
+        final List<ClassStatistics> sortedClasses = new ArrayList<ClassStatistics>(classes.values());
+        sortedClasses.sort((a, b) -> cellComparator.compare(a.m_class, b.m_class));
+
+        final LinkedHashMap<String, LinkedHashMap<String, BoxplotStatistics>> result =
+            new LinkedHashMap<String, LinkedHashMap<String, BoxplotStatistics>>();
+        m_excludedClasses = new LinkedHashMap<String, String[]>();
+        m_ignoredMissVals = new LinkedHashMap<String, LinkedHashMap<String, Long>>();
+        for (int c = 0; c < columns.length; c++) {
+            final LinkedHashMap<String, BoxplotStatistics> columnStats =
+                new LinkedHashMap<String, BoxplotStatistics>();
+            final List<String> excluded = new ArrayList<String>();
+            final LinkedHashMap<String, Long> missing = new LinkedHashMap<String, Long>();
+            for (ClassStatistics stats : sortedClasses) {
+                final String className = className(stats.m_class);
+                if (stats.m_sketches[c].getCount() == 0) {
+                    excluded.add(className);
+                    continue;
+                }
+                columnStats.put(className, stats.createStatistics(c));
+                if (stats.m_missing[c] > 0) {
+                    missing.put(className, stats.m_missing[c]);
+                }
+            }
+            result.put(columns[c], columnStats);
+            m_excludedClasses.put(columns[c], excluded.toArray(new String[0]));
+            m_ignoredMissVals.put(columns[c], missing);
+        }
+        return result;
+    }
+
+    /**
+     * @return the columns of the last call to {@link #calculateMultiple} without any valid value
+     */
+    String[] getExcludedDataCols() {
+        return m_excludedDataCols;
+    }
+
+    /**
+     * @return the number of missing values and special doubles of the last call to {@link #calculateMultiple} by
+     *         column, only columns with at least one missing value are contained
+     */
+    LinkedHashMap<String, Long> getNumMissValPerCol() {
+        return m_numMissValPerCol;
+    }
+
+    /**
+     * @return the classes without any valid value of the last call to {@link #calculateMultipleConditional} by column
+     */
+    LinkedHashMap<String, String[]> getExcludedClasses() {
+        return m_excludedClasses;
+    }
+
+    /**
+     * @return the number of missing values and special doubles of the last call to
+     *         {@link #calculateMultipleConditional} by column and class, only classes with at least one missing value
+     *         are contained
+     */
+    LinkedHashMap<String, LinkedHashMap<String, Long>> getIgnoredMissVals() {
+        return m_ignoredMissVals;
+    }
+
+    private static String className(final DataCell cell) {
+        return cell.isMissing() ? MISSING_VALUES_CLASS : cell.toString();
+    }
+
+    /** Runs both passes, classes are keyed by their name, a negative class index puts all rows into one class. */
+    private static Map<String, ClassStatistics> calculate(final BufferedDataTable table, final int catIndex,
+        final String[] columns, final boolean failOnSpecialDoubles, final ExecutionMonitor exec) throws Exception {
+        final DataTableSpec spec = table.getDataTableSpec();
+        final int[] colIndices = new int[columns.length];
+        for (int c = 0; c < columns.length; c++) {
+            colIndices[c] = spec.findColumnIndex(columns[c]);
+        }
+        final long size = table.size();
+        final ExecutionMonitor sketchExec = exec.createSubProgress(0.6);
+        final ExecutionMonitor outlierExec = exec.createSubProgress(0.4);
+
+        // first pass: sketches, minimum, maximum and missing values per class and column
+        final Map<String, ClassStatistics> classes = runInChunks(table, sketchExec, (range, processed) -> {
+            final Map<String, ClassStatistics> chunk = new LinkedHashMap<String, ClassStatistics>();
+            forEachRow(table, range, sketchExec, size, processed, row -> {
+                final ClassStatistics stats = getClassStatistics(chunk, row, catIndex, columns.length);
+                for (int c = 0; c < colIndices.length; c++) {
+                    final double value = getValue(row, colIndices[c], columns[c], failOnSpecialDoubles);
+                    if (Double.isNaN(value)) {
+                        stats.m_missing[c]++;
+                    } else {
+                        stats.m_sketches[c].update(value);
+                    }
+                }
+            });
+            return chunk;
+        }, (merged, chunk) -> {
+            for (Entry<String, ClassStatistics> e : chunk.entrySet()) {
+                final ClassStatistics stats = merged.get(e.getKey());
+                if (stats == null) {
+                    merged.put(e.getKey(), e.getValue());
+                } else {
+                    stats.mergeSketches(e.getValue());
+                }
+            }
+        });
+        for (ClassStatistics stats : classes.values()) {
+            stats.computeFences();
+        }
+
+        // second pass: exact whiskers and outliers, only values beyond the fences are kept
+        runInChunks(table, outlierExec, (range, processed) -> {
+            final Map<String, ClassStatistics> chunk = new LinkedHashMap<String, ClassStatistics>();
+            forEachRow(table, range, outlierExec, size, processed, row -> {
+                final String key = catIndex < 0 ? "" : className(row.getCell(catIndex));
+                final ClassStatistics fences = classes.get(key);
+                ClassStatistics stats = chunk.get(key);
+                if (stats == null) {
+                    stats = fences.createOutlierCollector();
+                    chunk.put(key, stats);
+                }
+                for (int c = 0; c < colIndices.length; c++) {
+                    final double value = getValue(row, colIndices[c], columns[c], false);
+                    if (!Double.isNaN(value)) {
+                        stats.addOutlierCandidate(c, value, row);
+                    }
+                }
+            });
+            return chunk;
+        }, (merged, chunk) -> {
+            for (Entry<String, ClassStatistics> e : chunk.entrySet()) {
+                classes.get(e.getKey()).mergeOutliers(e.getValue());
+            }
+        });
+        return classes;
+    }
+
+    private static ClassStatistics getClassStatistics(final Map<String, ClassStatistics> classes, final DataRow row,
+        final int catIndex, final int numColumns) {
+        final DataCell classCell = catIndex < 0 ? null : row.getCell(catIndex);
+        final String key = classCell == null ? "" : className(classCell);
+        ClassStatistics stats = classes.get(key);
+        if (stats == null) {
+            stats = new ClassStatistics(classCell, numColumns);
+            classes.put(key, stats);
+        }
+        return stats;
+    }
+
+    /** @return the value or NaN for missing values and (if allowed) special doubles */
+    private static double getValue(final DataRow row, final int index, final String column,
+        final boolean failOnSpecialDoubles) {
+        final DataCell cell = row.getCell(index);
+        if (cell.isMissing()) {
+            return Double.NaN;
+        }
+        final double value = ((DoubleValue)cell).getDoubleValue();
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            if (failOnSpecialDoubles) {
+                throw new IllegalArgumentException("Column '" + column + "' contains the special double value "
+                    + value + " in row '" + row.getKey() + "'.");
+            }
+            return Double.NaN;
+        }
+        return value;
+    }
+
+    /** Functional interface for the per chunk work, allows checked exceptions. */
+    @FunctionalInterface
+    private interface ChunkTask {
+        Map<String, ClassStatistics> process(long[] range, AtomicLong processed) throws Exception;
+    }
+
+    /** Functional interface for the per row work. */
+    @FunctionalInterface
+    private interface RowTask {
+        void process(DataRow row);
+    }
+
+    /** Functional interface merging a chunk result into the overall result. */
+    @FunctionalInterface
+    private interface ChunkMerger {
+        void merge(Map<String, ClassStatistics> merged, Map<String, ClassStatistics> chunk);
+    }
+
+    private static void forEachRow(final BufferedDataTable table, final long[] range, final ExecutionMonitor exec,
+        final long size, final AtomicLong processed, final RowTask task) throws Exception {
+        try (CloseableRowIterator it = table.filter(TableFilter.filterRangeOfRows(range[0], range[1])).iterator()) {
+            long i = 0;
+            while (it.hasNext()) {
+                task.process(it.next());
+                if ((++i & 0x3FF) == 0) {
+                    exec.checkCanceled();
+                    exec.setProgress((double)processed.addAndGet(0x400) / size);
+                }
+            }
+        }
+    }
+
+    /** Splits the table into chunks, processes them on the global thread pool and merges the results in order. */
+    private static Map<String, ClassStatistics> runInChunks(final BufferedDataTable table, final ExecutionMonitor exec,
+        final ChunkTask task, final ChunkMerger merger) throws Exception {
+        final long size = table.size();
+        final int threads = Math.max(1, Runtime.getRuntime().availableProcessors());
+        final long chunkSize = Math.max(MIN_CHUNK_SIZE, (size + threads - 1) / threads);
+        final AtomicLong processed = new AtomicLong();
+        final ThreadPool pool = KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool();
+        final List<Future<Map<String, ClassStatistics>>> futures =
+            new ArrayList<Future<Map<String, ClassStatistics>>>();
+        for (long from = 0; from < size; from += chunkSize) {
+            final long[] range = new long[]{from, Math.min(size, from + chunkSize) - 1};
+            futures.add(pool.enqueue(() -> {
+                exec.checkCanceled();
+                return task.process(range, processed);
+            }));
+        }
+        try {
+            return pool.runInvisible(() -> {
+                final Map<String, ClassStatistics> merged = new LinkedHashMap<String, ClassStatistics>();
+                for (Future<Map<String, ClassStatistics>> f : futures) {
+                    merger.merge(merged, f.get());
+                }
+                return merged;
+            });
+        } catch (ExecutionException e) {
+            futures.forEach(f -> f.cancel(true));
+            Throwable cause = e.getCause() instanceof ExecutionException ? e.getCause().getCause() : e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception)cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * The sketches, fences, whiskers and outliers of all columns for one class.
+     */
+    private static final class ClassStatistics {
+
+        private final DataCell m_class;
+
+        private final QuantileSketch[] m_sketches;
+
+        private final long[] m_missing;
+
+        private double[] m_quartiles;
+
+        private double[] m_lowerFence;
+
+        private double[] m_upperFence;
+
+        private double[] m_lowerWhisker;
+
+        private double[] m_upperWhisker;
+
+        private List<Set<Outlier>> m_mildOutliers;
+
+        private List<Set<Outlier>> m_extremeOutliers;
+
+        ClassStatistics(final DataCell classCell, final int numColumns) {
+            m_class = classCell;
+            m_sketches = new QuantileSketch[numColumns];
+            for (int c = 0; c < numColumns; c++) {
+                m_sketches[c] = new QuantileSketch();
+            }
+            m_missing = new long[numColumns];
+        }
+
+        /** A copy sharing the fences, collecting the whiskers and outliers of a chunk. */
+        private ClassStatistics(final ClassStatistics template) {
+            m_class = template.m_class;
+            m_sketches = template.m_sketches;
+            m_missing = template.m_missing;
+            m_quartiles = template.m_quartiles;
+            m_lowerFence = template.m_lowerFence;
+            m_upperFence = template.m_upperFence;
+            initOutliers();
+        }
+
+        ClassStatistics createOutlierCollector() {
+            return new ClassStatistics(this);
+        }
+
+        void mergeSketches(final ClassStatistics other) {
+            for (int c = 0; c < m_sketches.length; c++) {
+                m_sketches[c].merge(other.m_sketches[c]);
+                m_missing[c] += other.m_missing[c];
+            }
+        }
+
+        void computeFences() {
+            final int n = m_sketches.length;
+            m_quartiles = new double[3 * n];
+            m_lowerFence = new double[n];
+            m_upperFence = new double[n];
+            for (int c = 0; c < n; c++) {
+                final double[] q = m_sketches[c].getQuantiles(0.25, 0.5, 0.75);
+                System.arraycopy(q, 0, m_quartiles, 3 * c, 3);
+                final double iqr = q[2] - q[0];
+                m_lowerFence[c] = q[0] - 1.5 * iqr;
+                m_upperFence[c] = q[2] + 1.5 * iqr;
+            }
+            initOutliers();
+        }
+
+        private void initOutliers() {
+            final int n = m_sketches.length;
+            m_lowerWhisker = new double[n];
+            m_upperWhisker = new double[n];
+            m_mildOutliers = new ArrayList<Set<Outlier>>(n);
+            m_extremeOutliers = new ArrayList<Set<Outlier>>(n);
+            for (int c = 0; c < n; c++) {
+                m_lowerWhisker[c] = Double.POSITIVE_INFINITY;
+                m_upperWhisker[c] = Double.NEGATIVE_INFINITY;
+                m_mildOutliers.add(new LinkedHashSet<Outlier>());
+                m_extremeOutliers.add(new LinkedHashSet<Outlier>());
+            }
+        }
+
+        void addOutlierCandidate(final int c, final double value, final DataRow row) {
+            if (value < m_lowerFence[c] || value > m_upperFence[c]) {
+                final double iqr = m_quartiles[3 * c + 2] - m_quartiles[3 * c];
+                final boolean extreme =
+                    value < m_quartiles[3 * c] - 3 * iqr || value > m_quartiles[3 * c + 2] + 3 * iqr;
+                (extreme ? m_extremeOutliers : m_mildOutliers).get(c)
+                    .add(new Outlier(value, row.getKey().getString()));
+            } else {
+                m_lowerWhisker[c] = Math.min(m_lowerWhisker[c], value);
+                m_upperWhisker[c] = Math.max(m_upperWhisker[c], value);
+            }
+        }
+
+        void mergeOutliers(final ClassStatistics other) {
+            for (int c = 0; c < m_sketches.length; c++) {
+                m_lowerWhisker[c] = Math.min(m_lowerWhisker[c], other.m_lowerWhisker[c]);
+                m_upperWhisker[c] = Math.max(m_upperWhisker[c], other.m_upperWhisker[c]);
+                m_mildOutliers.get(c).addAll(other.m_mildOutliers.get(c));
+                m_extremeOutliers.get(c).addAll(other.m_extremeOutliers.get(c));
+            }
+        }
+
+        BoxplotStatistics createStatistics(final int c) {
+            final QuantileSketch sketch = m_sketches[c];
+            // the quartiles are estimates and may lie outside the values within the fences
+            final double lowerWhisker =
+                m_lowerWhisker[c] <= m_upperWhisker[c] ? m_lowerWhisker[c] : m_quartiles[3 * c];
+            final double upperWhisker =
+                m_lowerWhisker[c] <= m_upperWhisker[c] ? m_upperWhisker[c] : m_quartiles[3 * c + 2];
+            return new BoxplotStatistics(m_mildOutliers.get(c), m_extremeOutliers.get(c), sketch.getMin(),
+                sketch.getMax(), lowerWhisker, m_quartiles[3 * c], m_quartiles[3 * c + 1], m_quartiles[3 * c + 2],
+                upperWhisker);
+        }
+    }
+}
@@ -35,6 +35,13 @@ public Object[] processInputObjects(PortObject[] inObjects, ExecutionContext exe
         boolean failOnSpecialDoubles =
             ((SettingsModelBoolean)config.getModel("failOnSpecialDoubles")).getBooleanValue();
 
+        // added with 5.6
+        if (((SettingsModelBoolean)config.getModel("approximateStatistics")).getBooleanValue()) {
+            ApproximateBoxplotCalculator abc = new ApproximateBoxplotCalculator();
+            BoxPlotResult res = new BoxPlotResult(abc.calculateMultiple(dt, numColumns, failOnSpecialDoubles, exec),
+                abc.getExcludedDataCols(), abc.getNumMissValPerCol());
+            return new Object[]{res};
+        }
         BoxPlotResult res = new BoxPlotResult(bc.calculateMultiple(dt, numColumns, failOnSpecialDoubles, exec),
             bc.getExcludedDataCols(), bc.getNumMissValPerCol());
         return new Object[]{res};
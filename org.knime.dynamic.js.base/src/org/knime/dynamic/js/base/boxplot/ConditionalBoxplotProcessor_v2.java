@@ -43,6 +43,15 @@ public Object[] processInputObjects(PortObject[] inObjects, ExecutionContext exe
         boolean failOnSpecialDoubles =
             ((SettingsModelBoolean)config.getModel("failOnSpecialDoubles")).getBooleanValue();
 
+        // added with 5.6
+        if (((SettingsModelBoolean)config.getModel("approximateStatistics")).getBooleanValue()) {
+            ApproximateBoxplotCalculator abc = new ApproximateBoxplotCalculator();
+            LinkedHashMap<String, LinkedHashMap<String, BoxplotStatistics>> stats =
+                abc.calculateMultipleConditional(dt, catCol, numColumns, failOnSpecialDoubles, exec);
+            CondBoxPlotResult res =
+                new CondBoxPlotResult(stats, catCol, abc.getExcludedClasses(), abc.getIgnoredMissVals());
+            return new Object[]{res, inObjects[1]};
+        }
         LinkedHashMap<String, LinkedHashMap<String, BoxplotStatistics>> stats =
             bc.calculateMultipleConditional(dt, catCol, numColumns, failOnSpecialDoubles, exec);
         CondBoxPlotResult res = new CondBoxPlotResult(stats, catCol, bc.getExcludedClasses(), bc.getIgnoredMissVals());
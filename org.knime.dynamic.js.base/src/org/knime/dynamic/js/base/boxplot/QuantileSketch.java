@@ -0,0 +1,251 @@
+package org.knime.dynamic.js.base.boxplot;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * A mergeable quantile sketch in the style of Karnin, Lang and Liberty (KLL).
+ *
+ * <p>
+ * Values are kept in a hierarchy of compactors. Whenever the sketch is full, the lowest compactor exceeding its
+ * capacity is sorted and every second of its values is promoted to the next level with twice the weight. The rank
+ * error of a quantile is bounded by roughly <code>1.7 / k</code> of the number of values, independent of the number
+ * of values added. As long as no compaction happened, the quantiles are exact.
+ * </p>
+ *
+ * <p>
+ * Sketches are not thread-safe. Sketches built on parts of the data can be combined with {@link #merge(QuantileSketch)}.
+ * </p>
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+final class QuantileSketch {
+
+    /** The default accuracy parameter, about 0.7% rank error. */
+    static final int DEFAULT_K = 256;
+
+    private static final double CAPACITY_DECAY = 2d / 3d;
+
+    private final int m_k;
+
+    private final SplittableRandom m_random;
+
+    private double[][] m_levels = new double[0][];
+
+    private int[] m_sizes = new int[0];
+
+    private int m_retained;
+
+    private int m_maxRetained;
+
+    private long m_count;
+
+    private double m_min = Double.NaN;
+
+    private double m_max = Double.NaN;
+
+    /**
+     * Creates a new sketch with the default accuracy.
+     */
+    QuantileSketch() {
+        this(DEFAULT_K);
+    }
+
+    /**
+     * @param k the accuracy parameter, the size of the top compactor
+     */
+    QuantileSketch(final int k) {
+        m_k = Math.max(8, k);
+        // fixed seed, the result only depends on the data and the merge order
+        m_random = new SplittableRandom(m_k);
+        grow();
+    }
+
+    /**
+     * @param value the value to add, must not be NaN
+     */
+    void update(final double value) {
+        if (m_count == 0) {
+            m_min = value;
+            m_max = value;
+        } else {
+            m_min = Math.min(m_min, value);
+            m_max = Math.max(m_max, value);
+        }
+        m_count++;
+        add(0, value);
+        m_retained++;
+        if (m_retained >= m_maxRetained) {
+            compress();
+        }
+    }
+
+    /**
+     * Adds all values of another sketch to this one. The other sketch is not modified.
+     *
+     * @param other the sketch to merge
+     */
+    void merge(final QuantileSketch other) {
+        if (other.m_count == 0) {
+            return;
+        }
+        while (m_levels.length < other.m_levels.length) {
+            grow();
+        }
+        for (int h = 0; h < other.m_levels.length; h++) {
+            for (int i = 0; i < other.m_sizes[h]; i++) {
+                add(h, other.m_levels[h][i]);
+            }
+        }
+        m_retained += other.m_retained;
+        if (m_count == 0) {
+            m_min = other.m_min;
+            m_max = other.m_max;
+        } else {
+            m_min = Math.min(m_min, other.m_min);
+            m_max = Math.max(m_max, other.m_max);
+        }
+        m_count += other.m_count;
+        while (m_retained >= m_maxRetained) {
+            compress();
+        }
+    }
+
+    /**
+     * @return the number of values added to the sketch
+     */
+    long getCount() {
+        return m_count;
+    }
+
+    /**
+     * @return the exact minimum or NaN if the sketch is empty
+     */
+    double getMin() {
+        return m_min;
+    }
+
+    /**
+     * @return the exact maximum or NaN if the sketch is empty
+     */
+    double getMax() {
+        return m_max;
+    }
+
+    /**
+     * Returns an estimate of the quantile, linearly interpolated between the two closest ranks.
+     *
+     * @param q the quantile, between 0 and 1
+     * @return the estimated quantile or NaN if the sketch is empty
+     */
+    double getQuantile(final double q) {
+        return getQuantiles(q)[0];
+    }
+
+    /**
+     * Returns estimates of several quantiles, see {@link #getQuantile(double)}.
+     *
+     * @param qs the quantiles, between 0 and 1
+     * @return the estimated quantiles in the same order, NaN if the sketch is empty
+     */
+    double[] getQuantiles(final double... qs) {
+        final double[] result = new double[qs.length];
+        if (m_count == 0) {
+            Arrays.fill(result, Double.NaN);
+            return result;
+        }
+        // sorted values with their cumulative weights
+        final double[] values = new double[m_retained];
+        final long[] weights = new long[m_retained];
+        int n = 0;
+        for (int h = 0; h < m_levels.length; h++) {
+            for (int i = 0; i < m_sizes[h]; i++) {
+                values[n] = m_levels[h][i];
+                weights[n] = 1L << h;
+                n++;
+            }
+        }
+        final Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(values[a], values[b]));
+        final double[] sortedValues = new double[n];
+        final long[] cumulative = new long[n];
+        long sum = 0;
+        for (int i = 0; i < n; i++) {
+            sortedValues[i] = values[order[i]];
+            sum += weights[order[i]];
+            cumulative[i] = sum;
+        }
+        for (int j = 0; j < qs.length; j++) {
+            final double position = Math.min(1d, Math.max(0d, qs[j])) * (m_count - 1);
+            final long lower = (long)Math.floor(position);
+            final double lowerValue = valueAtRank(sortedValues, cumulative, lower);
+            final double upperValue = valueAtRank(sortedValues, cumulative, Math.min(m_count - 1, lower + 1));
+            result[j] = lowerValue + (position - lower) * (upperValue - lowerValue);
+        }
+        return result;
+    }
+
+    /** Value covering the (0-based) rank in the weighted, sorted values, clamped to the exact min and max. */
+    private double valueAtRank(final double[] sortedValues, final long[] cumulative, final long rank) {
+        if (rank <= 0) {
+            return m_min;
+        }
+        if (rank >= m_count - 1) {
+            return m_max;
+        }
+        int index = Arrays.binarySearch(cumulative, rank + 1);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return sortedValues[Math.min(index, sortedValues.length - 1)];
+    }
+
+    private void add(final int level, final double value) {
+        if (m_sizes[level] == m_levels[level].length) {
+            m_levels[level] = Arrays.copyOf(m_levels[level], Math.max(8, 2 * m_levels[level].length));
+        }
+        m_levels[level][m_sizes[level]++] = value;
+    }
+
+    private int capacity(final int level) {
+        final int depth = m_levels.length - level - 1;
+        return (int)Math.ceil(Math.pow(CAPACITY_DECAY, depth) * m_k) + 1;
+    }
+
+    private void grow() {
+        m_levels = Arrays.copyOf(m_levels, m_levels.length + 1);
+        m_levels[m_levels.length - 1] = new double[8];
+        m_sizes = Arrays.copyOf(m_sizes, m_sizes.length + 1);
+        int maxRetained = 0;
+        for (int h = 0; h < m_levels.length; h++) {
+            maxRetained += capacity(h);
+        }
+        m_maxRetained = maxRetained;
+    }
+
+    /** Compacts the lowest level that exceeds its capacity. */
+    private void compress() {
+        for (int h = 0; h < m_levels.length; h++) {
+            if (m_sizes[h] >= capacity(h)) {
+                if (h + 1 >= m_levels.length) {
+                    grow();
+                }
+                final double[] level = m_levels[h];
+                final int size = m_sizes[h];
+                Arrays.sort(level, 0, size);
+                // an odd value stays on its level
+                final int start = size % 2;
+                final int offset = m_random.nextBoolean() ? 1 : 0;
+                for (int i = start + offset; i < size; i += 2) {
+                    add(h + 1, level[i]);
+                }
+                m_sizes[h] = start;
+                m_retained -= (size - start) / 2;
+                return;
+            }
+        }
+    }
+}
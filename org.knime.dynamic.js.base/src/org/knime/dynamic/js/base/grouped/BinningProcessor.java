@@ -3,9 +3,9 @@
 import java.math.RoundingMode;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.knime.base.node.preproc.autobinner.apply.AutoBinnerApply;
@@ -23,9 +23,7 @@
 import org.knime.core.data.StringValue;
 import org.knime.core.data.def.DefaultRow;
 import org.knime.core.data.def.IntCell.IntCellFactory;
-import org.knime.core.data.def.StringCell;
 import org.knime.core.data.def.StringCell.StringCellFactory;
-import org.knime.core.data.sort.BufferedDataTableSorter;
 import org.knime.core.node.BufferedDataContainer;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.ExecutionContext;
@@ -36,8 +34,7 @@
 import org.knime.core.node.util.filter.InputFilter;
 import org.knime.core.node.util.filter.column.DataColumnSpecFilterConfiguration;
 import org.knime.dynamic.js.v30.DynamicJSConfig;
-import org.knime.js.core.JSONDataTable;
-import org.knime.js.core.JSONDataTable.Builder;
+import org.knime.dynamic.js.v30.StreamingJSONDataTable;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 
@@ -157,73 +154,61 @@ public boolean include(DataColumnSpec name) {
         groupExec.setProgress(1.0);
         catCol.setStringValue(m_binColumn);
         
-        //Add empty bins back to table
+        //Put bins in the order defined by the binner and add empty bins back to table
+        exec.setMessage("Sorting histogram table...");
         final BufferedDataTable groupedTable = groupingResult.getDataTable();
-        final int binIndex =
-            Arrays.asList(groupedTable.getDataTableSpec().getColumnNames()).indexOf(binnedColName);
-        if (orderedBinNames.size() != groupedTable.size()) {
-            BufferedDataContainer cont = exec.createDataContainer(groupedTable.getDataTableSpec(), false);
-            try {
-                List<String> containedBins = new ArrayList<String>((int)groupedTable.size());
-                groupedTable.forEach(row -> {
-                    DataCell binCell = row.getCell(binIndex);
-                    if (!binCell.isMissing()) {
-                        containedBins.add(((StringValue)binCell).getStringValue());
-                    }
-                    cont.addRowToTable(row);
-                });
-                final AtomicInteger emptyBinCounter = new AtomicInteger(0);
-                final String keyPrefix = "org.knime.dynamic.js.base.grouped.BinningProcessor - Empty bin ";
-                orderedBinNames.stream().filter(bin -> !containedBins.contains(bin)).forEach(row -> {
-                    List<DataCell> rowList = new ArrayList<DataCell>(groupedTable.getSpec().getNumColumns());
-                    for (int col = 0; col < groupedTable.getSpec().getNumColumns(); col++) {
-                        if (col == binIndex) {
-                            rowList.add(StringCellFactory.create(row));
-                        } else {
-                            rowList.add(IntCellFactory.create(0));
-                        }
-                    }
-                    cont.addRowToTable(new DefaultRow(keyPrefix + emptyBinCounter.getAndIncrement(), rowList));
-                });
-            } finally {
-                if (cont != null) {
-                    cont.close();
-                }
+        final int binIndex = groupedTable.getDataTableSpec().findColumnIndex(binnedColName);
+        final Map<String, Integer> binPositions = new HashMap<String, Integer>(2 * orderedBinNames.size());
+        for (int i = orderedBinNames.size() - 1; i >= 0; i--) {
+            // first occurrence wins, as with List.indexOf
+            binPositions.put(orderedBinNames.get(i), i);
+        }
+        final DataRow[] binRows = new DataRow[orderedBinNames.size()];
+        final List<DataRow> unknownBinRows = new ArrayList<DataRow>();
+        final List<DataRow> missingBinRows = new ArrayList<DataRow>();
+        for (DataRow row : groupedTable) {
+            DataCell binCell = row.getCell(binIndex);
+            if (binCell.isMissing()) {
+                missingBinRows.add(row);
+                continue;
             }
-            if (cont != null) {
-                groupingResult.setDataTable(cont.getTable());
+            // the table is grouped by the bin column, there is at most one row per bin
+            Integer position = binPositions.get(((StringValue)binCell).getStringValue());
+            if (position == null) {
+                // not produced by the binner, sorted in front of all bins before
+                unknownBinRows.add(row);
+            } else {
+                binRows[position] = row;
             }
         }
-        //Make sure bins are sorted correctly in output table
-        exec.setMessage("Sorting histogram table...");
-        Comparator<DataRow> comp = new Comparator<DataRow>() {
-
-            @Override
-            public int compare(DataRow o1, DataRow o2) {
-                final DataCell c1 = o1.getCell(binIndex);
-                final DataCell c2 = o2.getCell(binIndex);
-                if (!c1.isMissing() && !c2.isMissing()) {
-                    int bin1 = orderedBinNames.indexOf(((StringCell)c1).getStringValue());
-                    int bin2 = orderedBinNames.indexOf(((StringCell)c2).getStringValue());
-                    return Integer.compare(bin1, bin2);
-                } else if (c1.isMissing() && !c2.isMissing()) {
-                    return 1;
-                } else if (!c1.isMissing() && c2.isMissing()) {
-                    return -1;
+        final int numColumns = groupedTable.getDataTableSpec().getNumColumns();
+        final String keyPrefix = "org.knime.dynamic.js.base.grouped.BinningProcessor - Empty bin ";
+        int emptyBinCounter = 0;
+        BufferedDataContainer cont = exec.createDataContainer(groupedTable.getDataTableSpec(), false);
+        try {
+            unknownBinRows.forEach(cont::addRowToTable);
+            for (int i = 0; i < binRows.length; i++) {
+                if (binRows[i] != null) {
+                    cont.addRowToTable(binRows[i]);
                 } else {
-                    return 0;
+                    DataCell[] cells = new DataCell[numColumns];
+                    for (int col = 0; col < numColumns; col++) {
+                        cells[col] = col == binIndex ? StringCellFactory.create(orderedBinNames.get(i))
+                            : IntCellFactory.create(0);
+                    }
+                    cont.addRowToTable(new DefaultRow(keyPrefix + emptyBinCounter++, cells));
                 }
             }
-        };
-        BufferedDataTableSorter sorter = new BufferedDataTableSorter(groupingResult.getDataTable(), comp);
-        sorter.setSortInMemory(true);
-        BufferedDataTable sortedTable = sorter.sort(preprocExec);
-        Builder builder = JSONDataTable.newBuilder()
-                .setDataTable(sortedTable)
-                .setFirstRow(1)
-                .setMaxRows(Math.toIntExact(sortedTable.size()));
+            missingBinRows.forEach(cont::addRowToTable);
+        } finally {
+            cont.close();
+        }
+        BufferedDataTable sortedTable = cont.getTable();
+        groupingResult.setDataTable(sortedTable);
         BinningResult res = new BinningResult();
-        groupingResult.setTable(builder.build(exec.createSubExecutionContext(0.05)));
+        // the JSON table is written row by row when the view representation is serialized
+        groupingResult.setStreamingTable(
+            new StreamingJSONDataTable(sortedTable, null, Math.toIntExact(sortedTable.size())));
         res.setGroups(groupingResult);
         res.setBinnedColumn(binnedColName);
         exec.setProgress(1.0);
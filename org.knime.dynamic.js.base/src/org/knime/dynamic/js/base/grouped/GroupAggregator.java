@@ -0,0 +1,368 @@
+package org.knime.dynamic.js.base.grouped;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.container.filter.TableFilter;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.util.ThreadPool;
+
+/**
+ * Groups a table by a single category column and counts, sums or averages a few numeric columns per group.
+ *
+ * <p>
+ * This is a specialized replacement of the general GroupBy tables for the grouped charts. The categories are
+ * dictionary encoded and the aggregates are kept in primitive arrays, the table is processed in parallel chunks whose
+ * results are merged afterwards. If requested, the group of every input row is recorded in a {@link GroupIndex}.
+ * </p>
+ *
+ * <p>
+ * The resulting table has the same layout as the one of the general GroupBy with the original column names: the
+ * category column, followed by either the count or one column per aggregated column. The groups are sorted by their
+ * category, missing values first.
+ * </p>
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+final class GroupAggregator {
+
+    /** The aggregation methods supported by the aggregator. */
+    enum Method {
+        /** Number of rows per group, including rows with missing values. */
+        COUNT,
+        /** Sum of the non-missing values per group and column. */
+        SUM,
+        /** Mean of the non-missing values per group and column. */
+        MEAN
+    }
+
+    /**
+     * Number of distinct categories above which a chunk gives up if processing in memory was not requested. The
+     * caller then falls back to the general GroupBy, which can swap groups to disk.
+     */
+    static final int MAX_GROUPS = 100000;
+
+    private static final int MIN_CHUNK_SIZE = 100000;
+
+    private final BufferedDataTable m_table;
+
+    private final int m_catIndex;
+
+    private final int[] m_colIndices;
+
+    private final Method m_method;
+
+    private BufferedDataTable m_resultTable;
+
+    private GroupIndex m_groupIndex;
+
+    private LinkedHashMap<String, Long> m_missingValues;
+
+    /**
+     * @param table the table to group
+     * @param catColumn the category column to group by
+     * @param columns the columns to aggregate, ignored for {@link Method#COUNT}
+     * @param method the aggregation method
+     */
+    GroupAggregator(final BufferedDataTable table, final String catColumn, final String[] columns,
+        final Method method) {
+        final DataTableSpec spec = table.getDataTableSpec();
+        m_table = table;
+        m_catIndex = spec.findColumnIndex(catColumn);
+        m_method = method;
+        m_colIndices = method == Method.COUNT ? new int[0]
+            : Arrays.stream(columns).mapToInt(spec::findColumnIndex).toArray();
+    }
+
+    /**
+     * Groups the table.
+     *
+     * @param exec the context to create the result table with, to report progress to and to check for cancellation
+     * @param inMemory true if all groups should be kept in memory regardless of their number, false to give up if
+     *            there are more than {@link #MAX_GROUPS} categories
+     * @param createIndex true if the mapping from the groups to the rows of the input should be created
+     * @return true if the table was grouped, false if there are too many categories
+     * @throws Exception if the grouping fails or is canceled
+     */
+    boolean aggregate(final ExecutionContext exec, final boolean inMemory, final boolean createIndex)
+        throws Exception {
+        final Groups groups = runInChunks(exec.createSubProgress(0.9), inMemory, createIndex);
+        if (groups == null) {
+            return false;
+        }
+        final ExecutionMonitor writeExec = exec.createSubProgress(0.1);
+        final DataTableSpec spec = m_table.getDataTableSpec();
+        final Comparator<DataCell> comparator = spec.getColumnSpec(m_catIndex).getType().getComparator();
+        final Integer[] order = new Integer[groups.m_size];
+        for (int g = 0; g < order.length; g++) {
+            order[g] = g;
+        }
+        Arrays.sort(order, (a, b) -> comparator.compare(groups.m_categories.get(a), groups.m_categories.get(b)));
+
+        final BufferedDataContainer container = exec.createDataContainer(createSpec(spec));
+        final RowKey[] groupKeys = new RowKey[order.length];
+        final int numCols = m_colIndices.length;
+        for (int i = 0; i < order.length; i++) {
+            final int g = order[i];
+            final DataCell[] cells = new DataCell[1 + Math.max(1, numCols)];
+            cells[0] = groups.m_categories.get(g);
+            if (m_method == Method.COUNT) {
+                cells[1] = new IntCell((int)groups.m_rowCounts[g]);
+            }
+            for (int c = 0; c < numCols; c++) {
+                final long count = groups.m_valueCounts[g * numCols + c];
+                final double sum = groups.m_sums[g * numCols + c];
+                cells[1 + c] = count == 0 ? DataType.getMissingCell()
+                    : new DoubleCell(m_method == Method.MEAN ? sum / count : sum);
+            }
+            final RowKey key = RowKey.createRowKey((long)i);
+            container.addRowToTable(new DefaultRow(key, cells));
+            groupKeys[g] = key;
+            writeExec.checkCanceled();
+            writeExec.setProgress((double)(i + 1) / order.length);
+        }
+        container.close();
+        m_resultTable = container.getTable();
+        m_groupIndex = createIndex ? new GroupIndex(m_table, groups.m_rowGroups, groupKeys) : null;
+
+        m_missingValues = new LinkedHashMap<String, Long>();
+        for (int c = 0; c < numCols; c++) {
+            if (groups.m_missing[c] > 0) {
+                m_missingValues.put(spec.getColumnSpec(m_colIndices[c]).getName(), groups.m_missing[c]);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the grouped table, one row per category
+     */
+    BufferedDataTable getTable() {
+        return m_resultTable;
+    }
+
+    /**
+     * @return the mapping from the rows of the grouped table to the rows of the input, null if it was not created
+     */
+    GroupIndex getGroupIndex() {
+        return m_groupIndex;
+    }
+
+    /**
+     * @return the number of missing values ignored during the aggregation by column, only columns with at least one
+     *         missing value are contained
+     */
+    Map<String, Long> getMissingValuesMap() {
+        return m_missingValues;
+    }
+
+    private DataTableSpec createSpec(final DataTableSpec inSpec) {
+        final DataColumnSpec catSpec = inSpec.getColumnSpec(m_catIndex);
+        final List<DataColumnSpec> specs = new ArrayList<DataColumnSpec>();
+        final Set<String> names = new HashSet<String>();
+        specs.add(new DataColumnSpecCreator(catSpec.getName(), catSpec.getType()).createSpec());
+        names.add(catSpec.getName());
+        if (m_method == Method.COUNT) {
+            specs.add(new DataColumnSpecCreator(uniqueName(catSpec.getName(), names), IntCell.TYPE).createSpec());
+        }
+        for (int index : m_colIndices) {
+            final String name = uniqueName(inSpec.getColumnSpec(index).getName(), names);
+            specs.add(new DataColumnSpecCreator(name, DoubleCell.TYPE).createSpec());
+        }
+        return new DataTableSpec(specs.toArray(new DataColumnSpec[0]));
+    }
+
+    private static String uniqueName(final String name, final Set<String> names) {
+        String unique = name;
+        for (int i = 1; names.contains(unique); i++) {
+            unique = name + " (#" + i + ")";
+        }
+        names.add(unique);
+        return unique;
+    }
+
+    /** Splits the table into chunks, groups them on the global thread pool and merges the results in order. */
+    private Groups runInChunks(final ExecutionMonitor exec, final boolean inMemory, final boolean createIndex)
+        throws Exception {
+        final long size = m_table.size();
+        final int threads = Math.max(1, Runtime.getRuntime().availableProcessors());
+        final long chunkSize = Math.max(MIN_CHUNK_SIZE, (size + threads - 1) / threads);
+        final int maxGroups = inMemory ? Integer.MAX_VALUE : MAX_GROUPS;
+        final AtomicLong processed = new AtomicLong();
+        final ThreadPool pool = KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool();
+        final List<Future<Groups>> futures = new ArrayList<Future<Groups>>();
+        for (long from = 0; from < size; from += chunkSize) {
+            final long first = from;
+            final long last = Math.min(size, from + chunkSize) - 1;
+            futures.add(pool.enqueue(() -> {
+                exec.checkCanceled();
+                return processChunk(first, last, exec, size, processed, maxGroups, createIndex);
+            }));
+        }
+        try {
+            return pool.runInvisible(() -> {
+                final Groups merged = new Groups(m_colIndices.length, createIndex);
+                for (Future<Groups> f : futures) {
+                    final Groups chunk = f.get();
+                    if (chunk == null || !merged.merge(chunk, maxGroups)) {
+                        futures.forEach(other -> other.cancel(true));
+                        return null;
+                    }
+                }
+                return merged;
+            });
+        } catch (ExecutionException e) {
+            futures.forEach(f -> f.cancel(true));
+            Throwable cause = e.getCause() instanceof ExecutionException ? e.getCause().getCause() : e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception)cause;
+            }
+            throw e;
+        }
+    }
+
+    /** @return the groups of the rows in the range or null if there are more than the maximum number of groups */
+    private Groups processChunk(final long first, final long last, final ExecutionMonitor exec, final long size,
+        final AtomicLong processed, final int maxGroups, final boolean createIndex) throws Exception {
+        final int numCols = m_colIndices.length;
+        final Groups groups = new Groups(numCols, createIndex);
+        final int[] rowGroups = createIndex ? new int[(int)(last - first + 1)] : null;
+        try (CloseableRowIterator it = m_table.filter(TableFilter.filterRangeOfRows(first, last)).iterator()) {
+            int i = 0;
+            while (it.hasNext()) {
+                final DataRow row = it.next();
+                final int g = groups.getId(row.getCell(m_catIndex));
+                if (g >= maxGroups) {
+                    return null;
+                }
+                groups.m_rowCounts[g]++;
+                for (int c = 0; c < numCols; c++) {
+                    final DataCell cell = row.getCell(m_colIndices[c]);
+                    if (cell.isMissing()) {
+                        groups.m_missing[c]++;
+                    } else {
+                        groups.m_sums[g * numCols + c] += ((DoubleValue)cell).getDoubleValue();
+                        groups.m_valueCounts[g * numCols + c]++;
+                    }
+                }
+                if (createIndex) {
+                    rowGroups[i] = g;
+                }
+                if ((++i & 0x3FF) == 0) {
+                    exec.checkCanceled();
+                    exec.setProgress((double)processed.addAndGet(0x400) / size);
+                }
+            }
+        }
+        if (createIndex) {
+            groups.m_rowGroups.add(rowGroups);
+        }
+        return groups;
+    }
+
+    /**
+     * The dictionary of categories and the aggregates of all groups, indexed by the id of the category.
+     */
+    private static final class Groups {
+
+        private final int m_numCols;
+
+        private final Map<DataCell, Integer> m_ids = new HashMap<DataCell, Integer>();
+
+        private final List<DataCell> m_categories = new ArrayList<DataCell>();
+
+        /** The group ids of the rows, in chunks of consecutive rows. */
+        private final List<int[]> m_rowGroups;
+
+        private final long[] m_missing;
+
+        private int m_size;
+
+        private long[] m_rowCounts = new long[16];
+
+        private double[] m_sums;
+
+        private long[] m_valueCounts;
+
+        Groups(final int numCols, final boolean createIndex) {
+            m_numCols = numCols;
+            m_rowGroups = createIndex ? new ArrayList<int[]>() : null;
+            m_missing = new long[numCols];
+            m_sums = new double[16 * numCols];
+            m_valueCounts = new long[16 * numCols];
+        }
+
+        /** @return the id of the category, a new group is added for unknown categories */
+        int getId(final DataCell category) {
+            final Integer id = m_ids.get(category);
+            if (id != null) {
+                return id;
+            }
+            final int g = m_size++;
+            m_ids.put(category, g);
+            m_categories.add(category);
+            if (g == m_rowCounts.length) {
+                m_rowCounts = Arrays.copyOf(m_rowCounts, 2 * g);
+                m_sums = Arrays.copyOf(m_sums, 2 * g * m_numCols);
+                m_valueCounts = Arrays.copyOf(m_valueCounts, 2 * g * m_numCols);
+            }
+            return g;
+        }
+
+        /** @return false if the merged groups exceed the maximum number of groups */
+        boolean merge(final Groups other, final int maxGroups) {
+            final int[] ids = new int[other.m_size];
+            for (int o = 0; o < other.m_size; o++) {
+                final int g = getId(other.m_categories.get(o));
+                if (g >= maxGroups) {
+                    return false;
+                }
+                ids[o] = g;
+                m_rowCounts[g] += other.m_rowCounts[o];
+                for (int c = 0; c < m_numCols; c++) {
+                    m_sums[g * m_numCols + c] += other.m_sums[o * m_numCols + c];
+                    m_valueCounts[g * m_numCols + c] += other.m_valueCounts[o * m_numCols + c];
+                }
+            }
+            for (int c = 0; c < m_numCols; c++) {
+                m_missing[c] += other.m_missing[c];
+            }
+            if (m_rowGroups != null) {
+                // the ids of the other groups are not needed anymore, translate them in place
+                for (int[] rowGroups : other.m_rowGroups) {
+                    for (int r = 0; r < rowGroups.length; r++) {
+                        rowGroups[r] = ids[rowGroups[r]];
+                    }
+                    m_rowGroups.add(rowGroups);
+                }
+            }
+            return true;
+        }
+    }
+}
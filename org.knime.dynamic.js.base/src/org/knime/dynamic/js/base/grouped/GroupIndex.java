@@ -0,0 +1,73 @@
+package org.knime.dynamic.js.base.grouped;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.property.hilite.DefaultHiLiteMapper;
+import org.knime.core.node.property.hilite.HiLiteTranslator;
+import org.knime.js.core.selections.json.JSONSelectionTranslator;
+
+/**
+ * A compact mapping from the rows of a grouped table to the rows of its input.
+ *
+ * <p>
+ * Instead of a set of row keys per group, only the group of every input row is kept, in input order. The row keys
+ * are read from the input table once, when the selection translator is first needed to write or save the view
+ * representation. Until then the index needs four bytes per input row. The translator sent to the view still
+ * contains the row keys of all input rows.
+ * </p>
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+final class GroupIndex {
+
+    private final BufferedDataTable m_table;
+
+    private final List<int[]> m_rowGroups;
+
+    private final RowKey[] m_groupKeys;
+
+    /**
+     * @param table the input table of the grouping
+     * @param rowGroups the group of every row of the input table, in consecutive chunks
+     * @param groupKeys the row keys of the grouped table by group
+     */
+    GroupIndex(final BufferedDataTable table, final List<int[]> rowGroups, final RowKey[] groupKeys) {
+        m_table = table;
+        m_rowGroups = rowGroups;
+        m_groupKeys = groupKeys;
+    }
+
+    /**
+     * @return the row keys of the input by row key of the grouped table
+     */
+    Map<RowKey, Set<RowKey>> createHiliteMapping() {
+        final Map<RowKey, Set<RowKey>> mapping = new HashMap<RowKey, Set<RowKey>>();
+        for (RowKey groupKey : m_groupKeys) {
+            mapping.put(groupKey, new LinkedHashSet<RowKey>());
+        }
+        try (CloseableRowIterator it = m_table.iterator()) {
+            for (int[] chunk : m_rowGroups) {
+                for (int group : chunk) {
+                    mapping.get(m_groupKeys[group]).add(it.next().getKey());
+                }
+            }
+        }
+        return mapping;
+    }
+
+    /**
+     * @return a new translator for the selection of the view
+     */
+    JSONSelectionTranslator createTranslator() {
+        final HiLiteTranslator translator = new HiLiteTranslator();
+        translator.setMapper(new DefaultHiLiteMapper(createHiliteMapping()));
+        return new JSONSelectionTranslator(translator);
+    }
+}
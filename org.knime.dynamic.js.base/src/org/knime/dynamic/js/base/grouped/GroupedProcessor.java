@@ -2,6 +2,7 @@
 
 import java.util.Arrays;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -15,8 +16,8 @@
 import org.knime.base.node.preproc.groupby.BigGroupByTable;
 import org.knime.base.node.preproc.groupby.ColumnNamePolicy;
 import org.knime.base.node.preproc.groupby.GroupByTable;
-import org.knime.base.node.preproc.groupby.MemoryGroupByTable;
 import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowKey;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.defaultnodesettings.SettingsModel;
@@ -29,12 +30,13 @@
 import org.knime.core.node.util.filter.NameFilterConfiguration.FilterResult;
 import org.knime.dynamic.js.v30.DynamicJSConfig;
 import org.knime.dynamic.js.v30.DynamicStatefulJSProcessor;
+import org.knime.dynamic.js.v30.StreamingJSONDataTable;
 import org.knime.js.core.JSONDataTable;
-import org.knime.js.core.JSONDataTable.Builder;
 import org.knime.js.core.selections.json.JSONSelectionTranslator;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 
 /**
  * @author Christian Albrecht, KNIME GmbH, Konstanz, Germany
@@ -88,9 +90,8 @@ protected GroupingResult processInputObjects(final PortObject[] inObjects, final
 		}
 		
 		//Check frequency column(s) settings
-		ColumnAggregator[] colAggregators = null;
+		String[] freqColumns = new String[0];
 		if (!method.equals(COUNT)) {
-			String[] freqColumns = new String[0];
 			final SettingsModel freqModel = config.getModel("freq");
 			if (freqModel instanceof SettingsModelString) {
 				String freqColName = ((SettingsModelString) freqModel).getStringValue();
@@ -112,39 +113,31 @@ protected GroupingResult processInputObjects(final PortObject[] inObjects, final
 							"Frequency column filter include list empty. Select at least one frequency column.");
 				}
 			}
-			colAggregators = new ColumnAggregator[freqColumns.length];
-			for (int i = 0; i < freqColumns.length; i++) {
-				AggregationOperator operator = null;
-				if (method.equals(SUM)) {
-					operator = new SumOperator(GlobalSettings.DEFAULT, OperatorColumnSettings.DEFAULT_EXCL_MISSING);
-				} else if (method.equals(AVG)) {
-					operator = new MeanOperator(GlobalSettings.DEFAULT, OperatorColumnSettings.DEFAULT_EXCL_MISSING);
-				}
-				if (operator == null) {
-					throw new IllegalArgumentException("Could not initialize aggregation operator for method " + method);
-				}
-				colAggregators[i] = new ColumnAggregator(table.getDataTableSpec().getColumnSpec(freqColumns[i]), operator);
-			}
-		} else {
-            AggregationOperator operator =
-                new CountOperator(GlobalSettings.DEFAULT, OperatorColumnSettings.DEFAULT_INCL_MISSING);
-			colAggregators = new ColumnAggregator[]{new ColumnAggregator(table.getDataTableSpec().getColumnSpec(catColName), operator)};
 		}
 		
 		Boolean inMemory = ((SettingsModelBoolean)config.getModel("processInMemory")).getBooleanValue();
 		Boolean enableHilight = ((SettingsModelBoolean)config.getModel("enableSelection")).getBooleanValue();
-		GroupByTable groupTable;
-		if(inMemory) {
-		    groupTable = new MemoryGroupByTable(exec, table, Arrays.asList(new String[]{catColName}),
-            colAggregators, GlobalSettings.DEFAULT, enableHilight, ColumnNamePolicy.KEEP_ORIGINAL_NAME, false);
+		BufferedDataTable groupedTable;
+		GroupIndex groupIndex = null;
+		Map<RowKey, Set<RowKey>> hiliteMapping = null;
+		Map<String, Long> missingValuesMap;
+		// the specialized aggregator only gives up on a high number of categories when not processing in memory
+		GroupAggregator aggregator = new GroupAggregator(table, catColName, freqColumns,
+		    method.equals(COUNT) ? GroupAggregator.Method.COUNT
+		        : method.equals(SUM) ? GroupAggregator.Method.SUM : GroupAggregator.Method.MEAN);
+		if (aggregator.aggregate(exec, inMemory, enableHilight)) {
+		    groupedTable = aggregator.getTable();
+		    groupIndex = aggregator.getGroupIndex();
+		    missingValuesMap = aggregator.getMissingValuesMap();
 		} else {
-	        groupTable = new BigGroupByTable(exec, table, Arrays.asList(new String[]{catColName}),
-            colAggregators, GlobalSettings.DEFAULT, enableHilight, ColumnNamePolicy.KEEP_ORIGINAL_NAME, false);
+		    GroupByTable groupTable = createGroupByTable(table, exec, method, catColName, freqColumns, enableHilight);
+		    groupedTable = groupTable.getBufferedTable();
+		    hiliteMapping = enableHilight ? groupTable.getHiliteMapping() : null;
+		    missingValuesMap = groupTable.getMissingValuesMap();
 		}
 
         // Missing values processing        
         if (((SettingsModelBoolean)config.getModel("reportOnMissingValues")).getBooleanValue()) {
-            Map<String, Long> missingValuesMap = groupTable.getMissingValuesMap();
             if (missingValuesMap.size() > 0) {
                 String warning =
                     "The following data columns have missing values, which were ignored during the aggregation:\n"
@@ -157,36 +150,84 @@ protected GroupingResult processInputObjects(final PortObject[] inObjects, final
 
         GroupingResult result = new GroupingResult();
 		if (serializeTable) {
-		    Builder builder = JSONDataTable.newBuilder()
-		            .setDataTable(groupTable.getBufferedTable())
-		            .setId(UUID.randomUUID().toString())
-		            .setFirstRow(1)
-		            .setMaxRows((int)groupTable.getBufferedTable().size());
-		    result.setTable(builder.build(exec));
+		    // the JSON table is written row by row when the view representation is serialized
+		    result.setStreamingTable(new StreamingJSONDataTable(groupedTable, UUID.randomUUID().toString(),
+		        Math.toIntExact(groupedTable.size())));
 		} else {
-		    result.setDataTable(groupTable.getBufferedTable());
+		    result.setDataTable(groupedTable);
 		}
 		result.setUUID(UUID.randomUUID().toString());
-		HiLiteTranslator translator = new HiLiteTranslator();
-		translator.setMapper(new DefaultHiLiteMapper(groupTable.getHiliteMapping()));
-		result.setTranslator(new JSONSelectionTranslator(translator));
+		// the view only supports selection if there is a translator
+		if (groupIndex != null) {
+		    // the row keys are resolved once, when the representation is first written or saved
+		    result.setGroupIndex(groupIndex);
+		} else if (hiliteMapping != null) {
+		    HiLiteTranslator translator = new HiLiteTranslator();
+		    translator.setMapper(new DefaultHiLiteMapper(hiliteMapping));
+		    result.setTranslator(new JSONSelectionTranslator(translator));
+		}
 		return result;
 	}
+
+    /**
+     * Groups the table with the general GroupBy implementation, used if there are too many categories for the
+     * specialized aggregator.
+     */
+    private static GroupByTable createGroupByTable(final BufferedDataTable table, final ExecutionContext exec,
+        final String method, final String catColName, final String[] freqColumns, final boolean enableHilight)
+        throws Exception {
+		ColumnAggregator[] colAggregators = null;
+		if (!method.equals(COUNT)) {
+			colAggregators = new ColumnAggregator[freqColumns.length];
+			for (int i = 0; i < freqColumns.length; i++) {
+				AggregationOperator operator = null;
+				if (method.equals(SUM)) {
+					operator = new SumOperator(GlobalSettings.DEFAULT, OperatorColumnSettings.DEFAULT_EXCL_MISSING);
+				} else if (method.equals(AVG)) {
+					operator = new MeanOperator(GlobalSettings.DEFAULT, OperatorColumnSettings.DEFAULT_EXCL_MISSING);
+				}
+				if (operator == null) {
+					throw new IllegalArgumentException("Could not initialize aggregation operator for method " + method);
+				}
+				colAggregators[i] = new ColumnAggregator(table.getDataTableSpec().getColumnSpec(freqColumns[i]), operator);
+			}
+		} else {
+            AggregationOperator operator =
+                new CountOperator(GlobalSettings.DEFAULT, OperatorColumnSettings.DEFAULT_INCL_MISSING);
+			colAggregators = new ColumnAggregator[]{new ColumnAggregator(table.getDataTableSpec().getColumnSpec(catColName), operator)};
+		}
+        return new BigGroupByTable(exec, table, Arrays.asList(new String[]{catColName}), colAggregators,
+            GlobalSettings.DEFAULT, enableHilight, ColumnNamePolicy.KEEP_ORIGINAL_NAME, false);
+    }
 	   
     @JsonAutoDetect
     public static final class GroupingResult {
         
         private JSONDataTable m_table;
+        private StreamingJSONDataTable m_streamingTable;
         private BufferedDataTable m_dataTable;
         private String m_UUID;
         private JSONSelectionTranslator m_translator;
+        private GroupIndex m_groupIndex;
         
-        public JSONDataTable getTable() {
-            return m_table;
+        /**
+         * @return the {@link StreamingJSONDataTable} set during execute or the {@link JSONDataTable} of a loaded
+         *         result, both are written as {@link JSONDataTable}
+         */
+        @JsonSerialize(using = StreamingJSONDataTable.TableSerializer.class)
+        public Object getTable() {
+            return m_streamingTable != null ? m_streamingTable : m_table;
         }
         
         public void setTable(JSONDataTable table) {
             m_table = table;
+            m_streamingTable = null;
+        }
+        
+        @JsonIgnore
+        void setStreamingTable(StreamingJSONDataTable table) {
+            m_streamingTable = table;
+            m_table = null;
         }
         
         @JsonIgnore
@@ -207,12 +248,24 @@ public void setUUID(String uuid) {
             m_UUID = uuid;
         }
         
-        public JSONSelectionTranslator getTranslator() {
+        /**
+         * @return the selection translator, created from the group index on the first call and kept afterwards
+         */
+        public synchronized JSONSelectionTranslator getTranslator() {
+            if (m_translator == null && m_groupIndex != null) {
+                m_translator = m_groupIndex.createTranslator();
+                m_groupIndex = null;
+            }
             return m_translator;
         }
         
         public void setTranslator(JSONSelectionTranslator translator) {
             m_translator = translator;
         }
+        
+        @JsonIgnore
+        synchronized void setGroupIndex(GroupIndex groupIndex) {
+            m_groupIndex = groupIndex;
+        }
     }
 }
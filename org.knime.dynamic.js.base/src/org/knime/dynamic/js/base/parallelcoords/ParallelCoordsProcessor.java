@@ -1,6 +1,4 @@
 package org.knime.dynamic.js.base.parallelcoords;
-import org.knime.core.data.DataRow;
-import org.knime.core.data.container.DataContainer;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.InvalidSettingsException;
@@ -9,6 +7,8 @@
 import org.knime.core.node.util.filter.NameFilterConfiguration.FilterResult;
 import org.knime.dynamic.js.v30.DynamicJSConfig;
 import org.knime.dynamic.js.v30.DynamicJSProcessor;
+import org.knime.dynamic.js.v30.RowFilterDataTable;
+import org.knime.dynamic.js.v30.StreamingJSONDataTable;
 
 public class ParallelCoordsProcessor implements DynamicJSProcessor {
 
@@ -23,21 +23,9 @@ public Object[] processInputObjects(final PortObject[] inObjects, final Executio
             throw new InvalidSettingsException("No columns selected");
         }
 
-        //int filteredCount = 0;
-        DataContainer dc = exec.createDataContainer(dt.getDataTableSpec());
-        for (DataRow row : dt) {
-            boolean ignore = false;
-            for (int i = 0; i < row.getNumCells() && !ignore; i++) {
-                if (row.getCell(i).isMissing()) {
-                    ignore = true;
-                    //filteredCount++;
-                }
-            }
-            if (!ignore) {
-                dc.addRowToTable(row);
-            }
-        }
-        dc.close();
+        // only the positions of the accepted rows are kept, no copy of the input
+        RowFilterDataTable filtered =
+            RowFilterDataTable.create(dt, RowFilterDataTable::hasNoMissingCells, config.getMaxRows(), exec);
         /*
          * TODO: Show warning message
         if (filteredCount > 0) {
@@ -45,7 +33,7 @@ public Object[] processInputObjects(final PortObject[] inObjects, final Executio
         }
          */
 
-        return new Object[] {dc.getTable()};
+        return new Object[] {new StreamingJSONDataTable(filtered, null, config.getMaxRows())};
     }
 
 }
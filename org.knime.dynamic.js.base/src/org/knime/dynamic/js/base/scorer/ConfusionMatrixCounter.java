@@ -0,0 +1,339 @@
+package org.knime.dynamic.js.base.scorer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.container.filter.TableFilter;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.util.ThreadPool;
+
+/**
+ * Counts the confusion matrix of two class columns.
+ *
+ * <p>
+ * The class labels are dictionary encoded. The table is processed in parallel chunks, every chunk has its own
+ * dictionary and only counts the cells of the matrix which actually occur, in a primitive hash table. The chunks are
+ * merged in order afterwards, so the insertion order of the labels is the same as for a sequential pass, and only the
+ * final counts are kept in a <code>long[][]</code>. The row keys of every cell of the matrix are only collected if
+ * requested.
+ * </p>
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+final class ConfusionMatrixCounter {
+
+    private static final int MIN_CHUNK_SIZE = 100000;
+
+    private final int m_firstIndex;
+
+    private final int m_secondIndex;
+
+    private final boolean m_ignoreMissingValues;
+
+    private final boolean m_collectRowKeys;
+
+    private String[] m_labels;
+
+    private long[][] m_counts;
+
+    private List<String>[][] m_rowKeys;
+
+    private long m_numMissing;
+
+    /**
+     * @param firstIndex the index of the column with the actual classes
+     * @param secondIndex the index of the column with the predicted classes
+     * @param ignoreMissingValues true if rows with missing values should be skipped, false to fail on them
+     * @param collectRowKeys true if the row keys of every cell of the matrix should be collected
+     */
+    ConfusionMatrixCounter(final int firstIndex, final int secondIndex, final boolean ignoreMissingValues,
+        final boolean collectRowKeys) {
+        m_firstIndex = firstIndex;
+        m_secondIndex = secondIndex;
+        m_ignoreMissingValues = ignoreMissingValues;
+        m_collectRowKeys = collectRowKeys;
+    }
+
+    /**
+     * Counts the table.
+     *
+     * @param table the table to count
+     * @param lexical true if the labels should be sorted lexically, false to keep the order of their first occurrence
+     * @param reversed true if the order of the labels should be reversed
+     * @param exec the monitor to report progress to and to check for cancellation
+     * @throws Exception if counting fails or is canceled
+     */
+    void count(final BufferedDataTable table, final boolean lexical, final boolean reversed,
+        final ExecutionMonitor exec) throws Exception {
+        final Chunk merged = runInChunks(table, exec);
+        final int n = merged.m_labels.size();
+        final Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        if (lexical) {
+            Arrays.sort(order, (a, b) -> merged.m_labels.get(a).compareTo(merged.m_labels.get(b)));
+        }
+        if (reversed) {
+            Collections.reverse(Arrays.asList(order));
+        }
+        final int[] position = new int[n];
+        m_labels = new String[n];
+        for (int i = 0; i < n; i++) {
+            position[order[i]] = i;
+            m_labels[i] = merged.m_labels.get(order[i]);
+        }
+        m_counts = new long[n][n];
+        for (int slot = 0; slot < merged.m_cellKeys.length; slot++) {
+            final long key = merged.m_cellKeys[slot];
+            if (key != Chunk.EMPTY) {
+                m_counts[position[(int)(key >>> 32)]][position[(int)key]] = merged.m_cellCounts[slot];
+            }
+        }
+        m_numMissing = merged.m_numMissing;
+        if (m_collectRowKeys) {
+            @SuppressWarnings("unchecked")
+            final List<String>[][] rowKeys = new List[n][n];
+            for (int a = 0; a < n; a++) {
+                for (int p = 0; p < n; p++) {
+                    rowKeys[a][p] = new ArrayList<String>((int)Math.min(Integer.MAX_VALUE, m_counts[a][p]));
+                }
+            }
+            for (int r = 0; r < merged.m_keys.size(); r++) {
+                rowKeys[position[merged.m_cells[2 * r]]][position[merged.m_cells[2 * r + 1]]]
+                    .add(merged.m_keys.get(r));
+            }
+            m_rowKeys = rowKeys;
+        }
+    }
+
+    /**
+     * @return the class labels in the order of the rows and columns of the matrix
+     */
+    String[] getLabels() {
+        return m_labels;
+    }
+
+    /**
+     * @return the counts by actual class (first index) and predicted class (second index)
+     */
+    long[][] getCounts() {
+        return m_counts;
+    }
+
+    /**
+     * @return the row keys by actual and predicted class, null if they were not collected
+     */
+    List<String>[][] getRowKeys() {
+        return m_rowKeys;
+    }
+
+    /**
+     * @return the number of rows skipped because of missing values
+     */
+    long getNumMissing() {
+        return m_numMissing;
+    }
+
+    /** Splits the table into chunks, counts them on the global thread pool and merges the results in order. */
+    private Chunk runInChunks(final BufferedDataTable table, final ExecutionMonitor exec) throws Exception {
+        final long size = table.size();
+        final int threads = Math.max(1, Runtime.getRuntime().availableProcessors());
+        final long chunkSize = Math.max(MIN_CHUNK_SIZE, (size + threads - 1) / threads);
+        final AtomicLong processed = new AtomicLong();
+        final ThreadPool pool = KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool();
+        final List<Future<Chunk>> futures = new ArrayList<Future<Chunk>>();
+        for (long from = 0; from < size; from += chunkSize) {
+            final long first = from;
+            final long last = Math.min(size, from + chunkSize) - 1;
+            futures.add(pool.enqueue(() -> {
+                exec.checkCanceled();
+                return processChunk(table, first, last, exec, size, processed);
+            }));
+        }
+        try {
+            return pool.runInvisible(() -> {
+                final Chunk merged = new Chunk(m_collectRowKeys);
+                for (Future<Chunk> f : futures) {
+                    merged.merge(f.get());
+                }
+                return merged;
+            });
+        } catch (ExecutionException e) {
+            futures.forEach(f -> f.cancel(true));
+            Throwable cause = e.getCause() instanceof ExecutionException ? e.getCause().getCause() : e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception)cause;
+            }
+            throw e;
+        }
+    }
+
+    private Chunk processChunk(final BufferedDataTable table, final long first, final long last,
+        final ExecutionMonitor exec, final long size, final AtomicLong processed) throws Exception {
+        final Chunk chunk = new Chunk(m_collectRowKeys);
+        try (CloseableRowIterator it = table.filter(TableFilter.filterRangeOfRows(first, last)).iterator()) {
+            long i = 0;
+            while (it.hasNext()) {
+                final DataRow row = it.next();
+                final DataCell actual = row.getCell(m_firstIndex);
+                final DataCell predicted = row.getCell(m_secondIndex);
+                if (actual.isMissing() || predicted.isMissing()) {
+                    if (!m_ignoreMissingValues) {
+                        throw new IllegalArgumentException(
+                            "Missing values are not allowed, row '" + row.getKey() + "' contains missing values.");
+                    }
+                    chunk.m_numMissing++;
+                } else {
+                    final int a = chunk.getId(actual.toString());
+                    final int p = chunk.getId(predicted.toString());
+                    chunk.increment(a, p, 1);
+                    if (m_collectRowKeys) {
+                        chunk.addKey(row.getKey().getString(), a, p);
+                    }
+                }
+                if ((++i & 0x3FF) == 0) {
+                    exec.checkCanceled();
+                    exec.setProgress((double)processed.addAndGet(0x400) / size);
+                }
+            }
+        }
+        return chunk;
+    }
+
+    /**
+     * The dictionary, the counts and optionally the row keys of a part of the table.
+     */
+    private static final class Chunk {
+
+        /** Marks an unused slot of the cell counts. */
+        static final long EMPTY = -1;
+
+        private final Map<String, Integer> m_ids = new HashMap<String, Integer>();
+
+        private final List<String> m_labels = new ArrayList<String>();
+
+        /**
+         * The cells of the matrix with a count, in an open addressing hash table with linear probing. The key of a
+         * cell holds the id of the actual class in the upper and the id of the predicted class in the lower 32 bits.
+         */
+        private long[] m_cellKeys = newKeys(16);
+
+        private long[] m_cellCounts = new long[16];
+
+        private int m_numCells;
+
+        private final List<String> m_keys;
+
+        /** The ids of the actual and predicted class of every collected row key, interleaved. */
+        private int[] m_cells = new int[0];
+
+        private long m_numMissing;
+
+        Chunk(final boolean collectRowKeys) {
+            m_keys = collectRowKeys ? new ArrayList<String>() : null;
+        }
+
+        /** @return the id of the label, a new id is assigned to unknown labels */
+        int getId(final String label) {
+            final Integer id = m_ids.get(label);
+            if (id != null) {
+                return id;
+            }
+            final int newId = m_labels.size();
+            m_ids.put(label, newId);
+            m_labels.add(label);
+            return newId;
+        }
+
+        /** Adds to the count of the cell of the given actual and predicted class. */
+        void increment(final int actual, final int predicted, final long delta) {
+            final long key = ((long)actual << 32) | predicted;
+            final int mask = m_cellKeys.length - 1;
+            int slot = hash(key) & mask;
+            while (m_cellKeys[slot] != EMPTY && m_cellKeys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            if (m_cellKeys[slot] == EMPTY) {
+                m_cellKeys[slot] = key;
+                m_cellCounts[slot] = delta;
+                // keep the load factor at or below 0.5
+                if (2 * ++m_numCells > m_cellKeys.length) {
+                    rehash(2 * m_cellKeys.length);
+                }
+            } else {
+                m_cellCounts[slot] += delta;
+            }
+        }
+
+        private void rehash(final int capacity) {
+            final long[] keys = m_cellKeys;
+            final long[] counts = m_cellCounts;
+            m_cellKeys = newKeys(capacity);
+            m_cellCounts = new long[capacity];
+            final int mask = capacity - 1;
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != EMPTY) {
+                    int slot = hash(keys[i]) & mask;
+                    while (m_cellKeys[slot] != EMPTY) {
+                        slot = (slot + 1) & mask;
+                    }
+                    m_cellKeys[slot] = keys[i];
+                    m_cellCounts[slot] = counts[i];
+                }
+            }
+        }
+
+        private static long[] newKeys(final int capacity) {
+            final long[] keys = new long[capacity];
+            Arrays.fill(keys, EMPTY);
+            return keys;
+        }
+
+        private static int hash(final long key) {
+            final int h = (int)(key ^ (key >>> 32)) * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+
+        void addKey(final String key, final int actual, final int predicted) {
+            final int r = m_keys.size();
+            if (2 * r == m_cells.length) {
+                m_cells = Arrays.copyOf(m_cells, Math.max(16, 2 * m_cells.length));
+            }
+            m_cells[2 * r] = actual;
+            m_cells[2 * r + 1] = predicted;
+            m_keys.add(key);
+        }
+
+        void merge(final Chunk other) {
+            final int[] ids = new int[other.m_labels.size()];
+            for (int o = 0; o < ids.length; o++) {
+                ids[o] = getId(other.m_labels.get(o));
+            }
+            for (int slot = 0; slot < other.m_cellKeys.length; slot++) {
+                final long key = other.m_cellKeys[slot];
+                if (key != EMPTY) {
+                    increment(ids[(int)(key >>> 32)], ids[(int)key], other.m_cellCounts[slot]);
+                }
+            }
+            m_numMissing += other.m_numMissing;
+            if (m_keys != null) {
+                for (int r = 0; r < other.m_keys.size(); r++) {
+                    addKey(other.m_keys.get(r), ids[other.m_cells[2 * r]], ids[other.m_cells[2 * r + 1]]);
+                }
+            }
+        }
+    }
+}
@@ -2,15 +2,25 @@
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Iterator;
 import java.util.List;
 
-import org.knime.base.node.mine.scorer.accuracy.AccuracyScorerCalculator;
 import org.knime.base.util.SortingStrategy;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTable;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
 import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DefaultTable;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.defaultnodesettings.SettingsModel;
 import org.knime.core.node.defaultnodesettings.SettingsModelBoolean;
 import org.knime.core.node.defaultnodesettings.SettingsModelString;
 import org.knime.core.node.port.PortObject;
@@ -24,6 +34,15 @@ public class ScorerProcessor extends DynamicStatefulJSProcessor {
 	private static final String LEXICAL = "Lexical";
 	private static final String[] AVAILABLE_STRATEGIES = new String[]{INSERTION_ORDER, LEXICAL};
 
+    /** Names of the class statistics columns, the first four are counts. */
+    static final String[] CLASS_STATISTICS = new String[]{"TruePositives", "FalsePositives",
+        "TrueNegatives", "FalseNegatives", "Accuracy", "Balanced Accuracy", "Error Rate", "False Negative Rate",
+        "Recall", "Precision", "Sensitivity", "Specificity", "F-measure"};
+
+    /** Names of the overall statistics columns, the last two are counts. */
+    static final String[] OVERALL_STATISTICS = new String[]{"Overall Accuracy", "Overall Error",
+        "Cohen's kappa", "Correctly Classified", "Incorrectly Classified"};
+
 
 	@Override
 	public Object[] processInputObjects(final PortObject[] inObjects, final ExecutionContext exec, final DynamicJSConfig config)
@@ -42,16 +61,20 @@ public Object[] processInputObjects(final PortObject[] inObjects, final Executio
 		boolean sortingReversed = ((SettingsModelBoolean)config.getModel("reverse_order")).getBooleanValue();
 		boolean ignoreMissingValues = ((SettingsModelBoolean)config.getModel("ignore_missing_values")).getBooleanValue();
 
-		AccuracyScorerCalculator.ScorerCalculatorConfiguration calculatorConfig = new AccuracyScorerCalculator.ScorerCalculatorConfiguration();
-		calculatorConfig.setSortingStrategy(sortingStrategy);
-		calculatorConfig.setSortingReversed(sortingReversed);
-		calculatorConfig.setIgnoreMissingValues(ignoreMissingValues);
-
-        AccuracyScorerCalculator scorerCalc = AccuracyScorerCalculator.createCalculator(table, firstColumnName, secondColumnName, calculatorConfig, exec.createSubExecutionContext(0.9));
+        // the row keys of the matrix cells are only needed for selection, enabled if the option is not defined
+        SettingsModel selectionModel = config.getModel("enableSelection");
+        boolean collectRowKeys =
+            selectionModel == null || ((SettingsModelBoolean)selectionModel).getBooleanValue();
+        DataTableSpec spec = table.getDataTableSpec();
+        ConfusionMatrixCounter counter = new ConfusionMatrixCounter(spec.findColumnIndex(firstColumnName),
+            spec.findColumnIndex(secondColumnName), ignoreMissingValues, collectRowKeys);
+        counter.count(table, sortingStrategy == SortingStrategy.Lexical, sortingReversed,
+            exec.createSubExecutionContext(0.9));
+        String[] labels = counter.getLabels();
+        long[][] counts = counter.getCounts();
 
-        JSONDataTable confusionMatrixTable = createJSONTableFromBufferedDataTable(scorerCalc.getConfusionMatrixTable(exec), exec.createSubExecutionContext(0.03));
+        JSONDataTable confusionMatrixTable = createJSONTableFromDataTable(createConfusionMatrixTable(labels, counts), exec.createSubExecutionContext(0.03));
 
-        AccuracyScorerCalculator.ClassStatisticsConfiguration classStatsConfig = new AccuracyScorerCalculator.ClassStatisticsConfiguration();
         boolean isTpCalculated = getBooleanFromConfig(config, "displayTruePositives");
         boolean isFpCalculated = getBooleanFromConfig(config, "displayFalsePositives");
         boolean isTnCalculated = getBooleanFromConfig(config, "displayTrueNegatives");
@@ -65,59 +88,28 @@ public Object[] processInputObjects(final PortObject[] inObjects, final Executio
         boolean isSensitivityCalculated = getBooleanFromConfig(config, "displaySensitivity");
         boolean isSpecificityCalculated = getBooleanFromConfig(config, "displaySpecificity");
         boolean isFMeasureCalculated = getBooleanFromConfig(config, "displayFMeasure");
-        classStatsConfig.withTpCalculated(isTpCalculated)
-        .withFpCalculated(isFpCalculated)
-        .withTnCalculated(isTnCalculated)
-        .withFnCalculated(isFnCalculated)
-        .withAccuracyCalculated(isAccuracyCalculated)
-        .withBalancedAccuracyCalculated(isBalancedAccuracyCalculated)
-        .withErrorRateCalculated(isErrorRateCalculated)
-        .withFalseNegativeRateCalculated(isFalseNegativeRateCalculated)
-        .withRecallCalculated(isRecallCalculated)
-        .withPrecisionCalculated(isPrecisionCalculated)
-        .withSensitivityCalculated(isSensitivityCalculated)
-        .withSpecifityCalculated(isSpecificityCalculated)
-        .withFmeasureCalculated(isFMeasureCalculated);
-        JSONDataTable classStatsTable = createJSONTableFromBufferedDataTable(scorerCalc.getClassStatisticsTable(classStatsConfig, exec), exec.createSubExecutionContext(0.03));
-
-        AccuracyScorerCalculator.OverallStatisticsConfiguration overallStatsConfig = new AccuracyScorerCalculator.OverallStatisticsConfiguration();
+        boolean[] classStats = new boolean[]{isTpCalculated, isFpCalculated, isTnCalculated, isFnCalculated,
+            isAccuracyCalculated, isBalancedAccuracyCalculated, isErrorRateCalculated, isFalseNegativeRateCalculated,
+            isRecallCalculated, isPrecisionCalculated, isSensitivityCalculated, isSpecificityCalculated,
+            isFMeasureCalculated};
+        JSONDataTable classStatsTable = createJSONTableFromDataTable(createClassStatisticsTable(labels, counts, classStats), exec.createSubExecutionContext(0.03));
+
         boolean isOverallAccuracyCalculated = getBooleanFromConfig(config, "displayOverallAccuracy");
         boolean isOverallErrorCalculated = getBooleanFromConfig(config, "displayOverallError");
         boolean isCohensKappaCalculated = getBooleanFromConfig(config, "displayCohensKappa");
         boolean isCorrectClassifiedCalculated = getBooleanFromConfig(config, "displayCorrectClassified");
         boolean isWrongClassifiedCalculated = getBooleanFromConfig(config, "displayWrongClassified");
-        overallStatsConfig.withOverallAccuracyCalculated(isOverallAccuracyCalculated)
-        .withOverallErrorCalculated(isOverallErrorCalculated)
-        .withCohensKappaCalculated(isCohensKappaCalculated)
-        .withCorrectClassifiedCalculated(isCorrectClassifiedCalculated)
-        .withWrongClassifiedCalculated(isWrongClassifiedCalculated);
-        JSONDataTable overallStatsTable = createJSONTableFromBufferedDataTable(scorerCalc.getOverallStatisticsTable(overallStatsConfig, exec), exec.createSubExecutionContext(0.03));
-
-        List<RowKey>[][] keyStore = scorerCalc.getKeyStore();
-        List<String>[][] keyStoreAsStrings = new List[keyStore.length][keyStore.length];
-        for (int i = 0; i < keyStoreAsStrings.length; i++) {
-            for (int j = 0; j < keyStoreAsStrings[i].length; j++) {
-                keyStoreAsStrings[i][j] = new ArrayList<String>();
-                Iterator<RowKey> storeIt = keyStore[i][j].iterator();
-                while (storeIt.hasNext()) {
-                    keyStoreAsStrings[i][j].add(storeIt.next().getString());
-                }
-            }
-        }
+        boolean[] overallStats = new boolean[]{isOverallAccuracyCalculated, isOverallErrorCalculated,
+            isCohensKappaCalculated, isCorrectClassifiedCalculated, isWrongClassifiedCalculated};
+        JSONDataTable overallStatsTable = createJSONTableFromDataTable(createOverallStatisticsTable(counts, overallStats), exec.createSubExecutionContext(0.03));
 
         // Missing values processing
-        if (ignoreMissingValues) {
-            List<String> warnings = scorerCalc.getWarnings();
-            if (warnings.size() > 0) {
-                StringBuffer buffer = new StringBuffer();
-                for (String warning : warnings) {
-                    buffer.append(warning + "\n");
-                }
-                setWarningMessage(buffer.toString());
-            }
+        if (ignoreMissingValues && counter.getNumMissing() > 0) {
+            setWarningMessage("There were missing values in the reference or in the prediction class columns, "
+                + counter.getNumMissing() + " row(s) have been ignored.");
         }
 
-        ScorerResult result = new ScorerResult(confusionMatrixTable, classStatsTable, overallStatsTable, keyStoreAsStrings);
+        ScorerResult result = new ScorerResult(confusionMatrixTable, classStatsTable, overallStatsTable, counter.getRowKeys());
         exec.setProgress(1);
         return new Object[] {result};
 	}
@@ -131,13 +123,135 @@ private boolean getBooleanFromConfig(final DynamicJSConfig config, final String
     }
 
     /**
-     * Converts a buffered data table into {@link JSONDataTable} format
+     * Creates the confusion matrix with the actual classes as rows and the predicted classes as columns.
+     * @param labels the class labels
+     * @param counts the counts by actual and predicted class
+     * @return the confusion matrix table
+     */
+    static DataTable createConfusionMatrixTable(final String[] labels, final long[][] counts) {
+        DataColumnSpec[] colSpecs = new DataColumnSpec[labels.length];
+        for (int i = 0; i < labels.length; i++) {
+            colSpecs[i] = new DataColumnSpecCreator(labels[i], IntCell.TYPE).createSpec();
+        }
+        DataRow[] rows = new DataRow[labels.length];
+        for (int a = 0; a < labels.length; a++) {
+            DataCell[] cells = new DataCell[labels.length];
+            for (int p = 0; p < labels.length; p++) {
+                cells[p] = new IntCell((int)counts[a][p]);
+            }
+            rows[a] = new DefaultRow(new RowKey(labels[a]), cells);
+        }
+        return new DefaultTable(rows, new DataTableSpec(colSpecs));
+    }
+
+    /**
+     * Creates the statistics per class, derived from the confusion matrix.
+     * @param labels the class labels
+     * @param counts the counts by actual and predicted class
+     * @param included which of the {@link #CLASS_STATISTICS} to calculate
+     * @return the class statistics table
+     */
+    static DataTable createClassStatisticsTable(final String[] labels, final long[][] counts,
+        final boolean[] included) {
+        long total = 0;
+        long[] actualTotals = new long[labels.length];
+        long[] predictedTotals = new long[labels.length];
+        for (int a = 0; a < labels.length; a++) {
+            for (int p = 0; p < labels.length; p++) {
+                total += counts[a][p];
+                actualTotals[a] += counts[a][p];
+                predictedTotals[p] += counts[a][p];
+            }
+        }
+        List<DataColumnSpec> colSpecs = new ArrayList<DataColumnSpec>();
+        for (int s = 0; s < CLASS_STATISTICS.length; s++) {
+            if (included[s]) {
+                colSpecs.add(new DataColumnSpecCreator(CLASS_STATISTICS[s], s < 4 ? IntCell.TYPE : DoubleCell.TYPE)
+                    .createSpec());
+            }
+        }
+        DataRow[] rows = new DataRow[labels.length];
+        for (int c = 0; c < labels.length; c++) {
+            long tp = counts[c][c];
+            long fn = actualTotals[c] - tp;
+            long fp = predictedTotals[c] - tp;
+            long tn = total - tp - fn - fp;
+            double recall = ratio(tp, tp + fn);
+            double precision = ratio(tp, tp + fp);
+            double specificity = ratio(tn, tn + fp);
+            double accuracy = ratio(tp + tn, total);
+            double[] values = new double[]{tp, fp, tn, fn, accuracy, (recall + specificity) / 2, 1 - accuracy,
+                ratio(fn, tp + fn), recall, precision, recall, specificity,
+                2 * precision * recall / (precision + recall)};
+            List<DataCell> cells = new ArrayList<DataCell>();
+            for (int s = 0; s < CLASS_STATISTICS.length; s++) {
+                if (included[s]) {
+                    cells.add(s < 4 ? new IntCell((int)values[s]) : createDoubleCell(values[s]));
+                }
+            }
+            rows[c] = new DefaultRow(new RowKey(labels[c]), cells);
+        }
+        return new DefaultTable(rows, new DataTableSpec(colSpecs.toArray(new DataColumnSpec[0])));
+    }
+
+    /**
+     * Creates the overall statistics, derived from the confusion matrix.
+     * @param counts the counts by actual and predicted class
+     * @param included which of the {@link #OVERALL_STATISTICS} to calculate
+     * @return the overall statistics table with a single row
+     */
+    static DataTable createOverallStatisticsTable(final long[][] counts, final boolean[] included) {
+        long total = 0;
+        long correct = 0;
+        long[] actualTotals = new long[counts.length];
+        long[] predictedTotals = new long[counts.length];
+        for (int a = 0; a < counts.length; a++) {
+            correct += counts[a][a];
+            for (int p = 0; p < counts.length; p++) {
+                total += counts[a][p];
+                actualTotals[a] += counts[a][p];
+                predictedTotals[p] += counts[a][p];
+            }
+        }
+        double accuracy = ratio(correct, total);
+        // agreement expected by chance
+        double expected = 0;
+        for (int c = 0; c < counts.length; c++) {
+            expected += ratio(actualTotals[c], total) * ratio(predictedTotals[c], total);
+        }
+        double[] values =
+            new double[]{accuracy, 1 - accuracy, (accuracy - expected) / (1 - expected), correct, total - correct};
+        List<DataColumnSpec> colSpecs = new ArrayList<DataColumnSpec>();
+        List<DataCell> cells = new ArrayList<DataCell>();
+        for (int s = 0; s < OVERALL_STATISTICS.length; s++) {
+            if (included[s]) {
+                boolean isCount = s >= 3;
+                colSpecs.add(new DataColumnSpecCreator(OVERALL_STATISTICS[s], isCount ? IntCell.TYPE : DoubleCell.TYPE)
+                    .createSpec());
+                cells.add(isCount ? new IntCell((int)values[s]) : createDoubleCell(values[s]));
+            }
+        }
+        DataRow row = new DefaultRow(new RowKey("Overall"), cells);
+        return new DefaultTable(new DataRow[]{row}, new DataTableSpec(colSpecs.toArray(new DataColumnSpec[0])));
+    }
+
+    private static double ratio(final long numerator, final long denominator) {
+        return denominator == 0 ? Double.NaN : (double)numerator / denominator;
+    }
+
+    /** Undefined statistics, e.g. the precision of a class which is never predicted, are missing. */
+    private static DataCell createDoubleCell(final double value) {
+        return Double.isNaN(value) || Double.isInfinite(value) ? DataType.getMissingCell() : new DoubleCell(value);
+    }
+
+    /**
+     * Converts a data table into {@link JSONDataTable} format
      * @param table
      * @param exec
      * @return corresponding {@link JSONDataTable} object
      * @throws CanceledExecutionException
      */
-    private JSONDataTable createJSONTableFromBufferedDataTable(final BufferedDataTable table, final ExecutionContext exec) throws CanceledExecutionException {
+    private JSONDataTable createJSONTableFromDataTable(final DataTable table, final ExecutionContext exec) throws CanceledExecutionException {
         JSONDataTable jsonTable = getJsonDataTableBuilder(table).build(exec);
         return jsonTable;
     }
@@ -147,7 +261,7 @@ private JSONDataTable createJSONTableFromBufferedDataTable(final BufferedDataTab
      * @param table
      * @return corresponding builder object
      */
-    private JSONDataTable.Builder getJsonDataTableBuilder(final BufferedDataTable table) {
+    private JSONDataTable.Builder getJsonDataTableBuilder(final DataTable table) {
         return JSONDataTable.newBuilder()
                 .setDataTable(table);
     }
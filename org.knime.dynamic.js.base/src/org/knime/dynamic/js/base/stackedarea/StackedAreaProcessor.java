@@ -1,65 +1,192 @@
 package org.knime.dynamic.js.base.stackedarea;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
-import org.knime.core.data.sort.BufferedDataTableSorter;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTable;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.container.filter.TableFilter;
+import org.knime.core.data.sort.DataTableSorter;
 import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.defaultnodesettings.SettingsModelBoolean;
 import org.knime.core.node.defaultnodesettings.SettingsModelColumnFilter2;
 import org.knime.core.node.defaultnodesettings.SettingsModelString;
 import org.knime.core.node.port.PortObject;
 import org.knime.dynamic.js.v30.DynamicJSConfig;
 import org.knime.dynamic.js.v30.DynamicStatefulJSProcessor;
+import org.knime.dynamic.js.v30.RowFilterDataTable;
 import org.knime.js.core.JSONDataTable;
 
 public class StackedAreaProcessor extends DynamicStatefulJSProcessor {
-             
+
     @Override
     public Object[] processInputObjects(PortObject[] inObjects,
             ExecutionContext exec, DynamicJSConfig config) throws Exception {
-    	
+
         BufferedDataTable dt = (BufferedDataTable)inObjects[0];
+        DataTableSpec spec = dt.getDataTableSpec();
 
         // Get columns selected for y-axis.
-        String[] yAxisColumns = ((SettingsModelColumnFilter2)config.getModel("columns")).applyTo(dt.getDataTableSpec()).getIncludes();
-        
+        String[] yAxisColumns = ((SettingsModelColumnFilter2)config.getModel("columns")).applyTo(spec).getIncludes();
+
         // Get column selected for x-axis.
         String xAxisColumn = ((SettingsModelString)config.getModel("xAxisColumn")).getStringValue();
-        // Sort for selected column.         	
-        boolean sort = ((SettingsModelBoolean)config.getModel("xAxisSort")).getBooleanValue();
-        // Is the column unequal RowID?
-        if (xAxisColumn != null) {
-        	
-        	if (sort) {
-	            BufferedDataTableSorter sorter = new BufferedDataTableSorter(dt, Collections.singletonList(xAxisColumn), new boolean[] {true});
-	           	dt = sorter.sort(exec.createSubExecutionContext(0.5));
-        	}
-        }
-               
+        // Sort for selected column, only if the column is unequal RowID.
+        boolean sort = ((SettingsModelBoolean)config.getModel("xAxisSort")).getBooleanValue() && xAxisColumn != null;
+
         // Concatenate y-axis and x-axis columns, but only include columns that exist.
         String[] includeColumns = Stream
         		.concat(Arrays.stream(yAxisColumns), Stream.of(xAxisColumn))
         		.filter(p -> p != null)
         		.distinct()
                 .toArray(String[]::new);
-        
-        JSONDataTable table = JSONDataTable.newBuilder()
+        int[] includeIndices = Arrays.stream(includeColumns).mapToInt(spec::findColumnIndex).filter(i -> i >= 0)
+                .toArray();
+
+        // Rows with missing values are dropped and the order is checked while the table is built. Time series
+        // usually are sorted already, the table then only needs to be read once.
+        int xIndex = sort ? spec.findColumnIndex(xAxisColumn) : -1;
+        SortedRowFilter filter = new SortedRowFilter(includeIndices, xIndex,
+            xIndex < 0 ? null : spec.getColumnSpec(xIndex).getType().getComparator());
+        JSONDataTable table = buildTable(new RowFilterDataTable(dt, filter), includeColumns, config.getMaxRows(),
+            sort ? exec.createSubExecutionContext(0.4) : exec);
+        if (sort) {
+            // the table might have been built from the first rows only, the remaining ones need to be checked
+            filter.checkRemaining(dt, exec.createSubProgress(0.1));
+            if (!filter.isSorted()) {
+                DataTableSorter sorter = new DataTableSorter(
+                    new RowFilterDataTable(dt, row -> hasNoMissingCells(row, includeIndices)),
+                    dt.size() - filter.getNumMissing(), Collections.singletonList(xAxisColumn), new boolean[]{true});
+                DataTable sorted = sorter.sort(exec.createSubProgress(0.4));
+                try {
+                    table = buildTable(sorted, includeColumns, config.getMaxRows(),
+                        exec.createSubExecutionContext(0.1));
+                } finally {
+                    // the sorted table is not managed by the execution context, its temporary files are deleted here
+                    if (sorted instanceof ContainerTable) {
+                        ((ContainerTable)sorted).clear();
+                    }
+                }
+            }
+        }
+
+        long removed = filter.getNumMissing();
+        if (removed > 0) {
+        	setWarningMessage("Table contained " + removed + " rows with missing values. These rows are ignored in the view.");
+        }
+
+        return new Object[] {table, inObjects[1]};
+    }
+
+    private static JSONDataTable buildTable(final DataTable dt, final String[] includeColumns, final int maxRows,
+        final ExecutionMonitor exec) throws CanceledExecutionException {
+        return JSONDataTable.newBuilder()
         		.setDataTable(dt)
         		.setFirstRow(1)
                        .keepFilterColumns(true)
-        		.setMaxRows(config.getMaxRows())
+        		.setMaxRows(maxRows)
         		.setIncludeColumns(includeColumns)
-        		.excludeRowsWithMissingValues(true)
-        		.build(sort ? exec.createSubExecutionContext(0.5): exec);
+        		.build(exec);
+    }
 
-        int removed = table.numberRemovedRowsWithMissingValues();
-        if (removed > 0) {
-        	setWarningMessage("Table contained " + removed + " rows with missing values. These rows are ignored in the view.");
+    private static boolean hasNoMissingCells(final DataRow row, final int[] indices) {
+        for (int i : indices) {
+            if (row.getCell(i).isMissing()) {
+                return false;
+            }
         }
+        return true;
+    }
 
-        return new Object[] {table, inObjects[1]};
+    /**
+     * Accepts the rows without missing values in the included columns and checks whether they are sorted by the
+     * x-axis column. Once a row is out of order, no further rows are accepted, the table needs to be sorted anyway.
+     */
+    private static final class SortedRowFilter implements Predicate<DataRow> {
+
+        private final int[] m_indices;
+        private final int m_sortIndex;
+        private final Comparator<DataCell> m_comparator;
+        private DataCell m_last;
+        private boolean m_sorted = true;
+        private long m_numRows;
+        private long m_numMissing;
+
+        /**
+         * @param indices the included columns
+         * @param sortIndex the x-axis column or -1 if the order is not checked
+         * @param comparator the comparator of the x-axis column, may be null if the order is not checked
+         */
+        SortedRowFilter(final int[] indices, final int sortIndex, final Comparator<DataCell> comparator) {
+            m_indices = indices;
+            m_sortIndex = sortIndex;
+            m_comparator = comparator;
+        }
+
+        @Override
+        public boolean test(final DataRow row) {
+            m_numRows++;
+            if (!hasNoMissingCells(row, m_indices)) {
+                m_numMissing++;
+                return false;
+            }
+            if (m_sortIndex < 0) {
+                return true;
+            }
+            if (m_sorted) {
+                DataCell cell = row.getCell(m_sortIndex);
+                m_sorted = m_last == null || m_comparator.compare(m_last, cell) <= 0;
+                m_last = cell;
+            }
+            return m_sorted;
+        }
+
+        /**
+         * Checks the rows which were not read while building the table.
+         *
+         * @param dt the complete table
+         * @param exec the monitor to report progress to and to check for cancellation
+         * @throws CanceledExecutionException if the execution was canceled
+         */
+        void checkRemaining(final BufferedDataTable dt, final ExecutionMonitor exec)
+            throws CanceledExecutionException {
+            long size = dt.size();
+            if (m_numRows >= size) {
+                return;
+            }
+            try (CloseableRowIterator it = dt.filter(TableFilter.filterRangeOfRows(m_numRows, size - 1)).iterator()) {
+                while (it.hasNext()) {
+                    test(it.next());
+                    if ((m_numRows & 0x3FF) == 0) {
+                        exec.checkCanceled();
+                        exec.setProgress((double)m_numRows / size);
+                    }
+                }
+            }
+        }
+
+        /**
+         * @return true if all rows without missing values read so far are sorted by the x-axis column
+         */
+        boolean isSorted() {
+            return m_sorted;
+        }
+
+        /**
+         * @return the number of rows with missing values read so far
+         */
+        long getNumMissing() {
+            return m_numMissing;
+        }
     }
 
 }
@@ -3,8 +3,6 @@
 import java.util.stream.Stream;
 
 import org.knime.base.data.filter.column.FilterColumnTable;
-import org.knime.core.data.DataRow;
-import org.knime.core.data.container.DataContainer;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.defaultnodesettings.SettingsModelColumnFilter2;
@@ -12,6 +10,7 @@
 import org.knime.core.node.port.PortObject;
 import org.knime.dynamic.js.v30.DynamicJSConfig;
 import org.knime.dynamic.js.v30.DynamicStatefulJSProcessor;
+import org.knime.dynamic.js.v30.StreamingJSONDataTable;
 import org.knime.js.core.JSONDataTable;
 
 public class SunburstProcessor extends DynamicStatefulJSProcessor {
@@ -65,14 +64,9 @@ public Object[] processInputObjects(PortObject[] inObjects,
 //
 //		return new Object[] {table}; //, inObjects[1]};
         
-        // Deprecated
+        // The column filter is a lazy view, it is only read while the view representation is written
         FilterColumnTable ft = new FilterColumnTable(dt, includeColumns);
-        DataContainer dc = exec.createDataContainer(ft.getDataTableSpec());
-        for (DataRow row : ft) {
-      		dc.addRowToTable(row);
-        }
-        dc.close();
-        return new Object[] {dc.getTable(), inObjects[1]}; //, inObjects[1]};
+        return new Object[] {new StreamingJSONDataTable(ft, null, config.getMaxRows()), inObjects[1]}; //, inObjects[1]};
     }
 
 }
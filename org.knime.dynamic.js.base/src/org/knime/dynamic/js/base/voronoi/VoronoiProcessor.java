@@ -1,6 +1,4 @@
 package org.knime.dynamic.js.base.voronoi;
-import org.knime.core.data.DataRow;
-import org.knime.core.data.container.DataContainer;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.InvalidSettingsException;
@@ -8,6 +6,8 @@
 import org.knime.core.node.port.PortObject;
 import org.knime.dynamic.js.v30.DynamicJSConfig;
 import org.knime.dynamic.js.v30.DynamicJSProcessor;
+import org.knime.dynamic.js.v30.RowFilterDataTable;
+import org.knime.dynamic.js.v30.StreamingJSONDataTable;
 
 public class VoronoiProcessor implements DynamicJSProcessor {
 
@@ -29,15 +29,9 @@ public Object[] processInputObjects(final PortObject[] inObjects, final Executio
             throw new InvalidSettingsException("No y-column given");
         }
 
-        //int filteredCount = 0;
-        DataContainer dc = exec.createDataContainer(dt.getDataTableSpec());
-        for (DataRow row : dt) {
-            if (!row.getCell(xIdx).isMissing() && !row.getCell(yIdx).isMissing()) {
-                dc.addRowToTable(row);
-                //filteredCount++;
-            }
-        }
-        dc.close();
+        // only the positions of the accepted rows are kept, no copy of the input
+        RowFilterDataTable filtered = RowFilterDataTable.create(dt,
+            row -> !row.getCell(xIdx).isMissing() && !row.getCell(yIdx).isMissing(), config.getMaxRows(), exec);
         /*
          * TODO: Show warning message
         if (filteredCount > 0) {
@@ -45,7 +39,7 @@ public Object[] processInputObjects(final PortObject[] inObjects, final Executio
         }
          */
 
-        return new Object[] {dc.getTable()};
+        return new Object[] {new StreamingJSONDataTable(filtered, null, config.getMaxRows())};
     }
 
 }
@@ -0,0 +1,410 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   17 Oct 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.dynamic.js;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.xmlbeans.XmlException;
+import org.apache.xmlbeans.XmlObject;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.NodeSettings;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.NodeSettingsWO;
+
+/**
+ * Process wide cache of the node descriptions (<code>node.xml</code>) of dynamic JavaScript nodes, keyed by the path
+ * of the description file and its modification time.
+ *
+ * <p>
+ * Every description is parsed at most once per process, regardless of whether the node set factory or the node
+ * factories ask for it. The category path and after-ID of successfully validated descriptions are additionally stored
+ * in an index file in the KNIME home directory, so that subsequent startups can register unchanged nodes without
+ * parsing or validating their descriptions at all.
+ * </p>
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ * @since 5.6
+ */
+public final class DynamicJSNodeDescriptionCache {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(DynamicJSNodeDescriptionCache.class);
+
+    private static final String INDEX_FILE = "dynamicJSNodeIndex.xml";
+
+    /** Increased whenever the format of the index or the meaning of its entries changes. */
+    private static final int INDEX_VERSION = 1;
+
+    private static final String CFG_VERSION = "version";
+    private static final String CFG_ENTRIES = "entries";
+    private static final String CFG_PATH = "path";
+    private static final String CFG_LAST_MODIFIED = "lastModified";
+    private static final String CFG_LENGTH = "length";
+    private static final String CFG_NAMESPACE = "namespace";
+    private static final String CFG_CATEGORY_PATH = "categoryPath";
+    private static final String CFG_AFTER_ID = "afterID";
+
+    /** Namespace of v2.12 node descriptions. */
+    static final String NAMESPACE_V212 =
+        org.knime.dynamicjsnode.v212.KnimeNodeDocument.type.getContentModel().getName().getNamespaceURI();
+
+    /** Namespace of v3.0 node descriptions. */
+    static final String NAMESPACE_V30 =
+        org.knime.dynamicjsnode.v30.KnimeNodeDocument.type.getContentModel().getName().getNamespaceURI();
+
+    private static final DynamicJSNodeDescriptionCache INSTANCE = new DynamicJSNodeDescriptionCache();
+
+    private final Map<String, Description> m_descriptions = new ConcurrentHashMap<String, Description>();
+
+    private volatile boolean m_indexLoaded = false;
+
+    private volatile boolean m_indexChanged = false;
+
+    private DynamicJSNodeDescriptionCache() {
+        // singleton
+    }
+
+    /**
+     * @return the singleton instance of the cache
+     */
+    public static DynamicJSNodeDescriptionCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the validated description of a dynamic node. The description is only parsed if neither this process
+     * nor the persisted index know the file in its current version.
+     *
+     * @param nodeConfig the <code>node.xml</code> file
+     * @return the description
+     * @throws IOException if the file cannot be read
+     * @throws XmlException if the file cannot be parsed, has an unsupported namespace or does not validate against
+     *             its schema
+     */
+    public Description getDescription(final File nodeConfig) throws IOException, XmlException {
+        loadIndex();
+        final String key = nodeConfig.getCanonicalPath();
+        final long lastModified = nodeConfig.lastModified();
+        final long length = nodeConfig.length();
+        Description desc = m_descriptions.get(key);
+        if (desc != null && desc.m_lastModified == lastModified && desc.m_length == length) {
+            if (!desc.m_validated) {
+                desc.getDocument();
+                desc.validate();
+            }
+            return desc;
+        }
+        desc = new Description(nodeConfig, lastModified, length);
+        desc.parse();
+        desc.validate();
+        m_descriptions.put(key, desc);
+        m_indexChanged = true;
+        return desc;
+    }
+
+    /**
+     * Returns the parsed v3.0 document of a dynamic node, without validating it.
+     *
+     * @param nodeConfig the <code>node.xml</code> file
+     * @return the parsed document, shared by all callers
+     * @throws IOException if the file cannot be read
+     * @throws XmlException if the file cannot be parsed or is not a v3.0 description
+     */
+    public org.knime.dynamicjsnode.v30.KnimeNodeDocument getV30Document(final File nodeConfig)
+        throws IOException, XmlException {
+        return (org.knime.dynamicjsnode.v30.KnimeNodeDocument)getDocument(nodeConfig, NAMESPACE_V30);
+    }
+
+    /**
+     * Returns the parsed v2.12 document of a dynamic node, without validating it.
+     *
+     * @param nodeConfig the <code>node.xml</code> file
+     * @return the parsed document, shared by all callers
+     * @throws IOException if the file cannot be read
+     * @throws XmlException if the file cannot be parsed or is not a v2.12 description
+     */
+    public org.knime.dynamicjsnode.v212.KnimeNodeDocument getV212Document(final File nodeConfig)
+        throws IOException, XmlException {
+        return (org.knime.dynamicjsnode.v212.KnimeNodeDocument)getDocument(nodeConfig, NAMESPACE_V212);
+    }
+
+    /**
+     * @param document a parsed node description
+     * @return true if the given document has already been validated against its schema by this cache
+     */
+    public boolean isValidated(final XmlObject document) {
+        if (document == null) {
+            return false;
+        }
+        for (Description desc : m_descriptions.values()) {
+            if (desc.m_document == document) {
+                return desc.m_validated;
+            }
+        }
+        return false;
+    }
+
+    private XmlObject getDocument(final File nodeConfig, final String namespace) throws IOException, XmlException {
+        final String key = nodeConfig.getCanonicalPath();
+        final long lastModified = nodeConfig.lastModified();
+        final long length = nodeConfig.length();
+        Description desc = m_descriptions.get(key);
+        if (desc == null || desc.m_lastModified != lastModified || desc.m_length != length) {
+            desc = new Description(nodeConfig, lastModified, length);
+            desc.parse();
+            m_descriptions.put(key, desc);
+        }
+        if (!namespace.equals(desc.m_namespace)) {
+            throw new XmlException("Unexpected namespace for node description in " + key + ": " + desc.m_namespace);
+        }
+        return desc.getDocument();
+    }
+
+    /**
+     * Writes the validated descriptions of this process to the index in the KNIME home directory if anything has
+     * changed since the index was read. Failures are only logged, the index is an optimization.
+     */
+    public synchronized void saveIndex() {
+        if (!m_indexChanged) {
+            return;
+        }
+        final Path indexFile = getIndexFile();
+        if (indexFile == null) {
+            return;
+        }
+        NodeSettings settings = new NodeSettings("dynamicJSNodeIndex");
+        settings.addInt(CFG_VERSION, INDEX_VERSION);
+        NodeSettingsWO entries = settings.addNodeSettings(CFG_ENTRIES);
+        int i = 0;
+        for (Map.Entry<String, Description> e : m_descriptions.entrySet()) {
+            Description desc = e.getValue();
+            if (!desc.m_validated) {
+                continue;
+            }
+            NodeSettingsWO entry = entries.addNodeSettings(Integer.toString(i++));
+            entry.addString(CFG_PATH, e.getKey());
+            entry.addLong(CFG_LAST_MODIFIED, desc.m_lastModified);
+            entry.addLong(CFG_LENGTH, desc.m_length);
+            entry.addString(CFG_NAMESPACE, desc.m_namespace);
+            entry.addString(CFG_CATEGORY_PATH, desc.m_categoryPath);
+            entry.addString(CFG_AFTER_ID, desc.m_afterID);
+        }
+        try {
+            Path tmpFile = Files.createTempFile(indexFile.getParent(), INDEX_FILE, ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmpFile)) {
+                settings.saveToXML(out);
+            }
+            Files.move(tmpFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            m_indexChanged = false;
+        } catch (IOException e) {
+            LOGGER.debug("Could not write index of dynamic JavaScript nodes: " + e.getMessage(), e);
+        }
+    }
+
+    private void loadIndex() {
+        if (m_indexLoaded) {
+            return;
+        }
+        synchronized (this) {
+            if (m_indexLoaded) {
+                return;
+            }
+            m_indexLoaded = true;
+            final Path indexFile = getIndexFile();
+            if (indexFile == null || !Files.isRegularFile(indexFile)) {
+                return;
+            }
+            try (InputStream in = Files.newInputStream(indexFile)) {
+                NodeSettingsRO settings = NodeSettings.loadFromXML(in);
+                if (settings.getInt(CFG_VERSION, -1) != INDEX_VERSION) {
+                    return;
+                }
+                NodeSettingsRO entries = settings.getNodeSettings(CFG_ENTRIES);
+                for (String key : entries.keySet()) {
+                    NodeSettingsRO entry = entries.getNodeSettings(key);
+                    Description desc = new Description(new File(entry.getString(CFG_PATH)),
+                        entry.getLong(CFG_LAST_MODIFIED), entry.getLong(CFG_LENGTH));
+                    desc.m_namespace = entry.getString(CFG_NAMESPACE);
+                    desc.m_categoryPath = entry.getString(CFG_CATEGORY_PATH);
+                    desc.m_afterID = entry.getString(CFG_AFTER_ID);
+                    desc.m_validated = true;
+                    m_descriptions.putIfAbsent(entry.getString(CFG_PATH), desc);
+                }
+            } catch (IOException | InvalidSettingsException e) {
+                LOGGER.debug("Could not read index of dynamic JavaScript nodes, descriptions are parsed again: "
+                    + e.getMessage(), e);
+            }
+        }
+    }
+
+    private static Path getIndexFile() {
+        String home = KNIMEConstants.getKNIMEHomeDir();
+        return home == null ? null : Paths.get(home, INDEX_FILE);
+    }
+
+    /**
+     * A node description, either parsed in this process or restored from the index. Restored descriptions parse
+     * their document on first access.
+     */
+    public static final class Description {
+
+        private final File m_file;
+        private final long m_lastModified;
+        private final long m_length;
+        private volatile String m_namespace;
+        private volatile String m_categoryPath;
+        private volatile String m_afterID;
+        private volatile XmlObject m_document;
+        private volatile boolean m_validated;
+
+        private Description(final File file, final long lastModified, final long length) {
+            m_file = file;
+            m_lastModified = lastModified;
+            m_length = length;
+        }
+
+        /**
+         * @return true for a v3.0 description, false for a v2.12 description
+         */
+        public boolean isV30() {
+            return NAMESPACE_V30.equals(m_namespace);
+        }
+
+        /**
+         * @return the category path of the node, "unknown" if none is set
+         */
+        public String getCategoryPath() {
+            return m_categoryPath == null ? "unknown" : m_categoryPath;
+        }
+
+        /**
+         * @return the after-ID of the node, may be null
+         */
+        public String getAfterID() {
+            return m_afterID;
+        }
+
+        private synchronized XmlObject getDocument() throws IOException, XmlException {
+            if (m_document == null) {
+                parseDocument();
+            }
+            return m_document;
+        }
+
+        private synchronized void parse() throws IOException, XmlException {
+            m_namespace = readNamespace(m_file);
+            parseDocument();
+        }
+
+        private void parseDocument() throws IOException, XmlException {
+            if (NAMESPACE_V212.equals(m_namespace)) {
+                org.knime.dynamicjsnode.v212.KnimeNodeDocument node =
+                    org.knime.dynamicjsnode.v212.KnimeNodeDocument.Factory.parse(m_file);
+                m_categoryPath = node.getKnimeNode().getCategoryPath();
+                m_afterID = node.getKnimeNode().getAfterID();
+                m_document = node;
+            } else if (NAMESPACE_V30.equals(m_namespace)) {
+                org.knime.dynamicjsnode.v30.KnimeNodeDocument node =
+                    org.knime.dynamicjsnode.v30.KnimeNodeDocument.Factory.parse(m_file);
+                m_categoryPath = node.getKnimeNode().getCategoryPath();
+                m_afterID = node.getKnimeNode().getAfterID();
+                m_document = node;
+            } else {
+                throw new XmlException("Unsupported namespace for node description in " + m_file.getCanonicalPath()
+                    + ": " + m_namespace);
+            }
+        }
+
+        private synchronized void validate() throws XmlException {
+            if (m_validated) {
+                return;
+            }
+            if (!m_document.validate()) {
+                throw new XmlException("Node config XML did not validate against Dynamic JavaScript Node "
+                    + (isV30() ? "v3.0" : "v2.12") + " schema.");
+            }
+            m_validated = true;
+        }
+
+        /** Reads the namespace of the root element, without parsing the rest of the document. */
+        private static String readNamespace(final File file) throws IOException, XmlException {
+            XMLInputFactory factory = XMLInputFactory.newInstance();
+            factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+            try (InputStream in = Files.newInputStream(file.toPath())) {
+                XMLStreamReader reader = factory.createXMLStreamReader(in);
+                try {
+                    while (reader.hasNext()) {
+                        if (reader.next() == XMLStreamReader.START_ELEMENT) {
+                            return reader.getNamespaceURI();
+                        }
+                    }
+                } finally {
+                    reader.close();
+                }
+            } catch (XMLStreamException e) {
+                throw new XmlException(e.getMessage(), e);
+            }
+            throw new XmlException("Node config XML in " + file.getCanonicalPath() + " has no root element.");
+        }
+    }
+
+}
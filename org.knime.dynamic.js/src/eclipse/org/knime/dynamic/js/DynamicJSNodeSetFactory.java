@@ -48,20 +48,18 @@
 package org.knime.dynamic.js;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FilenameFilter;
 import java.io.IOException;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 
 import org.apache.xmlbeans.XmlException;
 import org.eclipse.core.runtime.FileLocator;
@@ -76,8 +74,6 @@
 import org.knime.core.node.config.ConfigRO;
 import org.knime.core.util.FileUtil;
 import org.osgi.framework.Bundle;
-import org.w3c.dom.Document;
-import org.xml.sax.SAXException;
 
 /**
  *
@@ -95,15 +91,21 @@ public class DynamicJSNodeSetFactory implements NodeSetFactory {
 	 * @since 3.0*/
 	public static final String NODE_DIR_CONF = "nodeDir";
 
+	/** Upper bound for the number of threads reading node descriptions at startup. */
+	private static final int MAX_DISCOVERY_THREADS = 8;
+
 	private List<File> m_configFolders = new ArrayList<File>();
     private final Map<String, Class<? extends NodeFactory<? extends NodeModel>>> m_factories =
-        new HashMap<String, Class<? extends NodeFactory<? extends NodeModel>>>();
-	private final Map<String, String> m_paths = new HashMap<String, String>();
-	private final Map<String, String> m_afterIDs = new HashMap<String, String>();
+        new ConcurrentHashMap<String, Class<? extends NodeFactory<? extends NodeModel>>>();
+	private final Map<String, String> m_paths = new ConcurrentHashMap<String, String>();
+	private final Map<String, String> m_afterIDs = new ConcurrentHashMap<String, String>();
 
 	@Override
 	public Collection<String> getNodeFactoryIds() {
-	    Collection<String> factoryIds = new ArrayList<String>();
+	    final long start = System.nanoTime();
+	    // collect all node folders first, the descriptions are read concurrently afterwards
+	    final List<String> nodeIDs = new ArrayList<String>();
+	    final List<File> nodeConfigs = new ArrayList<File>();
 	    IExtensionRegistry registry = Platform.getExtensionRegistry();
         IConfigurationElement[] configurationElements = registry.getConfigurationElementsFor(CONFIG_ID);
         for (IConfigurationElement configElement : configurationElements) {
@@ -115,37 +117,69 @@ public Collection<String> getNodeFactoryIds() {
                     URL configURL = bundle.getEntry(configFolderRelative);
                     File configFolder = FileUtil.resolveToPath(FileLocator.toFileURL(configURL)).toFile();
                     m_configFolders.add(configFolder);
-                    String[] nodeList = configFolder.list(new FilenameFilter() {
-
-                        @Override
-                        public boolean accept(final File dir, final String name) {
-                            File configDir = new File(dir, name);
-                            boolean accept = configDir.isDirectory();
-                            File nodeConfig = new File(configDir, "node.xml");
-                            accept &= nodeConfig.exists();
-                            if (accept) {
-                                try {
-                                    String nodeID = pluginName + ":" + configFolderRelative + ":" + name;
-                                    getFactoryClass(nodeConfig, nodeID);
-                                } catch (XmlException | IOException | ParserConfigurationException | SAXException e) {
-                                    LOGGER.warn("Node config in folder " + configDir
-                                            + " could not be read. " + e.getMessage()
-                                            + " Skipping folder.", e);
-                                    return false;
-                                }
-                            }
-                            return accept;
+                    String[] nodeList = configFolder.list();
+                    if (nodeList == null) {
+                        throw new IOException("Config folder " + configFolder + " cannot be listed.");
+                    }
+                    Arrays.sort(nodeList);
+                    for (String name : nodeList) {
+                        File nodeConfig = new File(new File(configFolder, name), "node.xml");
+                        if (nodeConfig.isFile()) {
+                            nodeIDs.add(pluginName + ":" + configFolderRelative + ":" + name);
+                            nodeConfigs.add(nodeConfig);
                         }
-                    });
-                    for (int i = 0; i < nodeList.length; i++) {
-                        nodeList[i] = pluginName + ":" + configFolderRelative + ":" + nodeList[i];
                     }
-                    factoryIds.addAll(Arrays.asList(nodeList));
                 } catch (Exception e) {
                     LOGGER.warn("Error initializing config folder: " + e.getMessage(), e);
                 }
             }
         }
+        final long listed = System.nanoTime();
+
+        final boolean[] accepted = new boolean[nodeIDs.size()];
+        final int parallelism =
+            Math.max(1, Math.min(MAX_DISCOVERY_THREADS, Runtime.getRuntime().availableProcessors()));
+        final ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+            pool.submit(() -> IntStream.range(0, accepted.length).parallel().forEach(i -> {
+                File nodeConfig = nodeConfigs.get(i);
+                // XmlBeans resolves schema types through the context class loader
+                final Thread thread = Thread.currentThread();
+                final ClassLoader previous = thread.getContextClassLoader();
+                thread.setContextClassLoader(contextClassLoader);
+                try {
+                    getFactoryClass(nodeConfig, nodeIDs.get(i));
+                    accepted[i] = true;
+                } catch (XmlException | IOException e) {
+                    LOGGER.warn("Node config in folder " + nodeConfig.getParentFile()
+                            + " could not be read. " + e.getMessage()
+                            + " Skipping folder.", e);
+                } finally {
+                    thread.setContextClassLoader(previous);
+                }
+            })).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.warn("Discovery of dynamic JavaScript nodes was interrupted.", e);
+        } catch (ExecutionException e) {
+            LOGGER.warn("Error reading dynamic JavaScript node configs: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+
+        // keep the order of the folders, independent of the order in which the descriptions were read
+        Collection<String> factoryIds = new ArrayList<String>();
+        for (int i = 0; i < accepted.length; i++) {
+            if (accepted[i]) {
+                factoryIds.add(nodeIDs.get(i));
+            }
+        }
+        DynamicJSNodeDescriptionCache.getInstance().saveIndex();
+        LOGGER.debug("Discovered " + factoryIds.size() + " dynamic JavaScript nodes in "
+            + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + "ms (listing folders: "
+            + TimeUnit.NANOSECONDS.toMillis(listed - start) + "ms, reading " + accepted.length + " node configs with "
+            + parallelism + " threads: " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - listed) + "ms)");
 		return factoryIds;
 	}
 
@@ -171,46 +205,19 @@ public ConfigRO getAdditionalSettings(final String id) {
 		return s;
 	}
 
-    private void getFactoryClass(final File nodeConfig, final String nodeID)
-        throws ParserConfigurationException, SAXException, IOException, XmlException {
-        DocumentBuilderFactory fac = DocumentBuilderFactory.newInstance();
-        fac.setNamespaceAware(true);
-        DocumentBuilder parser = fac.newDocumentBuilder();
-        Document doc;
-        synchronized (parser) {
-            doc = parser.parse(new FileInputStream(nodeConfig));
+    private void getFactoryClass(final File nodeConfig, final String nodeID) throws IOException, XmlException {
+        // parsed and validated at most once per process and not at all if the persisted index is up to date
+        DynamicJSNodeDescriptionCache.Description desc =
+            DynamicJSNodeDescriptionCache.getInstance().getDescription(nodeConfig);
+        if (desc.isV30()) {
+            m_factories.put(nodeID, org.knime.dynamic.js.v30.DynamicJSNodeFactory.class);
+        } else {
+            m_factories.put(nodeID, org.knime.dynamic.js.v212.DynamicJSNodeFactory.class);
         }
-
-        String namespaceUri = doc.getDocumentElement().getNamespaceURI();
-        if (namespaceUri != null) {
-            if (namespaceUri.equals(
-                org.knime.dynamicjsnode.v212.KnimeNodeDocument.type.getContentModel().getName().getNamespaceURI())) {
-                org.knime.dynamicjsnode.v212.KnimeNodeDocument node =
-                    org.knime.dynamicjsnode.v212.KnimeNodeDocument.Factory.parse(nodeConfig);
-                String categoryPath = node.getKnimeNode().getCategoryPath();
-                if (!node.validate()) {
-                    throw new XmlException(
-                        "Node config XML did not validate against Dynamic JavaScript Node v2.12 schema.");
-                }
-                m_factories.put(nodeID, org.knime.dynamic.js.v212.DynamicJSNodeFactory.class);
-                m_paths.put(nodeID, categoryPath == null ? "unknown" : categoryPath);
-                m_afterIDs.put(nodeID, node.getKnimeNode().getAfterID());
-            } else if (namespaceUri.equals(
-                org.knime.dynamicjsnode.v30.KnimeNodeDocument.type.getContentModel().getName().getNamespaceURI())) {
-                org.knime.dynamicjsnode.v30.KnimeNodeDocument node =
-                    org.knime.dynamicjsnode.v30.KnimeNodeDocument.Factory.parse(nodeConfig);
-                String categoryPath = node.getKnimeNode().getCategoryPath();
-                if (!node.validate()) {
-                    throw new XmlException(
-                        "Node config XML did not validate against Dynamic JavaScript Node v3.0 schema.");
-                }
-                m_factories.put(nodeID, org.knime.dynamic.js.v30.DynamicJSNodeFactory.class);
-                m_paths.put(nodeID, categoryPath == null ? "unknown" : categoryPath);
-                m_afterIDs.put(nodeID, node.getKnimeNode().getAfterID());
-            } else {
-                throw new XmlException("Unsupported namespace for node description in " + nodeConfig.getCanonicalPath()
-                    + ": " + namespaceUri);
-            }
+        m_paths.put(nodeID, desc.getCategoryPath());
+        if (desc.getAfterID() != null) {
+            // concurrent maps don't accept null values, a missing entry is equivalent
+            m_afterIDs.put(nodeID, desc.getAfterID());
         }
     }
 }
\ No newline at end of file
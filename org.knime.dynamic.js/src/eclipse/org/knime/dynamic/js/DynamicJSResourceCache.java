@@ -0,0 +1,163 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   17 Oct 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.dynamic.js;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.codec.digest.DigestUtils;
+
+/**
+ * Process wide cache of the web resources (JavaScript, CSS and binary files) of dynamic JavaScript nodes.
+ *
+ * <p>
+ * Resources are identified by the SHA-256 hash of their file content. A file is only read (and Base64 encoded) again
+ * if its modification time or size changed, and all files with the same content share a single content string. View
+ * representations keep the hashes, so they can store references instead of the content when they are saved.
+ * </p>
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ * @since 5.6
+ */
+public final class DynamicJSResourceCache {
+
+    private static final DynamicJSResourceCache INSTANCE = new DynamicJSResourceCache();
+
+    /** Resources by absolute path and encoding. */
+    private final Map<String, Resource> m_files = new ConcurrentHashMap<String, Resource>();
+
+    /** Content by hash, shared by all resources with equal content. */
+    private final Map<String, String> m_contents = new ConcurrentHashMap<String, String>();
+
+    private DynamicJSResourceCache() {
+        // singleton
+    }
+
+    /**
+     * @return the singleton instance of the cache
+     */
+    public static DynamicJSResourceCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the content of a resource file, reading it only if it is not cached yet or has changed on disk.
+     *
+     * @param file the resource file
+     * @param encodeBase64 true if the content should be Base64 encoded (binary files), false to decode it as text
+     * @return the resource
+     * @throws IOException if the file cannot be read
+     */
+    public Resource getResource(final File file, final boolean encodeBase64) throws IOException {
+        final String key = (encodeBase64 ? "b:" : "t:") + file.getAbsolutePath();
+        final long lastModified = file.lastModified();
+        final long length = file.length();
+        Resource resource = m_files.get(key);
+        if (resource != null && resource.m_lastModified == lastModified && resource.m_length == length) {
+            return resource;
+        }
+        final byte[] fileBytes = Files.readAllBytes(file.toPath());
+        final String hash = DigestUtils.sha256Hex(fileBytes) + (encodeBase64 ? "-b64" : "");
+        String content = m_contents.get(hash);
+        if (content == null) {
+            content = encodeBase64 ? Base64.encodeBase64String(fileBytes) : new String(fileBytes);
+            final String previous = m_contents.putIfAbsent(hash, content);
+            if (previous != null) {
+                content = previous;
+            }
+        }
+        resource = new Resource(hash, content, lastModified, length);
+        m_files.put(key, resource);
+        return resource;
+    }
+
+    /**
+     * @param hash the hash of a resource
+     * @return the content of the resource or null if no resource with this hash has been read in this process
+     */
+    public String getContent(final String hash) {
+        return hash == null ? null : m_contents.get(hash);
+    }
+
+    /**
+     * The content of a resource file together with its hash.
+     */
+    public static final class Resource {
+
+        private final String m_hash;
+        private final String m_content;
+        private final long m_lastModified;
+        private final long m_length;
+
+        private Resource(final String hash, final String content, final long lastModified, final long length) {
+            m_hash = hash;
+            m_content = content;
+            m_lastModified = lastModified;
+            m_length = length;
+        }
+
+        /**
+         * @return the hash identifying the content
+         */
+        public String getHash() {
+            return m_hash;
+        }
+
+        /**
+         * @return the content, Base64 encoded for binary files
+         */
+        public String getContent() {
+            return m_content;
+        }
+    }
+
+}
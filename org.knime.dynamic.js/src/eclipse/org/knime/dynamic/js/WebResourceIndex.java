@@ -0,0 +1,275 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   17 Oct 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.dynamic.js;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.core.runtime.IConfigurationElement;
+import org.eclipse.core.runtime.IExtension;
+import org.eclipse.core.runtime.IExtensionPoint;
+import org.eclipse.core.runtime.IExtensionRegistry;
+import org.eclipse.core.runtime.IRegistryEventListener;
+import org.eclipse.core.runtime.Platform;
+
+/**
+ * Index of the web resources registered at the <code>org.knime.js.core.webResources</code> extension point, keyed by
+ * their <code>webResourceBundleID</code>.
+ *
+ * <p>
+ * The extension registry is scanned once, when the index is first used. The index is discarded whenever web resource
+ * extensions are added or removed and rebuilt on the next lookup. Every change increments a generation counter, an
+ * index scanned before a change is never used afterwards.
+ * </p>
+ * <p>
+ * The index is shared by all bundles which resolve web resources, e.g. the dynamic JS nodes and the generic JavaScript
+ * views.
+ * </p>
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ * @since 5.6
+ */
+public final class WebResourceIndex {
+
+    private static final String ID_WEB_RES = "org.knime.js.core.webResources";
+    private static final String ATTR_RES_BUNDLE_ID = "webResourceBundleID";
+    private static final String ATTR_EXPORTS = "exports";
+    private static final String ID_IMPORT_RES = "importResource";
+    private static final String ID_DEPENDENCY = "webDependency";
+    private static final String ATTR_PATH = "relativePath";
+    private static final String ATTR_TYPE = "type";
+
+    private static final WebResourceIndex INSTANCE = new WebResourceIndex();
+
+    private final AtomicLong m_generation = new AtomicLong();
+
+    private volatile Index m_index;
+
+    private boolean m_listenerRegistered;
+
+    private WebResourceIndex() {
+        // singleton
+    }
+
+    /**
+     * @return the singleton instance of the index
+     */
+    public static WebResourceIndex getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * @param webResourceBundleID the id of a web resource bundle
+     * @return the resolved web resource or null if no bundle with the given id is registered
+     */
+    public WebResource get(final String webResourceBundleID) {
+        if (webResourceBundleID == null) {
+            return null;
+        }
+        Index index = m_index;
+        if (index == null || index.m_generation != m_generation.get()) {
+            index = buildIndex();
+        }
+        return index.m_resources.get(webResourceBundleID);
+    }
+
+    private synchronized Index buildIndex() {
+        if (m_index != null && m_index.m_generation == m_generation.get()) {
+            return m_index;
+        }
+        final IExtensionRegistry registry = Platform.getExtensionRegistry();
+        if (!m_listenerRegistered) {
+            registry.addListener(new InvalidationListener(), ID_WEB_RES);
+            m_listenerRegistered = true;
+        }
+        // read before the scan, if extensions change during the scan the index is rebuilt on the next lookup
+        final long generation = m_generation.get();
+        final Map<String, WebResource> resources = new HashMap<String, WebResource>();
+        for (IConfigurationElement element : registry.getConfigurationElementsFor(ID_WEB_RES)) {
+            final String id = element.getAttribute(ATTR_RES_BUNDLE_ID);
+            // the linear scan returned the first matching element, keep that behavior
+            if (id != null && !resources.containsKey(id)) {
+                resources.put(id, new WebResource(element));
+            }
+        }
+        m_index = new Index(generation, Collections.unmodifiableMap(resources));
+        return m_index;
+    }
+
+    private void invalidate() {
+        m_generation.incrementAndGet();
+    }
+
+    /**
+     * The resolved web resources together with the generation of the extension registry they were scanned in.
+     */
+    private static final class Index {
+
+        private final long m_generation;
+        private final Map<String, WebResource> m_resources;
+
+        Index(final long generation, final Map<String, WebResource> resources) {
+            m_generation = generation;
+            m_resources = resources;
+        }
+    }
+
+    /**
+     * Drops the index as soon as web resource extensions are added or removed.
+     */
+    private final class InvalidationListener implements IRegistryEventListener {
+
+        @Override
+        public void added(final IExtension[] extensions) {
+            invalidate();
+        }
+
+        @Override
+        public void removed(final IExtension[] extensions) {
+            invalidate();
+        }
+
+        @Override
+        public void added(final IExtensionPoint[] extensionPoints) {
+            invalidate();
+        }
+
+        @Override
+        public void removed(final IExtensionPoint[] extensionPoints) {
+            invalidate();
+        }
+    }
+
+    /**
+     * The resolved imports and direct dependencies of a single web resource bundle.
+     */
+    public static final class WebResource {
+
+        private final String m_id;
+        private final String m_exports;
+        private final List<String> m_jsPaths;
+        private final List<String> m_cssPaths;
+        private final List<String> m_dependencyIDs;
+        private final boolean m_correctlyConfigured;
+
+        private WebResource(final IConfigurationElement element) {
+            m_id = element.getAttribute(ATTR_RES_BUNDLE_ID);
+            m_exports = element.getAttribute(ATTR_EXPORTS);
+            final List<String> jsPaths = new ArrayList<String>();
+            final List<String> cssPaths = new ArrayList<String>();
+            boolean correctlyConfigured = true;
+            for (IConfigurationElement resElement : element.getChildren(ID_IMPORT_RES)) {
+                final String path = resElement.getAttribute(ATTR_PATH);
+                final String type = resElement.getAttribute(ATTR_TYPE);
+                if (path != null && type != null) {
+                    if (type.equalsIgnoreCase("javascript")) {
+                        jsPaths.add(path);
+                    } else if (type.equalsIgnoreCase("css")) {
+                        cssPaths.add(path);
+                    }
+                } else {
+                    correctlyConfigured = false;
+                }
+            }
+            final List<String> dependencyIDs = new ArrayList<String>();
+            for (IConfigurationElement dependencyConf : element.getChildren(ID_DEPENDENCY)) {
+                dependencyIDs.add(dependencyConf.getAttribute(ATTR_RES_BUNDLE_ID));
+            }
+            m_jsPaths = Collections.unmodifiableList(jsPaths);
+            m_cssPaths = Collections.unmodifiableList(cssPaths);
+            m_dependencyIDs = Collections.unmodifiableList(dependencyIDs);
+            m_correctlyConfigured = correctlyConfigured;
+        }
+
+        /**
+         * @return the web resource bundle id
+         */
+        public String getID() {
+            return m_id;
+        }
+
+        /**
+         * @return the name under which the library exports itself, may be null
+         */
+        public String getExports() {
+            return m_exports;
+        }
+
+        /**
+         * @return the relative paths of the JavaScript files, in declaration order
+         */
+        public List<String> getJSPaths() {
+            return m_jsPaths;
+        }
+
+        /**
+         * @return the relative paths of the CSS files, in declaration order
+         */
+        public List<String> getCSSPaths() {
+            return m_cssPaths;
+        }
+
+        /**
+         * @return the ids of the bundles this bundle directly depends on, in declaration order
+         */
+        public List<String> getDependencyIDs() {
+            return m_dependencyIDs;
+        }
+
+        /**
+         * @return false if at least one import resource lacks a path or a type
+         */
+        public boolean isCorrectlyConfigured() {
+            return m_correctlyConfigured;
+        }
+    }
+}
@@ -64,6 +64,7 @@
 import org.knime.core.node.NodeDescription;
 import org.knime.core.node.NodeFactory.NodeType;
 import org.knime.core.node.NodeLogger;
+import org.knime.dynamic.js.DynamicJSNodeDescriptionCache;
 import org.knime.dynamicjsnode.v212.KnimeNodeDocument;
 import org.knime.dynamicnode.v212.DynamicInPort;
 import org.knime.dynamicnode.v212.DynamicOption;
@@ -121,7 +122,8 @@ public DynamicJSNodeDescription212Proxy(final Document doc) throws XmlException
     public DynamicJSNodeDescription212Proxy(final KnimeNodeDocument doc, final File nodeDir) {
         m_document = doc;
         m_nodeDir = nodeDir;
-        if (KNIMEConstants.ASSERTIONS_ENABLED) {
+        // descriptions coming from the cache have already been validated when the node was registered
+        if (KNIMEConstants.ASSERTIONS_ENABLED && !DynamicJSNodeDescriptionCache.getInstance().isValidated(doc)) {
             validate();
         }
     }
@@ -66,6 +66,7 @@
 import org.knime.core.node.config.ConfigWO;
 import org.knime.core.node.wizard.WizardNodeFactoryExtension;
 import org.knime.core.util.FileUtil;
+import org.knime.dynamic.js.DynamicJSNodeDescriptionCache;
 import org.knime.dynamic.js.DynamicJSNodeSetFactory;
 import org.knime.dynamicjsnode.v212.KnimeNodeDocument;
 import org.knime.dynamicnode.v212.DynamicFullDescription;
@@ -123,7 +124,7 @@ public void loadAdditionalFactorySettings(final ConfigRO config)
         }
 
         try {
-			m_doc = KnimeNodeDocument.Factory.parse(new File(m_nodeDir, "node.xml"));
+			m_doc = DynamicJSNodeDescriptionCache.getInstance().getV212Document(new File(m_nodeDir, "node.xml"));
 		} catch (XmlException | IOException e) {
 			LOGGER.error("Error reading node config: " + e.getMessage(), e);
 			throw new InvalidSettingsException(e);
@@ -61,9 +61,6 @@
 
 import org.apache.commons.codec.binary.Base64;
 import org.apache.xmlbeans.XmlObject;
-import org.eclipse.core.runtime.IConfigurationElement;
-import org.eclipse.core.runtime.IExtensionRegistry;
-import org.eclipse.core.runtime.Platform;
 import org.knime.base.data.xml.SvgCell;
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
@@ -113,6 +110,7 @@
 import org.knime.dynamic.js.DynamicJSDependency;
 import org.knime.dynamic.js.SettingsModelSVGOptions;
 import org.knime.dynamic.js.SettingsModelSVGOptions.JSONSVGOptions;
+import org.knime.dynamic.js.WebResourceIndex;
 import org.knime.dynamicjsnode.v212.DynamicJSKnimeNode;
 import org.knime.dynamicjsnode.v212.WebDependency;
 import org.knime.dynamicjsnode.v212.WebResource;
@@ -846,36 +844,22 @@ private JSONDataTable createJSONTableFromBufferedDataTable(final ExecutionContex
         return table;
     }
 
-	private static final String ID_WEB_RES = "org.knime.js.core.webResources";
-    private static final String ATTR_RES_BUNDLE_ID = "webResourceBundleID";
-    private static final String ID_IMPORT_RES = "importResource";
-    private static final String ID_DEPENDENCY = "webDependency";
-    private static final String ATTR_PATH = "relativePath";
-    private static final String ATTR_TYPE = "type";
-
     private List<DynamicJSDependency> setPathsFromLibNames(final List<DynamicJSDependency> libDeps) {
         ArrayList<DynamicJSDependency> jsDependencies = new ArrayList<DynamicJSDependency>();
         ArrayList<String> cssPaths = new ArrayList<String>();
         for (DynamicJSDependency lib : libDeps) {
-            IConfigurationElement confElement = getConfigurationFromWebResID(lib.getPath());
-            if (confElement != null) {
-                for (IConfigurationElement resElement : confElement.getChildren(ID_IMPORT_RES)) {
-                    String path = resElement.getAttribute(ATTR_PATH);
-                    String type = resElement.getAttribute(ATTR_TYPE);
-                    if (path != null && type != null) {
-                        if (type.equalsIgnoreCase("javascript")) {
-                            lib.setPath(path);
-                            jsDependencies.add(lib);
-                        } else if (type.equalsIgnoreCase("css")) {
-                            cssPaths.add(path);
-                        }
-                    } else {
-                        setWarningMessage("Required library " + lib.getPath() + " is not correctly configured");
-                    }
+            WebResourceIndex.WebResource webResource = WebResourceIndex.getInstance().get(lib.getPath());
+            if (webResource != null) {
+                if (!webResource.isCorrectlyConfigured()) {
+                    setWarningMessage("Required library " + lib.getPath() + " is not correctly configured");
+                }
+                for (String path : webResource.getJSPaths()) {
+                    lib.setPath(path);
+                    jsDependencies.add(lib);
                 }
+                cssPaths.addAll(webResource.getCSSPaths());
                 List<DynamicJSDependency> recDeps = new ArrayList<DynamicJSDependency>();
-                for (IConfigurationElement dependencyConf : confElement.getChildren(ID_DEPENDENCY)) {
-                    String dependencyID = dependencyConf.getAttribute(ATTR_RES_BUNDLE_ID);
+                for (String dependencyID : webResource.getDependencyIDs()) {
                     DynamicJSDependency dep = new DynamicJSDependency();
                     dep.setName(dependencyID);
                     dep.setPath(dependencyID);
@@ -895,17 +879,6 @@ private List<DynamicJSDependency> setPathsFromLibNames(final List<DynamicJSDepen
         return jsDependencies;
     }
 
-    private IConfigurationElement getConfigurationFromWebResID(final String id) {
-        IExtensionRegistry registry = Platform.getExtensionRegistry();
-        IConfigurationElement[] configurationElements = registry.getConfigurationElementsFor(ID_WEB_RES);
-        for (IConfigurationElement element : configurationElements) {
-            if (id.equals(element.getAttribute(ATTR_RES_BUNDLE_ID))) {
-                return element;
-            }
-        }
-        return null;
-    }
-
 	@Override
 	protected void performReset() {
 		// nothing to do?
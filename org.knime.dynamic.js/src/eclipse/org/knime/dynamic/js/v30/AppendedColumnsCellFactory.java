@@ -0,0 +1,193 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   17 Oct 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.dynamic.js.v30;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataType;
+import org.knime.core.data.container.AbstractCellFactory;
+import org.knime.core.data.date.DateAndTimeCellFactory;
+import org.knime.core.data.def.BooleanCell.BooleanCellFactory;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.NodeLogger;
+import org.knime.dynamicnode.v30.ColumnType;
+import org.knime.dynamicnode.v30.DataOutOption;
+import org.knime.dynamicnode.v30.DataOutputType;
+
+/**
+ * Cell factory for the columns a dynamic JavaScript node appends to its input table.
+ *
+ * <p>
+ * The values are taken from the view value, where they are stored by row key. All row keys are resolved to a dense
+ * index once when the factory is created. Values are converted to cells at the same time, selections are kept in a
+ * {@link BitSet} per column. Computing the cells of a row therefore needs a single lookup, regardless of the number
+ * of appended columns.
+ * </p>
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+final class AppendedColumnsCellFactory extends AbstractCellFactory {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(AppendedColumnsCellFactory.class);
+
+    private final Map<String, Integer> m_keyIndex = new HashMap<String, Integer>();
+
+    /** Per column the selected row indices, null for value columns. */
+    private final BitSet[] m_selections;
+
+    /** Per column the cells by row index, null for selection columns. */
+    private final DataCell[][] m_values;
+
+    private final int m_maxRows;
+
+    private long m_rowCount;
+
+    /**
+     * @param colSpecs the specs of the appended columns
+     * @param options the data out options of the appended columns, in the same order
+     * @param values the values of the appended columns by row key, in the same order
+     * @param selectionKey the key of the list of selected row keys in the values of a selection column
+     * @param maxRows the number of rows selections are appended for, the selection of further rows is missing
+     */
+    AppendedColumnsCellFactory(final DataColumnSpec[] colSpecs, final List<DataOutOption> options,
+        final List<Map<String, Object>> values, final String selectionKey, final int maxRows) {
+        super(colSpecs);
+        m_maxRows = maxRows;
+        final int numCols = options.size();
+        m_selections = new BitSet[numCols];
+        m_values = new DataCell[numCols][];
+        for (int i = 0; i < numCols; i++) {
+            final Map<String, Object> valueMap = values.get(i);
+            final DataOutOption option = options.get(i);
+            if (DataOutputType.APPEND_SELECTION_COLUMN.equals(option.getOutputType())) {
+                final BitSet selection = new BitSet();
+                final Object selectedList = valueMap.get(selectionKey);
+                if (selectedList instanceof List<?>) {
+                    for (Object key : (List<?>)selectedList) {
+                        selection.set(indexOf(String.valueOf(key)));
+                    }
+                }
+                m_selections[i] = selection;
+            } else {
+                DataCell[] cells = new DataCell[valueMap.size()];
+                for (Map.Entry<String, Object> entry : valueMap.entrySet()) {
+                    final int index = indexOf(entry.getKey());
+                    if (index >= cells.length) {
+                        cells = Arrays.copyOf(cells, Math.max(index + 1, 2 * cells.length));
+                    }
+                    cells[index] = createCell(option.getAdditionalColumnType(), entry.getValue());
+                }
+                m_values[i] = cells;
+            }
+        }
+    }
+
+    private int indexOf(final String rowKey) {
+        final Integer index = m_keyIndex.get(rowKey);
+        if (index != null) {
+            return index;
+        }
+        final int newIndex = m_keyIndex.size();
+        m_keyIndex.put(rowKey, newIndex);
+        return newIndex;
+    }
+
+    private static DataCell createCell(final ColumnType.Enum type, final Object value) {
+        if (value == null) {
+            return DataType.getMissingCell();
+        }
+        if (type.equals(ColumnType.BOOLEAN)) {
+            return BooleanCellFactory.create((boolean)value);
+        } else if (type.equals(ColumnType.DOUBLE)) {
+            return new DoubleCell(((Number)value).doubleValue());
+        } else if (type.equals(ColumnType.INTEGER)) {
+            return new IntCell(((Number)value).intValue());
+        } else if (type.equals(ColumnType.DATETIME)) {
+            try {
+                return DateAndTimeCellFactory.create((String)value);
+            } catch (IllegalArgumentException e) {
+                LOGGER.error("Parsing value as date time failed: " + e.getMessage());
+                return DataType.getMissingCell();
+            }
+        } else {
+            return new StringCell((String)value);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DataCell[] getCells(final DataRow row) {
+        final Integer boxedIndex = m_keyIndex.get(row.getKey().getString());
+        final int index = boxedIndex == null ? -1 : boxedIndex;
+        final boolean withinMaxRows = m_rowCount < m_maxRows;
+        final DataCell[] cells = new DataCell[m_selections.length];
+        for (int i = 0; i < cells.length; i++) {
+            if (m_selections[i] != null) {
+                cells[i] = withinMaxRows ? BooleanCellFactory.create(index >= 0 && m_selections[i].get(index))
+                    : DataType.getMissingCell();
+            } else {
+                final DataCell[] values = m_values[i];
+                final DataCell cell = index >= 0 && index < values.length ? values[index] : null;
+                cells[i] = cell == null ? DataType.getMissingCell() : cell;
+            }
+        }
+        m_rowCount++;
+        return cells;
+    }
+}
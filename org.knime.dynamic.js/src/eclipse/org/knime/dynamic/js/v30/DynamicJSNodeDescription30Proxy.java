@@ -65,6 +65,7 @@
 import org.knime.core.node.NodeDescription;
 import org.knime.core.node.NodeFactory.NodeType;
 import org.knime.core.node.NodeLogger;
+import org.knime.dynamic.js.DynamicJSNodeDescriptionCache;
 import org.knime.dynamicjsnode.v30.KnimeNodeDocument;
 import org.knime.dynamicnode.v30.DynamicInPort;
 import org.knime.dynamicnode.v30.DynamicOption;
@@ -123,7 +124,8 @@ public DynamicJSNodeDescription30Proxy(final Document doc) throws XmlException {
     public DynamicJSNodeDescription30Proxy(final KnimeNodeDocument doc, final File nodeDir) {
         m_document = doc;
         m_nodeDir = nodeDir;
-        if (KNIMEConstants.ASSERTIONS_ENABLED) {
+        // descriptions coming from the cache have already been validated when the node was registered
+        if (KNIMEConstants.ASSERTIONS_ENABLED && !DynamicJSNodeDescriptionCache.getInstance().isValidated(doc)) {
             validate();
         }
     }
@@ -50,36 +50,26 @@
 import java.awt.Color;
 import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Set;
 
-import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.lang.StringUtils;
 import org.apache.xmlbeans.XmlObject;
-import org.eclipse.core.runtime.IConfigurationElement;
-import org.eclipse.core.runtime.IExtensionRegistry;
-import org.eclipse.core.runtime.Platform;
 import org.knime.base.data.xml.SvgCell;
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
 import org.knime.core.data.DataColumnSpecCreator;
-import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTable;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.DataType;
-import org.knime.core.data.container.AbstractCellFactory;
 import org.knime.core.data.container.CellFactory;
 import org.knime.core.data.container.ColumnRearranger;
 import org.knime.core.data.date.DateAndTimeCell;
-import org.knime.core.data.date.DateAndTimeCellFactory;
 import org.knime.core.data.def.BooleanCell;
-import org.knime.core.data.def.BooleanCell.BooleanCellFactory;
 import org.knime.core.data.def.DoubleCell;
 import org.knime.core.data.def.IntCell;
 import org.knime.core.data.def.StringCell;
@@ -122,8 +112,11 @@
 import org.knime.core.node.workflow.VariableType.IntType;
 import org.knime.core.node.workflow.VariableType.StringType;
 import org.knime.dynamic.js.DynamicJSDependency;
+import org.knime.dynamic.js.DynamicJSResourceCache;
+import org.knime.dynamic.js.DynamicJSResourceCache.Resource;
 import org.knime.dynamic.js.SettingsModelSVGOptions;
 import org.knime.dynamic.js.SettingsModelSVGOptions.JSONSVGOptions;
+import org.knime.dynamic.js.WebResourceIndex;
 import org.knime.dynamicjsnode.v30.DynamicJSKnimeNode;
 import org.knime.dynamicjsnode.v30.JavaProcessor;
 import org.knime.dynamicjsnode.v30.WebDependency;
@@ -436,6 +429,11 @@ public DynamicJSViewRepresentation getViewRepresentation() {
 	    DynamicJSViewRepresentation representation = super.getViewRepresentation();
 	    synchronized(getLock()) {
 	        if (representation != null) {
+	            if (representation.isResourcesMissing()) {
+	                // the representation was saved with references to resources not read in this process yet
+	                representation.setResourcesMissing(false);
+	                readResourceContents();
+	            }
 	            Object[] inObjects = representation.getInObjects();
 	            String[] tableIds = representation.getTableIds();
 	            if (inObjects != null && tableIds != null) {
@@ -449,6 +447,9 @@ public DynamicJSViewRepresentation getViewRepresentation() {
                         if (inObjects[i] != null && inObjects[i] instanceof JSONDataTable) {
                             ((JSONDataTable)inObjects[i]).setId(getTableId(i));
                         }
+                        if (inObjects[i] instanceof StreamingJSONDataTable) {
+                            ((StreamingJSONDataTable)inObjects[i]).setId(getTableId(i));
+                        }
                     }
 	            }
 	        }
@@ -540,7 +541,6 @@ private ColumnRearranger createColumnAppender(final DataTableSpec spec, final Li
                 "Data out options defined in node description do not match actual values. "
                 + "Possible implementation error.");
         }
-        List<Integer> selectionColumnIndicies = new ArrayList<>();
         List<DataColumnSpec> outSpecs = new ArrayList<DataColumnSpec>();
         for (DataOutOption option : options) {
             String newColName = option.getAdditionalColumnName();
@@ -553,7 +553,6 @@ private ColumnRearranger createColumnAppender(final DataTableSpec spec, final Li
             // we can assume the options and values are in the same order, as we constructed them in the calling method
             DataOutputType.Enum colType = option.getOutputType();
             if (DataOutputType.APPEND_SELECTION_COLUMN.equals(colType)) {
-                selectionColumnIndicies.add(outSpecs.size());
                 colClass = BooleanCell.class;
             } else if (option.getAdditionalColumnType().equals(ColumnType.BOOLEAN)) {
                 colClass = BooleanCell.class;
@@ -568,23 +567,6 @@ private ColumnRearranger createColumnAppender(final DataTableSpec spec, final Li
             }
             outSpecs.add(new DataColumnSpecCreator(newColName, DataType.getType(colClass)).createSpec());
         }
-        /**
-         * create set of selected RowKeys for nodes which have output type APPEND_SELECTED_COLUMN
-         * @since 4.2
-         */
-        final Map<Integer, HashSet<String>> selectedColumnMap = new HashMap<Integer, HashSet<String>>();
-        final Set<Integer> selColIndSet = new HashSet<>(selectionColumnIndicies);
-        if (values != null) {
-            for(Integer selInd : selectionColumnIndicies) {
-                Map<String, Object> temporarySelected = values.get(selInd);
-                Object selectedList = temporarySelected.get(APPEND_SELECTION_GLOBAL_OUT_VALUE_KEY);
-                selectedColumnMap.put(selInd, new HashSet<>());
-                if (selectedList instanceof ArrayList<?>) {
-                    selectedColumnMap.get(selInd).addAll((ArrayList<String>)selectedList);
-                }
-            }
-        }
-
         /**
          * check for disabled 'maxRows' dialog option
          * @since 4.2
@@ -594,49 +576,12 @@ private ColumnRearranger createColumnAppender(final DataTableSpec spec, final Li
         if (javaProcessor != null) {
             ignoreMaxRows = javaProcessor.getHidesLimitRowOption();
         }
-        final Integer maxRows = ignoreMaxRows ? Integer.MAX_VALUE : m_config.getMaxRows();
+        final int maxRows = ignoreMaxRows ? Integer.MAX_VALUE : m_config.getMaxRows();
         ColumnRearranger rearranger = new ColumnRearranger(spec);
-        CellFactory fac = new AbstractCellFactory(outSpecs.toArray(new DataColumnSpec[0])) {
-
-            Integer rowCount = 0;
-
-            @Override
-            public DataCell[] getCells(final DataRow row) {
-                DataCell[] cells = new DataCell[values.size()];
-                String rowKeyStr = row.getKey().getString();
-                for (int i = 0; i < values.size(); i++) {
-                    if (selColIndSet.contains(i) && rowCount < maxRows) {
-                        cells[i] = BooleanCellFactory.create(selectedColumnMap.get(i).contains(rowKeyStr));
-                        continue;
-                    }
-                    Map<String, Object> valueMap = values.get(i);
-                    if (!valueMap.containsKey(rowKeyStr)) {
-                        cells[i] = DataType.getMissingCell();
-                        break;
-                    }
-                    Object value = valueMap.get(rowKeyStr);
-                    DataOutOption option = options.get(i);
-                    if (option.getAdditionalColumnType().equals(ColumnType.BOOLEAN)) {
-                        cells[i] = BooleanCellFactory.create((boolean)value);
-                    } else if (option.getAdditionalColumnType().equals(ColumnType.DOUBLE)) {
-                        cells[i] = new DoubleCell((double)value);
-                    } else if (option.getAdditionalColumnType().equals(ColumnType.INTEGER)) {
-                        cells[i] = new IntCell((int)value);
-                    } else if (option.getAdditionalColumnType().equals(ColumnType.DATETIME)) {
-                        try {
-                            cells[i] = DateAndTimeCellFactory.create((String)value);
-                        } catch (IllegalArgumentException e) {
-                            LOGGER.error("Parsing value as date time failed: " + e.getMessage());
-                            cells[i] = DataType.getMissingCell();
-                        }
-                    } else {
-                        cells[i] = new StringCell((String)value);
-                    }
-                }
-                rowCount++;
-                return cells;
-            }
-        };
+        // row keys are resolved once, values are only available during execute
+        CellFactory fac = new AppendedColumnsCellFactory(outSpecs.toArray(new DataColumnSpec[0]), options,
+            values != null ? values : Collections.nCopies(options.size(), Collections.<String, Object> emptyMap()),
+            APPEND_SELECTION_GLOBAL_OUT_VALUE_KEY, maxRows);
         rearranger.append(fac);
         return rearranger;
     }
@@ -673,9 +618,9 @@ protected void performExecuteCreateView(final PortObject[] inObjects, final Exec
                         if (processedObject instanceof PortObject) {
                             // only data in ports supported atm
                             if (processedObject instanceof BufferedDataTable) {
-                                viewInObjects.add(createJSONTableFromBufferedDataTable(
-                                    exec.createSubExecutionContext(subProgress),
-                                    (BufferedDataTable)processedObject, tableId));
+                                // the JSON table is only built when the representation is written
+                                viewInObjects.add(createStreamingTable((BufferedDataTable)processedObject, tableId));
+                                exec.setProgress(exec.getProgressMonitor().getProgress() + subProgress);
                             } else if (processedObject instanceof ColorHandlerPortObject) {
                                 DataTableSpec colorTableSpec = ((ColorHandlerPortObject)processedObject).getSpec();
                                 if (colorTableSpec.getNumColumns() == 1
@@ -695,6 +640,17 @@ protected void performExecuteCreateView(final PortObject[] inObjects, final Exec
                             viewInObjects.add(processedObject);
                             if (inObjects[i] instanceof BufferedDataTable) {
                                 tableIdsForProcessed[i] = tableId;
+                                if (processedObject instanceof StreamingJSONDataTable) {
+                                    DataTable table = ((StreamingJSONDataTable)processedObject).getTable();
+                                    if (table instanceof RowFilterDataTable) {
+                                        // the accepted rows were counted by the processor
+                                        if (((RowFilterDataTable)table).isTruncated()) {
+                                            warnRowsTruncated();
+                                        }
+                                    } else {
+                                        warnIfRowsTruncated(((BufferedDataTable)inObjects[i]).size());
+                                    }
+                                }
                             }
                         }
                     }
@@ -960,16 +916,25 @@ private static DynamicOption getOptionForId(final String key, final DynamicOptio
     private void readResourceContents() {
 		WebRessources resources = m_node.getResources();
 		List<String> jsCode = new ArrayList<String>();
+		List<String> jsHashes = new ArrayList<String>();
 		List<String> cssCode = new ArrayList<String>();
+		List<String> cssHashes = new ArrayList<String>();
 		Map<String, String> binaryFiles = new HashMap<String, String>();
+		Map<String, String> binaryHashes = new HashMap<String, String>();
 		if (resources != null) {
 			for (WebResource res : resources.getResourceArray()) {
 				if (res.getType().equals(WebResource.Type.JS)) {
-					jsCode.add(fileToString(res.getPath(), false));
+				    Resource r = readResource(res.getPath(), false);
+					jsCode.add(r == null ? null : r.getContent());
+					jsHashes.add(r == null ? null : r.getHash());
 				} else if (res.getType().equals(WebResource.Type.CSS)) {
-					cssCode.add(fileToString(res.getPath(), false));
+				    Resource r = readResource(res.getPath(), false);
+					cssCode.add(r == null ? null : r.getContent());
+					cssHashes.add(r == null ? null : r.getHash());
 				} else if (res.getType().equals(WebResource.Type.FILE)) {
-					binaryFiles.put(res.getPath(), fileToString(res.getPath(), true));
+				    Resource r = readResource(res.getPath(), true);
+					binaryFiles.put(res.getPath(), r == null ? null : r.getContent());
+					binaryHashes.put(res.getPath(), r == null ? null : r.getHash());
 				}
 			}
 		}
@@ -977,9 +942,12 @@ private void readResourceContents() {
 		representation.setJsCode(jsCode.toArray(new String[0]));
 		representation.setCssCode(cssCode.toArray(new String[0]));
 		representation.setBinaryFiles(binaryFiles);
+		representation.setResourceHashes(jsHashes.toArray(new String[0]), cssHashes.toArray(new String[0]),
+		    binaryHashes);
 	}
 
-	private String fileToString(final String path, final boolean encodeBase64) {
+	/** Reads a resource through the process wide cache, so equal resources of many nodes are only held once. */
+	private Resource readResource(final String path, final boolean encodeBase64) {
 		File rootFile = new File(m_rootPath);
 		if (!rootFile.exists() || !rootFile.isDirectory()) {
 			return null;
@@ -990,12 +958,7 @@ private String fileToString(final String path, final boolean encodeBase64) {
 			return null;
 		}
 		try {
-			byte[] fileBytes = Files.readAllBytes(Paths.get(file.getAbsolutePath()));
-			if (encodeBase64) {
-				return Base64.encodeBase64String(fileBytes);
-			} else {
-				return new String(fileBytes);
-			}
+			return DynamicJSResourceCache.getInstance().getResource(file, encodeBase64);
 		} catch (IOException e) {
 			LOGGER.error("Reading file " + file + " failed: " + e.getMessage(), e);
 		}
@@ -1027,58 +990,45 @@ private List<DynamicJSDependency> getDependencies(final boolean local) {
 		return deps;
 	}
 
-    private JSONDataTable createJSONTableFromBufferedDataTable(final ExecutionContext exec,
-        final BufferedDataTable inTable, final String tableId) throws CanceledExecutionException {
-        JSONDataTable table = JSONDataTable.newBuilder()
-                .setDataTable(inTable)
-                .setId(tableId)
-                .setFirstRow(1)
-                .setMaxRows(m_config.getMaxRows())
-                .build(exec);
-        if (m_config.getMaxRows() < inTable.size()) {
-            String warning = "Only the first " + m_config.getMaxRows() + " rows are displayed.";
-            setWarningMessage(warning);
-            DynamicJSViewRepresentation rep = getViewRepresentation();
-            if (rep != null) {
-                if (StringUtils.isNotEmpty(rep.getWarnMessage())) {
-                    warning = rep.getWarnMessage() + "\n" + warning;
-                }
-                rep.setWarnMessage(warning);
-            }
+    private StreamingJSONDataTable createStreamingTable(final BufferedDataTable inTable, final String tableId) {
+        warnIfRowsTruncated(inTable.size());
+        return new StreamingJSONDataTable(inTable, tableId, m_config.getMaxRows());
+    }
+
+    private void warnIfRowsTruncated(final long numRows) {
+        if (m_config.getMaxRows() < numRows) {
+            warnRowsTruncated();
         }
-        return table;
     }
 
-	private static final String ID_WEB_RES = "org.knime.js.core.webResources";
-    private static final String ATTR_RES_BUNDLE_ID = "webResourceBundleID";
-    private static final String ID_IMPORT_RES = "importResource";
-    private static final String ID_DEPENDENCY = "webDependency";
-    private static final String ATTR_PATH = "relativePath";
-    private static final String ATTR_TYPE = "type";
+    private void warnRowsTruncated() {
+        String warning = "Only the first " + m_config.getMaxRows() + " rows are displayed.";
+        setWarningMessage(warning);
+        DynamicJSViewRepresentation rep = getViewRepresentation();
+        if (rep != null) {
+            if (StringUtils.isNotEmpty(rep.getWarnMessage())) {
+                warning = rep.getWarnMessage() + "\n" + warning;
+            }
+            rep.setWarnMessage(warning);
+        }
+    }
 
     private List<DynamicJSDependency> setPathsFromLibNames(final List<DynamicJSDependency> libDeps) {
         ArrayList<DynamicJSDependency> jsDependencies = new ArrayList<DynamicJSDependency>();
         ArrayList<String> cssPaths = new ArrayList<String>();
         for (DynamicJSDependency lib : libDeps) {
-            IConfigurationElement confElement = getConfigurationFromWebResID(lib.getPath());
-            if (confElement != null) {
-                for (IConfigurationElement resElement : confElement.getChildren(ID_IMPORT_RES)) {
-                    String path = resElement.getAttribute(ATTR_PATH);
-                    String type = resElement.getAttribute(ATTR_TYPE);
-                    if (path != null && type != null) {
-                        if (type.equalsIgnoreCase("javascript")) {
-                            lib.setPath(path);
-                            jsDependencies.add(lib);
-                        } else if (type.equalsIgnoreCase("css")) {
-                            cssPaths.add(path);
-                        }
-                    } else {
-                        setWarningMessage("Required library " + lib.getPath() + " is not correctly configured");
-                    }
+            WebResourceIndex.WebResource webResource = WebResourceIndex.getInstance().get(lib.getPath());
+            if (webResource != null) {
+                if (!webResource.isCorrectlyConfigured()) {
+                    setWarningMessage("Required library " + lib.getPath() + " is not correctly configured");
                 }
+                for (String path : webResource.getJSPaths()) {
+                    lib.setPath(path);
+                    jsDependencies.add(lib);
+                }
+                cssPaths.addAll(webResource.getCSSPaths());
                 List<DynamicJSDependency> recDeps = new ArrayList<DynamicJSDependency>();
-                for (IConfigurationElement dependencyConf : confElement.getChildren(ID_DEPENDENCY)) {
-                    String dependencyID = dependencyConf.getAttribute(ATTR_RES_BUNDLE_ID);
+                for (String dependencyID : webResource.getDependencyIDs()) {
                     DynamicJSDependency dep = new DynamicJSDependency();
                     dep.setName(dependencyID);
                     dep.setPath(dependencyID);
@@ -1098,17 +1048,6 @@ private List<DynamicJSDependency> setPathsFromLibNames(final List<DynamicJSDepen
         return jsDependencies;
     }
 
-    private static IConfigurationElement getConfigurationFromWebResID(final String id) {
-        IExtensionRegistry registry = Platform.getExtensionRegistry();
-        IConfigurationElement[] configurationElements = registry.getConfigurationElementsFor(ID_WEB_RES);
-        for (IConfigurationElement element : configurationElements) {
-            if (id.equals(element.getAttribute(ATTR_RES_BUNDLE_ID))) {
-                return element;
-            }
-        }
-        return null;
-    }
-
 	@Override
 	protected void performReset() {
 	    //reset possible warning message set on processor
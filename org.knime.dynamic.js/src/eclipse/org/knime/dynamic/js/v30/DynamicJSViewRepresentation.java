@@ -57,11 +57,13 @@
 
 import org.apache.commons.lang.builder.EqualsBuilder;
 import org.apache.commons.lang.builder.HashCodeBuilder;
+import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
 import org.knime.dynamic.js.DynamicJSDependency;
+import org.knime.dynamic.js.DynamicJSResourceCache;
 import org.knime.dynamic.js.SettingsModelSVGOptions.JSONSVGOptions;
 import org.knime.js.core.JSONDataTable;
 import org.knime.js.core.JSONViewContent;
@@ -96,6 +98,9 @@ public class DynamicJSViewRepresentation extends JSONViewContent {
 	private static final String JS_DEPENDENCIES = "jsDependencies";
     private static final String CSS_DEPENDENCIES = "cssDependencies";
     private static final String BINARY_FILES = "binaryFiles";
+    private static final String JS_CODE_HASHES = "jsCodeHashes";
+    private static final String CSS_CODE_HASHES = "cssCodeHashes";
+    private static final String BINARY_FILE_HASHES = "binaryFileHashes";
     private static final String IN_OBJECTS = "inObjects";
     private static final String TABLE_IDS = "tableIds";
     static final String FLOW_VARIABLES = "variables";
@@ -117,6 +122,10 @@ public class DynamicJSViewRepresentation extends JSONViewContent {
     private Map<String, String> m_flowVariables = new HashMap<String, String>();
     private Map<String, Object> m_options = new HashMap<String, Object>();
     private Map<String, String> m_binaryFiles = new HashMap<String, String>();
+    private String[] m_jsCodeHashes;
+    private String[] m_cssCodeHashes;
+    private Map<String, String> m_binaryFileHashes;
+    private boolean m_resourcesMissing = false;
     private String m_warnMessage = new String();
     private String m_errorMessage = new String();
 
@@ -145,6 +154,68 @@ public void setCssCode(final String[] cssCode) {
 		m_cssCode = cssCode;
 	}
 
+    /**
+     * Sets the hashes identifying the resources in the {@link DynamicJSResourceCache}. If set, only the hashes are
+     * saved with the representation instead of the resource contents.
+     *
+     * @param jsCodeHashes the hashes of the JavaScript code, in the order of {@link #getJsCode()}
+     * @param cssCodeHashes the hashes of the CSS code, in the order of {@link #getCssCode()}
+     * @param binaryFileHashes the hashes of the binary files by path
+     * @since 5.6
+     */
+    public void setResourceHashes(final String[] jsCodeHashes, final String[] cssCodeHashes,
+        final Map<String, String> binaryFileHashes) {
+        m_jsCodeHashes = jsCodeHashes;
+        m_cssCodeHashes = cssCodeHashes;
+        m_binaryFileHashes = binaryFileHashes;
+    }
+
+    /**
+     * @return true if the representation was loaded with references to resources which are not available in this
+     *         process, the resources then have to be read again
+     * @since 5.6
+     */
+    @JsonIgnore
+    public boolean isResourcesMissing() {
+        return m_resourcesMissing;
+    }
+
+    /**
+     * @param resourcesMissing the resourcesMissing to set
+     * @since 5.6
+     */
+    @JsonIgnore
+    public void setResourcesMissing(final boolean resourcesMissing) {
+        m_resourcesMissing = resourcesMissing;
+    }
+
+    private boolean hasResourceHashes() {
+        if (m_jsCodeHashes == null || m_cssCodeHashes == null || m_binaryFileHashes == null
+            || m_jsCodeHashes.length != m_jsCode.length || m_cssCodeHashes.length != m_cssCode.length) {
+            return false;
+        }
+        for (String hash : m_jsCodeHashes) {
+            if (hash == null) {
+                return false;
+            }
+        }
+        for (String hash : m_cssCodeHashes) {
+            if (hash == null) {
+                return false;
+            }
+        }
+        return !m_binaryFileHashes.containsValue(null);
+    }
+
+    private String[] resolveResources(final String[] hashes) {
+        String[] contents = new String[hashes.length];
+        for (int i = 0; i < hashes.length; i++) {
+            contents[i] = DynamicJSResourceCache.getInstance().getContent(hashes[i]);
+            m_resourcesMissing |= contents[i] == null;
+        }
+        return contents;
+    }
+
     @JsonProperty("jsDependencies")
     public DynamicJSDependency[] getJsDependencies() {
 		return m_jsDependencies;
@@ -298,8 +369,17 @@ public void setRunningInView(final boolean runningInView) {
 	@Override
 	public void saveToNodeSettings(final NodeSettingsWO settings) {
 		settings.addString(JS_NAMESPACE, m_jsNamespace);
-		settings.addStringArray(JS_CODE, m_jsCode);
-		settings.addStringArray(CSS_CODE, m_cssCode);
+		if (hasResourceHashes()) {
+		    // resources are shared by all nodes of a type, only store references to them
+		    settings.addStringArray(JS_CODE, new String[0]);
+		    settings.addStringArray(CSS_CODE, new String[0]);
+		    settings.addStringArray(JS_CODE_HASHES, m_jsCodeHashes);
+		    settings.addStringArray(CSS_CODE_HASHES, m_cssCodeHashes);
+		    saveMap(settings.addNodeSettings(BINARY_FILE_HASHES), m_binaryFileHashes, false);
+		} else {
+		    settings.addStringArray(JS_CODE, m_jsCode);
+		    settings.addStringArray(CSS_CODE, m_cssCode);
+		}
 		NodeSettingsWO dependencySettings = settings.addNodeSettings(JS_DEPENDENCIES);
 		dependencySettings.addInt(NUM_SETTINGS, m_jsDependencies.length);
 		for (int i = 0; i < m_jsDependencies.length; i++) {
@@ -310,7 +390,8 @@ public void saveToNodeSettings(final NodeSettingsWO settings) {
         settings.addBoolean(IN_VIEW, m_runningInView);
         settings.addStringArray(TABLE_IDS, m_tableIds);
         saveMap(settings.addNodeSettings(FLOW_VARIABLES), m_flowVariables, false);
-        saveMap(settings.addNodeSettings(BINARY_FILES), m_binaryFiles, false);
+        saveMap(settings.addNodeSettings(BINARY_FILES), hasResourceHashes() ? new HashMap<String, String>()
+            : m_binaryFiles, false);
         saveMap(settings.addNodeSettings(OPTIONS), m_options, true);
         NodeSettingsWO inObjects = settings.addNodeSettings(IN_OBJECTS);
         inObjects.addInt(NUM_SETTINGS, m_inObjects.length);
@@ -318,6 +399,14 @@ public void saveToNodeSettings(final NodeSettingsWO settings) {
             NodeSettingsWO objectSettings = inObjects.addNodeSettings("inObject_" + i);
             if (m_inObjects[i] instanceof JSONDataTable) {
                 ((JSONDataTable)m_inObjects[i]).saveJSONToNodeSettings(objectSettings);
+            } else if (m_inObjects[i] instanceof StreamingJSONDataTable) {
+                // saved as JSONDataTable, loaded back as such
+                try {
+                    ((StreamingJSONDataTable)m_inObjects[i]).saveJSONToNodeSettings(objectSettings);
+                } catch (CanceledExecutionException e) {
+                    LOGGER.error("Failed to write table from port index " + i + ": " + e.getMessage(), e);
+                    objectSettings.addString(JSON_VALUE, null);
+                }
             } else {
                 String jsonString = null;
                 if (m_inObjects[i] != null) {
@@ -410,6 +499,10 @@ public void loadFromNodeSettings(final NodeSettingsRO settings)
 		}
 		m_jsCode = settings.getStringArray(JS_CODE);
 		m_cssCode = settings.getStringArray(CSS_CODE);
+		m_jsCodeHashes = null;
+		m_cssCodeHashes = null;
+		m_binaryFileHashes = null;
+		m_resourcesMissing = false;
 		m_jsNamespace = settings.getString(JS_NAMESPACE);
         m_cssDependencies = Arrays.asList(settings.getStringArray(CSS_DEPENDENCIES));
         m_new = settings.getBoolean(NEW);
@@ -417,6 +510,19 @@ public void loadFromNodeSettings(final NodeSettingsRO settings)
 
         m_flowVariables = (Map<String, String>) loadMap(settings.getNodeSettings(FLOW_VARIABLES));
         m_binaryFiles = (Map<String, String>) loadMap(settings.getNodeSettings(BINARY_FILES));
+        // added with 5.6
+        if (settings.containsKey(JS_CODE_HASHES)) {
+            setResourceHashes(settings.getStringArray(JS_CODE_HASHES), settings.getStringArray(CSS_CODE_HASHES),
+                (Map<String, String>) loadMap(settings.getNodeSettings(BINARY_FILE_HASHES)));
+            m_jsCode = resolveResources(m_jsCodeHashes);
+            m_cssCode = resolveResources(m_cssCodeHashes);
+            m_binaryFiles = new HashMap<String, String>();
+            for (Entry<String, String> e : m_binaryFileHashes.entrySet()) {
+                String content = DynamicJSResourceCache.getInstance().getContent(e.getValue());
+                m_resourcesMissing |= content == null && e.getValue() != null;
+                m_binaryFiles.put(e.getKey(), content);
+            }
+        }
         m_options = (Map<String, Object>) loadMap(settings.getNodeSettings(OPTIONS));
         NodeSettingsRO inObjects = settings.getNodeSettings(IN_OBJECTS);
         int numSettings = inObjects.getInt(NUM_SETTINGS);
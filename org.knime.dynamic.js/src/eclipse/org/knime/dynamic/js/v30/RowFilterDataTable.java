@@ -0,0 +1,267 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   17 Oct 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.dynamic.js.v30;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTable;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowIterator;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.container.filter.TableFilter;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+
+/**
+ * A view on a {@link DataTable} that only contains the rows accepted by a predicate.
+ *
+ * <p>
+ * Nothing is copied. A table created with the constructor evaluates the predicate while it is iterated. A table
+ * created with {@link #create(BufferedDataTable, Predicate, int, ExecutionMonitor)} evaluates it once up front and only
+ * keeps the positions of the accepted rows, iterating it then reads these rows without testing them again. Processors
+ * can wrap the result in a {@link StreamingJSONDataTable} to hand a filtered table to the view without an
+ * intermediate copy of the input.
+ * </p>
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ * @since 5.6
+ */
+public final class RowFilterDataTable implements DataTable {
+
+    private final DataTable m_source;
+    private final Predicate<DataRow> m_filter;
+    private final long[] m_rowIndices;
+    private final boolean m_truncated;
+
+    /**
+     * @param source the table to filter
+     * @param filter the predicate a row needs to fulfill to be contained in this table
+     */
+    public RowFilterDataTable(final DataTable source, final Predicate<DataRow> filter) {
+        m_source = source;
+        m_filter = filter;
+        m_rowIndices = null;
+        m_truncated = false;
+    }
+
+    private RowFilterDataTable(final BufferedDataTable source, final long[] rowIndices, final boolean truncated) {
+        m_source = source;
+        m_filter = null;
+        m_rowIndices = rowIndices;
+        m_truncated = truncated;
+    }
+
+    /**
+     * Creates a table of the first accepted rows of the source. The predicate is evaluated once per row in a single
+     * pass, which stops as soon as one more row than the maximum number of rows has been accepted.
+     *
+     * @param source the table to filter
+     * @param filter the predicate a row needs to fulfill to be contained in the table
+     * @param maxRows the maximum number of rows of the table
+     * @param exec the monitor to report progress to and to check for cancellation
+     * @return a new table containing the positions of at most maxRows accepted rows
+     * @throws CanceledExecutionException if the execution was canceled
+     */
+    public static RowFilterDataTable create(final BufferedDataTable source, final Predicate<DataRow> filter,
+        final int maxRows, final ExecutionMonitor exec) throws CanceledExecutionException {
+        final long size = source.size();
+        long[] rowIndices = new long[(int)Math.min(Math.max(0, maxRows), Math.min(size, 1024))];
+        int numRows = 0;
+        boolean truncated = false;
+        try (CloseableRowIterator it = source.iterator()) {
+            for (long i = 0; it.hasNext(); i++) {
+                if (filter.test(it.next())) {
+                    if (numRows == maxRows) {
+                        truncated = true;
+                        break;
+                    }
+                    if (numRows == rowIndices.length) {
+                        rowIndices = Arrays.copyOf(rowIndices, (int)Math.min(maxRows, 2L * numRows));
+                    }
+                    rowIndices[numRows++] = i;
+                }
+                if ((i & 0x3FF) == 0) {
+                    exec.checkCanceled();
+                    exec.setProgress((double)i / size);
+                }
+            }
+        }
+        return new RowFilterDataTable(source, Arrays.copyOf(rowIndices, numRows), truncated);
+    }
+
+    /**
+     * @return the unfiltered table
+     */
+    public DataTable getSource() {
+        return m_source;
+    }
+
+    /**
+     * @return true if the source contains more accepted rows than this table, which is only possible for a table
+     *         created with {@link #create(BufferedDataTable, Predicate, int, ExecutionMonitor)}
+     */
+    public boolean isTruncated() {
+        return m_truncated;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DataTableSpec getDataTableSpec() {
+        return m_source.getDataTableSpec();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Closing the returned iterator closes the iterator of the source table, if that one is closeable. It is closed as
+     * well once all rows have been read.
+     * </p>
+     */
+    @Override
+    public CloseableRowIterator iterator() {
+        final RowIterator source;
+        if (m_rowIndices == null) {
+            source = m_source.iterator();
+        } else if (m_rowIndices.length == 0) {
+            return new CloseableRowIterator() {
+
+                @Override
+                public boolean hasNext() {
+                    return false;
+                }
+
+                @Override
+                public DataRow next() {
+                    throw new NoSuchElementException();
+                }
+
+                @Override
+                public void close() {
+                    // nothing to close
+                }
+            };
+        } else {
+            // the rows after the last accepted row are not read at all
+            source = ((BufferedDataTable)m_source)
+                .filter(TableFilter.filterRangeOfRows(0, m_rowIndices[m_rowIndices.length - 1])).iterator();
+        }
+        return new CloseableRowIterator() {
+
+            private long m_index;
+
+            private int m_accepted;
+
+            private DataRow m_next = advance();
+
+            private DataRow advance() {
+                while (source.hasNext()) {
+                    DataRow row = source.next();
+                    if (accept(row)) {
+                        return row;
+                    }
+                }
+                close();
+                return null;
+            }
+
+            private boolean accept(final DataRow row) {
+                if (m_rowIndices == null) {
+                    return m_filter.test(row);
+                }
+                final long index = m_index++;
+                if (m_accepted < m_rowIndices.length && m_rowIndices[m_accepted] == index) {
+                    m_accepted++;
+                    return true;
+                }
+                return false;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return m_next != null;
+            }
+
+            @Override
+            public DataRow next() {
+                if (m_next == null) {
+                    throw new NoSuchElementException();
+                }
+                DataRow row = m_next;
+                m_next = advance();
+                return row;
+            }
+
+            @Override
+            public void close() {
+                if (source instanceof CloseableRowIterator) {
+                    ((CloseableRowIterator)source).close();
+                }
+            }
+        };
+    }
+
+    /**
+     * @param row the row to check
+     * @return true if none of the cells of the row is missing
+     */
+    public static boolean hasNoMissingCells(final DataRow row) {
+        for (int i = 0; i < row.getNumCells(); i++) {
+            if (row.getCell(i).isMissing()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
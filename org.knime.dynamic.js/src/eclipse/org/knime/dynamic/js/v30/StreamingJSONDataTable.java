@@ -0,0 +1,394 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   17 Oct 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.dynamic.js.v30;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import org.apache.commons.lang.builder.EqualsBuilder;
+import org.apache.commons.lang.builder.HashCodeBuilder;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTable;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowIterator;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.NodeSettingsWO;
+import org.knime.js.core.JSONDataTable;
+import org.knime.js.core.JSONDataTable.JSONDataTableRow;
+import org.knime.js.core.JSONDataTableSpec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+
+/**
+ * A table in the view representation of a dynamic JavaScript node which is never materialized as a whole
+ * {@link JSONDataTable}.
+ *
+ * <p>
+ * The representation only keeps a reference to the {@link DataTable}. While the representation is serialized, the
+ * rows are read from the table in chunks of {@value #CHUNK_SIZE} rows and every chunk is converted and written to
+ * the generator before the next one is read, so the heap needed does not depend on the size of the table. The JSON
+ * written is the same as for the corresponding {@link JSONDataTable}, except that the rows are written before the
+ * spec, which needs the row colors of all rows. A saved representation therefore loads the table as
+ * {@link JSONDataTable}. Every serialization reads the first rows of the table again, up to the maximum number of
+ * rows.
+ * </p>
+ *
+ * <p>
+ * Processors can return instances of this class for (possibly large) tables that are passed on to the view
+ * unchanged, or for views on their input such as a {@link RowFilterDataTable}.
+ * </p>
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ * @since 5.6
+ */
+@JsonSerialize(using = StreamingJSONDataTable.Serializer.class)
+public final class StreamingJSONDataTable {
+
+    /** The number of rows converted at once while the table is serialized. */
+    static final int CHUNK_SIZE = 1000;
+
+    private static final String ROWS = "rows";
+
+    private final DataTable m_table;
+    private final int m_maxRows;
+    private String m_id;
+
+    /**
+     * @param table the table to serialize
+     * @param id the id of the table, may be null
+     * @param maxRows the maximum number of rows to serialize
+     */
+    public StreamingJSONDataTable(final DataTable table, final String id, final int maxRows) {
+        m_table = table;
+        m_id = id;
+        m_maxRows = maxRows;
+    }
+
+    /**
+     * @return the underlying table
+     */
+    public DataTable getTable() {
+        return m_table;
+    }
+
+    /**
+     * @return the id of the table, may be null
+     */
+    public String getId() {
+        return m_id;
+    }
+
+    /**
+     * @param id the id of the table to set
+     */
+    public void setId(final String id) {
+        m_id = id;
+    }
+
+    /**
+     * @return the maximum number of rows to serialize
+     */
+    public int getMaxRows() {
+        return m_maxRows;
+    }
+
+    /**
+     * Builds the complete {@link JSONDataTable} for the underlying table. The result is not cached.
+     *
+     * @param exec the monitor to report progress to and to check for cancellation
+     * @return a new JSON table
+     * @throws CanceledExecutionException if the execution was canceled
+     */
+    public JSONDataTable build(final ExecutionMonitor exec) throws CanceledExecutionException {
+        return build(m_table, m_maxRows, exec);
+    }
+
+    private JSONDataTable build(final DataTable table, final int maxRows, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        return JSONDataTable.newBuilder()
+                .setDataTable(table)
+                .setId(m_id)
+                .setFirstRow(1)
+                .setMaxRows(maxRows)
+                .build(exec);
+    }
+
+    /**
+     * Builds the table and saves it in the same format as {@link JSONDataTable#saveJSONToNodeSettings(NodeSettingsWO)}.
+     * The settings hold the whole table anyway, it is therefore not written in chunks.
+     *
+     * @param settings the settings to save to
+     * @throws CanceledExecutionException if building the table was canceled
+     */
+    void saveJSONToNodeSettings(final NodeSettingsWO settings) throws CanceledExecutionException {
+        build(new ExecutionMonitor()).saveJSONToNodeSettings(settings);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj == this) {
+            return true;
+        }
+        if (obj.getClass() != getClass()) {
+            return false;
+        }
+        StreamingJSONDataTable other = (StreamingJSONDataTable)obj;
+        return new EqualsBuilder()
+                .append(m_table, other.m_table)
+                .append(m_id, other.m_id)
+                .append(m_maxRows, other.m_maxRows)
+                .isEquals();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder()
+                .append(m_table)
+                .append(m_id)
+                .append(m_maxRows)
+                .toHashCode();
+    }
+
+    /**
+     * Reads the rows of the table and converts them chunk by chunk.
+     */
+    private final class ChunkReader implements AutoCloseable {
+
+        private final RowIterator m_iterator = m_table.iterator();
+
+        private int m_remaining = Math.max(0, m_maxRows);
+
+        /**
+         * @param first true for the first chunk, which is returned even if the table is empty
+         * @return the JSON table of the next rows, null if all rows have been read
+         * @throws CanceledExecutionException if building the table was canceled
+         */
+        JSONDataTable next(final boolean first) throws CanceledExecutionException {
+            final List<DataRow> rows = new ArrayList<DataRow>(Math.min(CHUNK_SIZE, m_remaining));
+            while (rows.size() < CHUNK_SIZE && m_remaining > 0 && m_iterator.hasNext()) {
+                rows.add(m_iterator.next());
+                m_remaining--;
+            }
+            if (rows.isEmpty() && !first) {
+                return null;
+            }
+            return build(new RowChunk(m_table.getDataTableSpec(), rows), rows.size(), new ExecutionMonitor());
+        }
+
+        @Override
+        public void close() {
+            if (m_iterator instanceof CloseableRowIterator) {
+                ((CloseableRowIterator)m_iterator).close();
+            }
+        }
+    }
+
+    /**
+     * The rows of one chunk.
+     */
+    private static final class RowChunk implements DataTable {
+
+        private final DataTableSpec m_spec;
+        private final List<DataRow> m_rows;
+
+        RowChunk(final DataTableSpec spec, final List<DataRow> rows) {
+            m_spec = spec;
+            m_rows = rows;
+        }
+
+        @Override
+        public DataTableSpec getDataTableSpec() {
+            return m_spec;
+        }
+
+        @Override
+        public RowIterator iterator() {
+            final Iterator<DataRow> it = m_rows.iterator();
+            return new RowIterator() {
+
+                @Override
+                public boolean hasNext() {
+                    return it.hasNext();
+                }
+
+                @Override
+                public DataRow next() {
+                    return it.next();
+                }
+            };
+        }
+    }
+
+    /**
+     * Jackson-serializer writing the rows of the table chunk by chunk in the layout of a {@link JSONDataTable}.
+     */
+    static final class Serializer extends JsonSerializer<StreamingJSONDataTable> {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void serialize(final StreamingJSONDataTable value, final JsonGenerator gen,
+            final SerializerProvider serializers) throws IOException {
+            write(value, gen, serializers, null);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void serializeWithType(final StreamingJSONDataTable value, final JsonGenerator gen,
+            final SerializerProvider serializers, final TypeSerializer typeSer) throws IOException {
+            write(value, gen, serializers, typeSer);
+        }
+
+        private static void write(final StreamingJSONDataTable value, final JsonGenerator gen,
+            final SerializerProvider serializers, final TypeSerializer typeSer) throws IOException {
+            final JsonSerializer<Object> tableSerializer = serializers.findValueSerializer(JSONDataTable.class);
+            try (ChunkReader chunks = value.new ChunkReader()) {
+                final JSONDataTable first = chunks.next(true);
+                WritableTypeId typeId = null;
+                if (typeSer == null) {
+                    gen.writeStartObject();
+                } else {
+                    // the type information of the JSON table, not the one of this wrapper
+                    typeId = typeSer.writeTypePrefix(gen,
+                        typeSer.typeId(value, JSONDataTable.class, JsonToken.START_OBJECT));
+                }
+
+                gen.writeFieldName(ROWS);
+                gen.writeStartArray();
+                final List<String> rowColors = new ArrayList<String>();
+                int numRows = 0;
+                for (JSONDataTable chunk = first; chunk != null; chunk = chunks.next(false)) {
+                    final JSONDataTableRow[] rows = chunk.getRows();
+                    if (rows != null) {
+                        for (JSONDataTableRow row : rows) {
+                            serializers.defaultSerializeValue(row, gen);
+                        }
+                        numRows += rows.length;
+                    }
+                    final String[] colors = chunk.getSpec().getRowColorValues();
+                    if (colors != null) {
+                        rowColors.addAll(Arrays.asList(colors));
+                    }
+                }
+                gen.writeEndArray();
+
+                // all other properties are taken from the first chunk, its spec is updated to cover all rows
+                final JSONDataTableSpec spec = first.getSpec();
+                spec.setNumRows(numRows);
+                if (spec.getRowColorValues() != null) {
+                    spec.setRowColorValues(rowColors.toArray(new String[rowColors.size()]));
+                }
+                for (Iterator<PropertyWriter> it = tableSerializer.properties(); it.hasNext();) {
+                    final PropertyWriter property = it.next();
+                    if (!ROWS.equals(property.getName())) {
+                        property.serializeAsField(first, gen, serializers);
+                    }
+                }
+
+                if (typeSer == null) {
+                    gen.writeEndObject();
+                } else {
+                    typeSer.writeTypeSuffix(gen, typeId);
+                }
+            } catch (CanceledExecutionException e) {
+                throw new IOException("Serialization of table " + value.getId() + " canceled", e);
+            } catch (IOException e) {
+                throw e;
+            } catch (Exception e) {
+                throw JsonMappingException.from(gen, "Serialization of table " + value.getId() + " failed", e);
+            }
+        }
+    }
+
+    /**
+     * Jackson-serializer for a property holding either a {@link JSONDataTable} or a {@link StreamingJSONDataTable},
+     * both are written like a property of type {@link JSONDataTable}.
+     */
+    public static final class TableSerializer extends JsonSerializer<Object> {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void serialize(final Object value, final JsonGenerator gen, final SerializerProvider serializers)
+            throws IOException {
+            if (value instanceof StreamingJSONDataTable) {
+                Serializer.write((StreamingJSONDataTable)value, gen, serializers,
+                    serializers.findTypeSerializer(serializers.constructType(JSONDataTable.class)));
+            } else {
+                serializers.findTypedValueSerializer(JSONDataTable.class, true, null).serialize(value, gen,
+                    serializers);
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   17 Oct 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.js.base.node.viz.decisiontree.classification;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+/**
+ * Tests for the run length encoding of {@link LeafRowIndex}.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+public class LeafRowIndexTest {
+
+    /**
+     * Consecutive rows of a leaf are stored as a single run.
+     */
+    @Test
+    public void testRuns() {
+        LeafRowIndex index = new LeafRowIndex();
+        for (int i = 0; i < 10; i++) {
+            index.add(i < 5 || i == 8 ? 1 : 2, i);
+        }
+        assertArrayEquals(new int[]{0, 5, 8, 9}, index.getRuns(1));
+        assertArrayEquals(new int[]{5, 8, 9, 10}, index.getRuns(2));
+        assertEquals(6, index.getRowCount(1));
+        assertEquals(4, index.getRowCount(2));
+        assertEquals(0, index.getRowCount(3));
+        assertArrayEquals(new int[0], index.getRuns(3));
+    }
+
+    /**
+     * Appending the index of the next chunk gives the same index as adding all rows to a single index.
+     */
+    @Test
+    public void testAppend() {
+        LeafRowIndex expected = new LeafRowIndex();
+        LeafRowIndex first = new LeafRowIndex();
+        LeafRowIndex second = new LeafRowIndex();
+        for (int i = 0; i < 100; i++) {
+            int leaf = (i / 7) % 3;
+            expected.add(leaf, i);
+            (i < 50 ? first : second).add(leaf, i);
+        }
+        first.append(second);
+        for (int leaf = 0; leaf < 3; leaf++) {
+            assertArrayEquals(expected.getRuns(leaf), first.getRuns(leaf));
+            assertEquals(expected.getRowCount(leaf), first.getRowCount(leaf));
+        }
+    }
+
+}
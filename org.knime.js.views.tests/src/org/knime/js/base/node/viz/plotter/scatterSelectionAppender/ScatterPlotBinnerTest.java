@@ -0,0 +1,142 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   17 Oct 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.js.base.node.viz.plotter.scatterSelectionAppender;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.container.SingleCellFactory;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+
+/**
+ * Tests for the bin geometry of {@link ScatterPlotBinner}.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+public class ScatterPlotBinnerTest {
+
+    private static final DataTableSpec SPEC = new DataTableSpec(
+        new DataColumnSpecCreator("x", DoubleCell.TYPE).createSpec(),
+        new DataColumnSpecCreator("y", DoubleCell.TYPE).createSpec());
+
+    private static final double[] BOUNDS = new double[]{0, 10, 0, 10};
+
+    /**
+     * Tests the bins of a rectangular grid.
+     */
+    @Test
+    public void testRectangleBins() {
+        ScatterPlotBinner binner =
+            new ScatterPlotBinner(SPEC, "x", "y", ScatterPlotBinner.SHAPE_RECTANGLE, 10, BOUNDS);
+        assertEquals(0, binner.getBin(row(0, 0)));
+        assertEquals(0, binner.getBin(row(0.5, 0.9)));
+        assertEquals(12, binner.getBin(row(2.5, 1.5)));
+        assertEquals(99, binner.getBin(row(10, 10)));
+        assertEquals(-1, binner.getBin(row(10.5, 5)));
+        assertEquals(-1, binner.getBin(row(Double.NaN, 5)));
+        assertEquals(-1, binner.getBin(new DefaultRow("Row0", DataType.getMissingCell(), new DoubleCell(1))));
+        assertEquals(Arrays.toString(new double[]{9.5, 9.5}), Arrays.toString(binner.getCenter(99)));
+    }
+
+    /**
+     * Tests that every point is assigned to the hexagon with the nearest center.
+     */
+    @Test
+    public void testHexagonBins() {
+        ScatterPlotBinner binner =
+            new ScatterPlotBinner(SPEC, "x", "y", ScatterPlotBinner.SHAPE_HEXAGON, 10, BOUNDS);
+        // the bounds are 0 to 10 with 10 bins, so hexagons have a width of 1 and a radius of 1/sqrt(3)
+        double radius = 1 / Math.sqrt(3);
+        Random random = new Random(42);
+        for (int i = 0; i < 10000; i++) {
+            double x = random.nextDouble() * 10;
+            double y = random.nextDouble() * 10;
+            int bin = binner.getBin(row(x, y));
+            double[] center = binner.getCenter(bin);
+            double distance = Math.hypot(center[0] - x, center[1] - y);
+            assertThat("Point is not in the hexagon of its bin", distance, lessThanOrEqualTo(radius + 1e-9));
+            for (int neighbor : new int[]{bin - 1, bin + 1}) {
+                double[] c = binner.getCenter(neighbor);
+                assertThat("Point is closer to a neighbor bin", distance,
+                    lessThanOrEqualTo(Math.hypot(c[0] - x, c[1] - y) + 1e-9));
+            }
+        }
+    }
+
+    /**
+     * Tests that the selection of bins is translated to the rows within the bins.
+     */
+    @Test
+    public void testSelection() {
+        ScatterPlotBinner binner =
+            new ScatterPlotBinner(SPEC, "x", "y", ScatterPlotBinner.SHAPE_RECTANGLE, 10, BOUNDS);
+        SingleCellFactory factory = binner.createSelectionCellFactory(
+            new DataColumnSpecCreator("Selected", BooleanCell.TYPE).createSpec(),
+            Arrays.asList(ScatterPlotBinner.getBinKey(0), ScatterPlotBinner.getBinKey(12), "Row3", "bin_x"));
+        assertEquals(BooleanCell.TRUE, factory.getCell(row(0.2, 0.3)));
+        assertEquals(BooleanCell.TRUE, factory.getCell(row(2.1, 1.9)));
+        assertEquals(BooleanCell.FALSE, factory.getCell(row(5, 5)));
+        assertEquals(BooleanCell.FALSE, factory.getCell(row(Double.NaN, 0.3)));
+    }
+
+    private static DataRow row(final double x, final double y) {
+        return new DefaultRow("Row", new DataCell[]{new DoubleCell(x), new DoubleCell(y)});
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   17 Oct 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.js.base.node.viz.tableeditor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeSettings;
+import org.knime.core.node.NodeSettingsWO;
+
+/**
+ * Tests saving and loading of {@link TableEditorChangesSettingsModel} in the legacy and the binary format.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+public class TableEditorChangesSettingsModelTest {
+
+    private static Map<String, Map<String, Object>> createChanges(final int numRows) {
+        Map<String, Map<String, Object>> changes = new LinkedHashMap<String, Map<String, Object>>();
+        for (int i = 0; i < numRows; i++) {
+            Map<String, Object> rowChanges = new HashMap<String, Object>();
+            rowChanges.put("int", i);
+            rowChanges.put("double", i / 2.0);
+            rowChanges.put("string", "value " + i);
+            if (i % 5 == 0) {
+                rowChanges.put("missing", null);
+            }
+            changes.put("Row" + i, rowChanges);
+        }
+        return changes;
+    }
+
+    private static TableEditorChangesSettingsModel saveAndLoad(final Map<String, Map<String, Object>> changes,
+        final NodeSettings settings) throws InvalidSettingsException {
+        TableEditorChangesSettingsModel model = new TableEditorChangesSettingsModel("editorChanges");
+        model.setChanges(changes);
+        model.saveSettingsTo(settings);
+        TableEditorChangesSettingsModel loaded = new TableEditorChangesSettingsModel("editorChanges");
+        loaded.loadSettingsFrom(settings);
+        return loaded;
+    }
+
+    /**
+     * Small change sets keep the readable settings layout.
+     *
+     * @throws InvalidSettingsException if the settings cannot be loaded
+     */
+    @Test
+    public void testLegacyFormat() throws InvalidSettingsException {
+        Map<String, Map<String, Object>> changes = createChanges(10);
+        NodeSettings settings = new NodeSettings("test");
+        TableEditorChangesSettingsModel loaded = saveAndLoad(changes, settings);
+        assertTrue(settings.getNodeSettings("editorChanges").containsKey("numRows"));
+        assertEquals(changes, loaded.getChanges());
+    }
+
+    /**
+     * Large change sets are stored in a single binary entry, which is written back without decoding it.
+     *
+     * @throws InvalidSettingsException if the settings cannot be loaded
+     */
+    @Test
+    public void testBinaryFormat() throws InvalidSettingsException {
+        Map<String, Map<String, Object>> changes = createChanges(TableEditorChangesSettingsModel.BINARY_FORMAT_THRESHOLD);
+        NodeSettings settings = new NodeSettings("test");
+        TableEditorChangesSettingsModel loaded = saveAndLoad(changes, settings);
+        assertFalse(settings.getNodeSettings("editorChanges").containsKey("numRows"));
+
+        NodeSettings resaved = new NodeSettings("test");
+        loaded.saveSettingsTo(resaved);
+        assertEquals(settings.getNodeSettings("editorChanges").getString("data"),
+            resaved.getNodeSettings("editorChanges").getString("data"));
+        assertEquals(changes, loaded.getChanges());
+    }
+
+    /**
+     * Long values keep their type in both formats.
+     *
+     * @throws InvalidSettingsException if the settings cannot be loaded
+     */
+    @Test
+    public void testLongValues() throws InvalidSettingsException {
+        for (int numRows : new int[]{10, TableEditorChangesSettingsModel.BINARY_FORMAT_THRESHOLD}) {
+            Map<String, Map<String, Object>> changes = createChanges(numRows);
+            changes.get("Row1").put("long", Long.MAX_VALUE);
+            changes.get("Row2").put("long", -1L);
+            TableEditorChangesSettingsModel loaded = saveAndLoad(changes, new NodeSettings("test"));
+            assertEquals(changes, loaded.getChanges());
+            assertEquals(Long.valueOf(Long.MAX_VALUE), loaded.getChanges().get("Row1").get("long"));
+        }
+    }
+
+    /**
+     * Binary changes with a mismatching hash are rejected.
+     *
+     * @throws InvalidSettingsException expected
+     */
+    @Test(expected = InvalidSettingsException.class)
+    public void testCorruptedBinaryFormat() throws InvalidSettingsException {
+        NodeSettings settings = new NodeSettings("test");
+        saveAndLoad(createChanges(TableEditorChangesSettingsModel.BINARY_FORMAT_THRESHOLD), settings);
+        NodeSettingsWO changeSettings = (NodeSettingsWO)settings.getNodeSettings("editorChanges");
+        changeSettings.addString("hash", "0");
+        new TableEditorChangesSettingsModel("editorChanges").loadSettingsFrom(settings);
+    }
+
+    /**
+     * Binary changes which are not valid Base64 are rejected.
+     *
+     * @throws InvalidSettingsException expected
+     */
+    @Test(expected = InvalidSettingsException.class)
+    public void testInvalidBase64() throws InvalidSettingsException {
+        NodeSettings settings = new NodeSettings("test");
+        saveAndLoad(createChanges(TableEditorChangesSettingsModel.BINARY_FORMAT_THRESHOLD), settings);
+        NodeSettingsWO changeSettings = (NodeSettingsWO)settings.getNodeSettings("editorChanges");
+        changeSettings.addString("data", "not base64!");
+        new TableEditorChangesSettingsModel("editorChanges").loadSettingsFrom(settings);
+    }
+}
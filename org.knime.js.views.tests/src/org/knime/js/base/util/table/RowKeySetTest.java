@@ -0,0 +1,143 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   17 Oct 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.js.base.util.table;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link RowKeySet}.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+public class RowKeySetTest {
+
+    /**
+     * Tests membership for empty, small and duplicate containing sets.
+     */
+    @Test
+    public void testContains() {
+        assertTrue(RowKeySet.of((String[])null).isEmpty());
+        assertFalse(RowKeySet.of(new String[0]).contains("Row0"));
+
+        RowKeySet set = RowKeySet.of("Row0", "Row1", null, "Row1", "Row42");
+        assertEquals(3, set.size());
+        assertTrue(set.contains("Row0"));
+        assertTrue(set.contains("Row1"));
+        assertTrue(set.contains("Row42"));
+        assertFalse(set.contains("Row2"));
+        assertFalse(set.contains(null));
+
+        String[] keys = createKeys(10000, 3);
+        set = RowKeySet.of(Arrays.asList(keys));
+        assertEquals(keys.length, set.size());
+        for (int i = 0; i < 30000; i++) {
+            assertEquals(i % 3 == 0, set.contains("Row" + i));
+        }
+    }
+
+    /**
+     * Tests that the list view keeps the original order and answers contains from the set.
+     */
+    @Test
+    public void testAsList() {
+        List<String> list = RowKeySet.of("Row2", "Row0", "Row1").asList();
+        assertEquals(Arrays.asList("Row2", "Row0", "Row1"), list);
+        assertTrue(list.contains("Row0"));
+        assertFalse(list.contains("Row3"));
+        assertFalse(list.contains(Integer.valueOf(0)));
+    }
+
+    /**
+     * Looks up every row of a large table in a selection of a tenth of its rows.
+     */
+    @Test
+    public void testLargeSelection() {
+        int numRows = 1000000;
+        RowKeySet selection = RowKeySet.of(createKeys(numRows / 10, 10));
+        int selected = 0;
+        for (String rowKey : createKeys(numRows, 1)) {
+            if (selection.contains(rowKey)) {
+                selected++;
+            }
+        }
+        assertEquals(numRows / 10, selected);
+    }
+
+    /**
+     * Checks that the average number of inspected slots per lookup does not grow with the number of selected rows,
+     * so looking up every row of a table takes time linear in the number of rows.
+     */
+    @Test
+    public void testLinearScaling() {
+        for (int numSelected = 1000; numSelected <= 1000000; numSelected *= 10) {
+            RowKeySet selection = RowKeySet.of(createKeys(numSelected, 2));
+            long probes = 0;
+            for (String rowKey : createKeys(2 * numSelected, 1)) {
+                probes += selection.countProbes(rowKey);
+            }
+            double averageProbes = (double)probes / (2 * numSelected);
+            assertTrue("Average number of probes per lookup is " + averageProbes + " for " + numSelected
+                + " selected rows", averageProbes < 4);
+        }
+    }
+
+    private static String[] createKeys(final int count, final int step) {
+        String[] keys = new String[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = "Row" + (i * step);
+        }
+        return keys;
+    }
+}
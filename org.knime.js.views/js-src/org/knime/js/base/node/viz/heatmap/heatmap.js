@@ -2,6 +2,9 @@ window.heatmapNamespace = (function () {
 
     var svgNS = 'http://www.w3.org/2000/svg';
     var xhtmlNS = 'http://www.w3.org/1999/xhtml';
+    // maximum number of rows (or row blocks) the node returns for a single page, see HeatMapTileCache
+    var MAX_LAZY_PAGE_SIZE = 10000;
+    var BLOCK_SIZE_SEPARATOR = ' \u00D7 ';
 
     var Heatmap = function () {
         this._representation = null;
@@ -42,6 +45,10 @@ window.heatmapNamespace = (function () {
         this._labelsMargins = false;
         this._previousDataLength = 0;
         this._colNames = [];
+        this._cellColNames = [];
+        // zoom level of the displayed cells with lazy loading, on level n a block aggregates 2^n x 2^n cells
+        this._level = 0;
+        this._blocks = null;
         this.intervalTime = 10;
         this.showProgressBarMaxPercentage = 20;
         this.titleHeight = 30;
@@ -75,8 +82,9 @@ window.heatmapNamespace = (function () {
         var repColNames = this._representation.table.spec.colNames;
         var self = this;
         this._representation.columns.forEach(function (hmColName) {
-            self._colNames[repColNames.indexOf(hmColName)] = hmColName;
+            self._cellColNames[repColNames.indexOf(hmColName)] = hmColName;
         });
+        this._colNames = this._cellColNames;
 
         this.toggleSubscribeFilter();
         this.toggleSubscribeSelection();
@@ -90,6 +98,11 @@ window.heatmapNamespace = (function () {
         this.drawChart();
         
         this.registerOneTimeEvents();
+
+        if (this._representation.enableLazyLoading && this.isRestoredPageMissing()) {
+            // the representation only contains the first page, a restored page has to be requested
+            this.requestPage();
+        }
     };
 
     Heatmap.prototype.getComponentValue = function () {
@@ -124,7 +137,8 @@ window.heatmapNamespace = (function () {
     };
 
     Heatmap.prototype.toggleSubscribeFilter = function () {
-        if (this._value.subscribeFilter) {
+        // a lazily loaded view only knows the rows of the current page and cannot apply filters
+        if (this._value.subscribeFilter && !this._representation.enableLazyLoading) {
             knimeService.subscribeToFilter(
                 this._table.getTableId(),
                 this.onFilterChange,
@@ -168,12 +182,19 @@ window.heatmapNamespace = (function () {
 
         this.styleSelectedRows();
 
-        if (this._value.showSelectedRowsOnly) {
+        if (this.isShowSelectedRowsOnly()) {
             this.drawChart();
             this.resetZoom(true);
         }
     };
 
+    /**
+     * @return {Boolean} true if only the selected rows are displayed, never the case with lazy loading
+     */
+    Heatmap.prototype.isShowSelectedRowsOnly = function () {
+        return this._value.showSelectedRowsOnly && !this._representation.enableLazyLoading;
+    };
+
     /**
      * Filter the available data to only the selected rows
      * @param {Array} data
@@ -181,7 +202,7 @@ window.heatmapNamespace = (function () {
      */
     Heatmap.prototype.getSelectionData = function (data) {
         var self = this;
-        if (this._value.showSelectedRowsOnly) {
+        if (this.isShowSelectedRowsOnly()) {
             return data.filter(function (row) {
                 return self._value.selection.indexOf(row.rowKey) > -1;
             });
@@ -209,9 +230,14 @@ window.heatmapNamespace = (function () {
         var progressBar = '<div class="progress-bar">Rendering ...<span class="progress"></span></div>';
         container.innerHTML = svgWrapper + infoWrapperEl + toolTipWrapper + progressBar;
 
-        var data = this._filteredData
-            ? this.getSelectionData(this._filteredData)
-            : this.getSelectionData(this._table.getRows());
+        var data;
+        if (this._blocks) {
+            data = this._blocks.rows;
+        } else {
+            data = this._filteredData
+                ? this.getSelectionData(this._filteredData)
+                : this.getSelectionData(this._table.getRows());
+        }
 
         // Meta info
         var paginationData = this.createPagination(data);
@@ -489,16 +515,18 @@ window.heatmapNamespace = (function () {
             knimeService.addMenuDivider();
         }
 
-        knimeService.addMenuItem(
-            'Subscribe to filter',
-            knimeService.createStackedIcon('filter', 'angle-double-right', 'faded right sm', 'left bold'),
-            knimeService.createMenuCheckbox('subscribeFilterCheckbox', this._value.subscribeFilter, function () {
-                self._value.subscribeFilter = this.checked;
-                self.toggleSubscribeFilter();
-            })
-        );
+        if (!this._representation.enableLazyLoading) {
+            knimeService.addMenuItem(
+                'Subscribe to filter',
+                knimeService.createStackedIcon('filter', 'angle-double-right', 'faded right sm', 'left bold'),
+                knimeService.createMenuCheckbox('subscribeFilterCheckbox', this._value.subscribeFilter, function () {
+                    self._value.subscribeFilter = this.checked;
+                    self.toggleSubscribeFilter();
+                })
+            );
 
-        knimeService.addMenuDivider();
+            knimeService.addMenuDivider();
+        }
         if (this._representation.enableColorModeEdit) {
             var updateScaleType = function () {
                 self._value.continuousGradient = this.value === 'linear';
@@ -528,7 +556,12 @@ window.heatmapNamespace = (function () {
             var pageSize = knimeService.createMenuSelect('pageSize', this._value.initialPageSize, options, function () {
                 var isNewSizeSmaller = this.value < self._value.initialPageSize;
                 self._value.initialPageSize = this.value;
-                self.drawChart();
+                if (self._representation.enableLazyLoading) {
+                    self._value.currentPage = 1;
+                    self.requestPage();
+                } else {
+                    self.drawChart();
+                }
                 if (isNewSizeSmaller) {
                     // prevent not showing any rows
                     self.resetZoom(true);
@@ -537,6 +570,22 @@ window.heatmapNamespace = (function () {
 
             knimeService.addMenuItem('Rows per Page', 'table', pageSize);
         }
+
+        if (this._representation.enableLazyLoading && this._representation.numLevels > 1) {
+            var levelOptions = [];
+            for (var level = 0; level < this._representation.numLevels; level++) {
+                levelOptions.push(Math.pow(2, level) + BLOCK_SIZE_SEPARATOR + Math.pow(2, level));
+            }
+            var levelSelect = knimeService.createMenuSelect('levelOfDetail', levelOptions[this._level], levelOptions,
+                function () {
+                    self._level = levelOptions.indexOf(this.value);
+                    self._value.currentPage = 1;
+                    // cell sizes and label margins depend on the number of displayed blocks
+                    self.reset();
+                    self.requestPage();
+                });
+            knimeService.addMenuItem('Cells per Block', 'th-large', levelSelect);
+        }
     };
 
     Heatmap.prototype.togglePanningClass = function () {
@@ -647,7 +696,11 @@ window.heatmapNamespace = (function () {
                 if (e.target.tagName === 'A') {
                     var pageNumber = parseInt(e.target.getAttribute('href').substr(1), 10);
                     self._value.currentPage = pageNumber;
-                    self.drawChart();
+                    if (self._representation.enableLazyLoading) {
+                        self.requestPage();
+                    } else {
+                        self.drawChart();
+                    }
                 }
             });
         }
@@ -725,6 +778,167 @@ window.heatmapNamespace = (function () {
         };
     };
 
+    /**
+     * Requests the rows of the current page from the node, only used with lazy loading enabled
+     */
+    Heatmap.prototype.requestPage = function () {
+        var self = this;
+        var pageSize = this.getLazyPageSize();
+        var request = {
+            '@class': 'org.knime.js.base.node.viz.heatmap.HeatMapViewRequest',
+            level: this._level,
+            start: pageSize * (this._value.currentPage - 1),
+            length: pageSize,
+            // all column blocks of the level
+            columnStart: 0,
+            columnLength: 0
+        };
+        knimeService.requestViewUpdate(request).then(function (response) {
+            if (response.error) {
+                knimeService.setWarningMessage(response.error);
+                return;
+            }
+            if (response.level > 0) {
+                self.setBlocks(response);
+            } else {
+                self.setBlocks(null);
+                self._table.setDataTable(response.table);
+            }
+            self._filteredData = null;
+            self.drawChart();
+        });
+    };
+
+    /**
+     * Displays the aggregated blocks of a response instead of the rows of the table, or the rows again if null.
+     * A block is labelled by the first and last row key (or column name) it covers.
+     * @param {Object} response the response of an aggregated level
+     */
+    Heatmap.prototype.setBlocks = function (response) {
+        if (!response) {
+            this._blocks = null;
+            this._colNames = this._cellColNames;
+            return;
+        }
+        var getRangeLabel = function (range) {
+            return range[0] === range[1] ? range[0] : range[0] + ' \u2013 ' + range[1];
+        };
+        var columns = response.columnRanges.map(getRangeLabel);
+        var rowsByKey = {};
+        var rows = response.values.map(function (values, i) {
+            var row = {
+                rowKey: getRangeLabel(response.rowKeyRanges[i]),
+                data: values,
+                index: response.start + i,
+                rowKeyRange: response.rowKeyRanges[i]
+            };
+            rowsByKey[row.rowKey] = row;
+            return row;
+        });
+        this._blocks = {
+            columns: columns,
+            rows: rows,
+            rowsByKey: rowsByKey
+        };
+        this._colNames = columns;
+    };
+
+    /**
+     * @return {Array} the names of the displayed columns, or the labels of the column blocks on aggregated levels
+     */
+    Heatmap.prototype.getDisplayedColumns = function () {
+        return this._blocks ? this._blocks.columns : this._representation.columns;
+    };
+
+    /**
+     * Selects all rows covered by a block, they are resolved by the node. If all of them are selected already,
+     * they are removed from the selection instead.
+     * @param {String} blockKey the label of the block
+     * @param {Boolean} keepCurrentSelections true to add to the current selection
+     */
+    Heatmap.prototype.selectBlock = function (blockKey, keepCurrentSelections) {
+        var self = this;
+        var block = this._blocks.rowsByKey[blockKey];
+        if (!block) {
+            return;
+        }
+        var request = {
+            '@class': 'org.knime.js.base.node.viz.heatmap.HeatMapViewRequest',
+            level: this._level,
+            start: block.index,
+            length: 1,
+            resolveRowKeys: true
+        };
+        knimeService.requestViewUpdate(request).then(function (response) {
+            if (response.error) {
+                knimeService.setWarningMessage(response.error);
+                return;
+            }
+            var tableId = self._table.getTableId();
+            var keys = response.rowKeys;
+            var allSelected = keys.every(function (key) {
+                return self._value.selection.indexOf(key) > -1;
+            });
+            if (allSelected && keys.length) {
+                self._value.selection = self._value.selection.filter(function (rowId) {
+                    return keys.indexOf(rowId) === -1;
+                });
+                if (self._value.publishSelection) {
+                    knimeService.removeRowsFromSelection(tableId, keys);
+                }
+            } else {
+                var added = keys.filter(function (key) {
+                    return self._value.selection.indexOf(key) === -1;
+                });
+                if (!keepCurrentSelections) {
+                    self._value.selection = [];
+                    if (self._value.publishSelection) {
+                        knimeService.setSelectedRows(tableId, []);
+                    }
+                    added = keys;
+                }
+                self._value.selection = self._value.selection.concat(added);
+                if (self._value.publishSelection) {
+                    knimeService.addRowsToSelection(tableId, added);
+                }
+            }
+            self.styleSelectedRows();
+        });
+    };
+
+    /**
+     * @param {String} rowId the row key, or the label of a block on aggregated levels
+     * @return {Boolean} true if the row is selected, a block is selected if its first and last row are
+     */
+    Heatmap.prototype.isRowSelected = function (rowId) {
+        if (this._blocks && this._blocks.rowsByKey[rowId]) {
+            var range = this._blocks.rowsByKey[rowId].rowKeyRange;
+            return this._value.selection.indexOf(range[0]) > -1 && this._value.selection.indexOf(range[1]) > -1;
+        }
+        return this._value.selection.indexOf(rowId) > -1;
+    };
+
+    /**
+     * The size of the pages requested with lazy loading enabled, capped to the maximum the node serves at once
+     */
+    Heatmap.prototype.getLazyPageSize = function () {
+        if (this._value.initialPageSize === 'all') {
+            return MAX_LAZY_PAGE_SIZE;
+        }
+        return Math.min(parseInt(this._value.initialPageSize, 10), MAX_LAZY_PAGE_SIZE);
+    };
+
+    /**
+     * @returns {Boolean} true if the rows of the current page differ from the first page sent with the representation
+     */
+    Heatmap.prototype.isRestoredPageMissing = function () {
+        if (this._value.currentPage > 1) {
+            return true;
+        }
+        var rowCount = this._representation.table.rows.length;
+        return rowCount !== Math.min(this.getLazyPageSize(), this._representation.rowCount);
+    };
+
     /**
      * Create very basic pagination data from rows
      * @param {Array} data
@@ -734,6 +948,23 @@ window.heatmapNamespace = (function () {
         if (!this._representation.enablePaging || !data) {
             return { rows: data };
         }
+        if (this._representation.enableLazyLoading) {
+            // the table only contains the rows of the current page, the total comes from the node
+            var lazyPageSize = this.getLazyPageSize();
+            // on aggregated levels the pages consist of row blocks
+            var totalRowCount = Math.ceil(this._representation.rowCount / Math.pow(2, this._level));
+            var lazyStartIndex = lazyPageSize * (this._value.currentPage - 1);
+            var lazyEndIndex = Math.min(lazyStartIndex + lazyPageSize, totalRowCount);
+            return {
+                totalRowCount: totalRowCount,
+                rows: data,
+                pageCount: Math.ceil(totalRowCount / lazyPageSize),
+                pageRowEndIndex: lazyEndIndex,
+                pageRowStartIndex: lazyStartIndex,
+                next: lazyEndIndex < totalRowCount ? this._value.currentPage + 1 : false,
+                prev: lazyStartIndex > 0 ? this._value.currentPage - 1 : false
+            };
+        }
         var pageSize = this._value.initialPageSize === 'all' ? data.length : this._value.initialPageSize;
 
         var pageCount = Math.ceil(data.length / pageSize);
@@ -791,13 +1022,13 @@ window.heatmapNamespace = (function () {
         var allValues = rows.reduce(function (accumulator, row) {
             rowNames.push(row.rowKey);
 
-            var label = self._representation.labelColumn
+            var label = self._representation.labelColumn && !self._blocks
                 ? self._table.getCell(row.rowKey, self._representation.labelColumn)
                 : row.rowKey;
             rowLabels.push(label);
 
             // Storing images in an separate array is enough
-            if (self._representation.svgLabelColumn) {
+            if (self._representation.svgLabelColumn && !self._blocks) {
                 rowLabelImages[row.rowKey] = self._table.getCell(row.rowKey, self._representation.svgLabelColumn);
             }
 
@@ -843,7 +1074,9 @@ window.heatmapNamespace = (function () {
         var value;
         var cell = {};
         if (xVal && yVal) {
-            value = this._table.getCell(yVal, xVal);
+            value = this._blocks
+                ? this._blocks.rowsByKey[yVal].data[xIndex]
+                : this._table.getCell(yVal, xVal);
 
             cell = {
                 x: xVal,
@@ -885,8 +1118,8 @@ window.heatmapNamespace = (function () {
         return {
             x: d3
                 .scaleBand()
-                .range([this._margin.left, this._representation.columns.length * this._cellWidth + this._margin.left])
-                .domain(this._representation.columns),
+                .range([this._margin.left, this.getDisplayedColumns().length * this._cellWidth + this._margin.left])
+                .domain(this.getDisplayedColumns()),
             y: d3
                 .scaleBand()
                 .domain(formattedDataset.rowNames)
@@ -1333,7 +1566,7 @@ window.heatmapNamespace = (function () {
             this._cellWidth = Math.max(
                 this._minCellSize,
                 (containerWidth - this._margin.left - this._margin.right - extraAxisLabelBuffer) /
-                this._representation.columns.length
+                this.getDisplayedColumns().length
             );
             this._cellHeight = Math.max(
                 this._minCellSize,
@@ -1504,7 +1737,7 @@ window.heatmapNamespace = (function () {
         axisWrapper
             .selectAll('.knime-axis.knime-y .knime-tick')
             .attr('class', function (d) {
-                if (self._value.selection.indexOf(d) > -1) {
+                if (self.isRowSelected(d)) {
                     return 'knime-tick active';
                 } else {
                     return 'knime-tick';
@@ -1533,7 +1766,7 @@ window.heatmapNamespace = (function () {
             var imageModeMarginTop = this._scales.y.domain().length * this._cellHeight +
                 this._margin.top + this._legendTopMargin;
             var calcImageHeight = imageModeMarginTop + this._legendHeight + imageMargin;
-            var calcImageWidth = this._representation.columns.length * this._cellWidth +
+            var calcImageWidth = this.getDisplayedColumns().length * this._cellWidth +
                 this._margin.left + this._margin.right + imageMargin;
             svg.attr('viewBox', '0 0 ' + calcImageWidth + ' ' + calcImageHeight);
             if (this._representation.imageHeight) {
@@ -1734,6 +1967,10 @@ window.heatmapNamespace = (function () {
      * @return {Undefined}
      */
     Heatmap.prototype.selectDeltaRow = function (selectedRowId) {
+        if (this._blocks) {
+            this.selectBlock(selectedRowId, true);
+            return;
+        }
         if (!this._value.selection.length) {
             // Delta selection is not possible if no row is selected
             return;
@@ -1784,6 +2021,11 @@ window.heatmapNamespace = (function () {
         // Cast optional parameter to boolean
         keepCurrentSelections = Boolean(keepCurrentSelections);
 
+        if (this._blocks) {
+            this.selectBlock(selectedRowId, keepCurrentSelections);
+            return;
+        }
+
         if (!keepCurrentSelections) {
             // Remove all selections
             this._value.selection = [];
@@ -1809,7 +2051,7 @@ window.heatmapNamespace = (function () {
             }
         }
 
-        if (this._value.showSelectedRowsOnly) {
+        if (this.isShowSelectedRowsOnly()) {
             this.drawChart();
         }
     };
@@ -1819,9 +2061,18 @@ window.heatmapNamespace = (function () {
         d3.selectAll('.knime-axis.knime-y .knime-tick').attr('class', 'knime-tick');
 
         // Style row labels
-        this._value.selection.forEach(function (selectedRowId) {
-            d3.select('.knime-axis.knime-y [data-id="' + selectedRowId + '"]').attr('class', 'knime-tick active');
-        });
+        if (this._blocks) {
+            this._blocks.rows.forEach(function (block) {
+                if (self.isRowSelected(block.rowKey)) {
+                    d3.select('.knime-axis.knime-y [data-id="' + block.rowKey + '"]')
+                        .attr('class', 'knime-tick active');
+                }
+            });
+        } else {
+            this._value.selection.forEach(function (selectedRowId) {
+                d3.select('.knime-axis.knime-y [data-id="' + selectedRowId + '"]').attr('class', 'knime-tick active');
+            });
+        }
 
         // remove row highlighters
         var rowHighlighters = document.querySelectorAll('.row-highlighter');
@@ -1836,7 +2087,7 @@ window.heatmapNamespace = (function () {
         var selectionEnded = true;
         var yDomain = this._scales.y.domain();
         yDomain.forEach(function (rowId, rowIndex) {
-            if (self._value.selection.indexOf(rowId) > -1) {
+            if (self.isRowSelected(rowId)) {
                 if (!startRowId && selectionEnded) {
                     selectionEnded = false;
                     startRowId = rowId;
@@ -1858,7 +2109,7 @@ window.heatmapNamespace = (function () {
         highlighter.setAttribute('y', startPosition);
         highlighter.setAttribute('x', this._margin.left);
         highlighter.setAttribute('height', endPosition - startPosition);
-        highlighter.setAttribute('width', this._representation.columns.length * this._cellWidth);
+        highlighter.setAttribute('width', this.getDisplayedColumns().length * this._cellWidth);
         highlighter.setAttribute('borderWidth', this.getCurrentStrokeWidth());
         var container = document.querySelector('.highlighters');
         if (container) {
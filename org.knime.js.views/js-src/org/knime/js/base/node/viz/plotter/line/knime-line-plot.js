@@ -29,6 +29,12 @@ window.knimeLinePlot = (function () {
     var errorSvgId = 'errorSvg';
     var MAX_COLUMNS = 200;
 
+    // delay before the rows of a zoomed x range are requested, so zooming with the mouse wheel sends one request
+    var ZOOM_REQUEST_DELAY = 300;
+    var zoomRequestTimer = null;
+    // the x range whose rows are currently displayed or requested, null for the rows of the representation
+    var zoomedRange = null;
+
     var initialAxisBounds,
 
         /**
@@ -36,7 +42,8 @@ window.knimeLinePlot = (function () {
          */
         drawControls, drawChart, buildXYDataset, tooManyColumnsError, getJsfcColor, createDateFormatter,
         setChartDimensions, checkWarningMessages, updateTitle, updateSubtitle, setTitles, updateXAxisLabel,
-        updateYAxisLabel, updateChart, setAxisBoundsToValue, drawSeries, resize, changeLineSize;
+        updateYAxisLabel, updateChart, setAxisBoundsToValue, drawSeries, resize, changeLineSize, createKeyedDataset,
+        onZoom, requestZoomedRows, showRows;
 
     // eslint-disable-next-line
     view.init = function (representation, value) {
@@ -54,55 +61,8 @@ window.knimeLinePlot = (function () {
         try {
             // console.time("Parse and build 2DDataset");
             // console.time("Total init time");
-            _keyedDataset = new jsfc.KeyedValues2DDataset();
-            // _keyedDataset.load(_representation.keyedDataset);
-            var columnKey, col, symbolKey, propertyKey, id;
-
-            for (var rowIndex = 0; rowIndex < _representation.keyedDataset.rows.length; rowIndex++) {
-                var rowKey = _representation.keyedDataset.rows[rowIndex].rowKey;
-                var row = _representation.keyedDataset.rows[rowIndex];
-                var properties = row.properties;
-                for (col = 0; col < _representation.keyedDataset.columnKeys.length; col++) {
-                    columnKey = _representation.keyedDataset.columnKeys[col];
-                    _keyedDataset.add(rowKey, columnKey, row.values[col]);
-                }
-                for (propertyKey in properties) {
-                    _keyedDataset.setRowProperty(rowKey, propertyKey, properties[propertyKey]);
-                }
-            }
-
-            for (col = 0; col < _representation.keyedDataset.columnKeys.length; col++) {
-                columnKey = _representation.keyedDataset.columnKeys[col];
-                var symbolProp = _representation.keyedDataset.symbols[col];
-                if (symbolProp) {
-                    var symbols = [];
-                    for (symbolKey in symbolProp) {
-                        symbols.push({
-                            symbol: symbolProp[symbolKey],
-                            value: symbolKey
-                        });
-                    }
-                    _keyedDataset.setColumnProperty(columnKey, 'symbols', symbols);
-                }
-                var columnColor = _representation.keyedDataset.columnColors[col];
-                if (columnColor) {
-                    _keyedDataset.setColumnProperty(columnKey, 'color', columnColor);
-                }
-                var dateTimeFormat = _representation.keyedDataset.dateTimeFormats[col];
-                if (dateTimeFormat) {
-                    _keyedDataset.setColumnProperty(columnKey, 'date', dateTimeFormat);
-                }
-            }
-
-            if (_value.selection) {
-                for (var selection = 0; selection < _value.selection.length; selection++) {
-                    for (col = 0; col < _representation.keyedDataset.columnKeys.length; col++) {
-                        // Select all cols of selected row
-                        _keyedDataset.select('selection', _value.selection[selection],
-                            _representation.keyedDataset.columnKeys[col]);
-                    }
-                }
-            }
+            var id;
+            _keyedDataset = createKeyedDataset(_representation.keyedDataset.rows);
 
             // Set locale for moment.js.
             if (_representation.dateTimeFormats.globalDateTimeLocale !== 'en') {
@@ -166,6 +126,64 @@ window.knimeLinePlot = (function () {
         }
     };
 
+    /**
+     * Creates the dataset of the given rows, with the column properties of the representation and the current
+     * selection.
+     * @param {Array} rows the keyed dataset rows
+     * @returns {jsfc.KeyedValues2DDataset} the dataset
+     */
+    createKeyedDataset = function (rows) {
+        var dataset = new jsfc.KeyedValues2DDataset();
+        var columnKey, col, symbolKey, propertyKey;
+
+        for (var rowIndex = 0; rowIndex < rows.length; rowIndex++) {
+            var rowKey = rows[rowIndex].rowKey;
+            var row = rows[rowIndex];
+            var properties = row.properties;
+            for (col = 0; col < _representation.keyedDataset.columnKeys.length; col++) {
+                columnKey = _representation.keyedDataset.columnKeys[col];
+                dataset.add(rowKey, columnKey, row.values[col]);
+            }
+            for (propertyKey in properties) {
+                dataset.setRowProperty(rowKey, propertyKey, properties[propertyKey]);
+            }
+        }
+
+        for (col = 0; col < _representation.keyedDataset.columnKeys.length; col++) {
+            columnKey = _representation.keyedDataset.columnKeys[col];
+            var symbolProp = _representation.keyedDataset.symbols[col];
+            if (symbolProp) {
+                var symbols = [];
+                for (symbolKey in symbolProp) {
+                    symbols.push({
+                        symbol: symbolProp[symbolKey],
+                        value: symbolKey
+                    });
+                }
+                dataset.setColumnProperty(columnKey, 'symbols', symbols);
+            }
+            var columnColor = _representation.keyedDataset.columnColors[col];
+            if (columnColor) {
+                dataset.setColumnProperty(columnKey, 'color', columnColor);
+            }
+            var dateTimeFormat = _representation.keyedDataset.dateTimeFormats[col];
+            if (dateTimeFormat) {
+                dataset.setColumnProperty(columnKey, 'date', dateTimeFormat);
+            }
+        }
+
+        if (_value.selection) {
+            for (var selection = 0; selection < _value.selection.length; selection++) {
+                for (col = 0; col < _representation.keyedDataset.columnKeys.length; col++) {
+                    // Select all cols of selected row
+                    dataset.select('selection', _value.selection[selection],
+                        _representation.keyedDataset.columnKeys[col]);
+                }
+            }
+        }
+        return dataset;
+    };
+
     buildXYDataset = function () {
         // console.time("Building XYDataset");
         var xyDataset;
@@ -463,6 +481,83 @@ window.knimeLinePlot = (function () {
             yMin: yAxis.getLowerBound(),
             yMax: yAxis.getUpperBound()
         };
+
+        // the representation only holds the rows downsampled from the whole x range, the rows of a zoomed range
+        // are requested from the node
+        if (_representation.enableDownsampling && knimeService && knimeService.requestViewUpdate) {
+            plot.addListener(onZoom);
+        }
+    };
+
+    /**
+     * Called on every change of the plot, requests the rows of the displayed x range if it changed.
+     */
+    onZoom = function () {
+        // with the row index as x value the position of a row depends on the displayed rows
+        if (!_value.xColumn) {
+            return;
+        }
+        var xAxis = chartManager.getChart().getPlot().getXAxis();
+        var range = { xMin: xAxis.getLowerBound(), xMax: xAxis.getUpperBound() };
+        var current = zoomedRange || initialAxisBounds;
+        if (range.xMin === current.xMin && range.xMax === current.xMax) {
+            return;
+        }
+        clearTimeout(zoomRequestTimer);
+        zoomRequestTimer = setTimeout(function () {
+            requestZoomedRows(range);
+        }, ZOOM_REQUEST_DELAY);
+    };
+
+    /**
+     * Requests the rows of the given x range downsampled by the node, or restores the rows of the representation if
+     * the range covers the whole x range again.
+     * @param {Object} range the x range with xMin and xMax
+     */
+    requestZoomedRows = function (range) {
+        if (range.xMin <= initialAxisBounds.xMin && range.xMax >= initialAxisBounds.xMax) {
+            if (zoomedRange) {
+                zoomedRange = null;
+                showRows(_representation.keyedDataset.rows);
+            }
+            return;
+        }
+        zoomedRange = range;
+        var request = {
+            '@class': 'org.knime.js.base.node.viz.plotter.line.LinePlotViewRequest',
+            xColumn: _value.xColumn,
+            yColumns: _value.yColumns,
+            xMin: range.xMin,
+            xMax: range.xMax
+        };
+        knimeService.requestViewUpdate(request).then(function (response) {
+            // ignore responses to ranges the view is not zoomed to anymore
+            if (zoomedRange !== range) {
+                return;
+            }
+            if (response.error) {
+                knimeService.setWarningMessage(response.error);
+                return;
+            }
+            showRows(response.rows);
+        });
+    };
+
+    /**
+     * Replaces the displayed rows, keeping the axis ranges and the selection.
+     * @param {Array} rows the keyed dataset rows to display
+     */
+    showRows = function (rows) {
+        _value.selection = getSelection();
+        _keyedDataset = createKeyedDataset(rows);
+        if (_value.yColumns.length > MAX_COLUMNS) {
+            return;
+        }
+        xMissingValuesCount = 0;
+        yMissingValues = [];
+        chartManager.getChart().getPlot().setDataset(buildXYDataset(), false);
+        chartManager.refreshDisplay();
+        checkWarningMessages();
     };
 
     checkIncludeOrigin = function (yAxis) {
@@ -510,6 +605,13 @@ window.knimeLinePlot = (function () {
 
     updateChart = function () {
         isEmptyPlot = true;
+        if (zoomedRange) {
+            // the rows of the zoomed range were downsampled for the previous columns
+            clearTimeout(zoomRequestTimer);
+            zoomedRange = null;
+            _value.selection = getSelection();
+            _keyedDataset = createKeyedDataset(_representation.keyedDataset.rows);
+        }
         var plot = chartManager.getChart().getPlot();
         var dataset;
         if (_value.yColumns.length > MAX_COLUMNS) {
@@ -578,7 +578,9 @@ window.knimeScatterPlotSelectionAppender = (function () {
         if (_representation.enableSelection && _value.showSelectedOnly) {
             applyFilter();
         }
-        if (knimeService.isInteractivityAvailable()) {
+        // the rows of a binned dataset are bins, which cannot be exchanged with other views
+        var interactivityAvailable = knimeService.isInteractivityAvailable() && !_representation.enableBinning;
+        if (interactivityAvailable) {
             if (_representation.enableSelection && _value.subscribeSelection) {
                 knimeService.subscribeToSelection(_representation.keyedDataset.id, selectionChanged);
             }
@@ -691,7 +693,7 @@ window.knimeScatterPlotSelectionAppender = (function () {
             }
             pre = true;
         }
-        if (knimeService.isInteractivityAvailable()) {
+        if (interactivityAvailable) {
             if (pre) {
                 knimeService.addMenuDivider();
             }
@@ -858,7 +860,7 @@ window.knimeScatterPlotSelectionAppender = (function () {
     };
 
     publishSelection = function () {
-        if (_value.publishSelection) {
+        if (_value.publishSelection && !_representation.enableBinning) {
             knimeService.setSelectedRows(_representation.keyedDataset.id, getSelection(), selectionChanged);
         }
     };
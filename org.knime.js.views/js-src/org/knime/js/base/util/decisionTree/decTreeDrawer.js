@@ -222,33 +222,107 @@ function DecTreeDrawer(representation, value) {
     		}
     		return d3.sum(childCounts);
     	} else {
-    		if (!selection.empty() && d.rowKeys.length > 0) {
-    			var i, selected = 0;
-    			for (i = 0; i < d.rowKeys.length; i++) {
-    				if (selection.has(d.rowKeys[i])) {
-    					selected++;
-    				}
-    			}
-    			d.fracSelected = selected / d.rowKeys.length;
+    		if (!selection.empty() && leafRowCount(d) > 0) {
+    			d.fracSelected = countSelected(d) / leafRowCount(d);
     		}
     		leafs.push(d);
-    		return d.rowKeys.length;
+    		return leafRowCount(d);
     	}
     }
     
+    // the row keys of the leafs are only sent with the representation for small tables
+    function leafRowCount(d) {
+    	return d.rowKeys ? d.rowKeys.length : d.rowCount;
+    }
+    
+    // leafs without row keys use the number of selected rows counted by the node
+    function countSelected(d) {
+    	if (!d.rowKeys) {
+    		return d.selectedCount || 0;
+    	}
+    	var i, selected = 0;
+    	for (i = 0; i < d.rowKeys.length; i++) {
+    		if (selection.has(d.rowKeys[i])) {
+    			selected++;
+    		}
+    	}
+    	return selected;
+    }
+    
+    function containedLeafs(d) {
+    	if (!hasChildren(d)) {
+    		return [d];
+    	}
+    	var i, children = getChildren(d), result = [];
+    	for (i = 0; i < children.length; i++) {
+    		result = result.concat(containedLeafs(children[i]));
+    	}
+    	return result;
+    }
+    
+    /*
+     * Requests the row keys of all given leafs that don't have them yet from the node
+     * and calls callback once all row keys are available.
+     */
+    function ensureRowKeys(leafList, callback) {
+    	var missing = leafList.filter(function(d) { return !d.rowKeys; });
+    	if (missing.length === 0 || !knimeService || !knimeService.requestViewUpdate) {
+    		callback();
+    		return;
+    	}
+    	var request = {
+    		'@class': 'org.knime.js.base.node.viz.decisiontree.classification.DecisionTreeViewRequest',
+    		leafIds: missing.map(function(d) { return d.name; })
+    	};
+    	knimeService.requestViewUpdate(request).then(function(response) {
+    		if (response.error) {
+    			knimeService.setWarningMessage(response.error);
+    			return;
+    		}
+    		for (var i = 0; i < missing.length; i++) {
+    			missing[i].rowKeys = response.rowKeys[i];
+    		}
+    		callback();
+    	});
+    }
+    
+    /*
+     * Sends the current selection to the node to count the selected rows of all given leafs
+     * that don't have their row keys and calls callback once the counts are available.
+     */
+    function requestSelectedCounts(leafList, callback) {
+    	var missing = leafList.filter(function(d) { return !d.rowKeys; });
+    	if (missing.length === 0 || selection.empty() || !knimeService || !knimeService.requestViewUpdate) {
+    		missing.forEach(function(d) { d.selectedCount = 0; });
+    		callback();
+    		return;
+    	}
+    	var request = {
+    		'@class': 'org.knime.js.base.node.viz.decisiontree.classification.DecisionTreeViewRequest',
+    		leafIds: missing.map(function(d) { return d.name; }),
+    		selectedKeys: selection.values()
+    	};
+    	knimeService.requestViewUpdate(request).then(function(response) {
+    		if (response.error) {
+    			knimeService.setWarningMessage(response.error);
+    			return;
+    		}
+    		for (var i = 0; i < missing.length; i++) {
+    			missing[i].selectedCount = response.selectedCounts[i];
+    		}
+    		callback();
+    	});
+    }
+    
     applySelectionFromLeafs = function() {
     	var j, nl = leafs.length, totalMatched = 0, nsel = selection.size();
     	for (j = 0; j < nl; j++) {
-    		var i, selected = 0, d = leafs[j], nKeys = d.rowKeys.length;
+    		var d = leafs[j], nKeys = leafRowCount(d);
     		if (totalMatched >= nsel) {
     			break;
     		}
-    		for (i = 0; i < nKeys; i++) {
-    			if (selection.has(d.rowKeys[i])) {
-    				selected++;
-    				totalMatched++;
-    			}
-    		}
+    		var selected = countSelected(d);
+    		totalMatched += selected;
     		// update fraction that is selected
     		var oldFrac = d.fracSelected;
     		if (nKeys == 0) {
@@ -279,6 +353,15 @@ function DecTreeDrawer(representation, value) {
     }
     
     traverseAndCollect(decTree.root, setup);
+    if (!selection.empty() && leafs.some(function(d) { return !d.rowKeys; })) {
+    	// a selection stored in the view value is counted per leaf by the node
+    	requestSelectedCounts(leafs, function() {
+    		applySelectionFromLeafs();
+    		if (dtd.update) {
+    			dtd.update(decTree.root);
+    		}
+    	});
+    }
     
     function getNodeStatus(d) {
     	var nodeId = d.name;
@@ -337,7 +420,7 @@ function DecTreeDrawer(representation, value) {
     	}
     	// if leaf node return contained rowKeys
     	if (!hasChildren(d)) {
-    		return d.rowKeys;
+    		return d.rowKeys || [];
     	}
     	rowKeys = [];
     	children = getChildren(d);
@@ -554,20 +637,17 @@ function DecTreeDrawer(representation, value) {
     	} else {
     		selection = d3.set();
     	}
+    	requestSelectedCounts(leafs, applySelectionChange);
+    }
+    
+    function applySelectionChange() {
     	traverseAndCollect(decTree.root, function(d) {
     		if (hasChildren(d)) {
     			// inner node
     			updateSelectionFractionFromChildren(d);
     		} else {
     			// leaf
-    			var selected = 0;
-    			for (var i = 0; i < d.rowKeys.length; i++) {
-    				if (selection.has(d.rowKeys[i])) {
-    					selected++;
-    				}
-    			}
-    			
-    			var frac = selected / d.rowKeys.length;
+    			var frac = countSelected(d) / leafRowCount(d);
     			if (isNaN(frac)) {
     				d.fracSelected = 0;
     			} else {
@@ -1071,15 +1151,17 @@ function DecTreeDrawer(representation, value) {
         }
         
         function selectClick(d) {
-        	if (d.fracSelected > 0) {
-        		d.isSelected = false;
-        		unselect(d);
-        	} else {
-        		d.isSelected = true;
-        		select(d);
-        	}
-        	update(d);
-        	checkClearSelectionButton();
+        	ensureRowKeys(containedLeafs(d), function() {
+        		if (d.fracSelected > 0) {
+        			d.isSelected = false;
+        			unselect(d);
+        		} else {
+        			d.isSelected = true;
+        			select(d);
+        		}
+        		update(d);
+        		checkClearSelectionButton();
+        	});
         }
         
     }
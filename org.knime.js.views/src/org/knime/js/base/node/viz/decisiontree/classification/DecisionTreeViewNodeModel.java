@@ -54,21 +54,18 @@
 import org.knime.base.data.xml.SvgCell;
 import org.knime.base.node.mine.decisiontree2.PMMLDecisionTreeTranslator;
 import org.knime.base.node.mine.decisiontree2.model.DecisionTree;
-import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
-import org.knime.core.data.DataColumnSpecCreator;
-import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
-import org.knime.core.data.DataType;
-import org.knime.core.data.container.CellFactory;
 import org.knime.core.data.container.ColumnRearranger;
-import org.knime.core.data.container.SingleCellFactory;
-import org.knime.core.data.def.BooleanCell;
 import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeLogger;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.interactive.ViewRequestHandlingException;
 import org.knime.core.node.port.PortObject;
 import org.knime.core.node.port.PortObjectHolder;
 import org.knime.core.node.port.PortObjectSpec;
@@ -82,6 +79,9 @@
 import org.knime.core.node.web.ValidationError;
 import org.knime.core.node.wizard.CSSModifiable;
 import org.knime.core.pmml.PMMLModelType;
+import org.knime.js.base.util.table.RowKeySet;
+import org.knime.js.base.util.table.SelectionCellFactory;
+import org.knime.js.core.JSONViewRequestHandler;
 import org.knime.js.core.layout.LayoutTemplateProvider;
 import org.knime.js.core.layout.bs.JSONLayoutViewContent;
 import org.knime.js.core.layout.bs.JSONLayoutViewContent.ResizeMethod;
@@ -93,7 +93,10 @@
  * @author Adrian Nembach, KNIME.com
  */
 public class DecisionTreeViewNodeModel extends AbstractSVGWizardNodeModel<DecisionTreeViewRepresentation,
-        DecisionTreeViewValue> implements PortObjectHolder, LayoutTemplateProvider, CSSModifiable {
+        DecisionTreeViewValue> implements PortObjectHolder, LayoutTemplateProvider, CSSModifiable,
+        JSONViewRequestHandler<DecisionTreeViewRequest, DecisionTreeViewResponse> {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(DecisionTreeViewNodeModel.class);
 
     private static final String[] EMPTY_SELECTION = new String[0];
 
@@ -103,6 +106,8 @@ public class DecisionTreeViewNodeModel extends AbstractSVGWizardNodeModel<Decisi
 
     private BufferedDataTable m_table;
 
+    private LeafRowIndex m_leafRowIndex;
+
     /**
      * Default constructor for this node model.
      * @param viewName the view name
@@ -255,15 +260,20 @@ protected void performExecuteCreateView(final PortObject[] inObjects, final Exec
             // test if re-execute (tree is already set in that case.
             if (getViewRepresentation().getTree() == null) {
                 copyConfigToView();
-                writeTreeToRepresentation();
+                writeTreeToRepresentation(exec);
             }
         }
     }
 
-    private void writeTreeToRepresentation() throws Exception {
+    private static DecisionTree getDecisionTree(final PMMLPortObject pmmlTree) {
         PMMLDecisionTreeTranslator trans = new PMMLDecisionTreeTranslator();
-        m_pmmlTree.initializeModelTranslator(trans);
-        DecisionTree decTree = trans.getDecisionTree();
+        pmmlTree.initializeModelTranslator(trans);
+        return trans.getDecisionTree();
+    }
+
+    private void writeTreeToRepresentation(final ExecutionMonitor exec) throws Exception {
+        final PMMLPortObject pmmlTree = m_pmmlTree;
+        DecisionTree decTree = getDecisionTree(pmmlTree);
 
         JSDecisionTreeTranslater jsTrans = new JSDecisionTreeTranslater();
         JSDecisionTree jsDecTree;
@@ -272,8 +282,11 @@ private void writeTreeToRepresentation() throws Exception {
             if (maxRows < m_table.size()) {
                 setWarningMessage("Only the first " + maxRows + " rows are displayed in the view.");
             }
-            jsDecTree = jsTrans.translate(decTree, m_table, maxRows);
+            // only the number of rows per leaf goes into the representation, the row keys are requested by the view
+            m_leafRowIndex = jsTrans.createLeafRowIndex(() -> getDecisionTree(pmmlTree), m_table, maxRows, exec);
+            jsDecTree = jsTrans.translate(decTree, m_leafRowIndex);
         } else {
+            m_leafRowIndex = null;
             jsDecTree = jsTrans.translate(decTree);
         }
         int[] nodeStatus = m_config.getNodeStatus();
@@ -310,32 +323,10 @@ protected PortObject[] performExecuteCreatePortObjects(final PortObject svgImage
     }
 
     private ColumnRearranger createColumnAppender(final DataTableSpec spec, final List<String> selectionList) {
-        String newColName = m_config.getSelectionColumnName();
-        if (newColName == null || newColName.trim().isEmpty()) {
-            newColName = DecisionTreeViewConfig.DEFAULT_SELECTION_COLUMN_NAME;
-        }
-        newColName = DataTableSpec.getUniqueColumnName(spec, newColName);
-        DataColumnSpec outColumnSpec =
-            new DataColumnSpecCreator(newColName, DataType.getType(BooleanCell.class)).createSpec();
+        DataColumnSpec outColumnSpec = SelectionCellFactory.createSelectionColumnSpec(spec,
+            m_config.getSelectionColumnName(), DecisionTreeViewConfig.DEFAULT_SELECTION_COLUMN_NAME);
         ColumnRearranger rearranger = new ColumnRearranger(spec);
-        CellFactory fac = new SingleCellFactory(outColumnSpec) {
-
-            private int m_rowIndex = 0;
-
-            @Override
-            public DataCell getCell(final DataRow row) {
-                if (++m_rowIndex > m_config.getMaxRows()) {
-                    return DataType.getMissingCell();
-                }
-                if (selectionList != null) {
-                    if (selectionList.contains(row.getKey().toString())) {
-                        return BooleanCell.TRUE;
-                    }
-                }
-                return BooleanCell.FALSE;
-            }
-        };
-        rearranger.append(fac);
+        rearranger.append(new SelectionCellFactory(outColumnSpec, selectionList, m_config.getMaxRows()));
         return rearranger;
     }
 
@@ -354,6 +345,54 @@ protected boolean generateImage() {
     protected void performReset() {
         m_pmmlTree = null;
         m_table = null;
+        m_leafRowIndex = null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DecisionTreeViewRequest createEmptyViewRequest() {
+        return new DecisionTreeViewRequest();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DecisionTreeViewResponse handleRequest(final DecisionTreeViewRequest request, final ExecutionMonitor exec)
+        throws ViewRequestHandlingException, InterruptedException, CanceledExecutionException {
+        final DecisionTreeViewResponse response = new DecisionTreeViewResponse(request);
+        final LeafRowIndex index;
+        final BufferedDataTable table;
+        try {
+            synchronized (getLock()) {
+                if (m_leafRowIndex == null && m_table != null && m_pmmlTree != null) {
+                    // the view was restored without executing the view part again
+                    final PMMLPortObject pmmlTree = m_pmmlTree;
+                    m_leafRowIndex = new JSDecisionTreeTranslater().createLeafRowIndex(
+                        () -> getDecisionTree(pmmlTree), m_table, m_config.getMaxRows(), exec);
+                }
+                index = m_leafRowIndex;
+                table = m_table;
+            }
+            if (index == null || table == null || request.getLeafIds() == null) {
+                response.setError("No row keys available, the node is not executed or has no input table.");
+                return response;
+            }
+            if (request.getSelectedKeys() != null) {
+                response.setSelectedCounts(index.countSelected(table, request.getLeafIds(),
+                    RowKeySet.of(request.getSelectedKeys()), exec));
+            } else {
+                response.setRowKeys(index.resolveRowKeys(table, request.getLeafIds(), exec));
+            }
+        } catch (CanceledExecutionException e) {
+            throw e;
+        } catch (Exception e) {
+            LOGGER.error("Could not resolve row keys of decision tree leafs: " + e.getMessage(), e);
+            throw new ViewRequestHandlingException(e);
+        }
+        return response;
     }
 
     /**
@@ -466,7 +505,7 @@ public void setInternalPortObjects(final PortObject[] portObjects) {
         }
         if (m_pmmlTree != null && representation != null) {
             try {
-                writeTreeToRepresentation();
+                writeTreeToRepresentation(new ExecutionMonitor());
             } catch (Exception e) {
                 // TODO error handling
             }
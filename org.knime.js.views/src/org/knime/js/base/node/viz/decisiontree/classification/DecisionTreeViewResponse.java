@@ -0,0 +1,174 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   17 Oct 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.js.base.node.viz.decisiontree.classification;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.knime.js.core.JSONViewResponse;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+/**
+ * Response to a {@link DecisionTreeViewRequest} containing the keys of the rows covered by the requested leafs or, if
+ * the request contains a selection, the number of selected rows of every requested leaf.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+@JsonAutoDetect
+@JsonTypeInfo(use = JsonTypeInfo.Id.CLASS, include = JsonTypeInfo.As.PROPERTY, property = "@class")
+public class DecisionTreeViewResponse extends JSONViewResponse<DecisionTreeViewRequest> {
+
+    private int[] m_leafIds;
+    private String[][] m_rowKeys;
+    private int[] m_selectedCounts;
+    private String m_error;
+
+    /**
+     * @param viewRequest
+     */
+    public DecisionTreeViewResponse(final DecisionTreeViewRequest viewRequest) {
+        super(viewRequest);
+        if (viewRequest != null) {
+            m_leafIds = viewRequest.getLeafIds();
+        }
+    }
+
+    /**
+     * @return the ids (names) of the leafs contained in the response
+     */
+    public int[] getLeafIds() {
+        return m_leafIds;
+    }
+
+    /**
+     * @param leafIds the ids (names) of the leafs to set
+     */
+    public void setLeafIds(final int[] leafIds) {
+        m_leafIds = leafIds;
+    }
+
+    /**
+     * @return the row keys of every leaf, in the order of the leaf ids
+     */
+    public String[][] getRowKeys() {
+        return m_rowKeys;
+    }
+
+    /**
+     * @param rowKeys the row keys to set
+     */
+    public void setRowKeys(final String[][] rowKeys) {
+        m_rowKeys = rowKeys;
+    }
+
+    /**
+     * @return the number of selected rows of every leaf, in the order of the leaf ids
+     */
+    public int[] getSelectedCounts() {
+        return m_selectedCounts;
+    }
+
+    /**
+     * @param selectedCounts the selected counts to set
+     */
+    public void setSelectedCounts(final int[] selectedCounts) {
+        m_selectedCounts = selectedCounts;
+    }
+
+    /**
+     * @return an error message if the request could not be served, null otherwise
+     */
+    public String getError() {
+        return m_error;
+    }
+
+    /**
+     * @param error the error message to set
+     */
+    public void setError(final String error) {
+        m_error = error;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj == this) {
+            return true;
+        }
+        if (obj.getClass() != getClass()) {
+            return false;
+        }
+        DecisionTreeViewResponse other = (DecisionTreeViewResponse)obj;
+        return new EqualsBuilder()
+                .append(m_leafIds, other.m_leafIds)
+                .append(m_rowKeys, other.m_rowKeys)
+                .append(m_selectedCounts, other.m_selectedCounts)
+                .append(m_error, other.m_error)
+                .isEquals();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder()
+                .append(m_leafIds)
+                .append(m_rowKeys)
+                .append(m_selectedCounts)
+                .append(m_error)
+                .toHashCode();
+    }
+
+}
@@ -40,6 +40,8 @@ public class JSDecisionTreeNode {
 
 	private String[] m_rowKeys;
 
+	private int m_rowCount;
+
 	@JsonCreator
     public JSDecisionTreeNode(@JsonProperty("name") final Integer id, @JsonProperty("parent") final Integer parentId,
         @JsonProperty("children") final JSDecisionTreeNode[] children,
@@ -126,6 +128,7 @@ public boolean equals(final Object obj) {
 	            .append(m_content, other.m_content)
 	            .append(m_name, other.m_name)
 	            .append(m_parent, other.m_parent)
+	            .append(m_rowCount, other.m_rowCount)
 	            .isEquals();
 	}
 
@@ -140,6 +143,7 @@ public int hashCode() {
 	            .append(m_content)
 	            .append(m_name)
 	            .append(m_parent)
+	            .append(m_rowCount)
 	            .toHashCode();
 	}
 
@@ -157,4 +161,18 @@ public void setRowKeys(final String[] rowKeys) {
         m_rowKeys = rowKeys;
     }
 
+    /**
+     * @return the number of rows covered by a leaf, also set if the row keys are resolved on request only
+     */
+    public int getRowCount() {
+        return m_rowCount;
+    }
+
+    /**
+     * @param rowCount the number of covered rows to set
+     */
+    public void setRowCount(final int rowCount) {
+        m_rowCount = rowCount;
+    }
+
 }
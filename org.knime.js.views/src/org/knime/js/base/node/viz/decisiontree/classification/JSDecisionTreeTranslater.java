@@ -3,12 +3,18 @@
  */
 package org.knime.js.base.node.viz.decisiontree.classification;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
 import org.knime.base.node.mine.decisiontree2.PMMLPredicate;
 import org.knime.base.node.mine.decisiontree2.model.DecisionTree;
@@ -19,7 +25,12 @@
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.RowKey;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.container.filter.TableFilter;
 import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.util.ThreadPool;
 
 /**
  * Translates a {@link DecisionTree} to a {@link JSDecisionTree}.
@@ -29,6 +40,9 @@
  */
 public class JSDecisionTreeTranslater {
 
+    /** Minimum number of rows classified by a single thread. */
+    private static final int MIN_CHUNK_SIZE = 100000;
+
     /**
      * Returns a {@link JSDecisionTree} that stores for each row in <b>table</b> the {@link RowKey} in the
      * leaf the row belongs to in <b>decisionTree</b>
@@ -52,9 +66,118 @@ public JSDecisionTree translate(final DecisionTree decisionTree, final BufferedD
 
     }
 
+    /**
+     * Classifies the first <b>numberOfRows</b> rows of <b>table</b> and records for every leaf the indices of the rows
+     * it covers. In contrast to {@link #translate(DecisionTree, BufferedDataTable, int)} the tree is not modified and
+     * no row keys are kept in memory.
+     *
+     * <p>
+     * The table is split into consecutive chunks which are classified in parallel. Every chunk uses its own decision
+     * tree obtained from <b>treeSupplier</b> on the calling thread, as the predicates of a tree are not guaranteed to
+     * be thread-safe. The
+     * indices of the chunks are appended in table order afterwards.
+     * </p>
+     *
+     * @param treeSupplier creates a new instance of the KNIME {@link DecisionTree} to view in the JavaScript view
+     * @param table {@link BufferedDataTable} containing rows that can be classified by the decision tree.
+     * @param numberOfRows only the first <b>numberOfRows</b> are classified
+     * @param exec the monitor to report progress to
+     * @return the index of the rows covered by each leaf
+     * @throws Exception thrown if something went wrong (e.g. the table is not compatible with the decision tree).
+     */
+    LeafRowIndex createLeafRowIndex(final Supplier<DecisionTree> treeSupplier, final BufferedDataTable table,
+        final int numberOfRows, final ExecutionMonitor exec) throws Exception {
+        final DataTableSpec tableSpec = table.getDataTableSpec();
+        final int size = (int)Math.min(numberOfRows, table.size());
+        final int threads = Math.max(1, Runtime.getRuntime().availableProcessors());
+        final int chunkSize = Math.max(MIN_CHUNK_SIZE, (int)(((long)size + threads - 1) / threads));
+        final AtomicLong processed = new AtomicLong();
+        final ThreadPool pool = KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool();
+        final List<Future<LeafRowIndex>> futures = new ArrayList<>();
+        for (int from = 0; from < size; from += chunkSize) {
+            final int first = from;
+            final int end = Math.min(size, from + chunkSize);
+            final DecisionTreeNode rootNode = treeSupplier.get().getRootNode();
+            futures.add(pool.enqueue(() -> {
+                exec.checkCanceled();
+                final LeafRowIndex index = new LeafRowIndex();
+                try (CloseableRowIterator it =
+                    table.filter(TableFilter.filterRangeOfRows(first, end - 1L)).iterator()) {
+                    for (int i = first; i < end && it.hasNext(); i++) {
+                        final DecisionTreeNode leaf = findLeaf(rootNode, it.next(), tableSpec);
+                        if (leaf != null) {
+                            index.add(leaf.getOwnIndex(), i);
+                        }
+                        if (((i - first + 1) & 0x3FF) == 0) {
+                            exec.checkCanceled();
+                            exec.setProgress((double)processed.addAndGet(0x400) / size);
+                        }
+                    }
+                }
+                return index;
+            }));
+        }
+        try {
+            return pool.runInvisible(() -> {
+                final LeafRowIndex index = new LeafRowIndex();
+                for (Future<LeafRowIndex> f : futures) {
+                    index.append(f.get());
+                }
+                return index;
+            });
+        } catch (ExecutionException e) {
+            futures.forEach(f -> f.cancel(true));
+            Throwable cause = e.getCause() instanceof ExecutionException ? e.getCause().getCause() : e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception)cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the leaf a row is classified to, i.e. the leaf reached by following the first child whose predicate
+     * evaluates to true.
+     *
+     * @return the leaf or null if at some split no predicate evaluates to true (e.g. due to missing values)
+     */
+    static DecisionTreeNode findLeaf(final DecisionTreeNode root, final DataRow row, final DataTableSpec spec) {
+        DecisionTreeNode node = root;
+        while (!(node instanceof DecisionTreeNodeLeaf)) {
+            assert node instanceof DecisionTreeNodeSplitPMML : "Currently only PMML split nodes are supported.";
+            final PMMLPredicate[] childConditions = ((DecisionTreeNodeSplitPMML)node).getSplitPred();
+            int child = -1;
+            for (int i = 0; i < childConditions.length; i++) {
+                if (Boolean.TRUE.equals(childConditions[i].evaluate(row, spec))) {
+                    child = i;
+                    break;
+                }
+            }
+            if (child < 0) {
+                return null;
+            }
+            node = node.getChildAt(child);
+        }
+        return node;
+    }
+
+    /**
+     * Translates <b>decisionTree</b> to a {@link JSDecisionTree} whose leafs only contain the number of covered
+     * rows. The row keys are resolved on request using <b>index</b>.
+     *
+     * @param decisionTree the KNIME {@link DecisionTree} to view in the JavaScript view
+     * @param index the covered rows of the leafs
+     * @return the translated tree
+     */
+    JSDecisionTree translate(final DecisionTree decisionTree, final LeafRowIndex index) {
+        return translate(decisionTree.getRootNode(), index);
+    }
+
 	public JSDecisionTree translate(final DecisionTree decisionTree) {
+		return translate(decisionTree.getRootNode(), null);
+	}
 
-		final DecisionTreeNode rootNode = decisionTree.getRootNode();
+	private JSDecisionTree translate(final DecisionTreeNode rootNode, final LeafRowIndex index) {
 		LinkedHashMap<DataCell, Double> rootClassCounts = rootNode.getClassCounts();
 		String[] classNames = new String[rootClassCounts.size()];
 		final Map<DataCell, Integer> classMapper = new HashMap<>();
@@ -66,15 +189,21 @@ public JSDecisionTree translate(final DecisionTree decisionTree) {
 		}
 		final JSDecisionTreeMetaData meta = new JSDecisionTreeMetaData(classNames);
 
-		final JSDecisionTreeNode root = translateNode(rootNode, null, null, classMapper);
+		final JSDecisionTreeNode root = translateNode(rootNode, null, null, classMapper, index);
 		return new JSDecisionTree(root, meta);
 	}
 
 	private JSDecisionTreeNode translateNode(final DecisionTreeNode node,
 			final Integer parentName, final PMMLPredicate condition,
-			final Map<DataCell, Integer> classMapper) {
+			final Map<DataCell, Integer> classMapper, final LeafRowIndex index) {
 		int name = node.getOwnIndex();
 		final JSNodeContent content = translateNodeContent(node, classMapper);
+		if (node instanceof DecisionTreeNodeLeaf && index != null) {
+		    // row keys are resolved lazily
+		    JSDecisionTreeNode jsLeaf = new JSDecisionTreeNode(name, parentName, null, content, condition, null);
+		    jsLeaf.setRowCount(index.getRowCount(name));
+		    return jsLeaf;
+		}
 		if (node instanceof DecisionTreeNodeLeaf) {
 		    DecisionTreeNodeLeaf leaf = (DecisionTreeNodeLeaf)node;
 		    Set<RowKey> rowKeys = leaf.coveredPattern();
@@ -84,7 +213,9 @@ private JSDecisionTreeNode translateNode(final DecisionTreeNode node,
 		        rowKeyStrings[i] = iterator.next().getString();
 		    }
 			// stop recursion at leafs
-			return new JSDecisionTreeNode(name, parentName, null, content, condition, rowKeyStrings);
+			JSDecisionTreeNode jsLeaf = new JSDecisionTreeNode(name, parentName, null, content, condition, rowKeyStrings);
+			jsLeaf.setRowCount(rowKeyStrings.length);
+			return jsLeaf;
 		}
 
 		// deal with children
@@ -93,7 +224,7 @@ private JSDecisionTreeNode translateNode(final DecisionTreeNode node,
 		PMMLPredicate[] childConditions = pmmlSplitNode.getSplitPred();
 		JSDecisionTreeNode[] children = new JSDecisionTreeNode[childConditions.length];
 		for (int i = 0; i < childConditions.length; i++) {
-			children[i] = translateNode(node.getChildAt(i), name, childConditions[i], classMapper);
+			children[i] = translateNode(node.getChildAt(i), name, childConditions[i], classMapper, index);
 		}
 		return new JSDecisionTreeNode(name, parentName, children, content, condition, null);
 	}
@@ -0,0 +1,263 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   17 Oct 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.js.base.node.viz.decisiontree.classification;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.container.filter.TableFilter;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.js.base.util.table.RowKeySet;
+
+/**
+ * Stores for every leaf of a decision tree the indices of the rows it covers. The indices are kept as sorted runs of
+ * consecutive rows, so a leaf covering a contiguous block of a sorted table only needs two integers. The row keys
+ * themselves are only resolved from the table when they are requested.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+final class LeafRowIndex {
+
+    private static final int[] EMPTY_RUNS = new int[0];
+
+    private final Map<Integer, Runs> m_leafs = new HashMap<Integer, Runs>();
+
+    /**
+     * Adds a row to a leaf. The rows of a leaf have to be added in ascending order.
+     *
+     * @param leafId the id of the leaf
+     * @param rowIndex the index of the row in the table
+     */
+    void add(final int leafId, final int rowIndex) {
+        Runs runs = m_leafs.get(leafId);
+        if (runs == null) {
+            runs = new Runs();
+            m_leafs.put(leafId, runs);
+        }
+        runs.add(rowIndex);
+    }
+
+    /**
+     * Appends the rows of another index, all of which have to come after the rows of this index.
+     *
+     * @param other the index of the subsequent rows
+     */
+    void append(final LeafRowIndex other) {
+        for (Map.Entry<Integer, Runs> e : other.m_leafs.entrySet()) {
+            final Runs runs = m_leafs.get(e.getKey());
+            if (runs == null) {
+                m_leafs.put(e.getKey(), e.getValue());
+            } else {
+                runs.append(e.getValue());
+            }
+        }
+    }
+
+    /**
+     * @param leafId the id of the leaf
+     * @return the number of rows covered by the leaf
+     */
+    int getRowCount(final int leafId) {
+        final Runs runs = m_leafs.get(leafId);
+        return runs == null ? 0 : runs.m_rowCount;
+    }
+
+    /**
+     * @param leafId the id of the leaf
+     * @return the covered rows as pairs of first (inclusive) and last (exclusive) row index
+     */
+    int[] getRuns(final int leafId) {
+        final Runs runs = m_leafs.get(leafId);
+        return runs == null ? EMPTY_RUNS : Arrays.copyOf(runs.m_runs, runs.m_size);
+    }
+
+    /**
+     * Resolves the keys of the rows covered by the given leafs in a single pass over the table, which stops after the
+     * last covered row.
+     *
+     * @param table the table the index was created for
+     * @param leafIds the ids of the leafs to resolve
+     * @param exec the monitor to check for cancellation
+     * @return the row keys of every requested leaf, in the order of <b>leafIds</b>
+     * @throws CanceledExecutionException if the execution was canceled
+     */
+    String[][] resolveRowKeys(final BufferedDataTable table, final int[] leafIds, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        final String[][] rowKeys = new String[leafIds.length][];
+        for (int l = 0; l < leafIds.length; l++) {
+            rowKeys[l] = new String[getRowCount(leafIds[l])];
+        }
+        final int[] filled = new int[leafIds.length];
+        scan(table, leafIds, (l, key) -> rowKeys[l][filled[l]++] = key, exec);
+        return rowKeys;
+    }
+
+    /**
+     * Counts the selected rows covered by the given leafs in a single pass over the table, which stops after the last
+     * covered row.
+     *
+     * @param table the table the index was created for
+     * @param leafIds the ids of the leafs to count
+     * @param selection the keys of the selected rows
+     * @param exec the monitor to check for cancellation
+     * @return the number of selected rows of every requested leaf, in the order of <b>leafIds</b>
+     * @throws CanceledExecutionException if the execution was canceled
+     */
+    int[] countSelected(final BufferedDataTable table, final int[] leafIds, final RowKeySet selection,
+        final ExecutionMonitor exec) throws CanceledExecutionException {
+        final int[] counts = new int[leafIds.length];
+        if (!selection.isEmpty()) {
+            scan(table, leafIds, (l, key) -> {
+                if (selection.contains(key)) {
+                    counts[l]++;
+                }
+            }, exec);
+        }
+        return counts;
+    }
+
+    /**
+     * Reads the keys of the rows covered by the given leafs. The runs of all leafs are sorted by their first row and
+     * walked along with the table, so only the runs are held in memory.
+     */
+    private void scan(final BufferedDataTable table, final int[] leafIds, final RowKeyConsumer consumer,
+        final ExecutionMonitor exec) throws CanceledExecutionException {
+        int numRuns = 0;
+        for (int leafId : leafIds) {
+            final Runs runs = m_leafs.get(leafId);
+            numRuns += runs == null ? 0 : runs.m_size / 2;
+        }
+        if (numRuns == 0) {
+            return;
+        }
+        // first row of every run in the upper, position in the result in the lower half
+        final long[] order = new long[numRuns];
+        final int[] ends = new int[numRuns];
+        final int[] owners = new int[numRuns];
+        int n = 0;
+        for (int l = 0; l < leafIds.length; l++) {
+            final Runs runs = m_leafs.get(leafIds[l]);
+            for (int r = 0; runs != null && r < runs.m_size; r += 2) {
+                order[n] = ((long)runs.m_runs[r] << 32) | n;
+                ends[n] = runs.m_runs[r + 1];
+                owners[n] = l;
+                n++;
+            }
+        }
+        Arrays.sort(order);
+        int end = 0;
+        for (int e : ends) {
+            end = Math.max(end, e);
+        }
+        final int first = (int)(order[0] >>> 32);
+        int run = 0;
+        try (CloseableRowIterator it = table.filter(TableFilter.filterRangeOfRows(first, end - 1)).iterator()) {
+            for (int i = first; i < end && it.hasNext(); i++) {
+                final String key = it.next().getKey().getString();
+                while (ends[(int)order[run]] <= i) {
+                    run++;
+                }
+                final int r = (int)order[run];
+                if ((int)(order[run] >>> 32) <= i) {
+                    consumer.accept(owners[r], key);
+                }
+                if ((i & 0x3FF) == 0) {
+                    exec.checkCanceled();
+                }
+            }
+        }
+    }
+
+    /** Receives the key of a covered row together with the position of its leaf in the request. */
+    @FunctionalInterface
+    private interface RowKeyConsumer {
+        void accept(int leafPosition, String rowKey);
+    }
+
+    /** Growable array of runs of row indices. */
+    private static final class Runs {
+
+        private int[] m_runs = new int[2];
+        private int m_size;
+        private int m_rowCount;
+
+        void add(final int rowIndex) {
+            m_rowCount++;
+            if (m_size > 0 && m_runs[m_size - 1] == rowIndex) {
+                // extends the last run
+                m_runs[m_size - 1] = rowIndex + 1;
+                return;
+            }
+            if (m_size == m_runs.length) {
+                m_runs = Arrays.copyOf(m_runs, m_size * 2);
+            }
+            m_runs[m_size++] = rowIndex;
+            m_runs[m_size++] = rowIndex + 1;
+        }
+
+        void append(final Runs other) {
+            m_rowCount += other.m_rowCount;
+            int r = 0;
+            if (m_size > 0 && other.m_size > 0 && m_runs[m_size - 1] == other.m_runs[0]) {
+                // the first run of the other rows continues the last run
+                m_runs[m_size - 1] = other.m_runs[1];
+                r = 2;
+            }
+            if (m_size + other.m_size - r > m_runs.length) {
+                m_runs = Arrays.copyOf(m_runs, m_size + other.m_size - r);
+            }
+            System.arraycopy(other.m_runs, r, m_runs, m_size, other.m_size - r);
+            m_size += other.m_size - r;
+        }
+    }
+
+}
@@ -51,9 +51,6 @@
 import java.util.NoSuchElementException;
 
 import org.apache.commons.lang3.StringUtils;
-import org.eclipse.core.runtime.IConfigurationElement;
-import org.eclipse.core.runtime.IExtensionRegistry;
-import org.eclipse.core.runtime.Platform;
 import org.knime.base.data.xml.SvgCell;
 import org.knime.base.util.flowvariable.FlowVariableProvider;
 import org.knime.base.util.flowvariable.FlowVariableResolver;
@@ -70,6 +67,8 @@
 import org.knime.core.node.port.inactive.InactiveBranchPortObjectSpec;
 import org.knime.core.node.web.ValidationError;
 import org.knime.core.node.wizard.CSSModifiable;
+import org.knime.dynamic.js.WebResourceIndex;
+import org.knime.dynamic.js.WebResourceIndex.WebResource;
 import org.knime.js.core.JSONDataTable;
 import org.knime.js.core.node.AbstractSVGWizardNodeModel;
 
@@ -156,35 +155,17 @@ private String parseTextAndReplaceVariables() throws InvalidSettingsException {
         return flowVarCorrectedText;
     }
 
-    private static final String ID_WEB_RES = "org.knime.js.core.webResources";
-
-    private static final String ATTR_RES_BUNDLE_ID = "webResourceBundleID";
-
-    private static final String ID_IMPORT_RES = "importResource";
-
-    private static final String ATTR_PATH = "relativePath";
-
-    private static final String ATTR_TYPE = "type";
-
     private void setPathsFromLibNames(final String[] libNames) {
         ArrayList<String> jsPaths = new ArrayList<String>();
         ArrayList<String> cssPaths = new ArrayList<String>();
         for (String lib : libNames) {
-            IConfigurationElement confElement = getConfigurationFromWebResID(lib);
-            if (confElement != null) {
-                for (IConfigurationElement resElement : confElement.getChildren(ID_IMPORT_RES)) {
-                    String path = resElement.getAttribute(ATTR_PATH);
-                    String type = resElement.getAttribute(ATTR_TYPE);
-                    if (path != null && type != null) {
-                        if (type.equalsIgnoreCase("javascript")) {
-                            jsPaths.add(path);
-                        } else if (type.equalsIgnoreCase("css")) {
-                            cssPaths.add(path);
-                        }
-                    } else {
-                        setWarningMessage("Required library " + lib + " is not correctly configured");
-                    }
+            WebResource webResource = WebResourceIndex.getInstance().get(lib);
+            if (webResource != null) {
+                if (!webResource.isCorrectlyConfigured()) {
+                    setWarningMessage("Required library " + lib + " is not correctly configured");
                 }
+                jsPaths.addAll(webResource.getJSPaths());
+                cssPaths.addAll(webResource.getCSSPaths());
             } else {
                 setWarningMessage("Required library is not registered: " + lib);
             }
@@ -194,17 +175,6 @@ private void setPathsFromLibNames(final String[] libNames) {
         representation.setCssDependencies(cssPaths.toArray(new String[0]));
     }
 
-    private IConfigurationElement getConfigurationFromWebResID(final String id) {
-        IExtensionRegistry registry = Platform.getExtensionRegistry();
-        IConfigurationElement[] configurationElements = registry.getConfigurationElementsFor(ID_WEB_RES);
-        for (IConfigurationElement element : configurationElements) {
-            if (id.equals(element.getAttribute(ATTR_RES_BUNDLE_ID))) {
-                return element;
-            }
-        }
-        return null;
-    }
-
     /**
      * {@inheritDoc}
      */
@@ -53,9 +53,6 @@
 import java.util.NoSuchElementException;
 
 import org.apache.commons.lang3.StringUtils;
-import org.eclipse.core.runtime.IConfigurationElement;
-import org.eclipse.core.runtime.IExtensionRegistry;
-import org.eclipse.core.runtime.Platform;
 import org.knime.base.data.xml.SvgCell;
 import org.knime.base.util.flowvariable.FlowVariableProvider;
 import org.knime.base.util.flowvariable.FlowVariableResolver;
@@ -78,6 +75,8 @@
 import org.knime.core.node.web.ValidationError;
 import org.knime.core.node.wizard.CSSModifiable;
 import org.knime.core.node.workflow.FlowVariable.Type;
+import org.knime.dynamic.js.WebResourceIndex;
+import org.knime.dynamic.js.WebResourceIndex.WebResource;
 import org.knime.js.base.node.viz.generic3.GenericJSViewValue.FlowVariableValue;
 import org.knime.js.core.JSCorePlugin;
 import org.knime.js.core.JSONDataTable;
@@ -242,38 +241,21 @@ public String readString(final FlowVariableProvider model, final String varName)
 
 
 
-    private static final String ID_WEB_RES = "org.knime.js.core.webResources";
-
-    private static final String ATTR_RES_BUNDLE_ID = "webResourceBundleID";
-
-    private static final String ID_IMPORT_RES = "importResource";
-
-    private static final String ATTR_PATH = "relativePath";
-
-    private static final String ATTR_TYPE = "type";
-
     private void setPathsFromLibNames(final String[] libNames) {
         ArrayList<String> jsPaths = new ArrayList<String>();
         ArrayList<String> jsExports = new ArrayList<String>();
         ArrayList<String> cssPaths = new ArrayList<String>();
         for (String lib : libNames) {
-            IConfigurationElement confElement = getConfigurationFromWebResID(lib);
-            if (confElement != null) {
-                String exports = confElement.getAttribute("exports");
-                for (IConfigurationElement resElement : confElement.getChildren(ID_IMPORT_RES)) {
-                    String path = resElement.getAttribute(ATTR_PATH);
-                    String type = resElement.getAttribute(ATTR_TYPE);
-                    if (path != null && type != null) {
-                        if (type.equalsIgnoreCase("javascript")) {
-                            jsPaths.add(path);
-                            jsExports.add(exports);
-                        } else if (type.equalsIgnoreCase("css")) {
-                            cssPaths.add(path);
-                        }
-                    } else {
-                        setWarningMessage("Required library " + lib + " is not correctly configured");
-                    }
+            WebResource webResource = WebResourceIndex.getInstance().get(lib);
+            if (webResource != null) {
+                if (!webResource.isCorrectlyConfigured()) {
+                    setWarningMessage("Required library " + lib + " is not correctly configured");
                 }
+                for (String path : webResource.getJSPaths()) {
+                    jsPaths.add(path);
+                    jsExports.add(webResource.getExports());
+                }
+                cssPaths.addAll(webResource.getCSSPaths());
             } else {
                 setWarningMessage("Required library is not registered: " + lib);
             }
@@ -284,17 +266,6 @@ private void setPathsFromLibNames(final String[] libNames) {
         representation.setCssDependencies(cssPaths.toArray(new String[0]));
     }
 
-    private static IConfigurationElement getConfigurationFromWebResID(final String id) {
-        IExtensionRegistry registry = Platform.getExtensionRegistry();
-        IConfigurationElement[] configurationElements = registry.getConfigurationElementsFor(ID_WEB_RES);
-        for (IConfigurationElement element : configurationElements) {
-            if (id.equals(element.getAttribute(ATTR_RES_BUNDLE_ID))) {
-                return element;
-            }
-        }
-        return null;
-    }
-
     private void setFlowVariablesInView() {
         Map<String, FlowVariableValue> variableMap = new HashMap<String, FlowVariableValue>();
         for (OutFlowVariableField vF : m_config.getOutVarList()) {
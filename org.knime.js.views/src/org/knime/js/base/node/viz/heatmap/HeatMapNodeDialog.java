@@ -56,6 +56,7 @@
 
 import javax.swing.BorderFactory;
 import javax.swing.JCheckBox;
+import javax.swing.JComboBox;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
 import javax.swing.JSpinner;
@@ -141,6 +142,8 @@ public class HeatMapNodeDialog extends NodeDialogPane {
     private final JCheckBox m_enablePageSizeChangeCheckBox;
     private final JTextField m_allowedPageSizesTextField;
     private final JCheckBox m_pageSizeShowAllCheckBox;
+    private final JCheckBox m_enableLazyLoadingCheckBox;
+    private final JComboBox<String> m_aggregationMethodComboBox;
     private final JCheckBox m_enableZoomCheckBox;
     private final JCheckBox m_enablePanningCheckBox;
     private final JCheckBox m_showZoomResetButtonCheckBox;
@@ -231,6 +234,10 @@ public void setColor(final Color newValue) {
         m_enablePageSizeChangeCheckBox.addChangeListener(e -> enablePaging());
         m_allowedPageSizesTextField = new JTextField(TEXT_FIELD_SIZE);
         m_pageSizeShowAllCheckBox = new JCheckBox("Add \"All\" option to page sizes");
+        m_enableLazyLoadingCheckBox = new JCheckBox("Enable lazy loading");
+        m_enableLazyLoadingCheckBox.addChangeListener(e -> enableLazyLoading());
+        m_aggregationMethodComboBox = new JComboBox<String>(
+            new String[]{HeatMapViewConfig.AGGREGATION_MEAN, HeatMapViewConfig.AGGREGATION_MAX});
         m_enableZoomCheckBox = new JCheckBox("Enable zooming");
         m_enablePanningCheckBox = new JCheckBox("Enable panning");
         m_showZoomResetButtonCheckBox = new JCheckBox("Show zoom reset button");
@@ -294,6 +301,8 @@ protected void saveSettingsTo(final NodeSettingsWO settings) throws InvalidSetti
         m_config.setEnablePageSizeChange(m_enablePageSizeChangeCheckBox.isSelected());
         m_config.setAllowedPageSizes(getAllowedPageSizes());
         m_config.setEnableShowAll(m_pageSizeShowAllCheckBox.isSelected());
+        m_config.setEnableLazyLoading(m_enableLazyLoadingCheckBox.isSelected());
+        m_config.setAggregationMethod((String)m_aggregationMethodComboBox.getSelectedItem());
         m_config.setEnableZoom(m_enableZoomCheckBox.isSelected());
         m_config.setEnablePanning(m_enablePanningCheckBox.isSelected());
         m_config.setShowZoomResetButton(m_showZoomResetButtonCheckBox.isSelected());
@@ -358,6 +367,8 @@ protected void loadSettingsFrom(final NodeSettingsRO settings, final PortObjectS
         m_enablePageSizeChangeCheckBox.setSelected(m_config.getEnablePageSizeChange());
         m_allowedPageSizesTextField.setText(getAllowedPageSizesString(m_config.getAllowedPageSizes()));
         m_pageSizeShowAllCheckBox.setSelected(m_config.getEnableShowAll());
+        m_enableLazyLoadingCheckBox.setSelected(m_config.getEnableLazyLoading());
+        m_aggregationMethodComboBox.setSelectedItem(m_config.getAggregationMethod());
         m_enableZoomCheckBox.setSelected(m_config.getEnableZoom());
         m_enablePanningCheckBox.setSelected(m_config.getEnablePanning());
         m_showZoomResetButtonCheckBox.setSelected(m_config.getShowZoomResetButton());
@@ -366,6 +377,7 @@ protected void loadSettingsFrom(final NodeSettingsRO settings, final PortObjectS
         enableSpinner();
         enableViewEdit();
         enablePaging();
+        enableLazyLoading();
         enableSelection();
         enableCustomMin();
         enableCustomMax();
@@ -654,6 +666,14 @@ private JPanel createInteractivityTab() {
         paginationPanel.add(m_pageSizeShowAllCheckBox, paginationPanelConstraints);
         paginationPanelConstraints.gridx = 0;
         paginationPanelConstraints.gridy++;
+        paginationPanel.add(m_enableLazyLoadingCheckBox, paginationPanelConstraints);
+        paginationPanelConstraints.gridx = 0;
+        paginationPanelConstraints.gridy++;
+        paginationPanel.add(new JLabel("Aggregation when zoomed out:"), paginationPanelConstraints);
+        paginationPanelConstraints.gridx++;
+        paginationPanel.add(m_aggregationMethodComboBox, paginationPanelConstraints);
+        paginationPanelConstraints.gridx = 0;
+        paginationPanelConstraints.gridy++;
 
         c.gridx = 0;
         c.gridy++;
@@ -721,6 +741,14 @@ private void enablePaging() {
         m_enablePageSizeChangeCheckBox.setEnabled(enabled);
         m_allowedPageSizesTextField.setEnabled(enabled && enableSize);
         m_pageSizeShowAllCheckBox.setEnabled(enabled && enableSize);
+        // only the current page is loaded lazily, without paging the whole table is transferred
+        m_enableLazyLoadingCheckBox.setEnabled(enabled);
+        enableLazyLoading();
+    }
+
+    private void enableLazyLoading() {
+        m_aggregationMethodComboBox.setEnabled(
+            m_enablePagingCheckBox.isSelected() && m_enableLazyLoadingCheckBox.isSelected());
     }
 
     private void enableSelection() {
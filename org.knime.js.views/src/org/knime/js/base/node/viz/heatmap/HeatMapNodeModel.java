@@ -55,23 +55,19 @@
 import org.knime.base.data.xml.SvgCell;
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
-import org.knime.core.data.DataColumnSpecCreator;
-import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
-import org.knime.core.data.DataType;
 import org.knime.core.data.DoubleValue;
-import org.knime.core.data.container.CellFactory;
 import org.knime.core.data.container.ColumnRearranger;
-import org.knime.core.data.container.SingleCellFactory;
-import org.knime.core.data.def.BooleanCell;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.BufferedDataTableHolder;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.interactive.ViewRequestHandlingException;
 import org.knime.core.node.port.PortObject;
 import org.knime.core.node.port.PortObjectSpec;
 import org.knime.core.node.port.PortType;
@@ -82,7 +78,9 @@
 import org.knime.core.node.util.filter.column.DataColumnSpecFilterConfiguration;
 import org.knime.core.node.web.ValidationError;
 import org.knime.core.node.wizard.CSSModifiable;
+import org.knime.js.base.util.table.SelectionCellFactory;
 import org.knime.js.core.JSONDataTable;
+import org.knime.js.core.JSONViewRequestHandler;
 import org.knime.js.core.layout.LayoutTemplateProvider;
 import org.knime.js.core.layout.bs.JSONLayoutViewContent;
 import org.knime.js.core.layout.bs.JSONLayoutViewContent.ResizeMethod;
@@ -95,7 +93,8 @@
  * @author Alison Walter, KNIME GmbH, Konstanz, Germany
  */
 public class HeatMapNodeModel extends AbstractSVGWizardNodeModel<HeatMapViewRepresentation, HeatMapViewValue>
-implements CSSModifiable, BufferedDataTableHolder, LayoutTemplateProvider {
+implements CSSModifiable, BufferedDataTableHolder, LayoutTemplateProvider,
+JSONViewRequestHandler<HeatMapViewRequest, HeatMapViewResponse> {
 
     private static final NodeLogger LOGGER = NodeLogger.getLogger(HeatMapNodeModel.class);
     private final static String JAVASCRIPT_ID = "org.knime.js.base.node.viz.heatmap";
@@ -103,6 +102,7 @@ public class HeatMapNodeModel extends AbstractSVGWizardNodeModel<HeatMapViewRepr
     private final HeatMapViewConfig m_config;
     private BufferedDataTable m_table;
     private ValueStore m_valueStore;
+    private HeatMapTileCache m_cache;
 
     /**
      * @param viewName the name of the view
@@ -170,6 +170,9 @@ public HeatMapViewRepresentation getViewRepresentation() {
                     LOGGER.error("Could not create JSON table: " + e.getMessage(), e);
                 }
             }
+            if (m_cache == null && m_table != null && rep.getEnableLazyLoading()) {
+                initializeCache(rep);
+            }
         }
         return rep;
     }
@@ -283,17 +286,29 @@ protected void performExecuteCreateView(final PortObject[] inObjects, final Exec
             representation.setEnableSelection(m_config.getEnableSelection());
             representation.setSelectionColumnName(m_config.getSelectionColumnName());
             representation.setShowResetSelectionButton(m_config.getShowResetSelectionButton());
-            representation.setEnableShowSelectedRowsOnly(m_config.getEnableShowSelectedRowsOnly());
+            // a lazily loaded view only knows the rows of the current page, so it cannot hide unselected rows
+            representation.setEnableShowSelectedRowsOnly(m_config.getEnableShowSelectedRowsOnly() && !isLazyLoading());
             representation.setEnablePaging(m_config.getEnablePaging());
             representation.setEnablePageSizeChange(m_config.getEnablePageSizeChange());
             representation.setAllowedPageSizes(m_config.getAllowedPageSizes());
-            representation.setEnableShowAll(m_config.getEnableShowAll());
+            // a lazily loaded view never requests the whole table at once
+            representation.setEnableShowAll(m_config.getEnableShowAll() && !isLazyLoading());
             representation.setEnableZoom(m_config.getEnableZoom());
             representation.setEnablePanning(m_config.getEnablePanning());
             representation.setShowZoomResetButton(m_config.getShowZoomResetButton());
+            representation.setEnableLazyLoading(isLazyLoading());
+            representation.setAggregationMethod(m_config.getAggregationMethod());
+            representation.setRowCount(m_table.size());
             representation.setDataTableId(getTableId(0));
 
-            final JSONDataTable jsonTable = createJSONTableFromBufferedDataTable(exec);
+            final boolean lazyLoading = isLazyLoading();
+            final JSONDataTable jsonTable =
+                createJSONTableFromBufferedDataTable(lazyLoading ? exec.createSubExecutionContext(0.1) : exec);
+            if (lazyLoading) {
+                initializeCache(representation);
+                // precompute the coarse levels now, so that zooming out does not need to read the whole table
+                m_cache.build(exec.createSubExecutionContext(0.9));
+            }
             representation.setTable(jsonTable);
             representation.setFilterIds(jsonTable.getSpec().getFilterIds());
             representation.setRunningInView(false);
@@ -368,6 +383,44 @@ protected boolean generateImage() {
     @Override
     protected void performReset() {
         m_table = null;
+        m_cache = null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public HeatMapViewRequest createEmptyViewRequest() {
+        return new HeatMapViewRequest();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public HeatMapViewResponse handleRequest(final HeatMapViewRequest request, final ExecutionMonitor exec)
+        throws ViewRequestHandlingException, InterruptedException, CanceledExecutionException {
+        final HeatMapViewResponse response = new HeatMapViewResponse(request);
+        final HeatMapTileCache cache;
+        synchronized (getLock()) {
+            if (m_cache == null && m_table != null && getViewRepresentation().getEnableLazyLoading()) {
+                initializeCache(getViewRepresentation());
+            }
+            cache = m_cache;
+        }
+        if (cache == null) {
+            response.setError("Lazy loading is not enabled or the node is not executed.");
+            return response;
+        }
+        try {
+            cache.fillResponse(request, createJSONTableBuilder(), response, exec);
+        } catch (CanceledExecutionException e) {
+            throw e;
+        } catch (Exception e) {
+            LOGGER.error("Could not serve heat map request: " + e.getMessage(), e);
+            throw new ViewRequestHandlingException(e);
+        }
+        return response;
     }
 
     /**
@@ -421,28 +474,10 @@ public JSONLayoutViewContent getLayoutTemplate() {
     // -- Helper methods --
 
     private ColumnRearranger createColumnAppender(final DataTableSpec spec, final List<String> selectionList) {
-        String newColName = m_config.getSelectionColumnName();
-        if (newColName == null || newColName.trim().isEmpty()) {
-            newColName = HeatMapViewConfig.DEFAULT_SELECTION_COLUMN_NAME;
-        }
-        newColName = DataTableSpec.getUniqueColumnName(spec, newColName);
-        DataColumnSpec outColumnSpec =
-            new DataColumnSpecCreator(newColName, DataType.getType(BooleanCell.class)).createSpec();
+        DataColumnSpec outColumnSpec = SelectionCellFactory.createSelectionColumnSpec(spec,
+            m_config.getSelectionColumnName(), HeatMapViewConfig.DEFAULT_SELECTION_COLUMN_NAME);
         ColumnRearranger rearranger = new ColumnRearranger(spec);
-        CellFactory fac = new SingleCellFactory(outColumnSpec) {
-            @Override
-            public DataCell getCell(final DataRow row) {
-                if (selectionList != null && !selectionList.isEmpty()) {
-                    if (selectionList.contains(row.getKey().toString())) {
-                        return BooleanCell.TRUE;
-                    } else {
-                        return BooleanCell.FALSE;
-                    }
-                }
-                return BooleanCell.FALSE;
-            }
-        };
-        rearranger.append(fac);
+        rearranger.append(new SelectionCellFactory(outColumnSpec, selectionList, Long.MAX_VALUE));
         return rearranger;
     }
 
@@ -459,8 +494,46 @@ private void copyViewValueToConfig() {
         m_config.setShowSelectedRowsOnly(viewValue.getShowSelectedRowsOnly());
     }
 
+    /**
+     * @return true if only the current page is transferred to the view, lazy loading requires paging
+     */
+    private boolean isLazyLoading() {
+        return m_config.getEnableLazyLoading() && m_config.getEnablePaging();
+    }
+
+    private void initializeCache(final HeatMapViewRepresentation rep) {
+        int maxPageSize = m_config.getInitialPageSize();
+        if (m_config.getEnablePageSizeChange() && m_config.getAllowedPageSizes().length > 0) {
+            maxPageSize = Arrays.stream(m_config.getAllowedPageSizes()).max().getAsInt();
+        }
+        maxPageSize = Math.min(maxPageSize, HeatMapTileCache.MAX_PAGE_SIZE);
+        m_cache = new HeatMapTileCache(m_table, rep.getColumns(), getDisplayedColumns(),
+            HeatMapViewConfig.AGGREGATION_MAX.equals(rep.getAggregationMethod()), 5 * maxPageSize);
+        rep.setNumLevels(m_cache.getNumLevels());
+    }
+
     private JSONDataTable createJSONTableFromBufferedDataTable(final ExecutionContext exec) throws CanceledExecutionException {
-        final boolean keepFilterCols = m_config.getSubscribeFilter();
+        if (isLazyLoading()) {
+            // only the first page is transferred with the representation, the view requests everything else
+            return createJSONTableBuilder()
+                    .setMaxRows(Math.min(m_config.getInitialPageSize(), HeatMapTileCache.MAX_PAGE_SIZE))
+                    .build(exec);
+        }
+        return createJSONTableBuilder()
+                .calculateDataHash(true)
+                .build(exec);
+    }
+
+    private JSONDataTable.Builder createJSONTableBuilder() {
+        return JSONDataTable.newBuilder()
+                .setDataTable(m_table)
+                .setId(getTableId(0))
+                .setFirstRow(1)
+                .keepFilterColumns(m_config.getSubscribeFilter())
+                .setIncludeColumns(getDisplayedColumns());
+    }
+
+    private String[] getDisplayedColumns() {
         final FilterResult filter = m_config.getColumns().applyTo(m_table.getDataTableSpec());
         final List<String> include = new ArrayList<>(Arrays.asList(filter.getIncludes()));
         if (m_config.getEnableShowToolTips() && m_config.getSvgLabelColumn() != null && !m_config.getSvgLabelColumn().isEmpty()) {
@@ -469,17 +542,7 @@ private JSONDataTable createJSONTableFromBufferedDataTable(final ExecutionContex
         if (m_config.getLabelColumn() != null && !m_config.getLabelColumn().isEmpty() && !include.contains(m_config.getLabelColumn())) {
             include.add(m_config.getLabelColumn());
         }
-        final String[] includeCols = include.toArray(new String[include.size()]);
-
-        JSONDataTable jsonTable = JSONDataTable.newBuilder()
-                .setDataTable(m_table)
-                .setId(getTableId(0))
-                .setFirstRow(1)
-                .keepFilterColumns(keepFilterCols)
-                .setIncludeColumns(includeCols)
-                .calculateDataHash(true)
-                .build(exec);
-        return jsonTable;
+        return include.toArray(new String[include.size()]);
     }
 
     private double getMax(final DataTableSpec spec, final DataColumnSpecFilterConfiguration filter,
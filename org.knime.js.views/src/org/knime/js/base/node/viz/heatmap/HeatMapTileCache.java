@@ -0,0 +1,397 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   17 Oct 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.js.base.node.viz.heatmap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.cache.WindowCacheTable;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.container.filter.TableFilter;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.js.core.JSONDataTable.Builder;
+
+/**
+ * Server side cache of the heat map view with lazy loading enabled. Level 0 requests are served row by row through a
+ * {@link WindowCacheTable}. Coarser levels are served from a tile pyramid which aggregates 2<sup>n</sup> &times;
+ * 2<sup>n</sup> cells of the table into one block on level <i>n</i>, either by mean or by maximum.
+ *
+ * <p>
+ * Only the levels whose number of blocks does not exceed {@link #MAX_PRECOMPUTED_BLOCKS} are kept in memory, they are
+ * computed in a single pass over the table and reduced from each other. Requests for the finer levels in between are
+ * aggregated on demand from the requested row range only. A single request never returns more than
+ * {@link #MAX_PAGE_SIZE} row blocks.
+ * </p>
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+final class HeatMapTileCache {
+
+    /** Maximum number of blocks of the finest precomputed level, each block takes 20 bytes. */
+    static final int MAX_PRECOMPUTED_BLOCKS = 1 << 18;
+
+    /** Maximum number of row blocks returned for a single request, larger pages are truncated. */
+    static final int MAX_PAGE_SIZE = 10000;
+
+    private final BufferedDataTable m_table;
+    private final WindowCacheTable m_rowCache;
+    private final String[] m_columns;
+    private final int[] m_columnIndices;
+    private final boolean m_useMax;
+    private final int m_numLevels;
+    private final int m_baseLevel;
+
+    private Level[] m_levels;
+    private String[] m_firstRowKeys;
+    private String[] m_lastRowKeys;
+
+    /**
+     * @param table the table to serve the cells from
+     * @param columns the numeric columns displayed in the heat map
+     * @param displayedColumns all columns transferred to the view on level 0, including label columns
+     * @param useMax true to aggregate blocks by their maximum, false to aggregate by mean
+     * @param cacheSize the number of rows to keep in the row cache
+     */
+    HeatMapTileCache(final BufferedDataTable table, final String[] columns, final String[] displayedColumns,
+        final boolean useMax, final int cacheSize) {
+        m_table = table;
+        m_columns = columns;
+        final DataTableSpec spec = table.getDataTableSpec();
+        m_columnIndices = new int[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            m_columnIndices[i] = spec.findColumnIndex(columns[i]);
+        }
+        m_useMax = useMax;
+        m_rowCache = new WindowCacheTable(table, displayedColumns);
+        m_rowCache.setCacheSize(Math.max(cacheSize, WindowCacheTable.DEFAULT_CACHE_SIZE));
+
+        int numLevels = 1;
+        while (numBlocks(table.size(), numLevels - 1) > 1 || numBlocks(columns.length, numLevels - 1) > 1) {
+            numLevels++;
+        }
+        m_numLevels = numLevels;
+        int baseLevel = 1;
+        while (baseLevel < numLevels - 1
+            && numBlocks(table.size(), baseLevel) * numBlocks(columns.length, baseLevel) > MAX_PRECOMPUTED_BLOCKS) {
+            baseLevel++;
+        }
+        m_baseLevel = baseLevel;
+    }
+
+    /**
+     * @return the number of available zoom levels, including level 0
+     */
+    int getNumLevels() {
+        return m_numLevels;
+    }
+
+    /**
+     * Computes the precomputed levels of the pyramid, if not done yet.
+     *
+     * @param exec the monitor to report progress to and check for cancellation
+     * @throws CanceledExecutionException if the computation was canceled
+     */
+    synchronized void build(final ExecutionMonitor exec) throws CanceledExecutionException {
+        if (m_levels != null || m_numLevels < 2) {
+            return;
+        }
+        final long rowCount = m_table.size();
+        final int base = m_baseLevel;
+        final int rowBlocks = (int)numBlocks(rowCount, base);
+        final int columnBlocks = (int)numBlocks(m_columns.length, base);
+        final Level baseLevel = new Level(rowBlocks, columnBlocks);
+        final String[] firstKeys = new String[rowBlocks];
+        final String[] lastKeys = new String[rowBlocks];
+        final long blockMask = (1L << base) - 1;
+        long rowIndex = 0;
+        try (CloseableRowIterator it = m_table.iterator()) {
+            while (it.hasNext()) {
+                final DataRow row = it.next();
+                final int block = (int)(rowIndex >> base);
+                final String key = row.getKey().getString();
+                if ((rowIndex & blockMask) == 0) {
+                    firstKeys[block] = key;
+                }
+                lastKeys[block] = key;
+                final int offset = block * columnBlocks;
+                for (int c = 0; c < m_columnIndices.length; c++) {
+                    final DataCell cell = row.getCell(m_columnIndices[c]);
+                    if (!cell.isMissing() && cell instanceof DoubleValue) {
+                        baseLevel.add(offset + (c >> base), ((DoubleValue)cell).getDoubleValue());
+                    }
+                }
+                if (++rowIndex % 1000 == 0) {
+                    exec.checkCanceled();
+                    exec.setProgress(rowIndex / (double)rowCount, "Aggregating row " + rowIndex + " of " + rowCount);
+                }
+            }
+        }
+        final Level[] levels = new Level[m_numLevels - base];
+        levels[0] = baseLevel;
+        for (int l = 1; l < levels.length; l++) {
+            levels[l] = levels[l - 1].reduce();
+        }
+        m_firstRowKeys = firstKeys;
+        m_lastRowKeys = lastKeys;
+        m_levels = levels;
+        exec.setProgress(1);
+    }
+
+    /**
+     * Fills the given response with the blocks requested.
+     *
+     * @param request the request of the view
+     * @param tableBuilder the builder to create the JSON table of level 0 responses with
+     * @param response the response to fill
+     * @param exec the monitor to report progress to and check for cancellation
+     * @throws CanceledExecutionException if the request was canceled
+     */
+    void fillResponse(final HeatMapViewRequest request, final Builder tableBuilder,
+        final HeatMapViewResponse response, final ExecutionMonitor exec) throws CanceledExecutionException {
+        final long rowCount = m_table.size();
+        final int level = Math.max(0, Math.min(request.getLevel(), m_numLevels - 1));
+        final long rowBlocks = numBlocks(rowCount, level);
+        final long start = Math.max(0, Math.min(request.getStart(), rowBlocks));
+        response.setLevel(level);
+        response.setRowCount(rowCount);
+        response.setStart(start);
+
+        if (request.getResolveRowKeys()) {
+            final long numResolved = Math.max(0, Math.min(request.getLength(), rowBlocks - start));
+            exec.setMessage("Resolving row keys...");
+            response.setRowKeys(
+                resolveRowKeys(start << level, Math.min(rowCount, (start + numResolved) << level), exec));
+            return;
+        }
+        final int length =
+            (int)Math.max(0, Math.min(Math.min(request.getLength(), MAX_PAGE_SIZE), rowBlocks - start));
+        if (level == 0) {
+            exec.setMessage("Caching rows...");
+            List<DataRow> rows;
+            try {
+                rows = m_rowCache.getRows(start, length, exec.createSubProgress(0.95));
+            } catch (IndexOutOfBoundsException e) {
+                rows = new ArrayList<DataRow>(0);
+            }
+            tableBuilder.setDataRows(rows.stream().toArray(DataRow[]::new));
+            tableBuilder.setFirstRow(start + 1);
+            tableBuilder.setMaxRows(length);
+            exec.setMessage("Serializing response...");
+            response.setTable(tableBuilder.build(exec.createSubProgress(0.05)));
+            return;
+        }
+
+        final int columnBlocks = (int)numBlocks(m_columns.length, level);
+        final int columnStart = Math.max(0, Math.min(request.getColumnStart(), columnBlocks));
+        int columnLength = columnBlocks - columnStart;
+        if (request.getColumnLength() > 0) {
+            columnLength = Math.min(request.getColumnLength(), columnLength);
+        }
+        final String[][] columnRanges = new String[columnLength][];
+        for (int j = 0; j < columnLength; j++) {
+            final int first = (columnStart + j) << level;
+            final int last = Math.min(((columnStart + j + 1) << level), m_columns.length) - 1;
+            columnRanges[j] = new String[]{m_columns[first], m_columns[last]};
+        }
+        response.setColumnRanges(columnRanges);
+
+        final Double[][] values = new Double[length][columnLength];
+        final String[][] rowKeyRanges = new String[length][];
+        if (level >= m_baseLevel) {
+            build(exec.createSubProgress(0.9));
+            final Level source = m_levels[level - m_baseLevel];
+            final int shift = level - m_baseLevel;
+            for (int i = 0; i < length; i++) {
+                final int block = (int)(start + i);
+                for (int j = 0; j < columnLength; j++) {
+                    values[i][j] = source.get(block * source.m_columns + columnStart + j, m_useMax);
+                }
+                final int last = Math.min(((block + 1) << shift), m_lastRowKeys.length) - 1;
+                rowKeyRanges[i] = new String[]{m_firstRowKeys[block << shift], m_lastRowKeys[last]};
+            }
+        } else {
+            exec.setMessage("Aggregating rows...");
+            final Level window = aggregate(level, start, length, columnStart, columnLength, rowKeyRanges, exec);
+            for (int i = 0; i < length; i++) {
+                for (int j = 0; j < columnLength; j++) {
+                    values[i][j] = window.get(i * columnLength + j, m_useMax);
+                }
+            }
+        }
+        response.setValues(values);
+        response.setRowKeyRanges(rowKeyRanges);
+    }
+
+    /**
+     * Aggregates the requested window of a level which is not precomputed from the covered rows of the table.
+     */
+    private Level aggregate(final int level, final long start, final int length, final int columnStart,
+        final int columnLength, final String[][] rowKeyRanges, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        final Level window = new Level(length, columnLength);
+        if (length == 0) {
+            return window;
+        }
+        final long firstRow = start << level;
+        final long lastRow = Math.min(m_table.size(), (start + length) << level) - 1;
+        final int firstColumn = columnStart << level;
+        final int lastColumn = Math.min((columnStart + columnLength) << level, m_columns.length) - 1;
+        long rowIndex = firstRow;
+        try (CloseableRowIterator it = m_table.filter(TableFilter.filterRangeOfRows(firstRow, lastRow)).iterator()) {
+            while (it.hasNext()) {
+                final DataRow row = it.next();
+                final int block = (int)((rowIndex >> level) - start);
+                final String key = row.getKey().getString();
+                if (rowKeyRanges[block] == null) {
+                    rowKeyRanges[block] = new String[]{key, key};
+                } else {
+                    rowKeyRanges[block][1] = key;
+                }
+                for (int c = firstColumn; c <= lastColumn; c++) {
+                    final DataCell cell = row.getCell(m_columnIndices[c]);
+                    if (!cell.isMissing() && cell instanceof DoubleValue) {
+                        window.add(block * columnLength + (c >> level) - columnStart,
+                            ((DoubleValue)cell).getDoubleValue());
+                    }
+                }
+                if (++rowIndex % 1000 == 0) {
+                    exec.checkCanceled();
+                }
+            }
+        }
+        return window;
+    }
+
+    private String[] resolveRowKeys(final long firstRow, final long endRow, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        if (endRow <= firstRow) {
+            return new String[0];
+        }
+        final List<String> keys = new ArrayList<String>((int)Math.min(endRow - firstRow, Integer.MAX_VALUE - 8));
+        try (CloseableRowIterator it = m_table.filter(TableFilter.filterRangeOfRows(firstRow, endRow - 1)).iterator()) {
+            while (it.hasNext()) {
+                keys.add(it.next().getKey().getString());
+                if (keys.size() % 1000 == 0) {
+                    exec.checkCanceled();
+                }
+            }
+        }
+        return keys.toArray(new String[keys.size()]);
+    }
+
+    /**
+     * @param n the number of rows or columns
+     * @param level the zoom level
+     * @return the number of blocks the rows or columns form on the given level
+     */
+    static long numBlocks(final long n, final int level) {
+        return n <= 0 ? 0 : ((n - 1) >> level) + 1;
+    }
+
+    /**
+     * Row major grid of aggregated blocks, keeping sum, count and maximum of the non-missing values of every block.
+     */
+    private static final class Level {
+
+        private final int m_rows;
+        private final int m_columns;
+        private final double[] m_sums;
+        private final int[] m_counts;
+        private final double[] m_max;
+
+        Level(final int rows, final int columns) {
+            m_rows = rows;
+            m_columns = columns;
+            m_sums = new double[rows * columns];
+            m_counts = new int[rows * columns];
+            m_max = new double[rows * columns];
+            Arrays.fill(m_max, Double.NEGATIVE_INFINITY);
+        }
+
+        void add(final int index, final double value) {
+            m_sums[index] += value;
+            m_counts[index]++;
+            if (value > m_max[index]) {
+                m_max[index] = value;
+            }
+        }
+
+        Double get(final int index, final boolean useMax) {
+            if (m_counts[index] == 0) {
+                return null;
+            }
+            return useMax ? m_max[index] : m_sums[index] / m_counts[index];
+        }
+
+        /**
+         * @return the next coarser level, merging 2 &times; 2 blocks of this level into one
+         */
+        Level reduce() {
+            final Level reduced = new Level((m_rows + 1) >> 1, (m_columns + 1) >> 1);
+            for (int i = 0; i < m_rows; i++) {
+                for (int j = 0; j < m_columns; j++) {
+                    final int source = i * m_columns + j;
+                    final int target = (i >> 1) * reduced.m_columns + (j >> 1);
+                    reduced.m_sums[target] += m_sums[source];
+                    reduced.m_counts[target] += m_counts[source];
+                    if (m_max[source] > reduced.m_max[target]) {
+                        reduced.m_max[target] = m_max[source];
+                    }
+                }
+            }
+            return reduced;
+        }
+    }
+}
@@ -254,6 +254,17 @@ public boolean include(final DataColumnSpec name) {
     final static boolean DEFAULT_SHOW_ZOOM_RESET_BUTTON = false;
     private boolean m_showZoomResetButton = DEFAULT_SHOW_ZOOM_RESET_BUTTON;
 
+    // Lazy loading
+    final static String CFG_ENABLE_LAZY_LOADING = "enableLazyLoading";
+    final static boolean DEFAULT_ENABLE_LAZY_LOADING = false;
+    private boolean m_enableLazyLoading = DEFAULT_ENABLE_LAZY_LOADING;
+
+    final static String CFG_AGGREGATION_METHOD = "aggregationMethod";
+    final static String AGGREGATION_MEAN = "mean";
+    final static String AGGREGATION_MAX = "max";
+    final static String DEFAULT_AGGREGATION_METHOD = AGGREGATION_MEAN;
+    private String m_aggregationMethod = DEFAULT_AGGREGATION_METHOD;
+
     // -- General getters & setters --
 
     /**
@@ -900,6 +911,36 @@ public void setShowZoomResetButton(final boolean showZoomResetButton) {
         m_showZoomResetButton = showZoomResetButton;
     }
 
+    // -- Lazy loading getters & setters --
+
+    /**
+     * @return the enableLazyLoading
+     */
+    public boolean getEnableLazyLoading() {
+        return m_enableLazyLoading;
+    }
+
+    /**
+     * @param enableLazyLoading the enableLazyLoading to set
+     */
+    public void setEnableLazyLoading(final boolean enableLazyLoading) {
+        m_enableLazyLoading = enableLazyLoading;
+    }
+
+    /**
+     * @return the aggregationMethod, either "mean" or "max"
+     */
+    public String getAggregationMethod() {
+        return m_aggregationMethod;
+    }
+
+    /**
+     * @param aggregationMethod the aggregationMethod to set
+     */
+    public void setAggregationMethod(final String aggregationMethod) {
+        m_aggregationMethod = aggregationMethod;
+    }
+
     // -- Save & Load Settings --
 
     /** Saves current parameters to settings object.
@@ -958,6 +999,9 @@ public void saveSettings(final NodeSettingsWO settings) {
         settings.addBoolean(CFG_ENABLE_ZOOM, m_enableZoom);
         settings.addBoolean(CFG_ENABLE_PANNING, m_enablePanning);
         settings.addBoolean(CFG_SHOW_ZOOM_RESET_BUTTON, m_showZoomResetButton);
+
+        settings.addBoolean(CFG_ENABLE_LAZY_LOADING, m_enableLazyLoading);
+        settings.addString(CFG_AGGREGATION_METHOD, m_aggregationMethod);
     }
 
     /** Loads parameters in NodeModel.
@@ -1023,6 +1067,10 @@ public void loadSettings(final NodeSettingsRO settings) throws InvalidSettingsEx
         m_enableZoom = settings.getBoolean(CFG_ENABLE_ZOOM);
         m_enablePanning = settings.getBoolean(CFG_ENABLE_PANNING);
         m_showZoomResetButton = settings.getBoolean(CFG_SHOW_ZOOM_RESET_BUTTON);
+
+        // added with lazy loading, use defaults for older workflows
+        m_enableLazyLoading = settings.getBoolean(CFG_ENABLE_LAZY_LOADING, DEFAULT_ENABLE_LAZY_LOADING);
+        m_aggregationMethod = settings.getString(CFG_AGGREGATION_METHOD, DEFAULT_AGGREGATION_METHOD);
     }
 
     /** Loads parameters in Dialog.
@@ -1082,6 +1130,9 @@ public void loadSettingsForDialog(final NodeSettingsRO settings, final DataTable
         m_enableZoom = settings.getBoolean(CFG_ENABLE_ZOOM, DEFAULT_ENABLE_ZOOM);
         m_enablePanning = settings.getBoolean(CFG_ENABLE_PANNING, DEFAULT_ENABLE_PANNING);
         m_showZoomResetButton = settings.getBoolean(CFG_SHOW_ZOOM_RESET_BUTTON, DEFAULT_SHOW_ZOOM_RESET_BUTTON);
+
+        m_enableLazyLoading = settings.getBoolean(CFG_ENABLE_LAZY_LOADING, DEFAULT_ENABLE_LAZY_LOADING);
+        m_aggregationMethod = settings.getString(CFG_AGGREGATION_METHOD, DEFAULT_AGGREGATION_METHOD);
     }
 
 }
@@ -109,6 +109,13 @@ public class HeatMapViewRepresentation extends JSONViewContent {
     private boolean m_enablePanning;
     private boolean m_showZoomResetButton;
 
+    private boolean m_enableLazyLoading;
+    private String m_aggregationMethod;
+    private final static String CFG_ROW_COUNT = "rowCount";
+    private long m_rowCount;
+    private final static String CFG_NUM_LEVELS = "numLevels";
+    private int m_numLevels;
+
     private final static String CFG_DATA_TABLE_ID = "dataTableId";
     private String m_dataTableId;
     private final static String CFG_FILTER_IDS = "filterIds";
@@ -565,6 +572,64 @@ public void setShowZoomResetButton(final boolean showZoomResetButton) {
         m_showZoomResetButton = showZoomResetButton;
     }
 
+    // -- Lazy loading getters & setters --
+
+    /**
+     * @return the enableLazyLoading
+     */
+    public boolean getEnableLazyLoading() {
+        return m_enableLazyLoading;
+    }
+
+    /**
+     * @param enableLazyLoading the enableLazyLoading to set
+     */
+    public void setEnableLazyLoading(final boolean enableLazyLoading) {
+        m_enableLazyLoading = enableLazyLoading;
+    }
+
+    /**
+     * @return the aggregationMethod
+     */
+    public String getAggregationMethod() {
+        return m_aggregationMethod;
+    }
+
+    /**
+     * @param aggregationMethod the aggregationMethod to set
+     */
+    public void setAggregationMethod(final String aggregationMethod) {
+        m_aggregationMethod = aggregationMethod;
+    }
+
+    /**
+     * @return the total number of rows, the view requests the rows it displays if lazy loading is enabled
+     */
+    public long getRowCount() {
+        return m_rowCount;
+    }
+
+    /**
+     * @param rowCount the rowCount to set
+     */
+    public void setRowCount(final long rowCount) {
+        m_rowCount = rowCount;
+    }
+
+    /**
+     * @return the number of zoom levels which can be requested if lazy loading is enabled
+     */
+    public int getNumLevels() {
+        return m_numLevels;
+    }
+
+    /**
+     * @param numLevels the numLevels to set
+     */
+    public void setNumLevels(final int numLevels) {
+        m_numLevels = numLevels;
+    }
+
     // -- Data table getters & setters --
 
     /**
@@ -674,6 +739,11 @@ public void saveToNodeSettings(final NodeSettingsWO settings) {
         settings.addBoolean(HeatMapViewConfig.CFG_ENABLE_PANNING, m_enablePanning);
         settings.addBoolean(HeatMapViewConfig.CFG_SHOW_ZOOM_RESET_BUTTON, m_showZoomResetButton);
 
+        settings.addBoolean(HeatMapViewConfig.CFG_ENABLE_LAZY_LOADING, m_enableLazyLoading);
+        settings.addString(HeatMapViewConfig.CFG_AGGREGATION_METHOD, m_aggregationMethod);
+        settings.addLong(CFG_ROW_COUNT, m_rowCount);
+        settings.addInt(CFG_NUM_LEVELS, m_numLevels);
+
         settings.addString(CFG_DATA_TABLE_ID, m_dataTableId);
         settings.addStringArray(CFG_FILTER_IDS, m_filterIds);
         settings.addBoolean(CFG_RUNNING_IN_VIEW, m_runningInView);
@@ -722,6 +792,13 @@ public void loadFromNodeSettings(final NodeSettingsRO settings) throws InvalidSe
         m_enablePanning = settings.getBoolean(HeatMapViewConfig.CFG_ENABLE_PANNING);
         m_showZoomResetButton = settings.getBoolean(HeatMapViewConfig.CFG_SHOW_ZOOM_RESET_BUTTON);
 
+        m_enableLazyLoading = settings.getBoolean(HeatMapViewConfig.CFG_ENABLE_LAZY_LOADING,
+            HeatMapViewConfig.DEFAULT_ENABLE_LAZY_LOADING);
+        m_aggregationMethod = settings.getString(HeatMapViewConfig.CFG_AGGREGATION_METHOD,
+            HeatMapViewConfig.DEFAULT_AGGREGATION_METHOD);
+        m_rowCount = settings.getLong(CFG_ROW_COUNT, 0);
+        m_numLevels = settings.getInt(CFG_NUM_LEVELS, 1);
+
         m_dataTableId = settings.getString(CFG_DATA_TABLE_ID);
         m_filterIds = settings.getStringArray(CFG_FILTER_IDS);
         m_runningInView = settings.getBoolean(CFG_RUNNING_IN_VIEW);
@@ -774,6 +851,10 @@ public boolean equals(final Object obj) {
                 .append(m_enableZoom, other.getEnableZoom())
                 .append(m_enablePanning, other.getEnablePanning())
                 .append(m_showZoomResetButton, other.getShowZoomResetButton())
+                .append(m_enableLazyLoading, other.getEnableLazyLoading())
+                .append(m_aggregationMethod, other.getAggregationMethod())
+                .append(m_rowCount, other.getRowCount())
+                .append(m_numLevels, other.getNumLevels())
                 .append(m_dataTableId, other.getDataTableId())
                 .append(m_filterIds, other.getFilterIds())
                 .append(m_runningInView, other.getRunningInView())
@@ -818,6 +899,10 @@ public int hashCode() {
                 .append(m_enableZoom)
                 .append(m_enablePanning)
                 .append(m_showZoomResetButton)
+                .append(m_enableLazyLoading)
+                .append(m_aggregationMethod)
+                .append(m_rowCount)
+                .append(m_numLevels)
                 .append(m_dataTableId)
                 .append(m_filterIds)
                 .append(m_runningInView)
@@ -0,0 +1,205 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   17 Oct 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.js.base.node.viz.heatmap;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.knime.js.core.JSONViewRequest;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+/**
+ * Request of the heat map view for the cells of the currently visible window, if lazy loading is enabled.
+ *
+ * <p>
+ * The window is given in blocks of the requested zoom level. On level 0 a block is a single row (or column) of the
+ * input table, on level <i>n</i> a block aggregates 2<sup>n</sup> consecutive rows and 2<sup>n</sup> consecutive
+ * columns.
+ * </p>
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+@JsonAutoDetect
+@JsonTypeInfo(use = JsonTypeInfo.Id.CLASS, include = JsonTypeInfo.As.PROPERTY, property = "@class")
+public class HeatMapViewRequest extends JSONViewRequest {
+
+    private int m_level;
+    private long m_start;
+    private int m_length;
+    private int m_columnStart;
+    private int m_columnLength;
+    private boolean m_resolveRowKeys;
+
+    /**
+     * @return the zoom level, 0 for the rows of the table
+     */
+    public int getLevel() {
+        return m_level;
+    }
+
+    /**
+     * @param level the zoom level to set
+     */
+    public void setLevel(final int level) {
+        m_level = level;
+    }
+
+    /**
+     * @return the index of the first requested row block
+     */
+    public long getStart() {
+        return m_start;
+    }
+
+    /**
+     * @param start the index of the first requested row block to set
+     */
+    public void setStart(final long start) {
+        m_start = start;
+    }
+
+    /**
+     * @return the number of requested row blocks
+     */
+    public int getLength() {
+        return m_length;
+    }
+
+    /**
+     * @param length the number of requested row blocks to set
+     */
+    public void setLength(final int length) {
+        m_length = length;
+    }
+
+    /**
+     * @return the index of the first requested column block, only used for aggregated levels
+     */
+    public int getColumnStart() {
+        return m_columnStart;
+    }
+
+    /**
+     * @param columnStart the index of the first requested column block to set
+     */
+    public void setColumnStart(final int columnStart) {
+        m_columnStart = columnStart;
+    }
+
+    /**
+     * @return the number of requested column blocks, only used for aggregated levels, a value &lt;= 0 requests all
+     *         column blocks
+     */
+    public int getColumnLength() {
+        return m_columnLength;
+    }
+
+    /**
+     * @param columnLength the number of requested column blocks to set
+     */
+    public void setColumnLength(final int columnLength) {
+        m_columnLength = columnLength;
+    }
+
+    /**
+     * @return true if the request asks for the keys of all rows covered by the requested row blocks instead of the
+     *         cell values, used to translate a selection of aggregated blocks into row keys
+     */
+    public boolean getResolveRowKeys() {
+        return m_resolveRowKeys;
+    }
+
+    /**
+     * @param resolveRowKeys true if the row keys of the requested row blocks should be resolved
+     */
+    public void setResolveRowKeys(final boolean resolveRowKeys) {
+        m_resolveRowKeys = resolveRowKeys;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj == this) {
+            return true;
+        }
+        if (obj.getClass() != getClass()) {
+            return false;
+        }
+        HeatMapViewRequest other = (HeatMapViewRequest)obj;
+        return new EqualsBuilder()
+                .append(m_level, other.m_level)
+                .append(m_start, other.m_start)
+                .append(m_length, other.m_length)
+                .append(m_columnStart, other.m_columnStart)
+                .append(m_columnLength, other.m_columnLength)
+                .append(m_resolveRowKeys, other.m_resolveRowKeys)
+                .isEquals();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder()
+                .append(m_level)
+                .append(m_start)
+                .append(m_length)
+                .append(m_columnStart)
+                .append(m_columnLength)
+                .append(m_resolveRowKeys)
+                .toHashCode();
+    }
+
+}
@@ -0,0 +1,259 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   17 Oct 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.js.base.node.viz.heatmap;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.knime.js.core.JSONDataTable;
+import org.knime.js.core.JSONViewResponse;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+/**
+ * Response to a {@link HeatMapViewRequest}. On level 0 the response contains the requested rows as a
+ * {@link JSONDataTable}, on any other level the aggregated values of the requested blocks together with the row key
+ * and column name ranges the blocks cover.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+@JsonAutoDetect
+@JsonTypeInfo(use = JsonTypeInfo.Id.CLASS, include = JsonTypeInfo.As.PROPERTY, property = "@class")
+public class HeatMapViewResponse extends JSONViewResponse<HeatMapViewRequest> {
+
+    private int m_level;
+    private long m_rowCount;
+    private long m_start;
+    private JSONDataTable m_table;
+    private Double[][] m_values;
+    private String[][] m_rowKeyRanges;
+    private String[][] m_columnRanges;
+    private String[] m_rowKeys;
+    private String m_error;
+
+    /**
+     * @param viewRequest
+     */
+    public HeatMapViewResponse(final HeatMapViewRequest viewRequest) {
+        super(viewRequest);
+    }
+
+    /**
+     * @return the zoom level of the response
+     */
+    public int getLevel() {
+        return m_level;
+    }
+
+    /**
+     * @param level the zoom level to set
+     */
+    public void setLevel(final int level) {
+        m_level = level;
+    }
+
+    /**
+     * @return the total number of rows in the table
+     */
+    public long getRowCount() {
+        return m_rowCount;
+    }
+
+    /**
+     * @param rowCount the total number of rows to set
+     */
+    public void setRowCount(final long rowCount) {
+        m_rowCount = rowCount;
+    }
+
+    /**
+     * @return the index of the first row block contained in the response
+     */
+    public long getStart() {
+        return m_start;
+    }
+
+    /**
+     * @param start the index of the first row block to set
+     */
+    public void setStart(final long start) {
+        m_start = start;
+    }
+
+    /**
+     * @return the rows of the table, only set on level 0
+     */
+    public JSONDataTable getTable() {
+        return m_table;
+    }
+
+    /**
+     * @param table the table to set
+     */
+    public void setTable(final JSONDataTable table) {
+        m_table = table;
+    }
+
+    /**
+     * @return the aggregated values indexed by row block and column block, null for blocks without any non-missing
+     *         value, only set on aggregated levels
+     */
+    public Double[][] getValues() {
+        return m_values;
+    }
+
+    /**
+     * @param values the aggregated values to set
+     */
+    public void setValues(final Double[][] values) {
+        m_values = values;
+    }
+
+    /**
+     * @return the keys of the first and last row of every row block, only set on aggregated levels
+     */
+    public String[][] getRowKeyRanges() {
+        return m_rowKeyRanges;
+    }
+
+    /**
+     * @param rowKeyRanges the row key ranges to set
+     */
+    public void setRowKeyRanges(final String[][] rowKeyRanges) {
+        m_rowKeyRanges = rowKeyRanges;
+    }
+
+    /**
+     * @return the names of the first and last column of every column block, only set on aggregated levels
+     */
+    public String[][] getColumnRanges() {
+        return m_columnRanges;
+    }
+
+    /**
+     * @param columnRanges the column name ranges to set
+     */
+    public void setColumnRanges(final String[][] columnRanges) {
+        m_columnRanges = columnRanges;
+    }
+
+    /**
+     * @return the keys of all rows covered by the requested row blocks, only set if requested
+     */
+    public String[] getRowKeys() {
+        return m_rowKeys;
+    }
+
+    /**
+     * @param rowKeys the row keys to set
+     */
+    public void setRowKeys(final String[] rowKeys) {
+        m_rowKeys = rowKeys;
+    }
+
+    /**
+     * @return the error
+     */
+    public String getError() {
+        return m_error;
+    }
+
+    /**
+     * @param error the error to set
+     */
+    public void setError(final String error) {
+        m_error = error;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj == this) {
+            return true;
+        }
+        if (obj.getClass() != getClass()) {
+            return false;
+        }
+        HeatMapViewResponse other = (HeatMapViewResponse)obj;
+        return new EqualsBuilder()
+                .append(m_level, other.m_level)
+                .append(m_rowCount, other.m_rowCount)
+                .append(m_start, other.m_start)
+                .append(m_table, other.m_table)
+                .append(m_values, other.m_values)
+                .append(m_rowKeyRanges, other.m_rowKeyRanges)
+                .append(m_columnRanges, other.m_columnRanges)
+                .append(m_rowKeys, other.m_rowKeys)
+                .append(m_error, other.m_error)
+                .isEquals();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder()
+                .append(m_level)
+                .append(m_rowCount)
+                .append(m_start)
+                .append(m_table)
+                .append(m_values)
+                .append(m_rowKeyRanges)
+                .append(m_columnRanges)
+                .append(m_rowKeys)
+                .append(m_error)
+                .toHashCode();
+    }
+
+}
@@ -0,0 +1,148 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   17 Oct 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.js.base.node.viz.pagedTable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DirectAccessTable;
+import org.knime.core.data.cache.WindowCacheTable;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.js.base.node.viz.pagedTable.PagedTableSearchSortCache.SearchResult;
+import org.knime.js.core.JSONDataTable.Builder;
+import org.knime.js.core.settings.table.TableRepresentationSettings;
+
+/**
+ * Server side row cache for table based views with lazy loading enabled. Serves the pages requested by the view
+ * through a {@link WindowCacheTable}, evaluating search and order of the requests if present.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+public final class LazyTableCache {
+
+    private final BufferedDataTable m_table;
+    private final WindowCacheTable m_cache;
+    private final PagedTableSearchSortCache m_searchSortCache;
+
+    /**
+     * @param table the table to serve rows from
+     * @param settings the representation settings of the view, used to determine the displayed columns and the
+     *            cache size
+     */
+    public LazyTableCache(final BufferedDataTable table, final TableRepresentationSettings settings) {
+        m_table = table;
+        String[] includedColumns = null;
+        if (settings.getTable() != null) {
+            includedColumns = settings.getTable().getSpec().getColNames();
+        }
+        m_cache = new WindowCacheTable(table, includedColumns);
+        int maxPageSize = settings.getInitialPageSize();
+        if (settings.getEnablePageSizeChange()) {
+            maxPageSize = Arrays.stream(settings.getAllowedPageSizes()).max().getAsInt();
+        }
+        // we either take the default cache size (500), or if larger, 5 times the largest page size
+        // that is available for selection in the view
+        int cacheSize = Math.max(5 * maxPageSize, WindowCacheTable.DEFAULT_CACHE_SIZE);
+        m_cache.setCacheSize(cacheSize);
+        m_searchSortCache = new PagedTableSearchSortCache(table, includedColumns, cacheSize);
+    }
+
+    /**
+     * Fills the given response with the rows requested.
+     *
+     * @param request the request of the view
+     * @param tableBuilder the builder to create the JSON table of the response with
+     * @param response the response to fill
+     * @param exec the monitor to report progress to and check for cancellation
+     * @throws CanceledExecutionException if the request was canceled
+     */
+    public void fillResponse(final PagedTableViewRequest request, final Builder tableBuilder,
+        final PagedTableViewResponse response, final ExecutionMonitor exec) throws CanceledExecutionException {
+        if (request.hasSearch() || request.hasOrder()) {
+            // search and order are evaluated once and kept until they change, paging is then served from cache
+            exec.setMessage("Searching and sorting rows...");
+            try (SearchResult result = m_searchSortCache.getResult(request, exec.createSubProgress(0.8))) {
+                fillResponse(request, result.getTable(), result.getRowCount(), tableBuilder, response,
+                    exec.createSubProgress(0.2));
+            }
+        } else {
+            fillResponse(request, m_cache, m_table.size(), tableBuilder, response, exec);
+        }
+    }
+
+    private void fillResponse(final PagedTableViewRequest request, final DirectAccessTable table,
+        final long recordsFiltered, final Builder tableBuilder, final PagedTableViewResponse response,
+        final ExecutionMonitor exec) throws CanceledExecutionException {
+        response.setRecordsTotal(m_table.size());
+        response.setRecordsFiltered(recordsFiltered);
+        ExecutionMonitor cacheProgress = exec.createSubProgress(0.95);
+        exec.setMessage("Caching rows...");
+        List<DataRow> rows;
+        try {
+            rows = table.getRows(request.getStart(), request.getLength(), cacheProgress);
+        } catch (IndexOutOfBoundsException e) {
+            rows = new ArrayList<DataRow>(0);
+        }
+        tableBuilder.setDataRows(rows.stream().toArray(DataRow[]::new));
+        tableBuilder.setFirstRow(request.getStart() + 1);
+        tableBuilder.setMaxRows(request.getLength());
+        exec.setMessage("Serializing response...");
+        response.setTable(tableBuilder.build(exec.createSubProgress(0.05)));
+    }
+
+    /**
+     * Disposes of temporary search results.
+     */
+    public void clear() {
+        m_searchSortCache.clear();
+    }
+}
@@ -0,0 +1,387 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   17 Oct 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.js.base.node.viz.pagedTable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.apache.commons.lang3.StringUtils;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTable;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DirectAccessTable;
+import org.knime.core.data.cache.WindowCacheTable;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.container.DataContainer;
+import org.knime.core.data.sort.DataTableSorter;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.js.base.node.viz.pagedTable.PagedTableViewRequest.Column;
+import org.knime.js.base.node.viz.pagedTable.PagedTableViewRequest.Order;
+import org.knime.js.base.node.viz.pagedTable.PagedTableViewRequest.Search;
+
+/**
+ * Evaluates the search and order parameters of a {@link PagedTableViewRequest} on the server side. The rows matching
+ * a search are materialized once in the requested order and wrapped in a {@link WindowCacheTable}, so that paging
+ * through the same search and order only reads the requested window instead of rescanning the input table.
+ * <p>
+ * Requests are handled concurrently, so a request may still be reading a result while another request with a
+ * different search or order replaces it. Results are therefore handed out as {@link SearchResult}s which count their
+ * readers; a replaced result is only disposed of once the last reader has closed it.
+ * </p>
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+final class PagedTableSearchSortCache {
+
+    private final BufferedDataTable m_table;
+    private final String[] m_includedColumns;
+    private final int m_cacheSize;
+
+    private List<Object> m_key;
+    private SearchResult m_result;
+
+    /**
+     * @param table the table to search and sort
+     * @param includedColumns the columns which are displayed in the view, null for all columns
+     * @param cacheSize the number of rows to keep in the window cache
+     */
+    PagedTableSearchSortCache(final BufferedDataTable table, final String[] includedColumns, final int cacheSize) {
+        m_table = table;
+        m_includedColumns = includedColumns == null ? table.getDataTableSpec().getColumnNames() : includedColumns;
+        m_cacheSize = cacheSize;
+    }
+
+    /**
+     * Returns the rows matching the search of the given request, in the requested order. The result is kept and reused
+     * until a request with a different search or order is received. It stays readable until it is closed by the
+     * caller, even if it is replaced in the meantime.
+     *
+     * @param request the request to evaluate
+     * @param exec the monitor to report progress to and check for cancellation
+     * @return the matching rows in the requested order, to be closed after reading
+     * @throws CanceledExecutionException if the execution was canceled
+     */
+    synchronized SearchResult getResult(final PagedTableViewRequest request, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        DataTableSpec spec = m_table.getDataTableSpec();
+
+        SearchMatcher globalMatcher = null;
+        int[] globalColumns = new int[0];
+        Search globalSearch = request.getSearch();
+        if (globalSearch != null && StringUtils.isNotEmpty(globalSearch.getValue())) {
+            globalMatcher = new SearchMatcher(globalSearch);
+            globalColumns = getSearchableColumns(request.getColumns(), spec);
+        }
+
+        List<Integer> columnSearchIndices = new ArrayList<Integer>();
+        List<SearchMatcher> columnMatchers = new ArrayList<SearchMatcher>();
+        List<Object> key = new ArrayList<Object>();
+        if (globalMatcher != null) {
+            key.add(globalSearch.getValue());
+            key.add(globalSearch.isRegex());
+            key.add(Arrays.toString(globalColumns));
+        }
+        if (request.getColumns() != null) {
+            for (Column col : request.getColumns()) {
+                if (col == null || col.getSearch() == null || StringUtils.isEmpty(col.getSearch().getValue())) {
+                    continue;
+                }
+                int colIndex = resolveColumn(col, spec);
+                if (colIndex >= 0) {
+                    columnSearchIndices.add(colIndex);
+                    columnMatchers.add(new SearchMatcher(col.getSearch()));
+                    key.add(colIndex);
+                    key.add(col.getSearch().getValue());
+                    key.add(col.getSearch().isRegex());
+                }
+            }
+        }
+
+        List<String> sortColumns = new ArrayList<String>();
+        List<Boolean> sortAscending = new ArrayList<Boolean>();
+        if (request.getOrder() != null) {
+            for (Order order : request.getOrder()) {
+                if (order == null) {
+                    continue;
+                }
+                int colIndex = resolveOrderColumn(order, request.getColumns(), spec);
+                if (colIndex >= 0) {
+                    sortColumns.add(spec.getColumnSpec(colIndex).getName());
+                    sortAscending.add(!"desc".equalsIgnoreCase(order.getDir()));
+                }
+            }
+        }
+        key.add(sortColumns);
+        key.add(sortAscending);
+
+        if (m_result != null && key.equals(m_key)) {
+            return m_result.acquire();
+        }
+        clear();
+
+        DataTable result = m_table;
+        long rowCount = m_table.size();
+        boolean filter = globalMatcher != null || !columnMatchers.isEmpty();
+        if (filter) {
+            ExecutionMonitor filterProgress = exec.createSubProgress(sortColumns.isEmpty() ? 1.0 : 0.5);
+            DataContainer dc = new DataContainer(spec);
+            long count = 0;
+            long matching = 0;
+            try (CloseableRowIterator it = m_table.iterator()) {
+                while (it.hasNext()) {
+                    DataRow row = it.next();
+                    filterProgress.checkCanceled();
+                    filterProgress.setProgress(++count / (double)rowCount);
+                    if (matches(row, globalMatcher, globalColumns, columnSearchIndices, columnMatchers)) {
+                        dc.addRowToTable(row);
+                        matching++;
+                    }
+                }
+            } finally {
+                dc.close();
+            }
+            result = dc.getTable();
+            rowCount = matching;
+        }
+        if (!sortColumns.isEmpty()) {
+            boolean[] ascending = new boolean[sortAscending.size()];
+            for (int i = 0; i < ascending.length; i++) {
+                ascending[i] = sortAscending.get(i);
+            }
+            DataTableSorter sorter = new DataTableSorter(result, rowCount, sortColumns, ascending);
+            DataTable sorted = sorter.sort(exec.createSubProgress(filter ? 0.5 : 1.0));
+            if (result instanceof ContainerTable) {
+                ((ContainerTable)result).clear();
+            }
+            result = sorted;
+        }
+
+        m_result = new SearchResult(result, rowCount);
+        m_key = key;
+        return m_result.acquire();
+    }
+
+    /**
+     * Releases the currently held search result. It is disposed of as soon as no request is reading it anymore.
+     */
+    synchronized void clear() {
+        if (m_result != null) {
+            m_result.retire();
+        }
+        m_result = null;
+        m_key = null;
+    }
+
+    /**
+     * The rows matching a search in the requested order. Every reader obtained from
+     * {@link PagedTableSearchSortCache#getResult(PagedTableViewRequest, ExecutionMonitor)} has to close it after
+     * reading, the underlying table is disposed of when it has been replaced and its last reader closed it.
+     */
+    final class SearchResult implements AutoCloseable {
+
+        private final DataTable m_data;
+        private final WindowCacheTable m_cache;
+        private final long m_rowCount;
+        private int m_readers;
+        private boolean m_retired;
+
+        private SearchResult(final DataTable data, final long rowCount) {
+            m_data = data;
+            m_rowCount = rowCount;
+            m_cache = new WindowCacheTable(data, m_includedColumns);
+            m_cache.setCacheSize(m_cacheSize);
+        }
+
+        /**
+         * @return a direct access table with the matching rows in the requested order
+         */
+        DirectAccessTable getTable() {
+            return m_cache;
+        }
+
+        /**
+         * @return the number of matching rows
+         */
+        long getRowCount() {
+            return m_rowCount;
+        }
+
+        private SearchResult acquire() {
+            m_readers++;
+            return this;
+        }
+
+        private void retire() {
+            m_retired = true;
+            disposeIfUnused();
+        }
+
+        @Override
+        public void close() {
+            synchronized (PagedTableSearchSortCache.this) {
+                m_readers--;
+                disposeIfUnused();
+            }
+        }
+
+        private void disposeIfUnused() {
+            if (m_retired && m_readers == 0 && m_data instanceof ContainerTable) {
+                ((ContainerTable)m_data).clear();
+            }
+        }
+    }
+
+    private int[] getSearchableColumns(final Column[] columns, final DataTableSpec spec) {
+        if (columns == null) {
+            return Arrays.stream(m_includedColumns).mapToInt(spec::findColumnIndex).filter(i -> i >= 0).toArray();
+        }
+        return Arrays.stream(columns).filter(c -> c != null && c.isSearchable())
+            .mapToInt(c -> resolveColumn(c, spec)).filter(i -> i >= 0).distinct().toArray();
+    }
+
+    private int resolveOrderColumn(final Order order, final Column[] columns, final DataTableSpec spec) {
+        String column = order.getColumn();
+        if (column == null) {
+            return -1;
+        }
+        if (columns != null && StringUtils.isNumeric(column)) {
+            int index = Integer.parseInt(column);
+            if (index < columns.length && columns[index] != null && columns[index].isOrderable()) {
+                return resolveColumn(columns[index], spec);
+            }
+            return -1;
+        }
+        return resolveColumnName(column, spec);
+    }
+
+    private int resolveColumn(final Column column, final DataTableSpec spec) {
+        int index = resolveColumnName(column.getName(), spec);
+        if (index < 0) {
+            index = resolveColumnName(column.getData(), spec);
+        }
+        return index;
+    }
+
+    private int resolveColumnName(final String name, final DataTableSpec spec) {
+        if (name == null || !Arrays.asList(m_includedColumns).contains(name)) {
+            return -1;
+        }
+        return spec.findColumnIndex(name);
+    }
+
+    private static boolean matches(final DataRow row, final SearchMatcher globalMatcher, final int[] globalColumns,
+        final List<Integer> columnSearchIndices, final List<SearchMatcher> columnMatchers) {
+        for (int i = 0; i < columnMatchers.size(); i++) {
+            if (!columnMatchers.get(i).matches(getString(row.getCell(columnSearchIndices.get(i))))) {
+                return false;
+            }
+        }
+        if (globalMatcher == null) {
+            return true;
+        }
+        StringBuilder builder = new StringBuilder();
+        for (int colIndex : globalColumns) {
+            builder.append(getString(row.getCell(colIndex))).append(' ');
+        }
+        return globalMatcher.matches(builder.toString());
+    }
+
+    private static String getString(final DataCell cell) {
+        return cell.isMissing() ? "" : cell.toString();
+    }
+
+    /**
+     * Matches strings either against a case insensitive regular expression, or, for plain searches, checks that
+     * every whitespace separated word of the search is contained in the string. A regular expression that does not
+     * compile, e.g. because it is still being typed, is searched for literally.
+     */
+    private static final class SearchMatcher {
+
+        private final Pattern m_pattern;
+        private final String[] m_words;
+
+        SearchMatcher(final Search search) {
+            if (search.isRegex()) {
+                m_pattern = compile(search.getValue());
+                m_words = null;
+            } else {
+                m_pattern = null;
+                m_words = StringUtils.split(search.getValue().toLowerCase(Locale.ROOT));
+            }
+        }
+
+        private static Pattern compile(final String regex) {
+            try {
+                return Pattern.compile(regex, Pattern.CASE_INSENSITIVE);
+            } catch (PatternSyntaxException e) {
+                return Pattern.compile(Pattern.quote(regex), Pattern.CASE_INSENSITIVE);
+            }
+        }
+
+        boolean matches(final String text) {
+            if (m_pattern != null) {
+                return m_pattern.matcher(text).find();
+            }
+            String lowerText = text.toLowerCase(Locale.ROOT);
+            for (String word : m_words) {
+                if (!lowerText.contains(word)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
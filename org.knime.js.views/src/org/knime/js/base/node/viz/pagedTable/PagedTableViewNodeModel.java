@@ -47,13 +47,8 @@
  */
 package org.knime.js.base.node.viz.pagedTable;
 
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
-import org.knime.core.data.DataRow;
-import org.knime.core.data.DirectAccessTable;
-import org.knime.core.data.cache.WindowCacheTable;
 import org.knime.core.data.container.ColumnRearranger;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
@@ -64,8 +59,8 @@
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.interactive.ViewRequestHandlingException;
 import org.knime.core.node.port.PortObject;
+import org.knime.js.base.util.table.RowKeySet;
 import org.knime.js.core.JSONDataTable;
-import org.knime.js.core.JSONDataTable.Builder;
 import org.knime.js.core.JSONViewRequestHandler;
 import org.knime.js.core.node.table.AbstractTableNodeModel;
 import org.knime.js.core.settings.table.TableRepresentationSettings;
@@ -80,7 +75,7 @@ public class PagedTableViewNodeModel extends AbstractTableNodeModel<PagedTableVi
         PagedTableViewValue> implements JSONViewRequestHandler<PagedTableViewRequest, PagedTableViewResponse> {
 
     private static NodeLogger LOGGER = NodeLogger.getLogger(PagedTableViewNodeModel.class);
-    private DirectAccessTable m_cache;
+    private LazyTableCache m_cache;
 
     /**
      * @param viewName The name of the interactive view
@@ -156,7 +151,8 @@ protected PortObject[] performExecute(final PortObject[] inObjects, final Execut
                 List<String> selectionList = null;
                 if (viewValue != null) {
                     if (viewValue.getSettings().getSelection() != null) {
-                        selectionList = Arrays.asList(viewValue.getSettings().getSelection());
+                        // hashed lookup, the appender calls contains() for every row
+                        selectionList = RowKeySet.of(viewValue.getSettings().getSelection()).asList();
                     }
                 }
                 ColumnRearranger rearranger = createColumnAppender(m_table.getDataTableSpec(), selectionList);
@@ -174,20 +170,7 @@ private void initializeCache(final PagedTableViewRepresentation rep) {
         if (rep == null || rep.getSettings() == null) {
             return;
         }
-        TableRepresentationSettings settings = rep.getSettings();
-        String[] includedColumns = null;
-        if (rep.getSettings().getTable() != null) {
-            includedColumns = settings.getTable().getSpec().getColNames();
-        }
-        m_cache = new WindowCacheTable(m_table, includedColumns);
-        int maxPageSize = settings.getInitialPageSize();
-        if (settings.getEnablePageSizeChange()) {
-            maxPageSize = Arrays.stream(settings.getAllowedPageSizes()).max().getAsInt();
-        }
-        // we either take the default cache size (500), or if larger, 5 times the largest page size
-        // that is available for selection in the view
-        ((WindowCacheTable)m_cache)
-            .setCacheSize(Math.max(5 * maxPageSize, WindowCacheTable.DEFAULT_CACHE_SIZE));
+        m_cache = new LazyTableCache(m_table, rep.getSettings());
     }
 
     /**
@@ -203,7 +186,10 @@ protected void validateSettings(final NodeSettingsRO settings) throws InvalidSet
      */
     @Override
     protected void performReset() {
-        m_cache = null;
+        if (m_cache != null) {
+            m_cache.clear();
+            m_cache = null;
+        }
         super.performReset();
     }
 
@@ -223,20 +209,7 @@ public PagedTableViewResponse handleRequest(final PagedTableViewRequest request,
         throws ViewRequestHandlingException, InterruptedException, CanceledExecutionException {
         PagedTableViewResponse response = new PagedTableViewResponse(request);
         try {
-            ExecutionMonitor cacheProgress = exec.createSubProgress(0.95);
-            exec.setMessage("Caching rows...");
-            List<DataRow> rows;
-            try {
-                rows = m_cache.getRows(request.getStart(), request.getLength(), cacheProgress);
-            } catch (IndexOutOfBoundsException e) {
-                rows = new ArrayList<DataRow>(0);
-            }
-            Builder tableBuilder = getJsonDataTableBuilder(m_table);
-            tableBuilder.setDataRows(rows.stream().toArray(DataRow[]::new));
-            tableBuilder.setFirstRow(request.getStart() + 1);
-            tableBuilder.setMaxRows(request.getLength());
-            exec.setMessage("Serializing response...");
-            response.setTable(tableBuilder.build(exec.createSubProgress(0.05)));
+            m_cache.fillResponse(request, getJsonDataTableBuilder(m_table), response, exec);
         } catch (CanceledExecutionException e) {
             // request was cancelled, no need for special treatment
             throw e;
@@ -48,11 +48,13 @@
  */
 package org.knime.js.base.node.viz.pagedTable;
 
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.knime.js.core.JSONViewRequest;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 
 /**
@@ -70,6 +72,32 @@ public class PagedTableViewRequest extends JSONViewRequest {
     private Column[] m_columns;
     //TODO: probably need to add selection here for 'show selected only' filtering and current filter rule
 
+    /**
+     * @return true if the request contains a non-empty global or column search, false otherwise
+     */
+    @JsonIgnore
+    public boolean hasSearch() {
+        if (m_search != null && StringUtils.isNotEmpty(m_search.getValue())) {
+            return true;
+        }
+        if (m_columns != null) {
+            for (Column col : m_columns) {
+                if (col != null && col.getSearch() != null && StringUtils.isNotEmpty(col.getSearch().getValue())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return true if the request contains at least one sort order, false otherwise
+     */
+    @JsonIgnore
+    public boolean hasOrder() {
+        return m_order != null && m_order.length > 0;
+    }
+
     /**
      * @return the start
      */
@@ -178,7 +206,10 @@ public int hashCode() {
                 .toHashCode();
     }
 
-    private static class Search {
+    /**
+     * Search term, either global or applying to a single column.
+     */
+    public static class Search {
         private String m_value;
         private boolean m_regex;
 
@@ -243,7 +274,10 @@ public int hashCode() {
         }
     }
 
-    private static class Order {
+    /**
+     * Sort order for a single column, the column is referenced either by its index in the columns array or by name.
+     */
+    public static class Order {
         private String m_column;
         private String m_dir;
 
@@ -308,7 +342,10 @@ public int hashCode() {
         }
     }
 
-    private static class Column {
+    /**
+     * Column information as sent by the view, including an optional column search.
+     */
+    public static class Column {
         private String m_data;
         private String m_name;
         private boolean m_searchable;
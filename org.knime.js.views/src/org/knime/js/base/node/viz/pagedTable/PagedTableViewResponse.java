@@ -66,6 +66,8 @@ public class PagedTableViewResponse extends JSONViewResponse<PagedTableViewReque
 
     private JSONDataTable m_table;
     private String m_error;
+    private long m_recordsTotal;
+    private long m_recordsFiltered;
 
     /**
      * @return the table
@@ -95,6 +97,33 @@ public void setError(final String error) {
         m_error = error;
     }
 
+    /**
+     * @return the total number of rows in the table, before applying any search
+     */
+    public long getRecordsTotal() {
+        return m_recordsTotal;
+    }
+
+    /**
+     * @param recordsTotal the total number of rows to set
+     */
+    public void setRecordsTotal(final long recordsTotal) {
+        m_recordsTotal = recordsTotal;
+    }
+
+    /**
+     * @return the number of rows remaining after applying the search of the request
+     */
+    public long getRecordsFiltered() {
+        return m_recordsFiltered;
+    }
+
+    /**
+     * @param recordsFiltered the number of filtered rows to set
+     */
+    public void setRecordsFiltered(final long recordsFiltered) {
+        m_recordsFiltered = recordsFiltered;
+    }
 
     /**
      * @param viewRequest
@@ -121,6 +150,8 @@ public boolean equals(final Object obj) {
         return new EqualsBuilder()
                 .append(m_table, other.m_table)
                 .append(m_error, other.m_error)
+                .append(m_recordsTotal, other.m_recordsTotal)
+                .append(m_recordsFiltered, other.m_recordsFiltered)
                 .isEquals();
     }
 
@@ -132,6 +163,8 @@ public int hashCode() {
         return new HashCodeBuilder()
                 .append(m_table)
                 .append(m_error)
+                .append(m_recordsTotal)
+                .append(m_recordsFiltered)
                 .toHashCode();
     }
 
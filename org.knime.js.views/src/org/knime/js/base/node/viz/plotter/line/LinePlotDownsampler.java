@@ -0,0 +1,287 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   17 Oct 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.js.base.node.viz.plotter.line;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.container.filter.TableFilter;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.js.base.util.table.KeyedDatasetBuilder;
+
+/**
+ * Reduces a table to a bounded number of rows which keep the visual shape of the lines of a line plot.
+ *
+ * <p>
+ * The x range is split into buckets of equal width (or, if the x values are not numeric or their range is unknown,
+ * the rows are split into buckets of equal size). For every bucket the first and the last row and, for every
+ * y column, the rows with the minimum and maximum value are kept. This min/max-per-bucket scheme draws the same
+ * pixels as the full line at a resolution of one bucket per pixel column, while reading the table only once and
+ * keeping only the candidate rows of every bucket in memory.
+ * </p>
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+final class LinePlotDownsampler {
+
+    private final int m_numBuckets;
+
+    private long m_rowsInRange;
+
+    private long m_numMissingX;
+
+    /**
+     * @param maxRows the maximum number of rows kept in total
+     * @param numY the number of y columns, every bucket keeps its first and last row and the rows with the minimum
+     *            and maximum of every y column, that is up to 2 + 2 &middot; numY rows
+     */
+    LinePlotDownsampler(final int maxRows, final int numY) {
+        m_numBuckets = Math.max(1, maxRows / (2 + 2 * numY));
+    }
+
+    /**
+     * Downsamples the whole x range of the given table in one pass.
+     *
+     * @param table the table to downsample
+     * @param xColumn the name of the x column or null if the row index is used as x value
+     * @param yColumns the names of the y columns whose shape is to be kept
+     * @param exec the monitor to report progress to and check for cancellation
+     * @return the kept rows in the order of the table
+     * @throws CanceledExecutionException if the execution was canceled
+     */
+    DataRow[] downsample(final BufferedDataTable table, final String xColumn, final String[] yColumns,
+        final ExecutionMonitor exec) throws CanceledExecutionException {
+        return downsample(table, xColumn, yColumns, null, null, exec);
+    }
+
+    /**
+     * Downsamples the given x range of the table in one pass, e.g. the range a view is zoomed to. The same number of
+     * buckets is spread over the range, so zooming in reveals more detail.
+     *
+     * @param table the table to downsample
+     * @param xColumn the name of the x column or null if the row index is used as x value
+     * @param yColumns the names of the y columns whose shape is to be kept
+     * @param xMin the lower bound of the x range to downsample, null to use the lower bound of the domain
+     * @param xMax the upper bound of the x range to downsample, null to use the upper bound of the domain
+     * @param exec the monitor to report progress to and check for cancellation
+     * @return the kept rows in the order of the table
+     * @throws CanceledExecutionException if the execution was canceled
+     */
+    DataRow[] downsample(final BufferedDataTable table, final String xColumn, final String[] yColumns,
+        final Double xMin, final Double xMax, final ExecutionMonitor exec) throws CanceledExecutionException {
+        final DataTableSpec spec = table.getDataTableSpec();
+        final int xIndex = xColumn == null ? -1 : spec.findColumnIndex(xColumn);
+        final int[] yIndices = yColumns == null ? new int[0]
+            : Arrays.stream(yColumns).mapToInt(spec::findColumnIndex).filter(i -> i >= 0).toArray();
+
+        double lower = Double.NaN;
+        double upper = Double.NaN;
+        if (xIndex >= 0) {
+            final DataColumnSpec xSpec = spec.getColumnSpec(xIndex);
+            lower = xMin != null ? xMin : KeyedDatasetBuilder.toDouble(xSpec.getDomain().getLowerBound());
+            upper = xMax != null ? xMax : KeyedDatasetBuilder.toDouble(xSpec.getDomain().getUpperBound());
+        }
+        // bucket by x value if the range is known, otherwise by row index
+        final boolean byValue = xIndex >= 0 && !Double.isNaN(lower) && !Double.isNaN(upper) && upper > lower;
+
+        long firstRow = 0;
+        long lastRow = table.size() - 1;
+        if (xIndex < 0) {
+            // without x column the row index is the x value, only the rows of the range are read
+            if (xMin != null) {
+                firstRow = Math.max(firstRow, (long)Math.floor(xMin));
+            }
+            if (xMax != null) {
+                lastRow = Math.min(lastRow, (long)Math.ceil(xMax));
+            }
+        }
+        if (lastRow < firstRow) {
+            m_rowsInRange = 0;
+            m_numMissingX = 0;
+            return new DataRow[0];
+        }
+
+        final Buckets buckets = new Buckets(m_numBuckets, yIndices.length);
+        final long numRows = lastRow - firstRow + 1;
+        long rowIndex = firstRow;
+        long rowsInRange = 0;
+        long numMissingX = 0;
+        try (CloseableRowIterator it = table.filter(TableFilter.filterRangeOfRows(firstRow, lastRow)).iterator()) {
+            while (it.hasNext()) {
+                final DataRow row = it.next();
+                final long index = rowIndex++;
+                if ((index - firstRow) % 1000 == 0) {
+                    exec.checkCanceled();
+                    exec.setProgress((index - firstRow) / (double)numRows,
+                        "Downsampling, processing row " + (index - firstRow) + " of " + numRows + ".");
+                }
+                int bucket;
+                if (byValue) {
+                    final double x = KeyedDatasetBuilder.toDouble(row.getCell(xIndex));
+                    if (Double.isNaN(x)) {
+                        numMissingX++;
+                        continue;
+                    }
+                    if (x < lower || x > upper) {
+                        continue;
+                    }
+                    bucket = (int)((x - lower) / (upper - lower) * m_numBuckets);
+                } else {
+                    bucket = (int)((index - firstRow) * m_numBuckets / numRows);
+                }
+                bucket = Math.min(bucket, m_numBuckets - 1);
+                rowsInRange++;
+                buckets.add(bucket, index, row, yIndices);
+            }
+        }
+        m_rowsInRange = rowsInRange;
+        m_numMissingX = numMissingX;
+        return buckets.collect();
+    }
+
+    /**
+     * @return the number of rows within the x range of the last call to
+     *         {@link #downsample(BufferedDataTable, String, String[], Double, Double, ExecutionMonitor)}
+     */
+    long getRowsInRange() {
+        return m_rowsInRange;
+    }
+
+    /**
+     * @return the number of rows skipped by the last call to
+     *         {@link #downsample(BufferedDataTable, String, String[], Double, Double, ExecutionMonitor)} because their
+     *         x value is missing, only counted when bucketing by x value
+     */
+    long getNumMissingX() {
+        return m_numMissingX;
+    }
+
+    /**
+     * Candidate rows of all buckets, kept in flat arrays indexed by bucket (and y column).
+     */
+    private static final class Buckets {
+
+        private final int m_numY;
+        private final long[] m_firstIndex;
+        private final long[] m_lastIndex;
+        private final DataRow[] m_first;
+        private final DataRow[] m_last;
+        private final double[] m_min;
+        private final double[] m_max;
+        private final long[] m_minIndex;
+        private final long[] m_maxIndex;
+        private final DataRow[] m_minRow;
+        private final DataRow[] m_maxRow;
+
+        Buckets(final int numBuckets, final int numY) {
+            m_numY = numY;
+            m_firstIndex = new long[numBuckets];
+            m_lastIndex = new long[numBuckets];
+            m_first = new DataRow[numBuckets];
+            m_last = new DataRow[numBuckets];
+            m_min = new double[numBuckets * numY];
+            m_max = new double[numBuckets * numY];
+            m_minIndex = new long[numBuckets * numY];
+            m_maxIndex = new long[numBuckets * numY];
+            m_minRow = new DataRow[numBuckets * numY];
+            m_maxRow = new DataRow[numBuckets * numY];
+        }
+
+        void add(final int bucket, final long index, final DataRow row, final int[] yIndices) {
+            if (m_first[bucket] == null) {
+                m_first[bucket] = row;
+                m_firstIndex[bucket] = index;
+            }
+            m_last[bucket] = row;
+            m_lastIndex[bucket] = index;
+            for (int y = 0; y < yIndices.length; y++) {
+                final double value = KeyedDatasetBuilder.toDouble(row.getCell(yIndices[y]));
+                if (Double.isNaN(value)) {
+                    continue;
+                }
+                final int i = bucket * m_numY + y;
+                if (m_minRow[i] == null || value < m_min[i]) {
+                    m_min[i] = value;
+                    m_minIndex[i] = index;
+                    m_minRow[i] = row;
+                }
+                if (m_maxRow[i] == null || value > m_max[i]) {
+                    m_max[i] = value;
+                    m_maxIndex[i] = index;
+                    m_maxRow[i] = row;
+                }
+            }
+        }
+
+        DataRow[] collect() {
+            final Map<Long, DataRow> rows = new TreeMap<Long, DataRow>();
+            for (int b = 0; b < m_first.length; b++) {
+                if (m_first[b] == null) {
+                    continue;
+                }
+                rows.put(m_firstIndex[b], m_first[b]);
+                rows.put(m_lastIndex[b], m_last[b]);
+                for (int y = 0; y < m_numY; y++) {
+                    final int i = b * m_numY + y;
+                    if (m_minRow[i] != null) {
+                        rows.put(m_minIndex[i], m_minRow[i]);
+                        rows.put(m_maxIndex[i], m_maxRow[i]);
+                    }
+                }
+            }
+            return rows.values().toArray(new DataRow[rows.size()]);
+        }
+    }
+}
@@ -122,6 +122,8 @@ public class LinePlotNodeDialogPane extends NodeDialogPane {
     private final JCheckBox m_reportOnMissingValuesCheckBox;
 
     private final JSpinner m_maxRowsSpinner;
+    private final JCheckBox m_enableDownsamplingCheckBox;
+    private final JSpinner m_downsamplingMaxRowsSpinner;
     //private final JTextField m_appendedColumnName;
     private final JTextField m_chartTitleTextField;
     private final JTextField m_chartSubtitleTextField;
@@ -176,6 +178,10 @@ public LinePlotNodeDialogPane() {
         m_missingValueMethodComboBox.addItem("Skip column");
 
         m_maxRowsSpinner = new JSpinner();
+        m_enableDownsamplingCheckBox = new JCheckBox("Downsample all rows");
+        m_enableDownsamplingCheckBox.addChangeListener(e -> enableDownsamplingFields());
+        m_downsamplingMaxRowsSpinner = new JSpinner(new SpinnerNumberModel(
+            LinePlotViewConfig.DEFAULT_DOWNSAMPLING_MAX_ROWS, 4, Integer.MAX_VALUE, 100));
         //m_appendedColumnName = new JTextField(TEXT_FIELD_SIZE);
         m_chartTitleTextField = new JTextField(TEXT_FIELD_SIZE);
         m_chartSubtitleTextField = new JTextField(TEXT_FIELD_SIZE);
@@ -268,6 +274,16 @@ private Component initOptionsPanel() {
         c.gridx++;
         m_maxRowsSpinner.setPreferredSize(new Dimension(100, TEXT_FIELD_SIZE));
         panel.add(m_maxRowsSpinner, c);
+        c.gridx = 0;
+        c.gridy++;
+        c.gridwidth = 2;
+        panel.add(m_enableDownsamplingCheckBox, c);
+        c.gridx += 2;
+        c.gridwidth = 1;
+        panel.add(new JLabel("Maximum number of downsampled rows: "), c);
+        c.gridx++;
+        m_downsamplingMaxRowsSpinner.setPreferredSize(new Dimension(100, TEXT_FIELD_SIZE));
+        panel.add(m_downsamplingMaxRowsSpinner, c);
         /*c.gridx++;
         panel.add(new JLabel("Selection column name: "), c);
         c.gridx++;
@@ -573,6 +589,12 @@ private void enableCrosshairControls() {
         m_snapToPointsCheckBox.setEnabled(enable);
     }
 
+    private void enableDownsamplingFields() {
+        boolean enable = m_enableDownsamplingCheckBox.isSelected();
+        m_downsamplingMaxRowsSpinner.setEnabled(enable);
+        m_maxRowsSpinner.setEnabled(!enable);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -621,6 +643,9 @@ protected void loadSettingsFrom(final NodeSettingsRO settings, final DataTableSp
         m_dotSize.setValue(m_config.getDotSize());
         m_lineSize.setValue(m_config.getLineSize());
         m_maxRowsSpinner.setValue(m_config.getMaxRows());
+        m_enableDownsamplingCheckBox.setSelected(m_config.getEnableDownsampling());
+        m_downsamplingMaxRowsSpinner.setValue(m_config.getDownsamplingMaxRows());
+        enableDownsamplingFields();
 
         m_dateTimeFormats.loadSettingsFromModel(m_config.getDateTimeFormats());
 
@@ -686,6 +711,8 @@ protected void saveSettingsTo(final NodeSettingsWO settings) throws InvalidSetti
         m_config.setDotSize((Integer)m_dotSize.getValue());
         m_config.setLineSize((Integer)m_lineSize.getValue());
         m_config.setMaxRows((Integer)m_maxRowsSpinner.getValue());
+        m_config.setEnableDownsampling(m_enableDownsamplingCheckBox.isSelected());
+        m_config.setDownsamplingMaxRows((Integer)m_downsamplingMaxRowsSpinner.getValue());
 
         m_config.setDateTimeFormats((SettingsModelDateTimeOptions)m_dateTimeFormats.getModel());
 
@@ -48,33 +48,20 @@
  */
 package org.knime.js.base.node.viz.plotter.line;
 
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.time.ZoneOffset;
-import java.time.ZonedDateTime;
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.IntStream;
 
 import org.knime.base.data.xml.SvgCell;
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
-import org.knime.core.data.DataColumnSpecCreator;
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
-import org.knime.core.data.DataType;
 import org.knime.core.data.DoubleValue;
 import org.knime.core.data.StringValue;
-import org.knime.core.data.container.CellFactory;
 import org.knime.core.data.container.ColumnRearranger;
-import org.knime.core.data.container.SingleCellFactory;
-import org.knime.core.data.def.BooleanCell;
 import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.BufferedDataTableHolder;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.ExecutionMonitor;
@@ -82,6 +69,7 @@
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.interactive.ViewRequestHandlingException;
 import org.knime.core.node.port.PortObject;
 import org.knime.core.node.port.PortObjectSpec;
 import org.knime.core.node.port.PortType;
@@ -91,10 +79,11 @@
 import org.knime.core.node.util.filter.NameFilterConfiguration.EnforceOption;
 import org.knime.core.node.util.filter.NameFilterConfiguration.FilterResult;
 import org.knime.core.node.web.ValidationError;
+import org.knime.js.base.util.table.KeyedDatasetBuilder;
+import org.knime.js.base.util.table.SelectionCellFactory;
 import org.knime.js.core.JSONDataTable;
-import org.knime.js.core.JSONDataTable.JSONDataTableRow;
 import org.knime.js.core.JSONDataTableSpec;
-import org.knime.js.core.JSONDataTableSpec.JSTypes;
+import org.knime.js.core.JSONViewRequestHandler;
 import org.knime.js.core.datasets.JSONKeyedValues2DDataset;
 import org.knime.js.core.datasets.JSONKeyedValuesRow;
 import org.knime.js.core.layout.LayoutTemplateProvider;
@@ -108,7 +97,8 @@
  * @author Christian Albrecht, KNIME AG, Zurich, Switzerland, University of Konstanz
  */
 final class LinePlotNodeModel extends AbstractSVGWizardNodeModel<LinePlotViewRepresentation,
-        LinePlotViewValue> implements LayoutTemplateProvider/*, CSSModifiable*/ {
+        LinePlotViewValue> implements LayoutTemplateProvider, BufferedDataTableHolder,
+        JSONViewRequestHandler<LinePlotViewRequest, LinePlotViewResponse>/*, CSSModifiable*/ {
 
     private static final NodeLogger LOGGER = NodeLogger.getLogger(LinePlotNodeModel.class);
 
@@ -120,6 +110,7 @@ final class LinePlotNodeModel extends AbstractSVGWizardNodeModel<LinePlotViewRep
 
     static final String ROWS_LIMITATION_WARNING_ID = "rowsLimitation";
     static final String SKIP_Y_COLUMNS_WARNING_ID = "skipYColumns";
+    static final String MISSING_X_WARNING_ID = "missingX";
 
     /**
      * Creates a new model instance.
@@ -168,32 +159,12 @@ protected PortObjectSpec[] configure(final PortObjectSpec[] inSpecs) throws Inva
     }
 
     private ColumnRearranger createColumnAppender(final DataTableSpec spec, final List<String> selectionList) {
-        String newColName = m_config.getSelectionColumnName();
-        if (newColName == null || newColName.trim().isEmpty()) {
-            newColName = LinePlotViewConfig.DEFAULT_SELECTION_COLUMN_NAME;
-        }
-        newColName = DataTableSpec.getUniqueColumnName(spec, newColName);
-
-        DataColumnSpec outColumnSpec =
-            new DataColumnSpecCreator(newColName, DataType.getType(BooleanCell.class)).createSpec();
+        DataColumnSpec outColumnSpec = SelectionCellFactory.createSelectionColumnSpec(spec,
+            m_config.getSelectionColumnName(), LinePlotViewConfig.DEFAULT_SELECTION_COLUMN_NAME);
         ColumnRearranger rearranger = new ColumnRearranger(spec);
-        CellFactory fac = new SingleCellFactory(outColumnSpec) {
-            private int m_rowIndex = 0;
-
-            @Override
-            public DataCell getCell(final DataRow row) {
-                if (++m_rowIndex > m_config.getMaxRows()) {
-                    return DataType.getMissingCell();
-                }
-                if (selectionList != null) {
-                    if (selectionList.contains(row.getKey().toString())) {
-                        return BooleanCell.TRUE;
-                    }
-                }
-                return BooleanCell.FALSE;
-            }
-        };
-        rearranger.append(fac);
+        // when downsampling any row of the table can be displayed and thus selected
+        long maxRows = m_config.getEnableDownsampling() ? Long.MAX_VALUE : m_config.getMaxRows();
+        rearranger.append(new SelectionCellFactory(outColumnSpec, selectionList, maxRows));
         return rearranger;
     }
 
@@ -337,25 +308,37 @@ protected PortObject[] performExecuteCreatePortObjects(final PortObject svgImage
         createKeyedDataset(final BufferedDataTable colorTable, final ExecutionContext exec)
             throws CanceledExecutionException {
 
-        ColumnRearranger c = createNumericColumnRearranger(m_table.getDataTableSpec());
-        BufferedDataTable filteredTable = exec.createColumnRearrangeTable(m_table, c, exec.createSubProgress(0.1));
-        exec.setProgress(0.1);
         //construct dataset
-        if (m_config.getMaxRows() < filteredTable.size()) {
-            String msg = "Only the first " + m_config.getMaxRows() + " rows are displayed.";
-            setWarningMessage(msg);
-            if (m_config.getShowWarningInView()) {
-                getViewRepresentation().getWarnings().setWarningMessage(msg, ROWS_LIMITATION_WARNING_ID);
+        final KeyedDatasetBuilder builder = new KeyedDatasetBuilder(m_table.getDataTableSpec());
+        final JSONKeyedValuesRow[] rowValues;
+        if (m_config.getEnableDownsampling()) {
+            LinePlotViewValue value = getViewValue();
+            String[] yColumns = value.getyColumns();
+            LinePlotDownsampler downsampler = new LinePlotDownsampler(m_config.getDownsamplingMaxRows(),
+                yColumns == null ? 0 : yColumns.length);
+            DataRow[] rows = downsampler.downsample(m_table, value.getxColumn(), yColumns,
+                exec.createSubProgress(0.6));
+            LOGGER.debug("Downsampled " + downsampler.getRowsInRange() + " rows to " + rows.length + " rows.");
+            long missingX = downsampler.getNumMissingX();
+            if (missingX > 0) {
+                String msg = missingX + " rows with a missing value in the X axis column were skipped.";
+                setWarningMessage(msg);
+                if (m_config.getShowWarningInView()) {
+                    getViewRepresentation().getWarnings().setWarningMessage(msg, MISSING_X_WARNING_ID);
+                }
             }
+            rowValues = builder.createRows(rows, exec.createSubProgress(0.3));
+        } else {
+            if (m_config.getMaxRows() < m_table.size()) {
+                String msg = "Only the first " + m_config.getMaxRows() + " rows are displayed.";
+                setWarningMessage(msg);
+                if (m_config.getShowWarningInView()) {
+                    getViewRepresentation().getWarnings().setWarningMessage(msg, ROWS_LIMITATION_WARNING_ID);
+                }
+            }
+            rowValues = builder.createRows(m_table, m_config.getMaxRows(), exec.createSubProgress(0.9));
         }
 
-        JSONDataTable.Builder builder = JSONDataTable.newBuilder()
-                .setDataTable(filteredTable)
-                .setId(getTableId(0))
-                .setFirstRow(1)
-                .setMaxRows(m_config.getMaxRows());
-        final JSONDataTable table = builder.build(exec.createSubProgress(0.79));
-
         JSONDataTable jsonColorTable = null;
         if (colorTable != null) {
             jsonColorTable = JSONDataTable.newBuilder()
@@ -364,53 +347,12 @@ protected PortObject[] performExecuteCreatePortObjects(final PortObject svgImage
                     .setFirstRow(1)
                     .build(exec.createSilentSubProgress(0.01));
         }
-        exec.setProgress(0.9);
-        ExecutionMonitor datasetExecutionMonitor = exec.createSubProgress(0.1);
-        final JSONDataTableSpec tableSpec = table.getSpec();
-        int numColumns = tableSpec.getNumColumns();
-        String[] rowKeys = new String[tableSpec.getNumRows()];
-        JSONKeyedValuesRow[] rowValues = new JSONKeyedValuesRow[tableSpec.getNumRows()];
-        JSONDataTableRow[] tableRows = table.getRows();
-        for (int rowID = 0; rowID < rowValues.length; rowID++) {
-            JSONDataTableRow currentRow = tableRows[rowID];
-            rowKeys[rowID] = currentRow.getRowKey();
-            Double[] rowData = new Double[numColumns];
-            Object[] tableData = currentRow.getData();
-            for (int colID = 0; colID < numColumns; colID++) {
-                if (tableData[colID] instanceof Double) {
-                    rowData[colID] = (Double)tableData[colID];
-                } else if (tableData[colID] instanceof Long) {
-                    rowData[colID] = ((Long)tableData[colID]).doubleValue();
-                } else if (tableData[colID] instanceof String) {
-                    String data = (String) tableData[colID];
-                    if (tableSpec.getKnimeTypes()[colID].equals("Date&time (Local)")) {
-                        rowData[colID] = ((Long)LocalDateTime.parse(data).toInstant(ZoneOffset.UTC).toEpochMilli()).doubleValue();
-                    } else if (tableSpec.getKnimeTypes()[colID].equals("Date")) {
-                        rowData[colID] = ((Long)LocalDate.parse(data).atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli()).doubleValue();
-                    } else if (tableSpec.getKnimeTypes()[colID].equals("Time")) {
-                        rowData[colID] = ((Long)LocalTime.parse(data).atDate(LocalDate.now()).toInstant(ZoneOffset.UTC).toEpochMilli()).doubleValue();
-                    } else if (tableSpec.getKnimeTypes()[colID].equals("Date&time (Zoned)")) {
-                        rowData[colID] = ((Long)ZonedDateTime.parse(data).toInstant().toEpochMilli()).doubleValue();
-                    } else {
-                        // String
-                        rowData[colID] = ((Integer)getOrdinalFromStringValue(data, table, colID)).doubleValue();
-                    }
-                }
-            }
-            rowValues[rowID] = new JSONKeyedValuesRow(currentRow.getRowKey(), rowData);
-            rowValues[rowID].setColor(tableSpec.getRowColorValues()[rowID]);
-            datasetExecutionMonitor.setProgress(((double)rowID) / rowValues.length, "Creating dataset, processing row "
-                + rowID + " of " + rowValues.length + ".");
-        }
-
-        JSONKeyedValues2DDataset dataset = new JSONKeyedValues2DDataset(getTableId(0), tableSpec.getColNames(), rowValues);
+        exec.setProgress(0.99);
+        final JSONDataTableSpec tableSpec = builder.getSpec();
+        JSONKeyedValues2DDataset dataset = builder.createDataset(getTableId(0), rowValues);
 
         // Write which columns have missing values
-        boolean[] flags = table.getSpec().getContainsMissingValues();
-        String[] missingValueColumns = IntStream.range(0, flags.length)
-            .filter(i -> flags[i])
-            .mapToObj(i -> table.getSpec().getColNames()[i])
-            .toArray(String[]::new);
+        String[] missingValueColumns = builder.getMissingValueColumns();
         dataset.setMissingValueColumns(missingValueColumns);
         if (Arrays.asList(missingValueColumns).contains(m_config.getxColumn()) && getViewRepresentation().getReportOnMissingValues()) {
             setWarningMessage("Missing values of the X axis column will be removed in the view");
@@ -434,13 +376,6 @@ protected PortObject[] performExecuteCreatePortObjects(final PortObject svgImage
             if (colColor != null) {
                 dataset.setColumnColor(colColor, col);
             }
-            if (tableSpec.getColTypes()[col].equals(JSTypes.STRING)
-                && tableSpec.getPossibleValues().get(col) != null) {
-                dataset.setSymbol(getSymbolMap(tableSpec.getPossibleValues().get(col)), col);
-            }
-            if (tableSpec.getColTypes()[col].equals(JSTypes.DATE_TIME)) {
-                dataset.setDateTimeFormat(tableSpec.getKnimeTypes()[col], col);
-            }
         }
         if (colorExceptionCount > 0) {
             setWarningMessage("There was a problem processing the colors "
@@ -462,41 +397,6 @@ protected PortObject[] performExecuteCreatePortObjects(final PortObject svgImage
         return dataset;
     }
 
-    private ColumnRearranger createNumericColumnRearranger(final DataTableSpec in) {
-        ColumnRearranger c = new ColumnRearranger(in);
-        for (DataColumnSpec colSpec : in) {
-            DataType type = colSpec.getType();
-            if (!type.isCompatible(DoubleValue.class) && !type.isCompatible(StringValue.class)) {
-                c.remove(colSpec.getName());
-            }
-        }
-        return c;
-    }
-
-    private int getOrdinalFromStringValue(final String stringValue, final JSONDataTable table, final int colID) {
-        LinkedHashSet<Object> possibleValues = table.getSpec().getPossibleValues().get(colID);
-        if (possibleValues != null) {
-            int ordinal = 0;
-            for (Object value : possibleValues) {
-                if (value != null && value.equals(stringValue)) {
-                    return ordinal;
-                }
-                ordinal++;
-            }
-        }
-        return -1;
-    }
-
-    private Map<String, String> getSymbolMap(final LinkedHashSet<Object> linkedHashSet) {
-        Map<String, String> symbolMap = new HashMap<String, String>();
-        Integer ordinal = 0;
-        for (Object value : linkedHashSet) {
-            symbolMap.put(ordinal.toString(), value.toString());
-            ordinal++;
-        }
-        return symbolMap;
-    }
-
     private String getColorForColumn(final String colKey, final JSONDataTable colorTable) {
         if (colKey != null && colorTable != null) {
             for (int row = 0; row < colorTable.getRows().length; row++) {
@@ -519,6 +419,57 @@ protected void performReset() {
         m_table = null;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BufferedDataTable[] getInternalTables() {
+        return new BufferedDataTable[]{m_table};
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setInternalTables(final BufferedDataTable[] tables) {
+        m_table = tables[0];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LinePlotViewRequest createEmptyViewRequest() {
+        return new LinePlotViewRequest();
+    }
+
+    /**
+     * Downsamples the x range the view is zoomed to, so that zooming in reveals the rows dropped when the whole range
+     * was downsampled.
+     */
+    @Override
+    public LinePlotViewResponse handleRequest(final LinePlotViewRequest request, final ExecutionMonitor exec)
+        throws ViewRequestHandlingException, InterruptedException, CanceledExecutionException {
+        LinePlotViewResponse response = new LinePlotViewResponse(request);
+        BufferedDataTable table;
+        synchronized (getLock()) {
+            table = m_table;
+        }
+        if (table == null || !m_config.getEnableDownsampling()) {
+            response.setError("Downsampling is not enabled or the node is not executed.");
+            return response;
+        }
+        String[] yColumns = request.getyColumns();
+        LinePlotDownsampler downsampler = new LinePlotDownsampler(m_config.getDownsamplingMaxRows(),
+            yColumns == null ? 0 : yColumns.length);
+        DataRow[] rows = downsampler.downsample(table, request.getxColumn(), yColumns, request.getxMin(),
+            request.getxMax(), exec.createSubProgress(0.8));
+        response.setRows(new KeyedDatasetBuilder(table.getDataTableSpec()).createRows(rows,
+            exec.createSubProgress(0.2)));
+        response.setRowsInRange(downsampler.getRowsInRange());
+        return response;
+    }
+
     /**
      * {@inheritDoc}
      */
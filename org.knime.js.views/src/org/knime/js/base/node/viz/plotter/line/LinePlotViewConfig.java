@@ -136,6 +136,10 @@ public final class LinePlotViewConfig {
     static final String SHOW_WARNING_IN_VIEW = "showWarningInView";
     static final String DATE_TIME_FORMATS = "dateTimeFormats";  // new date&time formats
     static final String REPORT_ON_MISSING_VALUES = "reportOnMissingValues";
+    static final String ENABLE_DOWNSAMPLING = "enableDownsampling";
+    static final boolean DEFAULT_ENABLE_DOWNSAMPLING = false;
+    static final String DOWNSAMPLING_MAX_ROWS = "downsamplingMaxRows";
+    static final int DEFAULT_DOWNSAMPLING_MAX_ROWS = 2500;
     /*static final String CUSTOM_CSS = "customCSS";*/
 
     private boolean m_hideInWizard = false;
@@ -188,6 +192,8 @@ public final class LinePlotViewConfig {
     private boolean m_showWarningInView = DEFAULT_SHOW_WARNING_IN_VIEW;
     private SettingsModelDateTimeOptions m_dateTimeFormats = new SettingsModelDateTimeOptions(DATE_TIME_FORMATS);
     private boolean m_reportOnMissingValues = DEFAULT_REPORT_ON_MISSING_VALUES;
+    private boolean m_enableDownsampling = DEFAULT_ENABLE_DOWNSAMPLING;
+    private int m_downsamplingMaxRows = DEFAULT_DOWNSAMPLING_MAX_ROWS;
     /*private String m_customCSS;*/
 
     /**
@@ -587,6 +593,34 @@ public void setMaxRows(final int maxRows) {
         m_maxRows = maxRows;
     }
 
+    /**
+     * @return true if the whole table is downsampled instead of displaying only the first rows
+     */
+    public boolean getEnableDownsampling() {
+        return m_enableDownsampling;
+    }
+
+    /**
+     * @param enableDownsampling the enableDownsampling to set
+     */
+    public void setEnableDownsampling(final boolean enableDownsampling) {
+        m_enableDownsampling = enableDownsampling;
+    }
+
+    /**
+     * @return the maximum number of rows kept in total when downsampling
+     */
+    public int getDownsamplingMaxRows() {
+        return m_downsamplingMaxRows;
+    }
+
+    /**
+     * @param downsamplingMaxRows the downsamplingMaxRows to set
+     */
+    public void setDownsamplingMaxRows(final int downsamplingMaxRows) {
+        m_downsamplingMaxRows = downsamplingMaxRows;
+    }
+
     /**
      * @return the selectionColumnName
      */
@@ -1078,6 +1112,10 @@ public void saveSettings(final NodeSettingsWO settings) {
         //added with 4.4
         settings.addBoolean(ENABLE_LINE_SIZE_CHANGE, getEnableLineSizeChange());
         settings.addInt(LINE_SIZE, getLineSize());
+
+        //added with 5.6
+        settings.addBoolean(ENABLE_DOWNSAMPLING, getEnableDownsampling());
+        settings.addInt(DOWNSAMPLING_MAX_ROWS, getDownsamplingMaxRows());
     }
 
     /** Loads parameters in NodeModel.
@@ -1168,6 +1206,9 @@ public void loadSettings(final NodeSettingsRO settings) throws InvalidSettingsEx
         setEnableLineSizeChange(settings.getBoolean(ENABLE_LINE_SIZE_CHANGE, DEFAULT_LINE_SIZE_CHANGE));
         setLineSize(settings.getInt(LINE_SIZE, DEFAULT_LINE_SIZE));
 
+        //added with 5.6
+        setEnableDownsampling(settings.getBoolean(ENABLE_DOWNSAMPLING, DEFAULT_ENABLE_DOWNSAMPLING));
+        setDownsamplingMaxRows(settings.getInt(DOWNSAMPLING_MAX_ROWS, DEFAULT_DOWNSAMPLING_MAX_ROWS));
     }
 
     /** Loads parameters in Dialog.
@@ -1276,5 +1317,9 @@ public void loadSettingsForDialog(final NodeSettingsRO settings, final DataTable
         //added with 4.4
         setEnableLineSizeChange(settings.getBoolean(ENABLE_LINE_SIZE_CHANGE, DEFAULT_LINE_SIZE_CHANGE));
         setLineSize(settings.getInt(LINE_SIZE, DEFAULT_LINE_SIZE));
+
+        //added with 5.6
+        setEnableDownsampling(settings.getBoolean(ENABLE_DOWNSAMPLING, DEFAULT_ENABLE_DOWNSAMPLING));
+        setDownsamplingMaxRows(settings.getInt(DOWNSAMPLING_MAX_ROWS, DEFAULT_DOWNSAMPLING_MAX_ROWS));
     }
 }
@@ -92,6 +92,7 @@ public class LinePlotViewRepresentation extends JSONViewContent {
     private boolean m_enableYAxisLabelEdit;
     private boolean m_enableDotSizeChange;
     private boolean m_enableLineSizeChange;
+    private boolean m_enableDownsampling;
     private boolean m_enableZooming;
     private boolean m_enableDragZooming;
     private boolean m_enablePanning;
@@ -384,6 +385,20 @@ public void setEnableLineSizeChange(final boolean enableLineSizeChange) {
         m_enableLineSizeChange = enableLineSizeChange;
     }
 
+    /**
+     * @return true if the dataset is downsampled from all rows of the table
+     */
+    public boolean getEnableDownsampling() {
+        return m_enableDownsampling;
+    }
+
+    /**
+     * @param enableDownsampling the enableDownsampling to set
+     */
+    public void setEnableDownsampling(final boolean enableDownsampling) {
+        m_enableDownsampling = enableDownsampling;
+    }
+
     /**
      * @return the allowZooming
      */
@@ -695,6 +710,9 @@ public void saveToNodeSettings(final NodeSettingsWO settings) {
 
         //added with 4.4
         settings.addBoolean(LinePlotViewConfig.ENABLE_LINE_SIZE_CHANGE, getEnableLineSizeChange());
+
+        //added with 5.6
+        settings.addBoolean(LinePlotViewConfig.ENABLE_DOWNSAMPLING, getEnableDownsampling());
     }
 
     /**
@@ -769,6 +787,9 @@ public void loadFromNodeSettings(final NodeSettingsRO settings) throws InvalidSe
 
         // added with 4.4
         setEnableLineSizeChange(settings.getBoolean(LinePlotViewConfig.ENABLE_LINE_SIZE_CHANGE, LinePlotViewConfig.DEFAULT_LINE_SIZE_CHANGE));
+
+        // added with 5.6
+        setEnableDownsampling(settings.getBoolean(LinePlotViewConfig.ENABLE_DOWNSAMPLING, LinePlotViewConfig.DEFAULT_ENABLE_DOWNSAMPLING));
     }
 
     /**
@@ -824,6 +845,7 @@ public boolean equals(final Object obj) {
                 .append(m_warnings, other.m_warnings)
                 .append(m_reportOnMissingValues, other.m_reportOnMissingValues)
                 .append(m_enableLineSizeChange, other.m_enableLineSizeChange)
+                .append(m_enableDownsampling, other.m_enableDownsampling)
                 .isEquals();
     }
 
@@ -870,6 +892,7 @@ public int hashCode() {
                 .append(m_warnings)
                 .append(m_reportOnMissingValues)
                 .append(m_enableLineSizeChange)
+                .append(m_enableDownsampling)
                 .toHashCode();
     }
 }
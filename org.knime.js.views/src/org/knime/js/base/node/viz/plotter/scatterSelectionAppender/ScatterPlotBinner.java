@@ -0,0 +1,493 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   17 Oct 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.js.base.node.viz.plotter.scatterSelectionAppender;
+
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.container.SingleCellFactory;
+import org.knime.core.data.container.filter.TableFilter;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.util.ThreadPool;
+import org.knime.js.base.util.table.KeyedDatasetBuilder;
+import org.knime.js.core.CSSUtils;
+import org.knime.js.core.datasets.JSONKeyedValuesRow;
+
+/**
+ * Aggregates all rows of a table into the bins of a rectangular or hexagonal grid over the x and y columns of the
+ * scatter plot. The table is split into chunks which are binned in parallel, the view only receives one point per
+ * non-empty bin. A bin is drawn at its center, colored by the majority row color of its rows if the table has a
+ * color handler, otherwise shaded by the number of rows it contains.
+ *
+ * <p>
+ * The bin of a row only depends on the bin geometry, which is kept in the view representation, so a selection of
+ * bins can be mapped back to the rows of the table when the node is executed.
+ * </p>
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+final class ScatterPlotBinner {
+
+    /** Bins forming a grid of rectangles. */
+    static final String SHAPE_RECTANGLE = "rectangle";
+
+    /** Bins forming a grid of hexagons. */
+    static final String SHAPE_HEXAGON = "hexagon";
+
+    private static final String BIN_KEY_PREFIX = "bin_";
+
+    private static final long MIN_CHUNK_SIZE = 100000;
+
+    private static final double HEX_DX = 1.0;
+
+    private static final double HEX_DY = 1.5 / Math.sqrt(3);
+
+    private static final Color LOW_DENSITY_COLOR = new Color(198, 219, 239);
+
+    private static final Color HIGH_DENSITY_COLOR = new Color(8, 48, 107);
+
+    private final int m_xIndex;
+
+    private final int m_yIndex;
+
+    private final boolean m_hexagon;
+
+    private final int m_numBins;
+
+    private final double[] m_bounds;
+
+    private final int m_gridWidth;
+
+    private final int m_numCells;
+
+    private long m_skippedRows;
+
+    /**
+     * @param spec the spec of the binned table
+     * @param xColumn the name of the x column
+     * @param yColumn the name of the y column
+     * @param shape the shape of the bins, {@link #SHAPE_RECTANGLE} or {@link #SHAPE_HEXAGON}
+     * @param numBins the number of bins along each axis
+     * @param bounds the lower and upper bound of the x and the y axis: {xMin, xMax, yMin, yMax}
+     */
+    ScatterPlotBinner(final DataTableSpec spec, final String xColumn, final String yColumn, final String shape,
+        final int numBins, final double[] bounds) {
+        m_xIndex = spec.findColumnIndex(xColumn);
+        m_yIndex = spec.findColumnIndex(yColumn);
+        m_hexagon = SHAPE_HEXAGON.equals(shape);
+        m_numBins = Math.max(1, numBins);
+        m_bounds = bounds.clone();
+        if (m_hexagon) {
+            // one column of margin on both sides as hexagons of odd rows are shifted by half a column
+            m_gridWidth = m_numBins + 3;
+            m_numCells = m_gridWidth * ((int)Math.ceil(m_numBins / HEX_DY) + 3);
+        } else {
+            m_gridWidth = m_numBins;
+            m_numCells = m_numBins * m_numBins;
+        }
+    }
+
+    /**
+     * Determines the bounds of the x and y columns, either from their domains or, if a domain is not available, by
+     * reading the table.
+     *
+     * @param table the table to bin
+     * @param xColumn the name of the x column
+     * @param yColumn the name of the y column
+     * @param exec the monitor to report progress to and check for cancellation
+     * @return the bounds {xMin, xMax, yMin, yMax}, NaN if a column contains no numeric or date&amp;time values
+     * @throws CanceledExecutionException if the execution was canceled
+     */
+    static double[] computeBounds(final BufferedDataTable table, final String xColumn, final String yColumn,
+        final ExecutionMonitor exec) throws CanceledExecutionException {
+        final DataTableSpec spec = table.getDataTableSpec();
+        final DataColumnSpec xSpec = spec.getColumnSpec(xColumn);
+        final DataColumnSpec ySpec = spec.getColumnSpec(yColumn);
+        final double[] bounds = new double[]{
+            KeyedDatasetBuilder.toDouble(xSpec.getDomain().getLowerBound()),
+            KeyedDatasetBuilder.toDouble(xSpec.getDomain().getUpperBound()),
+            KeyedDatasetBuilder.toDouble(ySpec.getDomain().getLowerBound()),
+            KeyedDatasetBuilder.toDouble(ySpec.getDomain().getUpperBound())};
+        boolean complete = true;
+        for (double bound : bounds) {
+            complete &= !Double.isNaN(bound) && !Double.isInfinite(bound);
+        }
+        if (complete) {
+            exec.setProgress(1);
+            return bounds;
+        }
+        final int xIndex = spec.findColumnIndex(xColumn);
+        final int yIndex = spec.findColumnIndex(yColumn);
+        final List<double[]> chunkBounds = processChunks(table, exec, it -> {
+            final double[] b =
+                new double[]{Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY,
+                    Double.NEGATIVE_INFINITY};
+            while (it.hasNext()) {
+                final DataRow row = it.next();
+                final double x = KeyedDatasetBuilder.toDouble(row.getCell(xIndex));
+                final double y = KeyedDatasetBuilder.toDouble(row.getCell(yIndex));
+                if (isFinite(x) && isFinite(y)) {
+                    b[0] = Math.min(b[0], x);
+                    b[1] = Math.max(b[1], x);
+                    b[2] = Math.min(b[2], y);
+                    b[3] = Math.max(b[3], y);
+                }
+            }
+            return b;
+        });
+        final double[] result = new double[]{Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+            Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY};
+        for (double[] b : chunkBounds) {
+            result[0] = Math.min(result[0], b[0]);
+            result[1] = Math.max(result[1], b[1]);
+            result[2] = Math.min(result[2], b[2]);
+            result[3] = Math.max(result[3], b[3]);
+        }
+        for (int i = 0; i < result.length; i++) {
+            if (Double.isInfinite(result[i])) {
+                result[i] = Double.NaN;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Bins all rows of the given table in parallel.
+     *
+     * @param table the table to bin, must have the spec this binner was created with
+     * @param exec the monitor to report progress to and check for cancellation
+     * @return one dataset row per non-empty bin, holding the center of the bin as x and y value
+     * @throws CanceledExecutionException if the execution was canceled
+     */
+    JSONKeyedValuesRow[] createRows(final BufferedDataTable table, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        final DataTableSpec spec = table.getDataTableSpec();
+        final boolean colorMajority = spec.stream().anyMatch(c -> c.getColorHandler() != null);
+        final List<BinCounts> chunkCounts = processChunks(table, exec, it -> {
+            final BinCounts counts = new BinCounts(m_numCells);
+            while (it.hasNext()) {
+                final DataRow row = it.next();
+                final int bin = getBin(row);
+                if (bin < 0) {
+                    counts.m_skipped++;
+                    continue;
+                }
+                counts.m_counts[bin]++;
+                if (colorMajority) {
+                    counts.m_colorCounts.computeIfAbsent(spec.getRowColor(row).getColor().getRGB(),
+                        k -> new long[m_numCells])[bin]++;
+                }
+            }
+            return counts;
+        });
+        final BinCounts total = new BinCounts(m_numCells);
+        for (BinCounts counts : chunkCounts) {
+            total.add(counts);
+        }
+        m_skippedRows = total.m_skipped;
+
+        long maxCount = 0;
+        int numBins = 0;
+        for (long count : total.m_counts) {
+            maxCount = Math.max(maxCount, count);
+            numBins += count > 0 ? 1 : 0;
+        }
+        final JSONKeyedValuesRow[] rows = new JSONKeyedValuesRow[numBins];
+        int i = 0;
+        for (int bin = 0; bin < m_numCells; bin++) {
+            final long count = total.m_counts[bin];
+            if (count == 0) {
+                continue;
+            }
+            final double[] center = getCenter(bin);
+            rows[i] = new JSONKeyedValuesRow(getBinKey(bin), new Double[]{center[0], center[1]});
+            rows[i].setColor(CSSUtils.cssHexStringFromColor(
+                colorMajority ? getMajorityColor(total.m_colorCounts, bin) : getDensityColor(count, maxCount)));
+            i++;
+        }
+        return rows;
+    }
+
+    /**
+     * @return the number of rows which were not binned in the last call of
+     *         {@link #createRows(BufferedDataTable, ExecutionMonitor)} because of missing or unsupported values
+     */
+    long getSkippedRows() {
+        return m_skippedRows;
+    }
+
+    /**
+     * Creates a cell factory appending whether a row lies in one of the selected bins.
+     *
+     * @param outColumnSpec the spec of the appended column
+     * @param selection the keys of the selected bins, may be null
+     * @return the cell factory
+     */
+    SingleCellFactory createSelectionCellFactory(final DataColumnSpec outColumnSpec,
+        final Collection<String> selection) {
+        final boolean[] selectedBins = new boolean[m_numCells];
+        if (selection != null) {
+            for (String key : selection) {
+                final int bin = parseBinKey(key);
+                if (bin >= 0 && bin < m_numCells) {
+                    selectedBins[bin] = true;
+                }
+            }
+        }
+        return new SingleCellFactory(outColumnSpec) {
+            @Override
+            public DataCell getCell(final DataRow row) {
+                final int bin = getBin(row);
+                return BooleanCell.get(bin >= 0 && selectedBins[bin]);
+            }
+        };
+    }
+
+    /**
+     * @param row a row of the binned table
+     * @return the index of the bin of the row, -1 if the x or y value is missing, not numeric or out of bounds
+     */
+    int getBin(final DataRow row) {
+        final double x = KeyedDatasetBuilder.toDouble(row.getCell(m_xIndex));
+        final double y = KeyedDatasetBuilder.toDouble(row.getCell(m_yIndex));
+        // also false if the bounds are NaN, i.e. no bins could be determined
+        if (!(x >= m_bounds[0] && x <= m_bounds[1] && y >= m_bounds[2] && y <= m_bounds[3])) {
+            return -1;
+        }
+        final double u = normalize(x, m_bounds[0], m_bounds[1]);
+        final double v = normalize(y, m_bounds[2], m_bounds[3]);
+        if (!m_hexagon) {
+            final int col = Math.min((int)u, m_numBins - 1);
+            final int row2 = Math.min((int)v, m_numBins - 1);
+            return row2 * m_gridWidth + col;
+        }
+        // nearest hexagon center as in d3-hexbin, but comparing the distances in unscaled units
+        final double py = v / HEX_DY;
+        int pj = (int)Math.round(py);
+        final double px = u / HEX_DX - (pj & 1) / 2.0;
+        double pi = Math.round(px);
+        final double py1 = (py - pj) * HEX_DY;
+        if (Math.abs(py - pj) * 3 > 1) {
+            final double px1 = (px - pi) * HEX_DX;
+            final double pi2 = pi + (px < pi ? -1 : 1) / 2.0;
+            final int pj2 = pj + (py < pj ? -1 : 1);
+            final double px2 = (px - pi2) * HEX_DX;
+            final double py2 = (py - pj2) * HEX_DY;
+            if (px1 * px1 + py1 * py1 > px2 * px2 + py2 * py2) {
+                pi = pi2 + ((pj & 1) == 1 ? 1 : -1) / 2.0;
+                pj = pj2;
+            }
+        }
+        return (pj + 1) * m_gridWidth + (int)pi + 1;
+    }
+
+    /**
+     * @param bin the index of a bin
+     * @return the x and y value of the center of the bin
+     */
+    double[] getCenter(final int bin) {
+        final double u;
+        final double v;
+        if (m_hexagon) {
+            final int pj = bin / m_gridWidth - 1;
+            final int pi = bin % m_gridWidth - 1;
+            u = (pi + (pj & 1) / 2.0) * HEX_DX;
+            v = pj * HEX_DY;
+        } else {
+            u = bin % m_gridWidth + 0.5;
+            v = bin / m_gridWidth + 0.5;
+        }
+        return new double[]{denormalize(u, m_bounds[0], m_bounds[1]), denormalize(v, m_bounds[2], m_bounds[3])};
+    }
+
+    private double normalize(final double value, final double min, final double max) {
+        return max > min ? (value - min) / (max - min) * m_numBins : 0;
+    }
+
+    private double denormalize(final double value, final double min, final double max) {
+        return max > min ? min + value / m_numBins * (max - min) : min;
+    }
+
+    /**
+     * @param bin the index of a bin
+     * @return the key of the dataset row of the bin
+     */
+    static String getBinKey(final int bin) {
+        return BIN_KEY_PREFIX + bin;
+    }
+
+    private static int parseBinKey(final String key) {
+        if (key == null || !key.startsWith(BIN_KEY_PREFIX)) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(key.substring(BIN_KEY_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static Color getMajorityColor(final Map<Integer, long[]> colorCounts, final int bin) {
+        int majority = 0;
+        long majorityCount = -1;
+        for (Map.Entry<Integer, long[]> e : colorCounts.entrySet()) {
+            if (e.getValue()[bin] > majorityCount) {
+                majority = e.getKey();
+                majorityCount = e.getValue()[bin];
+            }
+        }
+        return new Color(majority);
+    }
+
+    private static Color getDensityColor(final long count, final long maxCount) {
+        // logarithmic scale, otherwise a few dense bins make all other bins look empty
+        final double f = maxCount > 1 ? Math.log(count) / Math.log(maxCount) : 1;
+        return new Color(interpolate(LOW_DENSITY_COLOR.getRed(), HIGH_DENSITY_COLOR.getRed(), f),
+            interpolate(LOW_DENSITY_COLOR.getGreen(), HIGH_DENSITY_COLOR.getGreen(), f),
+            interpolate(LOW_DENSITY_COLOR.getBlue(), HIGH_DENSITY_COLOR.getBlue(), f));
+    }
+
+    private static int interpolate(final int from, final int to, final double f) {
+        return (int)Math.round(from + (to - from) * f);
+    }
+
+    private static boolean isFinite(final double d) {
+        return !Double.isNaN(d) && !Double.isInfinite(d);
+    }
+
+    /**
+     * Processes consecutive chunks of the table in the KNIME thread pool.
+     */
+    private static <T> List<T> processChunks(final BufferedDataTable table, final ExecutionMonitor exec,
+        final ChunkProcessor<T> processor) throws CanceledExecutionException {
+        final long size = table.size();
+        final int threads = Math.max(1, Runtime.getRuntime().availableProcessors());
+        final long chunkSize = Math.max(MIN_CHUNK_SIZE, (size + threads - 1) / threads);
+        final AtomicLong processed = new AtomicLong();
+        final ThreadPool pool = KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool();
+        final List<Future<T>> futures = new ArrayList<>();
+        for (long from = 0; from < size; from += chunkSize) {
+            final long first = from;
+            final long last = Math.min(size, from + chunkSize) - 1;
+            futures.add(pool.enqueue(() -> {
+                exec.checkCanceled();
+                try (CloseableRowIterator it = table.filter(TableFilter.filterRangeOfRows(first, last)).iterator()) {
+                    final T result = processor.process(it);
+                    exec.setProgress((double)processed.addAndGet(last - first + 1) / size);
+                    return result;
+                }
+            }));
+        }
+        try {
+            return pool.runInvisible(() -> {
+                final List<T> results = new ArrayList<>(futures.size());
+                for (Future<T> f : futures) {
+                    results.add(f.get());
+                }
+                return results;
+            });
+        } catch (ExecutionException e) {
+            futures.forEach(f -> f.cancel(true));
+            Throwable cause = e.getCause() instanceof ExecutionException ? e.getCause().getCause() : e.getCause();
+            if (cause instanceof CanceledExecutionException) {
+                throw (CanceledExecutionException)cause;
+            }
+            throw new IllegalStateException("Binning the table failed: " + cause.getMessage(), cause);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ChunkProcessor<T> {
+        T process(CloseableRowIterator it) throws CanceledExecutionException;
+    }
+
+    /**
+     * The row counts of all bins, and per bin and row color if colors are tracked.
+     */
+    private static final class BinCounts {
+
+        private final long[] m_counts;
+
+        private final Map<Integer, long[]> m_colorCounts = new HashMap<>();
+
+        private long m_skipped;
+
+        BinCounts(final int numCells) {
+            m_counts = new long[numCells];
+        }
+
+        void add(final BinCounts other) {
+            for (int i = 0; i < m_counts.length; i++) {
+                m_counts[i] += other.m_counts[i];
+            }
+            for (Map.Entry<Integer, long[]> e : other.m_colorCounts.entrySet()) {
+                final long[] counts = m_colorCounts.computeIfAbsent(e.getKey(), k -> new long[m_counts.length]);
+                for (int i = 0; i < counts.length; i++) {
+                    counts[i] += e.getValue()[i];
+                }
+            }
+            m_skipped += other.m_skipped;
+        }
+    }
+}
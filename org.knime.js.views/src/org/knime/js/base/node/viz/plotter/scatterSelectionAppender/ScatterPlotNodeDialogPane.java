@@ -56,6 +56,7 @@
 
 import javax.swing.BorderFactory;
 import javax.swing.JCheckBox;
+import javax.swing.JComboBox;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
 import javax.swing.JSpinner;
@@ -125,6 +126,9 @@ public class ScatterPlotNodeDialogPane extends NodeDialogPane {
     private final JCheckBox m_subscribeFilterCheckBox;
 
     private final JSpinner m_maxRowsSpinner;
+    private final JCheckBox m_enableBinningCheckBox;
+    private final JComboBox<String> m_binShapeComboBox;
+    private final JSpinner m_numBinsSpinner;
     private final JTextField m_appendedColumnName;
     private final JTextField m_chartTitleTextField;
     private final JTextField m_chartSubtitleTextField;
@@ -181,6 +185,10 @@ public ScatterPlotNodeDialogPane() {
         m_subscribeFilterCheckBox = new JCheckBox("Subscribe to filter events");
 
         m_maxRowsSpinner = new JSpinner();
+        m_enableBinningCheckBox = new JCheckBox("Aggregate all rows into bins");
+        m_enableBinningCheckBox.addChangeListener(e -> enableBinningControls());
+        m_binShapeComboBox = new JComboBox<String>(new String[]{"Hexagon", "Rectangle"});
+        m_numBinsSpinner = new JSpinner(new SpinnerNumberModel(ScatterPlotViewConfig.DEFAULT_NUM_BINS, 1, 1000, 1));
         m_appendedColumnName = new JTextField(TEXT_FIELD_SIZE);
         m_chartTitleTextField = new JTextField(TEXT_FIELD_SIZE);
         m_chartSubtitleTextField = new JTextField(TEXT_FIELD_SIZE);
@@ -266,6 +274,21 @@ private Component initOptionsPanel() {
         panel.add(m_maxRowsSpinner, c);
         c.gridx = 0;
         c.gridy++;
+        c.gridwidth = 2;
+        panel.add(m_enableBinningCheckBox, c);
+        c.gridy++;
+        c.gridwidth = 1;
+        panel.add(new JLabel("Bin shape: "), c);
+        c.gridx++;
+        panel.add(m_binShapeComboBox, c);
+        c.gridx = 0;
+        c.gridy++;
+        panel.add(new JLabel("Bins per axis: "), c);
+        c.gridx++;
+        m_numBinsSpinner.setPreferredSize(new Dimension(100, TEXT_FIELD_SIZE));
+        panel.add(m_numBinsSpinner, c);
+        c.gridx = 0;
+        c.gridy++;
         panel.add(new JLabel("Selection column name: "), c);
         c.gridx++;
         panel.add(m_appendedColumnName, c);
@@ -568,6 +591,13 @@ private void enableSelectionControls() {
         m_enableShowSelectedOnlyCheckBox.setEnabled(enable);
     }
 
+    private void enableBinningControls() {
+        boolean enable = m_enableBinningCheckBox.isSelected();
+        m_binShapeComboBox.setEnabled(enable);
+        m_numBinsSpinner.setEnabled(enable);
+        m_maxRowsSpinner.setEnabled(!enable);
+    }
+
     private void enableCrosshairControls() {
         boolean enable = m_showCrosshairCheckBox.isSelected();
         m_snapToPointsCheckBox.setEnabled(enable);
@@ -641,6 +671,11 @@ protected void loadSettingsFrom(final NodeSettingsRO settings, final DataTableSp
         m_yAxisLabelField.setText(m_config.getyAxisLabel());
         m_dotSize.setValue(m_config.getDotSize());
         m_maxRowsSpinner.setValue(m_config.getMaxRows());
+        m_enableBinningCheckBox.setSelected(m_config.getEnableBinning());
+        m_binShapeComboBox.setSelectedIndex(
+            ScatterPlotBinner.SHAPE_RECTANGLE.equals(m_config.getBinShape()) ? 1 : 0);
+        m_numBinsSpinner.setValue(m_config.getNumBins());
+        enableBinningControls();
 
         m_imageWidthSpinner.setValue(m_config.getImageWidth());
         m_imageHeightSpinner.setValue(m_config.getImageHeight());
@@ -708,6 +743,10 @@ protected void saveSettingsTo(final NodeSettingsWO settings) throws InvalidSetti
         m_config.setyAxisLabel(m_yAxisLabelField.getText());
         m_config.setDotSize((Integer)m_dotSize.getValue());
         m_config.setMaxRows((Integer)m_maxRowsSpinner.getValue());
+        m_config.setEnableBinning(m_enableBinningCheckBox.isSelected());
+        m_config.setBinShape(m_binShapeComboBox.getSelectedIndex() == 1 ? ScatterPlotBinner.SHAPE_RECTANGLE
+            : ScatterPlotBinner.SHAPE_HEXAGON);
+        m_config.setNumBins((Integer)m_numBinsSpinner.getValue());
 
         m_config.setImageWidth((Integer)m_imageWidthSpinner.getValue());
         m_config.setImageHeight((Integer)m_imageHeightSpinner.getValue());
@@ -48,39 +48,24 @@
  */
 package org.knime.js.base.node.viz.plotter.scatterSelectionAppender;
 
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.time.ZoneOffset;
-import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 import org.apache.commons.lang3.StringUtils;
 import org.knime.base.data.xml.SvgCell;
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
-import org.knime.core.data.DataColumnSpecCreator;
-import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
-import org.knime.core.data.DataType;
 import org.knime.core.data.DoubleValue;
 import org.knime.core.data.StringValue;
-import org.knime.core.data.container.CellFactory;
 import org.knime.core.data.container.ColumnRearranger;
-import org.knime.core.data.container.SingleCellFactory;
-import org.knime.core.data.def.BooleanCell;
 import org.knime.core.data.property.filter.FilterHandler;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
-import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.NodeSettingsRO;
@@ -92,10 +77,9 @@
 import org.knime.core.node.port.image.ImagePortObjectSpec;
 import org.knime.core.node.port.inactive.InactiveBranchPortObjectSpec;
 import org.knime.core.node.web.ValidationError;
-import org.knime.js.core.JSONDataTable;
-import org.knime.js.core.JSONDataTable.JSONDataTableRow;
+import org.knime.js.base.util.table.KeyedDatasetBuilder;
+import org.knime.js.base.util.table.SelectionCellFactory;
 import org.knime.js.core.JSONDataTableSpec;
-import org.knime.js.core.JSONDataTableSpec.JSTypes;
 import org.knime.js.core.color.JSONColorModel;
 import org.knime.js.core.datasets.JSONKeyedValues2DDataset;
 import org.knime.js.core.datasets.JSONKeyedValuesRow;
@@ -120,6 +104,8 @@ public class ScatterPlotNodeModel extends AbstractSVGWizardNodeModel<ScatterPlot
 
     private ValueStore m_valueStore;
 
+    private ScatterPlotBinner m_binner;
+
     static final String ROWS_LIMITATION_WARNING_ID = "rowsLimitation";
 
     /**
@@ -153,7 +139,7 @@ protected PortObjectSpec[] configure(final PortObjectSpec[] inSpecs) throws Inva
 
         DataTableSpec out = tableSpec;
         if (m_config.getEnableSelection()) {
-            ColumnRearranger rearranger = createColumnAppender(tableSpec, null);
+            ColumnRearranger rearranger = createColumnAppender(tableSpec, null, null);
             out = rearranger.createSpec();
         }
 
@@ -166,33 +152,17 @@ protected PortObjectSpec[] configure(final PortObjectSpec[] inSpecs) throws Inva
         return new PortObjectSpec[]{imageSpec, out};
     }
 
-    private ColumnRearranger createColumnAppender(final DataTableSpec spec, final List<String> selectionList) {
-        String newColName = m_config.getSelectionColumnName();
-        if (newColName == null || newColName.trim().isEmpty()) {
-            newColName = ScatterPlotViewConfig.DEFAULT_SELECTION_COLUMN_NAME;
-        }
-        newColName = DataTableSpec.getUniqueColumnName(spec, newColName);
-        DataColumnSpec outColumnSpec =
-            new DataColumnSpecCreator(newColName, DataType.getType(BooleanCell.class)).createSpec();
+    private ColumnRearranger createColumnAppender(final DataTableSpec spec, final List<String> selectionList,
+        final ScatterPlotBinner binner) {
+        DataColumnSpec outColumnSpec = SelectionCellFactory.createSelectionColumnSpec(spec,
+            m_config.getSelectionColumnName(), ScatterPlotViewConfig.DEFAULT_SELECTION_COLUMN_NAME);
         ColumnRearranger rearranger = new ColumnRearranger(spec);
-        CellFactory fac = new SingleCellFactory(outColumnSpec) {
-
-            private int m_rowIndex = 0;
-
-            @Override
-            public DataCell getCell(final DataRow row) {
-                if (++m_rowIndex > m_config.getMaxRows()) {
-                    return DataType.getMissingCell();
-                }
-                if (selectionList != null) {
-                    if (selectionList.contains(row.getKey().toString())) {
-                        return BooleanCell.TRUE;
-                    }
-                }
-                return BooleanCell.FALSE;
-            }
-        };
-        rearranger.append(fac);
+        if (binner != null) {
+            // the selection consists of bins, all rows within a selected bin are selected
+            rearranger.append(binner.createSelectionCellFactory(outColumnSpec, selectionList));
+        } else {
+            rearranger.append(new SelectionCellFactory(outColumnSpec, selectionList, m_config.getMaxRows()));
+        }
         return rearranger;
     }
 
@@ -300,7 +270,11 @@ protected void performExecuteCreateView(final PortObject[] inData, final Executi
             if (representation.getKeyedDataset() == null) {
                 // create dataset for view
                 copyConfigToView(m_table.getDataTableSpec());
-                representation.setKeyedDataset(createKeyedDataset(exec));
+                if (m_config.getEnableBinning()) {
+                    representation.setKeyedDataset(createBinnedDataset(exec));
+                } else {
+                    representation.setKeyedDataset(createKeyedDataset(exec));
+                }
             }
             setSubscriptionFilterIds(m_table.getDataTableSpec());
         }
@@ -325,7 +299,8 @@ protected PortObject[] performExecuteCreatePortObjects(final PortObject svgImage
                 if (viewValue != null && viewValue.getSelection() != null) {
                     selectionList = Arrays.asList(viewValue.getSelection());
                 }
-                ColumnRearranger rearranger = createColumnAppender(m_table.getDataTableSpec(), selectionList);
+                ColumnRearranger rearranger =
+                    createColumnAppender(m_table.getDataTableSpec(), selectionList, getBinner());
                 out = exec.createColumnRearrangeTable(m_table, rearranger, exec);
             }
             setSubscriptionFilterIds(m_table.getDataTableSpec());
@@ -349,85 +324,25 @@ private void setSubscriptionFilterIds(final DataTableSpec spec) {
     }
 
     private JSONKeyedValues2DDataset createKeyedDataset(final ExecutionContext exec) throws CanceledExecutionException {
-        ColumnRearranger c = createNumericColumnRearranger(m_table.getDataTableSpec());
-        BufferedDataTable filteredTable = exec.createColumnRearrangeTable(m_table, c, exec.createSubProgress(0.1));
-        exec.setProgress(0.1);
         //construct dataset
-        if (m_config.getMaxRows() < filteredTable.size()) {
+        if (m_config.getMaxRows() < m_table.size()) {
             String msg = "Only the first " + m_config.getMaxRows() + " rows are displayed.";
             setWarningMessage(msg);
             if (m_config.getShowWarningInView()) {
                 getViewRepresentation().getWarnings().setWarningMessage(msg, ROWS_LIMITATION_WARNING_ID);
             }
         }
-        final JSONDataTable table = JSONDataTable.newBuilder()
-                .setDataTable(filteredTable)
-                .setId(getTableId(0))
-                .setFirstRow(1)
-                .setMaxRows(m_config.getMaxRows())
-                .build(exec.createSubProgress(0.8));
-        exec.setProgress(0.9);
-        ExecutionMonitor datasetExecutionMonitor = exec.createSubProgress(0.1);
-        final JSONDataTableSpec tableSpec = table.getSpec();
-        int numColumns = tableSpec.getNumColumns();
-        String[] rowKeys = new String[tableSpec.getNumRows()];
-        JSONKeyedValuesRow[] rowValues = new JSONKeyedValuesRow[tableSpec.getNumRows()];
-        JSONDataTableRow[] tableRows = table.getRows();
-        boolean hasUnsupportedValues = false;  // NaN or Inf
-        for (int rowID = 0; rowID < rowValues.length; rowID++) {
-            JSONDataTableRow currentRow = tableRows[rowID];
-            rowKeys[rowID] = currentRow.getRowKey();
-            Double[] rowData = new Double[numColumns];
-            Object[] tableData = currentRow.getData();
-            for (int colID = 0; colID < numColumns; colID++) {
-                if (tableData[colID] == null) {
-                    hasUnsupportedValues = true;
-                    rowData[colID] = null;
-                } else if (tableData[colID] instanceof Double) {
-                    Double value = (Double)tableData[colID];
-                    if (Double.isNaN(value) || Double.isInfinite(value)) {
-                        hasUnsupportedValues = true;
-                        value = null;
-                    }
-                    rowData[colID] = value;
-                } else if (tableData[colID] instanceof Long) {
-                    rowData[colID] = ((Long)tableData[colID]).doubleValue();
-                } else if (tableData[colID] instanceof String) {
-                    String data = (String)tableData[colID];
-                    if (tableSpec.getKnimeTypes()[colID].equals("Date&time (Local)")) {
-                        rowData[colID] = ((Long)LocalDateTime.parse(data).toInstant(ZoneOffset.UTC).toEpochMilli()).doubleValue();
-                    } else if (tableSpec.getKnimeTypes()[colID].equals("Date")) {
-                        rowData[colID] = ((Long)LocalDate.parse(data).atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli()).doubleValue();
-                    } else if (tableSpec.getKnimeTypes()[colID].equals("Time")) {
-                        rowData[colID] = ((Long)LocalTime.parse(data).atDate(LocalDate.now()).toInstant(ZoneOffset.UTC).toEpochMilli()).doubleValue();
-                    } else if (tableSpec.getKnimeTypes()[colID].equals("Date&time (Zoned)")) {
-                        rowData[colID] = ((Long)ZonedDateTime.parse(data).toInstant().toEpochMilli()).doubleValue();
-                    } else {
-                        // String
-                        rowData[colID] = ((Integer)getOrdinalFromStringValue(data, table, colID)).doubleValue();
-                    }
-                }
-            }
-            rowValues[rowID] = new JSONKeyedValuesRow(currentRow.getRowKey(), rowData);
-            rowValues[rowID].setColor(tableSpec.getRowColorValues()[rowID]);
-            datasetExecutionMonitor.setProgress(((double)rowID) / rowValues.length, "Creating dataset, processing row "
-                + rowID + " of " + rowValues.length + ".");
-        }
+        final KeyedDatasetBuilder builder =
+            new KeyedDatasetBuilder(m_table.getDataTableSpec()).setOmitUnsupportedValues(true);
+        final JSONKeyedValuesRow[] rowValues =
+            builder.createRows(m_table, m_config.getMaxRows(), exec.createSubProgress(0.99));
 
-        if (hasUnsupportedValues && getViewRepresentation().getReportOnMissingValues()) {
+        if (builder.hasUnsupportedValues() && getViewRepresentation().getReportOnMissingValues()) {
             setWarningMessage("Table contains missing or unsupported values - these values will be omitted.");
         }
 
-        JSONKeyedValues2DDataset dataset = new JSONKeyedValues2DDataset(getTableId(0), tableSpec.getColNames(), rowValues);
-        for (int col = 0; col < tableSpec.getNumColumns(); col++) {
-            if (tableSpec.getColTypes()[col].equals(JSTypes.STRING)
-                && tableSpec.getPossibleValues().get(col) != null) {
-                dataset.setSymbol(getSymbolMap(tableSpec.getPossibleValues().get(col)), col);
-            }
-            if (tableSpec.getColTypes()[col].equals(JSTypes.DATE_TIME)) {
-                dataset.setDateTimeFormat(tableSpec.getKnimeTypes()[col], col);
-            }
-        }
+        final JSONDataTableSpec tableSpec = builder.getSpec();
+        JSONKeyedValues2DDataset dataset = builder.createDataset(getTableId(0), rowValues);
 
         JSONColorModel[] colorModels = tableSpec.getColorModels();
         if (colorModels != null && colorModels.length > 0) {
@@ -447,39 +362,53 @@ private JSONKeyedValues2DDataset createKeyedDataset(final ExecutionContext exec)
         return dataset;
     }
 
-    private ColumnRearranger createNumericColumnRearranger(final DataTableSpec in) {
-        ColumnRearranger c = new ColumnRearranger(in);
-        for (DataColumnSpec colSpec : in) {
-            DataType type = colSpec.getType();
-            if (!type.isCompatible(DoubleValue.class) && !type.isCompatible(StringValue.class)) {
-                c.remove(colSpec.getName());
-            }
+    private JSONKeyedValues2DDataset createBinnedDataset(final ExecutionContext exec)
+        throws CanceledExecutionException {
+        final DataTableSpec spec = m_table.getDataTableSpec();
+        final List<String> columns = Arrays.asList(KeyedDatasetBuilder.getSupportedColumns(spec));
+        ScatterPlotViewValue viewValue = getViewValue();
+        if (StringUtils.isEmpty(viewValue.getxColumn()) || !columns.contains(viewValue.getxColumn())) {
+            viewValue.setxColumn(columns.get(0));
         }
-        return c;
-    }
+        if (StringUtils.isEmpty(viewValue.getyColumn()) || !columns.contains(viewValue.getyColumn())) {
+            viewValue.setyColumn(columns.get(columns.size() > 1 ? 1 : 0));
+        }
+        final String xColumn = viewValue.getxColumn();
+        final String yColumn = viewValue.getyColumn();
 
-    private int getOrdinalFromStringValue(final String stringValue, final JSONDataTable table, final int colID) {
-        LinkedHashSet<Object> possibleValues = table.getSpec().getPossibleValues().get(colID);
-        if (possibleValues != null) {
-            int ordinal = 0;
-            for (Object value : possibleValues) {
-                if (value != null && value.equals(stringValue)) {
-                    return ordinal;
-                }
-                ordinal++;
-            }
+        final double[] bounds =
+            ScatterPlotBinner.computeBounds(m_table, xColumn, yColumn, exec.createSubProgress(0.3));
+        final ScatterPlotBinner binner = new ScatterPlotBinner(spec, xColumn, yColumn, m_config.getBinShape(),
+            m_config.getNumBins(), bounds);
+        final JSONKeyedValuesRow[] rowValues = binner.createRows(m_table, exec.createSubProgress(0.7));
+        if (binner.getSkippedRows() > 0 && getViewRepresentation().getReportOnMissingValues()) {
+            setWarningMessage(binner.getSkippedRows()
+                + " rows with missing or unsupported values in the x or y column were not binned.");
+        }
+        getViewRepresentation().setBinBounds(bounds);
+        m_binner = binner;
+
+        // the rows hold the bin centers as x and y value, the y value is ignored if both axes show the same column
+        final KeyedDatasetBuilder builder = new KeyedDatasetBuilder(spec,
+            xColumn.equals(yColumn) ? new String[]{xColumn} : new String[]{xColumn, yColumn});
+        JSONKeyedValues2DDataset dataset = builder.createDataset(getTableId(0), rowValues);
+        JSONColorModel[] colorModels = new KeyedDatasetBuilder(spec).getSpec().getColorModels();
+        if (colorModels != null && colorModels.length > 0) {
+            dataset.setColorModels(colorModels);
         }
-        return -1;
+        return dataset;
     }
 
-    private Map<String, String> getSymbolMap(final LinkedHashSet<Object> linkedHashSet) {
-        Map<String, String> symbolMap = new HashMap<String, String>();
-        Integer ordinal = 0;
-        for (Object value : linkedHashSet) {
-            symbolMap.put(ordinal.toString(), value.toString());
-            ordinal++;
+    private ScatterPlotBinner getBinner() {
+        ScatterPlotViewRepresentation representation = getViewRepresentation();
+        if (m_binner == null && m_table != null && representation.getEnableBinning()
+            && representation.getBinBounds() != null) {
+            ScatterPlotViewValue viewValue = getViewValue();
+            m_binner = new ScatterPlotBinner(m_table.getDataTableSpec(), viewValue.getxColumn(),
+                viewValue.getyColumn(), representation.getBinShape(), representation.getNumBins(),
+                representation.getBinBounds());
         }
-        return symbolMap;
+        return representation.getEnableBinning() ? m_binner : null;
     }
 
     /**
@@ -488,6 +417,7 @@ private Map<String, String> getSymbolMap(final LinkedHashSet<Object> linkedHashS
     @Override
     protected void performReset() {
         m_table = null;
+        m_binner = null;
     }
 
     /**
@@ -615,8 +545,9 @@ private static void copyConfigToViewRepresentation(final ScatterPlotViewConfig c
         representation.setEnableViewConfiguration(config.getEnableViewConfiguration());
         representation.setEnableTitleChange(config.getEnableTitleChange());
         representation.setEnableSubtitleChange(config.getEnableSubtitleChange());
-        representation.setEnableXColumnChange(config.getEnableXColumnChange());
-        representation.setEnableYColumnChange(config.getEnableYColumnChange());
+        // the bins are computed for the configured columns only
+        representation.setEnableXColumnChange(config.getEnableXColumnChange() && !config.getEnableBinning());
+        representation.setEnableYColumnChange(config.getEnableYColumnChange() && !config.getEnableBinning());
         representation.setEnableXAxisLabelEdit(config.getEnableXAxisLabelEdit());
         representation.setEnableYAxisLabelEdit(config.getEnableYAxisLabelEdit());
         representation.setEnableDotSizeChange(config.getEnableDotSizeChange());
@@ -649,6 +580,12 @@ private static void copyConfigToViewRepresentation(final ScatterPlotViewConfig c
 
         // added with 4.1
         representation.setEnforceOrigin(config.isEnforceOrigin());
+
+        // added with 5.6
+        representation.setEnableBinning(config.getEnableBinning());
+        representation.setBinShape(config.getBinShape());
+        representation.setNumBins(config.getNumBins());
+        representation.setBinBounds(null);
     }
 
     private void copyValueToConfig() {
@@ -138,6 +138,12 @@ final class ScatterPlotViewConfig {
     static final String SHOW_WARNING_IN_VIEW = "showWarningInView";
     static final String REPORT_ON_MISSING_VALUES = "reportOnMissingValues";
     static final String DATE_TIME_FORMATS = "dateTimeFormats";  // new date&time formats
+    static final String ENABLE_BINNING = "enableBinning";
+    static final boolean DEFAULT_ENABLE_BINNING = false;
+    static final String BIN_SHAPE = "binShape";
+    static final String DEFAULT_BIN_SHAPE = ScatterPlotBinner.SHAPE_HEXAGON;
+    static final String NUM_BINS = "numBins";
+    static final int DEFAULT_NUM_BINS = 50;
     /*static final String CUSTOM_CSS = "customCSS";*/
 
     private boolean m_hideInWizard = false;
@@ -173,6 +179,9 @@ final class ScatterPlotViewConfig {
     private boolean m_showSelectedRowsOnly = DEFAULT_SHOW_SELECTED_ROWS_ONLY;
     private boolean m_subscribeFilter = DEFAULT_SUBSCRIBE_FILTER;
     private int m_maxRows = DEFAULT_MAX_ROWS;
+    private boolean m_enableBinning = DEFAULT_ENABLE_BINNING;
+    private String m_binShape = DEFAULT_BIN_SHAPE;
+    private int m_numBins = DEFAULT_NUM_BINS;
     private String m_selectionColumnName = DEFAULT_SELECTION_COLUMN_NAME;
     private String m_chartTitle;
     private String m_chartSubtitle;
@@ -624,6 +633,48 @@ public void setMaxRows(final int maxRows) {
         m_maxRows = maxRows;
     }
 
+    /**
+     * @return true if all rows are aggregated into bins instead of displaying only the first rows
+     */
+    public boolean getEnableBinning() {
+        return m_enableBinning;
+    }
+
+    /**
+     * @param enableBinning the enableBinning to set
+     */
+    public void setEnableBinning(final boolean enableBinning) {
+        m_enableBinning = enableBinning;
+    }
+
+    /**
+     * @return the shape of the bins, rectangle or hexagon
+     */
+    public String getBinShape() {
+        return m_binShape;
+    }
+
+    /**
+     * @param binShape the binShape to set
+     */
+    public void setBinShape(final String binShape) {
+        m_binShape = binShape;
+    }
+
+    /**
+     * @return the number of bins along each axis
+     */
+    public int getNumBins() {
+        return m_numBins;
+    }
+
+    /**
+     * @param numBins the numBins to set
+     */
+    public void setNumBins(final int numBins) {
+        m_numBins = numBins;
+    }
+
     /**
      * @return the selectionColumnName
      */
@@ -1048,6 +1099,11 @@ public void saveSettings(final NodeSettingsWO settings) {
 
         //added with 4.4
         settings.addBoolean(CFG_SHOW_SELECTED_ROWS_ONLY, getShowSelectedRowsOnly());
+
+        //added with 5.6
+        settings.addBoolean(ENABLE_BINNING, getEnableBinning());
+        settings.addString(BIN_SHAPE, getBinShape());
+        settings.addInt(NUM_BINS, getNumBins());
     }
 
     /** Loads parameters in NodeModel.
@@ -1141,6 +1197,11 @@ public void loadSettings(final NodeSettingsRO settings) throws InvalidSettingsEx
 
         //added with 4.4
         setShowSelectedRowsOnly(settings.getBoolean(CFG_SHOW_SELECTED_ROWS_ONLY, DEFAULT_SHOW_SELECTED_ROWS_ONLY));
+
+        //added with 5.6
+        setEnableBinning(settings.getBoolean(ENABLE_BINNING, DEFAULT_ENABLE_BINNING));
+        setBinShape(settings.getString(BIN_SHAPE, DEFAULT_BIN_SHAPE));
+        setNumBins(settings.getInt(NUM_BINS, DEFAULT_NUM_BINS));
     }
 
     /** Loads parameters in Dialog.
@@ -1252,5 +1313,10 @@ public void loadSettingsForDialog(final NodeSettingsRO settings) {
 
         //added with 4.4
         setShowSelectedRowsOnly(settings.getBoolean(CFG_SHOW_SELECTED_ROWS_ONLY, DEFAULT_SHOW_SELECTED_ROWS_ONLY));
+
+        //added with 5.6
+        setEnableBinning(settings.getBoolean(ENABLE_BINNING, DEFAULT_ENABLE_BINNING));
+        setBinShape(settings.getString(BIN_SHAPE, DEFAULT_BIN_SHAPE));
+        setNumBins(settings.getInt(NUM_BINS, DEFAULT_NUM_BINS));
     }
 }
@@ -103,6 +103,7 @@ public class ScatterPlotViewRepresentation extends JSONViewContent {
     private boolean m_enableShowSelectedOnly;
 
     private static final String CFG_SUBSCRIPTION_FILTER_IDS = "subscriptionFilterIds";
+    private static final String CFG_BIN_BOUNDS = "binBounds";
     private String[] m_subscriptionFilterIds;
 
     private int m_imageWidth;
@@ -120,6 +121,11 @@ public class ScatterPlotViewRepresentation extends JSONViewContent {
 
     private JSONDateTimeOptions m_dateTimeFormats;
 
+    private boolean m_enableBinning;
+    private String m_binShape;
+    private int m_numBins;
+    private double[] m_binBounds;
+
     /**
      * @return the keyedDataset
      */
@@ -652,6 +658,62 @@ public void setDateTimeFormats(final JSONDateTimeOptions dateTimeFormats) {
         m_dateTimeFormats = dateTimeFormats;
     }
 
+    /**
+     * @return true if the rows of the dataset are bins aggregating all rows of the table
+     */
+    public boolean getEnableBinning() {
+        return m_enableBinning;
+    }
+
+    /**
+     * @param enableBinning the enableBinning to set
+     */
+    public void setEnableBinning(final boolean enableBinning) {
+        m_enableBinning = enableBinning;
+    }
+
+    /**
+     * @return the shape of the bins
+     */
+    public String getBinShape() {
+        return m_binShape;
+    }
+
+    /**
+     * @param binShape the binShape to set
+     */
+    public void setBinShape(final String binShape) {
+        m_binShape = binShape;
+    }
+
+    /**
+     * @return the number of bins along each axis
+     */
+    public int getNumBins() {
+        return m_numBins;
+    }
+
+    /**
+     * @param numBins the numBins to set
+     */
+    public void setNumBins(final int numBins) {
+        m_numBins = numBins;
+    }
+
+    /**
+     * @return the bounds of the binned area {xMin, xMax, yMin, yMax}, null if no bins were computed
+     */
+    public double[] getBinBounds() {
+        return m_binBounds;
+    }
+
+    /**
+     * @param binBounds the binBounds to set
+     */
+    public void setBinBounds(final double[] binBounds) {
+        m_binBounds = binBounds;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -711,6 +773,12 @@ public void saveToNodeSettings(final NodeSettingsWO settings) {
 
         //added with 4.1
         settings.addBoolean(ScatterPlotViewConfig.ENFORCE_ORIGIN, isEnforceOrigin());
+
+        //added with 5.6
+        settings.addBoolean(ScatterPlotViewConfig.ENABLE_BINNING, getEnableBinning());
+        settings.addString(ScatterPlotViewConfig.BIN_SHAPE, getBinShape());
+        settings.addInt(ScatterPlotViewConfig.NUM_BINS, getNumBins());
+        settings.addDoubleArray(CFG_BIN_BOUNDS, m_binBounds);
     }
 
     /**
@@ -784,6 +852,12 @@ public void loadFromNodeSettings(final NodeSettingsRO settings) throws InvalidSe
 
         // added with 4.1
         setEnforceOrigin(settings.getBoolean(ScatterPlotViewConfig.ENFORCE_ORIGIN, ScatterPlotViewConfig.DEFAULT_ENFORCE_ORIGIN));
+
+        // added with 5.6
+        setEnableBinning(settings.getBoolean(ScatterPlotViewConfig.ENABLE_BINNING, ScatterPlotViewConfig.DEFAULT_ENABLE_BINNING));
+        setBinShape(settings.getString(ScatterPlotViewConfig.BIN_SHAPE, ScatterPlotViewConfig.DEFAULT_BIN_SHAPE));
+        setNumBins(settings.getInt(ScatterPlotViewConfig.NUM_BINS, ScatterPlotViewConfig.DEFAULT_NUM_BINS));
+        m_binBounds = settings.getDoubleArray(CFG_BIN_BOUNDS, (double[])null);
     }
 
     /**
@@ -840,6 +914,10 @@ public boolean equals(final Object obj) {
                 .append(m_warnings, other.m_warnings)
                 .append(m_reportOnMissingValues, other.m_reportOnMissingValues)
                 .append(m_dateTimeFormats, other.m_dateTimeFormats)
+                .append(m_enableBinning, other.m_enableBinning)
+                .append(m_binShape, other.m_binShape)
+                .append(m_numBins, other.m_numBins)
+                .append(m_binBounds, other.m_binBounds)
                 .isEquals();
     }
 
@@ -887,6 +965,10 @@ public int hashCode() {
                 .append(m_warnings)
                 .append(m_reportOnMissingValues)
                 .append(m_dateTimeFormats)
+                .append(m_enableBinning)
+                .append(m_binShape)
+                .append(m_numBins)
+                .append(m_binBounds)
                 .toHashCode();
     }
 }
@@ -0,0 +1,310 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   17 Oct 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.js.base.node.viz.tableeditor;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Compact columnar binary encoding of the table editor changes. Row keys and column names are dictionary encoded,
+ * the edited cells are stored as parallel arrays of row index, column index and type, followed by one value array per
+ * type. The whole block is deflated.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+final class TableEditorChangesCodec {
+
+    private static final int VERSION = 1;
+
+    private static final byte TYPE_MISSING = 0;
+    private static final byte TYPE_INT = 1;
+    private static final byte TYPE_DOUBLE = 2;
+    private static final byte TYPE_STRING = 3;
+    private static final byte TYPE_BOOLEAN = 4;
+    private static final byte TYPE_LONG = 5;
+
+    private TableEditorChangesCodec() {
+        // utility class
+    }
+
+    /**
+     * @param changes map from row key to a map from column name to value
+     * @return the encoded changes
+     * @throws IOException if the changes cannot be written or contain a value of an unsupported type
+     */
+    static byte[] encode(final Map<String, Map<String, Object>> changes) throws IOException {
+        Map<String, Integer> colDictionary = new LinkedHashMap<String, Integer>();
+        int numCells = 0;
+        for (Map<String, Object> rowChanges : changes.values()) {
+            for (String colName : rowChanges.keySet()) {
+                colDictionary.putIfAbsent(colName, colDictionary.size());
+            }
+            numCells += rowChanges.size();
+        }
+
+        int[] rowIndices = new int[numCells];
+        int[] colIndices = new int[numCells];
+        byte[] types = new byte[numCells];
+        int numInts = 0;
+        int numDoubles = 0;
+        int numStrings = 0;
+        int numBooleans = 0;
+        int numLongs = 0;
+        int cell = 0;
+        int row = 0;
+        for (Map<String, Object> rowChanges : changes.values()) {
+            for (Map.Entry<String, Object> cellEntry : rowChanges.entrySet()) {
+                rowIndices[cell] = row;
+                colIndices[cell] = colDictionary.get(cellEntry.getKey());
+                Object value = cellEntry.getValue();
+                types[cell] = value == null ? TYPE_MISSING : getType(value);
+                switch (types[cell]) {
+                    case TYPE_INT:
+                        numInts++;
+                        break;
+                    case TYPE_DOUBLE:
+                        numDoubles++;
+                        break;
+                    case TYPE_STRING:
+                        numStrings++;
+                        break;
+                    case TYPE_BOOLEAN:
+                        numBooleans++;
+                        break;
+                    case TYPE_LONG:
+                        numLongs++;
+                        break;
+                    default:
+                        // missing value, nothing to count
+                }
+                cell++;
+            }
+            row++;
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes))) {
+            out.writeInt(VERSION);
+            out.writeInt(changes.size());
+            for (String rowKey : changes.keySet()) {
+                writeString(out, rowKey);
+            }
+            out.writeInt(colDictionary.size());
+            for (String colName : colDictionary.keySet()) {
+                writeString(out, colName);
+            }
+            out.writeInt(numCells);
+            for (int i = 0; i < numCells; i++) {
+                out.writeInt(rowIndices[i]);
+            }
+            for (int i = 0; i < numCells; i++) {
+                out.writeInt(colIndices[i]);
+            }
+            out.write(types);
+            out.writeInt(numInts);
+            out.writeInt(numDoubles);
+            out.writeInt(numStrings);
+            out.writeInt(numBooleans);
+            out.writeInt(numLongs);
+            for (byte type : new byte[]{TYPE_INT, TYPE_DOUBLE, TYPE_STRING, TYPE_BOOLEAN, TYPE_LONG}) {
+                for (Map<String, Object> rowChanges : changes.values()) {
+                    for (Object value : rowChanges.values()) {
+                        if (value != null && getType(value) == type) {
+                            writeValue(out, type, value);
+                        }
+                    }
+                }
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * @param data the encoded changes
+     * @return map from row key to a map from column name to value
+     * @throws IOException if the data cannot be read
+     */
+    static Map<String, Map<String, Object>> decode(final byte[] data) throws IOException {
+        try (DataInputStream in = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(data)))) {
+            int version = in.readInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported table editor changes format version " + version);
+            }
+            String[] rowKeys = new String[in.readInt()];
+            for (int i = 0; i < rowKeys.length; i++) {
+                rowKeys[i] = readString(in);
+            }
+            String[] colNames = new String[in.readInt()];
+            for (int i = 0; i < colNames.length; i++) {
+                colNames[i] = readString(in);
+            }
+            int numCells = in.readInt();
+            int[] rowIndices = new int[numCells];
+            for (int i = 0; i < numCells; i++) {
+                rowIndices[i] = in.readInt();
+            }
+            int[] colIndices = new int[numCells];
+            for (int i = 0; i < numCells; i++) {
+                colIndices[i] = in.readInt();
+            }
+            byte[] types = new byte[numCells];
+            in.readFully(types);
+            int[] ints = new int[in.readInt()];
+            double[] doubles = new double[in.readInt()];
+            String[] strings = new String[in.readInt()];
+            boolean[] booleans = new boolean[in.readInt()];
+            long[] longs = new long[in.readInt()];
+            for (int i = 0; i < ints.length; i++) {
+                ints[i] = in.readInt();
+            }
+            for (int i = 0; i < doubles.length; i++) {
+                doubles[i] = in.readDouble();
+            }
+            for (int i = 0; i < strings.length; i++) {
+                strings[i] = readString(in);
+            }
+            for (int i = 0; i < booleans.length; i++) {
+                booleans[i] = in.readBoolean();
+            }
+            for (int i = 0; i < longs.length; i++) {
+                longs[i] = in.readLong();
+            }
+
+            Map<String, Map<String, Object>> changes = new LinkedHashMap<String, Map<String, Object>>(rowKeys.length);
+            int intIndex = 0;
+            int doubleIndex = 0;
+            int stringIndex = 0;
+            int booleanIndex = 0;
+            int longIndex = 0;
+            for (int i = 0; i < numCells; i++) {
+                Object value;
+                switch (types[i]) {
+                    case TYPE_MISSING:
+                        value = null;
+                        break;
+                    case TYPE_INT:
+                        value = ints[intIndex++];
+                        break;
+                    case TYPE_DOUBLE:
+                        value = doubles[doubleIndex++];
+                        break;
+                    case TYPE_STRING:
+                        value = strings[stringIndex++];
+                        break;
+                    case TYPE_BOOLEAN:
+                        value = booleans[booleanIndex++];
+                        break;
+                    case TYPE_LONG:
+                        value = longs[longIndex++];
+                        break;
+                    default:
+                        throw new IOException("Unknown value type " + types[i]);
+                }
+                changes.computeIfAbsent(rowKeys[rowIndices[i]], k -> new HashMap<String, Object>())
+                    .put(colNames[colIndices[i]], value);
+            }
+            return changes;
+        }
+    }
+
+    private static byte getType(final Object value) throws IOException {
+        if (value instanceof Integer) {
+            return TYPE_INT;
+        } else if (value instanceof Double) {
+            return TYPE_DOUBLE;
+        } else if (value instanceof Boolean) {
+            return TYPE_BOOLEAN;
+        } else if (value instanceof Long) {
+            return TYPE_LONG;
+        } else if (value instanceof String) {
+            return TYPE_STRING;
+        }
+        throw new IOException("Unsupported value type " + value.getClass().getName());
+    }
+
+    private static void writeValue(final DataOutputStream out, final byte type, final Object value)
+        throws IOException {
+        switch (type) {
+            case TYPE_INT:
+                out.writeInt((Integer)value);
+                break;
+            case TYPE_DOUBLE:
+                out.writeDouble((Double)value);
+                break;
+            case TYPE_BOOLEAN:
+                out.writeBoolean((Boolean)value);
+                break;
+            case TYPE_LONG:
+                out.writeLong((Long)value);
+                break;
+            default:
+                writeString(out, (String)value);
+        }
+    }
+
+    private static void writeString(final DataOutputStream out, final String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(final DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -48,10 +48,13 @@
  */
 package org.knime.js.base.node.viz.tableeditor;
 
+import java.io.IOException;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.knime.core.node.InvalidSettingsException;
@@ -74,9 +77,20 @@
 @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS, include = JsonTypeInfo.As.PROPERTY, property = "@class")
 public class TableEditorChangesSettingsModel extends SettingsModel {
 
+    /** Number of edited cells from which on the changes are saved in the compact binary format. */
+    static final int BINARY_FORMAT_THRESHOLD = 1000;
+
+    private static final String CFG_FORMAT = "format";
+    private static final String FORMAT_BINARY = "binary";
+    private static final String CFG_DATA = "data";
+    private static final String CFG_HASH = "hash";
+
     // map from Row Key to a map from Column Name to Data Value
     private Map<String, Map<String, Object>> m_changes;
 
+    // changes loaded in binary format, only decoded when they are accessed
+    private byte[] m_encodedChanges;
+
     private String m_configName;
 
     /**
@@ -104,6 +118,7 @@ public TableEditorChangesSettingsModel() {
      */
     public void reset() {
         m_changes = new LinkedHashMap<String, Map<String, Object>>();
+        m_encodedChanges = null;
     }
 
     /**
@@ -143,6 +158,14 @@ public void setConfigName(final String configName) {
      * @return the changes
      */
     public Map<String, Map<String, Object>> getChanges() {
+        if (m_changes == null && m_encodedChanges != null) {
+            try {
+                m_changes = TableEditorChangesCodec.decode(m_encodedChanges);
+            } catch (IOException e) {
+                throw new IllegalStateException("Table editor changes could not be read: " + e.getMessage(), e);
+            }
+            m_encodedChanges = null;
+        }
         return m_changes;
     }
 
@@ -151,6 +174,7 @@ public Map<String, Map<String, Object>> getChanges() {
      */
     public void setChanges(final Map<String, Map<String, Object>> changes) {
         m_changes = changes;
+        m_encodedChanges = null;
     }
 
     /**
@@ -181,8 +205,10 @@ protected void saveSettingsForDialog(final NodeSettingsWO settings) throws Inval
     @Override
     protected void validateSettingsForModel(final NodeSettingsRO settings) throws InvalidSettingsException {
         Map<String, Map<String, Object>> curChanges = m_changes;
+        byte[] curEncodedChanges = m_encodedChanges;
         loadSettings(settings);
         m_changes = curChanges;
+        m_encodedChanges = curEncodedChanges;
     }
 
     /**
@@ -203,6 +229,22 @@ protected void saveSettingsForModel(final NodeSettingsWO settings) {
 
     private void loadSettings(final NodeSettingsRO settings) throws InvalidSettingsException {
         NodeSettingsRO editChangesSettings = settings.getNodeSettings(m_configName);
+        if (FORMAT_BINARY.equals(editChangesSettings.getString(CFG_FORMAT, null))) {
+            // only verify the hash here, the changes are decoded on first access
+            byte[] data;
+            try {
+                data = Base64.getDecoder().decode(editChangesSettings.getString(CFG_DATA));
+            } catch (IllegalArgumentException e) {
+                throw new InvalidSettingsException("Table editor changes are corrupted: " + e.getMessage(), e);
+            }
+            if (!DigestUtils.sha1Hex(data).equals(editChangesSettings.getString(CFG_HASH))) {
+                throw new InvalidSettingsException("Table editor changes are corrupted, the stored hash does not match.");
+            }
+            m_changes = null;
+            m_encodedChanges = data;
+            return;
+        }
+        m_encodedChanges = null;
         int numRows = editChangesSettings.getInt("numRows");
         m_changes = new LinkedHashMap<String, Map<String, Object>>(numRows);
         for (int i = 0; i < numRows; i++) {
@@ -222,6 +264,9 @@ private void loadSettings(final NodeSettingsRO settings) throws InvalidSettingsE
                     case "int":
                         value = cellSettings.getInt("value");
                         break;
+                    case "long":
+                        value = cellSettings.getLong("value");
+                        break;
                     case "double":
                         value = cellSettings.getDouble("value");
                         break;
@@ -237,6 +282,10 @@ private void loadSettings(final NodeSettingsRO settings) throws InvalidSettingsE
 
     private void saveSettings(final NodeSettingsWO settings) {
         NodeSettingsWO editChangesSettings = settings.addNodeSettings(m_configName);
+        if (m_encodedChanges != null || countCells() >= BINARY_FORMAT_THRESHOLD) {
+            saveBinary(editChangesSettings);
+            return;
+        }
         editChangesSettings.addInt("numRows", m_changes.size());
         int rowCnt = 0;
         for (Map.Entry<String, Map<String, Object>> rowEntry : m_changes.entrySet()) {
@@ -253,6 +302,9 @@ private void saveSettings(final NodeSettingsWO settings) {
                 } else if (value instanceof Integer) {
                     cellSettings.addString("type", "int");
                     cellSettings.addInt("value", (Integer)value);
+                } else if (value instanceof Long) {
+                    cellSettings.addString("type", "long");
+                    cellSettings.addLong("value", (Long)value);
                 } else if (value instanceof Double) {
                     cellSettings.addString("type", "double");
                     cellSettings.addDouble("value", (Double)value);
@@ -266,6 +318,32 @@ private void saveSettings(final NodeSettingsWO settings) {
         }
     }
 
+    private int countCells() {
+        int numCells = 0;
+        for (Map<String, Object> rowChanges : m_changes.values()) {
+            numCells += rowChanges.size();
+        }
+        return numCells;
+    }
+
+    /**
+     * Saves the changes as a single compact, columnar binary entry together with its hash. Changes which were loaded
+     * in binary format and not accessed since are written back without decoding them.
+     */
+    private void saveBinary(final NodeSettingsWO editChangesSettings) {
+        byte[] data = m_encodedChanges;
+        if (data == null) {
+            try {
+                data = TableEditorChangesCodec.encode(m_changes);
+            } catch (IOException e) {
+                throw new IllegalStateException("Table editor changes could not be written: " + e.getMessage(), e);
+            }
+        }
+        editChangesSettings.addString(CFG_FORMAT, FORMAT_BINARY);
+        editChangesSettings.addString(CFG_HASH, DigestUtils.sha1Hex(data));
+        editChangesSettings.addString(CFG_DATA, Base64.getEncoder().encodeToString(data));
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -291,7 +369,7 @@ public boolean equals(final Object obj) {
         TableEditorChangesSettingsModel other = (TableEditorChangesSettingsModel)obj;
         return new EqualsBuilder()
                 .append(m_configName, other.m_configName)
-                .append(m_changes, other.m_changes)
+                .append(getChanges(), other.getChanges())
                 .isEquals();
     }
 
@@ -302,7 +380,7 @@ public boolean equals(final Object obj) {
     public int hashCode() {
         return new HashCodeBuilder()
                 .append(m_configName)
-                .append(m_changes)
+                .append(getChanges())
                 .toHashCode();
     }
 
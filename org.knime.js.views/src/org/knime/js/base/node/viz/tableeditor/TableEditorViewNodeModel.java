@@ -49,7 +49,10 @@
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -60,25 +63,20 @@
 import org.knime.core.data.BooleanValue;
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
-import org.knime.core.data.DataColumnSpecCreator;
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.DataType;
 import org.knime.core.data.DoubleValue;
 import org.knime.core.data.IntValue;
 import org.knime.core.data.LongValue;
-import org.knime.core.data.container.CellFactory;
+import org.knime.core.data.container.AbstractCellFactory;
 import org.knime.core.data.container.ColumnRearranger;
-import org.knime.core.data.container.SingleCellFactory;
-import org.knime.core.data.def.BooleanCell;
 import org.knime.core.data.def.BooleanCell.BooleanCellFactory;
-import org.knime.core.data.def.DefaultRow;
 import org.knime.core.data.def.DoubleCell;
 import org.knime.core.data.def.IntCell;
 import org.knime.core.data.def.LongCell;
 import org.knime.core.data.def.StringCell;
 import org.knime.core.data.property.filter.FilterHandler;
-import org.knime.core.node.BufferedDataContainer;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.BufferedDataTableHolder;
 import org.knime.core.node.CanceledExecutionException;
@@ -93,6 +91,7 @@
 import org.knime.core.node.util.filter.NameFilterConfiguration.FilterResult;
 import org.knime.core.node.web.ValidationError;
 import org.knime.core.node.wizard.CSSModifiable;
+import org.knime.js.base.util.table.SelectionCellFactory;
 import org.knime.js.core.JSONDataTable;
 import org.knime.js.core.layout.LayoutTemplateProvider;
 import org.knime.js.core.layout.bs.JSONLayoutViewContent;
@@ -142,36 +141,10 @@ protected PortObjectSpec[] configure(final PortObjectSpec[] inSpecs) throws Inva
     }
 
     private ColumnRearranger createColumnAppender(final DataTableSpec spec, final List<String> selectionList) {
-        String newColName = m_config.getSelectionColumnName();
-        if (newColName == null || newColName.trim().isEmpty()) {
-            newColName = TableEditorViewConfig.DEFAULT_SELECTION_COLUMN_NAME;
-        }
-        newColName = DataTableSpec.getUniqueColumnName(spec, newColName);
-        DataColumnSpec outColumnSpec =
-                new DataColumnSpecCreator(newColName, DataType.getType(BooleanCell.class)).createSpec();
+        DataColumnSpec outColumnSpec = SelectionCellFactory.createSelectionColumnSpec(spec,
+            m_config.getSelectionColumnName(), TableEditorViewConfig.DEFAULT_SELECTION_COLUMN_NAME);
         ColumnRearranger rearranger = new ColumnRearranger(spec);
-        CellFactory fac = new SingleCellFactory(outColumnSpec) {
-
-            private int m_rowIndex = 0;
-
-            @Override
-            public DataCell getCell(final DataRow row) {
-                if (++m_rowIndex > m_config.getMaxRows()) {
-                    return DataType.getMissingCell();
-                }
-                if (selectionList != null) {
-                    if (selectionList.contains(row.getKey().toString())) {
-                            /*return selectAll ? BooleanCell.FALSE : BooleanCell.TRUE;*/
-                        return BooleanCell.TRUE;
-                    } else {
-                        return BooleanCell.FALSE;
-                    }
-                }
-                /*return selectAll ? BooleanCell.TRUE : BooleanCell.FALSE;*/
-                return BooleanCell.FALSE;
-            }
-        };
-        rearranger.append(fac);
+        rearranger.append(new SelectionCellFactory(outColumnSpec, selectionList, m_config.getMaxRows()));
         return rearranger;
     }
 
@@ -304,61 +277,58 @@ protected PortObject[] performExecute(final PortObject[] inObjects, final Execut
 
                 DataTableSpec spec = m_table.getDataTableSpec();
                 Map<String, Map<String, Object>> editorChanges = viewValue.getEditorChanges().getChanges();
-                BufferedDataContainer dc = exec.createDataContainer(spec);
-                String[] columnNames = spec.getColumnNames();
-                List<String> editableColumns = Arrays.asList(viewRepresentation.getEditableColumns());
+                Set<String> editableColumns = new HashSet<String>(Arrays.asList(viewRepresentation.getEditableColumns()));
                 // set of columns which were editable, but then have become read-only in the node config dialog
-                Set<String> conflictEditColumns = new HashSet<String>();
-
-                // iterate over each row from the input table and apply the changes where appropriate
-                for (DataRow row : m_table) {
-                    String rowKey = row.getKey().getString();
-                    Map<String, Object> rowEditorChanges = editorChanges.get(rowKey);
-
-                    DataCell[] copy = new DataCell[row.getNumCells()];
-                    for (int i = 0; i < row.getNumCells(); i++) {
-                        String colName = columnNames[i];
-                        DataCell cell = row.getCell(i);
-                        if (rowEditorChanges != null && rowEditorChanges.containsKey(colName)) {
-                            // check whether the columns is still editable
-                            if (editableColumns.contains(colName)) {
-                                Object value = rowEditorChanges.get(colName);
-                                DataType type = spec.getColumnSpec(i).getType();
-                                if (value == null) {
-                                    copy[i] = DataType.getMissingCell();
-                                } else if (type.isCompatible(BooleanValue.class)) {
-                                    copy[i] = BooleanCellFactory.create((Boolean) value);
-                                } else if (type.isCompatible(IntValue.class) && value instanceof Integer) {
-                                    copy[i] = new IntCell((Integer) value);
-                                } else if (type.isCompatible(LongValue.class) && value instanceof Integer) {
-                                    copy[i] = new LongCell(((Integer) value).longValue());
-                                } else if (type.isCompatible(DoubleValue.class) && (value instanceof Double || value instanceof Integer)) {
-                                    if (value instanceof Double) {
-                                        copy[i] = new DoubleCell((Double) value);
-                                    } else {
-                                        copy[i] = new DoubleCell((Integer) value);
-                                    }
-                                }  else if (type.getCellClass().equals(StringCell.class)) {
-                                    copy[i] = new StringCell(value.toString());
-                                } else {
-                                    throw new OperationNotSupportedException("Type " + type.getName() + " is not supported for editing.");
-                                }
-                            } else {
-                                // if editor filter setting has changed, do not apply the change and raise a warning
-                                copy[i] = cell;
-                                conflictEditColumns.add(colName);
-                            }
+                Set<String> conflictEditColumns = new LinkedHashSet<String>();
+
+                // determine the edited columns once, only these are replaced in the output table
+                Map<String, Integer> editedColumns = new LinkedHashMap<String, Integer>();
+                for (Map<String, Object> rowEditorChanges : editorChanges.values()) {
+                    for (String colName : rowEditorChanges.keySet()) {
+                        if (editedColumns.containsKey(colName) || conflictEditColumns.contains(colName)) {
+                            continue;
+                        }
+                        int colIndex = spec.findColumnIndex(colName);
+                        if (colIndex < 0) {
+                            continue;
+                        }
+                        if (editableColumns.contains(colName)) {
+                            editedColumns.put(colName, editedColumns.size());
                         } else {
-                            copy[i] = cell;
+                            // if editor filter setting has changed, do not apply the change and raise a warning
+                            conflictEditColumns.add(colName);
+                        }
+                    }
+                }
+
+                if (!editedColumns.isEmpty()) {
+                    int[] colIndices = new int[editedColumns.size()];
+                    DataColumnSpec[] colSpecs = new DataColumnSpec[editedColumns.size()];
+                    for (Map.Entry<String, Integer> e : editedColumns.entrySet()) {
+                        int colIndex = spec.findColumnIndex(e.getKey());
+                        colIndices[e.getValue()] = colIndex;
+                        colSpecs[e.getValue()] = spec.getColumnSpec(colIndex);
+                    }
+                    // convert all changes upfront, unsupported types fail before any output is written
+                    Map<String, DataCell[]> editedCells = new HashMap<String, DataCell[]>();
+                    for (Map.Entry<String, Map<String, Object>> rowEditorChanges : editorChanges.entrySet()) {
+                        DataCell[] cells = new DataCell[colIndices.length];
+                        for (Map.Entry<String, Object> change : rowEditorChanges.getValue().entrySet()) {
+                            Integer index = editedColumns.get(change.getKey());
+                            if (index != null) {
+                                cells[index] = createEditedCell(change.getValue(), colSpecs[index].getType());
+                            }
                         }
+                        editedCells.put(rowEditorChanges.getKey(), cells);
                     }
-                    dc.addRowToTable(new DefaultRow(row.getKey(), copy));
+                    // only the edited columns are replaced, all other columns reference the input table
+                    ColumnRearranger rearranger = new ColumnRearranger(spec);
+                    rearranger.replace(new EditedCellsFactory(colSpecs, colIndices, editedCells), colIndices);
+                    out = exec.createColumnRearrangeTable(m_table, rearranger, exec.createSubExecutionContext(0.25));
                 }
                 if (conflictEditColumns.size() > 0) {
                     setWarningMessage("The column(s) " + String.join(",", conflictEditColumns) + " have become not editable. Saved changes for these columns are ignored.");
                 }
-                dc.close();
-                out = dc.getTable();
             }
 
             if (m_config.getEnableSelection()) {
@@ -377,6 +347,57 @@ protected PortObject[] performExecute(final PortObject[] inObjects, final Execut
         return new PortObject[]{out};
     }
 
+    private static DataCell createEditedCell(final Object value, final DataType type)
+        throws OperationNotSupportedException {
+        if (value == null) {
+            return DataType.getMissingCell();
+        } else if (type.isCompatible(BooleanValue.class)) {
+            return BooleanCellFactory.create((Boolean) value);
+        } else if (type.isCompatible(IntValue.class) && value instanceof Integer) {
+            return new IntCell((Integer) value);
+        } else if (type.isCompatible(LongValue.class) && value instanceof Integer) {
+            return new LongCell(((Integer) value).longValue());
+        } else if (type.isCompatible(LongValue.class) && value instanceof Long) {
+            return new LongCell((Long) value);
+        } else if (type.isCompatible(DoubleValue.class) && (value instanceof Double || value instanceof Integer)) {
+            if (value instanceof Double) {
+                return new DoubleCell((Double) value);
+            } else {
+                return new DoubleCell((Integer) value);
+            }
+        }  else if (type.getCellClass().equals(StringCell.class)) {
+            return new StringCell(value.toString());
+        } else {
+            throw new OperationNotSupportedException("Type " + type.getName() + " is not supported for editing.");
+        }
+    }
+
+    /**
+     * Cell factory replacing the edited columns of the input table. Rows without changes keep their original cells.
+     */
+    private static final class EditedCellsFactory extends AbstractCellFactory {
+
+        private final int[] m_colIndices;
+        private final Map<String, DataCell[]> m_editedCells;
+
+        EditedCellsFactory(final DataColumnSpec[] colSpecs, final int[] colIndices,
+            final Map<String, DataCell[]> editedCells) {
+            super(colSpecs);
+            m_colIndices = colIndices;
+            m_editedCells = editedCells;
+        }
+
+        @Override
+        public DataCell[] getCells(final DataRow row) {
+            DataCell[] edited = m_editedCells.get(row.getKey().getString());
+            DataCell[] cells = new DataCell[m_colIndices.length];
+            for (int i = 0; i < cells.length; i++) {
+                cells[i] = edited != null && edited[i] != null ? edited[i] : row.getCell(m_colIndices[i]);
+            }
+            return cells;
+        }
+    }
+
     private JSONDataTable createJSONTableFromBufferedDataTable(final BufferedDataTable table, final ExecutionContext exec) throws CanceledExecutionException {
         FilterResult filter = m_config.getColumnFilterConfig().applyTo(table.getDataTableSpec());
         //ColumnRearranger rearranger = new ColumnRearranger(table.getDataTableSpec());
@@ -49,18 +49,20 @@
 package org.knime.js.base.node.viz.tagcloud;
 
 import java.awt.Color;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
-import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.PriorityQueue;
 
 import org.apache.commons.lang3.StringUtils;
-import org.knime.base.node.util.DataArray;
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
 import org.knime.core.data.DataRow;
@@ -69,6 +71,9 @@
 import org.knime.core.data.DataValue;
 import org.knime.core.data.DoubleValue;
 import org.knime.core.data.StringValue;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.util.DataValueColumnFilter;
 import org.knime.js.core.CSSUtils;
@@ -78,6 +83,11 @@
  * The class has a few static helper functions and concrete objects of this class use a builder
  * pattern to configure tag extraction and store information about extraction, once complete.
  *
+ * <p>
+ * The methods of the term classes are looked up once as method handles. Tags are aggregated in a single pass over
+ * the table and only the largest tags are kept in a bounded heap.
+ * </p>
+ *
  * @author Christian Albrecht, KNIME GmbH, Konstanz, Germany
  */
 @SuppressWarnings("unchecked")
@@ -87,6 +97,15 @@ public class TagCloudTermCellResolver {
     private static Class<DataValue> termValueClass;
     private static Class<?> termClass;
 
+    // (Object termValue)Object term
+    private static MethodHandle getTermValue;
+    // (Object term)String
+    private static MethodHandle getText;
+    // (Object term)List words, null if the tags of terms cannot be ignored
+    private static MethodHandle getWords;
+    // (List words, List tags, boolean unmodifiable)Object term, null if the tags of terms cannot be ignored
+    private static MethodHandle newTerm;
+
     private boolean m_aggregateStrings = false;
     private boolean m_ignoreTermTags = false;
     private boolean m_useRowIds = false;
@@ -103,9 +122,25 @@ public class TagCloudTermCellResolver {
         try {
             termValueClass = (Class<DataValue>)Class.forName("org.knime.ext.textprocessing.data.TermValue");
             termClass = Class.forName("org.knime.ext.textprocessing.data.Term");
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            getTermValue = lookup.unreflect(termValueClass.getMethod("getTermValue"))
+                .asType(MethodType.methodType(Object.class, Object.class));
+            getText = lookup.unreflect(termClass.getMethod("getText"))
+                .asType(MethodType.methodType(String.class, Object.class));
             SUPPORTS_TERMS = true;
+            getWords = lookup.unreflect(termClass.getMethod("getWords"))
+                .asType(MethodType.methodType(List.class, Object.class));
+            Constructor<?> cons;
+            try {
+                cons = termClass.getConstructor(List.class, List.class, boolean.class);
+            } catch (NoSuchMethodException e) {
+                cons = termClass.getConstructor(List.class, List.class, Boolean.class);
+            }
+            newTerm = lookup.unreflectConstructor(cons)
+                .asType(MethodType.methodType(Object.class, List.class, List.class, boolean.class));
         } catch (Throwable throwable) {
-            SUPPORTS_TERMS = false;
+            getWords = null;
+            newTerm = null;
         }
     }
 
@@ -183,7 +218,8 @@ boolean isClippingOccured() {
         return m_clippingOccured;
     }
 
-    List<TagCloudData> extractWordCloudData(final DataArray data, final ExecutionContext exec) throws IllegalArgumentException {
+    List<TagCloudData> extractWordCloudData(final BufferedDataTable data, final ExecutionContext exec)
+        throws IllegalArgumentException, CanceledExecutionException {
         // sanity check
         if (!m_useRowIds && StringUtils.isEmpty(m_wordColumn)) {
             throw new IllegalArgumentException("No word column specified!");
@@ -202,91 +238,133 @@ List<TagCloudData> extractWordCloudData(final DataArray data, final ExecutionCon
         }
         int sizeColIndex = -1;
         if (StringUtils.isNoneEmpty(m_sizeColumn)) {
-            sizeColIndex = data.getDataTableSpec().findColumnIndex(m_sizeColumn);
+            sizeColIndex = spec.findColumnIndex(m_sizeColumn);
         }
 
         ExecutionContext creationContext = exec.createSubExecutionContext(0.8);
         creationContext.setMessage("Extracting tag cloud data...");
 
         //initializing generic map to hold term and string values which can be used for aggregation
-        Map<Object, TagCloudData> map = new HashMap<Object, TagCloudData>();
-        int rowID = 0;
+        Map<Object, TagAggregate> map = new HashMap<Object, TagAggregate>();
+        final long numRows = data.size();
+        long rowID = 0;
         int tagID = 0;
-        for (final DataRow row : data) {
-            //ignore missing cells
-            if ((termColIndex > -1 && row.getCell(termColIndex).isMissing())
-                    || sizeColIndex > -1 && row.getCell(sizeColIndex).isMissing()) {
-                m_numMissing++;
-                continue;
-            }
-            Object key;
-            String word;
-            String rowKey = row.getKey().getString();
-            if (m_useRowIds) {
-                word = rowKey;
-                key = word;
-            } else {
-                DataCell wordCell = row.getCell(termColIndex);
-                word = ((StringValue)wordCell).getStringValue();
-                key = word;
-                if (isTermType) {
-                    try {
-                        Method getTermValue = termValueClass.getMethod("getTermValue");
-                        Object term = getTermValue.invoke(wordCell);
-                        Method getText = termClass.getMethod("getText");
-                        word = (String)getText.invoke(term);
-                        key = term;
-                        if (m_ignoreTermTags) {
-                            Constructor<?> cons = termClass.getConstructor(List.class, List.class, Boolean.class);
-                            Method getWords = termValueClass.getMethod("getWords");
-                            key = cons.newInstance(getWords.invoke(term), null, true);
-                        }
-                    } catch (Exception e) { /* do nothing */ }
+        try (CloseableRowIterator it = data.iterator()) {
+            while (it.hasNext()) {
+                final DataRow row = it.next();
+                if ((++rowID & 0x3FF) == 0) {
+                    creationContext.checkCanceled();
+                    creationContext.setProgress((double)rowID / numRows);
+                }
+                //ignore missing cells
+                if ((termColIndex > -1 && row.getCell(termColIndex).isMissing())
+                        || sizeColIndex > -1 && row.getCell(sizeColIndex).isMissing()) {
+                    m_numMissing++;
+                    continue;
+                }
+                Object key;
+                String word;
+                String rowKey = row.getKey().getString();
+                if (m_useRowIds) {
+                    word = rowKey;
+                    key = word;
+                } else {
+                    DataCell wordCell = row.getCell(termColIndex);
+                    word = ((StringValue)wordCell).getStringValue();
+                    key = word;
+                    if (isTermType) {
+                        try {
+                            Object term = getTermValue.invokeExact((Object)wordCell);
+                            word = (String)getText.invokeExact(term);
+                            key = term;
+                            if (m_ignoreTermTags && newTerm != null) {
+                                key = newTerm.invokeExact((List<?>)getWords.invokeExact(term),
+                                    (List<?>)Collections.emptyList(), true);
+                            }
+                        } catch (Throwable e) { /* do nothing */ }
+                    }
                 }
-            }
 
-            double size = 0;
-            if (m_useSizeProperty) {
-                size = spec.getRowSizeFactor(row);
-            } else {
-                DataCell sizeCell = row.getCell(sizeColIndex);
-                size = ((DoubleValue)sizeCell).getDoubleValue();
-            }
+                double size = 0;
+                if (m_useSizeProperty) {
+                    size = spec.getRowSizeFactor(row);
+                } else {
+                    DataCell sizeCell = row.getCell(sizeColIndex);
+                    size = ((DoubleValue)sizeCell).getDoubleValue();
+                }
 
-            if (m_aggregateStrings && map.containsKey(key)) {
-                TagCloudData wcd = map.get(key);
-                wcd.setSize(wcd.getSize() + size);
-                Set<String> rowKeySet = new HashSet<String>(Arrays.asList(wcd.getRowIDs()));
-                rowKeySet.add(rowKey);
-                wcd.setRowIDs(rowKeySet.toArray(new String[0]));
-            } else {
-                TagCloudData wcd = new TagCloudData();
-                wcd.setId("tag_" + Integer.toString(++tagID));
-                wcd.setRowIDs(new String[]{rowKey});
-                wcd.setText(word);
-                wcd.setSize(size);
-                if (m_extractRowColors) {
-                    Color c = spec.getRowColor(row).getColor();
-                    wcd.setColor(CSSUtils.cssHexStringFromColor(c));
+                TagAggregate aggregate = m_aggregateStrings ? map.get(key) : null;
+                if (aggregate != null) {
+                    aggregate.add(rowKey, size);
+                } else {
+                    TagCloudData wcd = new TagCloudData();
+                    wcd.setId("tag_" + Integer.toString(++tagID));
+                    wcd.setText(word);
+                    if (m_extractRowColors) {
+                        Color c = spec.getRowColor(row).getColor();
+                        wcd.setColor(CSSUtils.cssHexStringFromColor(c));
+                    }
+                    map.put(key, new TagAggregate(wcd, rowKey, size));
                 }
-                map.put(key, wcd);
             }
-            creationContext.setProgress(++rowID / data.size());
         }
+        creationContext.setProgress(1);
 
         exec.setMessage("Sorting tag cloud data...");
-        //sort and top n
-        List<TagCloudData> list = map.entrySet()
-            .stream()
-            .sorted(Map.Entry.<Object, TagCloudData>comparingByValue((final TagCloudData v1, final TagCloudData v2) -> Double.compare(v2.getSize(), v1.getSize())))
-            .limit(m_maxRows)
-            .map(Map.Entry::getValue)
-            .collect(Collectors.toList());
-        if (list.size() < map.size()) {
+        //top n in a bounded min-heap, so only the kept tags are sorted
+        final Comparator<TagAggregate> bySize = Comparator.comparingDouble(a -> a.m_size);
+        final PriorityQueue<TagAggregate> topTags = new PriorityQueue<TagAggregate>(bySize);
+        for (TagAggregate aggregate : map.values()) {
+            if (topTags.size() < m_maxRows) {
+                topTags.add(aggregate);
+            } else if (m_maxRows > 0 && aggregate.m_size > topTags.peek().m_size) {
+                topTags.poll();
+                topTags.add(aggregate);
+            }
+        }
+        if (topTags.size() < map.size()) {
             m_clippingOccured = true;
         }
+        List<TagCloudData> list = new ArrayList<TagCloudData>(topTags.size());
+        while (!topTags.isEmpty()) {
+            list.add(topTags.poll().toTagCloudData());
+        }
+        Collections.reverse(list);
         exec.setProgress(1);
         return list;
     }
 
+    /**
+     * The accumulated size and row keys of a tag, the row keys are collected in a growable array.
+     */
+    private static final class TagAggregate {
+
+        private final TagCloudData m_data;
+        private String[] m_rowIDs;
+        private int m_numRowIDs;
+        private double m_size;
+
+        TagAggregate(final TagCloudData data, final String rowKey, final double size) {
+            m_data = data;
+            m_rowIDs = new String[]{rowKey};
+            m_numRowIDs = 1;
+            m_size = size;
+        }
+
+        void add(final String rowKey, final double size) {
+            if (m_numRowIDs == m_rowIDs.length) {
+                m_rowIDs = Arrays.copyOf(m_rowIDs, m_numRowIDs * 2);
+            }
+            // row keys are unique within a table, no need to check for duplicates
+            m_rowIDs[m_numRowIDs++] = rowKey;
+            m_size += size;
+        }
+
+        TagCloudData toTagCloudData() {
+            m_data.setSize(m_size);
+            m_data.setRowIDs(m_numRowIDs == m_rowIDs.length ? m_rowIDs : Arrays.copyOf(m_rowIDs, m_numRowIDs));
+            return m_data;
+        }
+    }
+
 }
@@ -55,18 +55,9 @@
 import java.util.Map;
 
 import org.knime.base.data.xml.SvgCell;
-import org.knime.base.node.util.DataArray;
-import org.knime.base.node.util.DefaultDataArray;
-import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
-import org.knime.core.data.DataColumnSpecCreator;
-import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
-import org.knime.core.data.DataType;
-import org.knime.core.data.container.CellFactory;
 import org.knime.core.data.container.ColumnRearranger;
-import org.knime.core.data.container.SingleCellFactory;
-import org.knime.core.data.def.BooleanCell;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.BufferedDataTableHolder;
 import org.knime.core.node.CanceledExecutionException;
@@ -83,6 +74,7 @@
 import org.knime.core.node.port.inactive.InactiveBranchPortObjectSpec;
 import org.knime.core.node.web.ValidationError;
 import org.knime.core.node.wizard.CSSModifiable;
+import org.knime.js.base.util.table.SelectionCellFactory;
 import org.knime.js.core.JSONDataTable;
 import org.knime.js.core.layout.LayoutTemplateProvider;
 import org.knime.js.core.layout.bs.JSONLayoutViewContent;
@@ -262,34 +254,10 @@ protected PortObject[] performExecuteCreatePortObjects(final PortObject svgImage
     }
 
     private ColumnRearranger createColumnAppender(final DataTableSpec spec, final List<String> selectionList) {
-        final List<String> usedRowIds = getAllRowIdsFromData();
-        String newColName = m_config.getSelectionColumnName();
-        if (newColName == null || newColName.trim().isEmpty()) {
-            newColName = TagCloudViewConfig.DEFAULT_SELECTION_COLUMN_NAME;
-        }
-        newColName = DataTableSpec.getUniqueColumnName(spec, newColName);
-        DataColumnSpec outColumnSpec =
-                new DataColumnSpecCreator(newColName, DataType.getType(BooleanCell.class)).createSpec();
+        DataColumnSpec outColumnSpec = SelectionCellFactory.createSelectionColumnSpec(spec,
+            m_config.getSelectionColumnName(), TagCloudViewConfig.DEFAULT_SELECTION_COLUMN_NAME);
         ColumnRearranger rearranger = new ColumnRearranger(spec);
-        CellFactory fac = new SingleCellFactory(outColumnSpec) {
-
-            @Override
-            public DataCell getCell(final DataRow row) {
-                String rowID = row.getKey().toString();
-                if (!usedRowIds.contains(rowID)) {
-                    return DataType.getMissingCell();
-                }
-                if (selectionList != null) {
-                    if (selectionList.contains(rowID)) {
-                        return BooleanCell.TRUE;
-                    } else {
-                        return BooleanCell.FALSE;
-                    }
-                }
-                return BooleanCell.FALSE;
-            }
-        };
-        rearranger.append(fac);
+        rearranger.append(new SelectionCellFactory(outColumnSpec, selectionList, getAllRowIdsFromData()));
         return rearranger;
     }
 
@@ -303,8 +271,7 @@ private List<TagCloudData> extractWordCloudData(final BufferedDataTable table, f
                 .aggregateStrings(m_config.getAggregateWords())
                 .ignoreTermTags(m_config.getIgnoreTermTags())
                 .extractRowColors(m_config.getUseColorProp());
-        DataArray da = new DefaultDataArray(table, 1, Integer.MAX_VALUE, exec.createSubExecutionContext(0.2));
-        List<TagCloudData> data = termResolver.extractWordCloudData(da, exec.createSubExecutionContext(0.8));
+        List<TagCloudData> data = termResolver.extractWordCloudData(table, exec);
 
         Map<String, String> warnMessages = new HashMap<String, String>();
         if (termResolver.isClippingOccured()) {
@@ -123,6 +123,7 @@ public class TileViewNodeDialog extends NodeDialogPane {
     private final JCheckBox m_enablePageSizeChangeCheckBox;
     private final JTextField m_allowedPageSizesField;
     private final JCheckBox m_enableShowAllCheckBox;
+    private final JCheckBox m_enableLazyLoadingCheckBox;
     private final JCheckBox m_enableJumpToPageCheckBox;
     private final JCheckBox m_enableSelectionCheckbox;
     private final JCheckBox m_enableClearSelectionButtonCheckbox;
@@ -162,6 +163,7 @@ public class TileViewNodeDialog extends NodeDialogPane {
         m_enablePageSizeChangeCheckBox.addChangeListener(e -> enablePagingFields());
         m_allowedPageSizesField = new JTextField(TEXT_FIELD_SIZE);
         m_enableShowAllCheckBox = new JCheckBox("Add \"All\" option to page sizes");
+        m_enableLazyLoadingCheckBox = new JCheckBox("Enable lazy loading");
         m_enableJumpToPageCheckBox = new JCheckBox("Display field to jump to a page directly");
         m_displayRowColorsCheckBox = new JCheckBox("Display row colors");
         m_displayColumnHeadersCheckBox = new JCheckBox("Display column headers");
@@ -263,6 +265,8 @@ protected void saveSettingsTo(final NodeSettingsWO settings) throws InvalidSetti
             .setEnablePageSizeChange(m_enablePageSizeChangeCheckBox.isSelected());
         m_config.getSettings().getRepresentationSettings().setAllowedPageSizes(getAllowedPageSizes());
         m_config.getSettings().getRepresentationSettings().setPageSizeShowAll(m_enableShowAllCheckBox.isSelected());
+        m_config.getSettings().getRepresentationSettings()
+            .setEnableLazyLoading(m_enablePagingCheckBox.isSelected() && m_enableLazyLoadingCheckBox.isSelected());
         m_config.getSettings().getRepresentationSettings().setEnableJumpToPage(m_enableJumpToPageCheckBox.isSelected());
         m_config.getSettings().getRepresentationSettings().setDisplayRowColors(m_displayRowColorsCheckBox.isSelected());
         m_config.getSettings().getRepresentationSettings()
@@ -330,6 +334,8 @@ protected void loadSettingsFrom(final NodeSettingsRO settings, final PortObjectS
         m_allowedPageSizesField.setText(
             getAllowedPageSizesString(m_config.getSettings().getRepresentationSettings().getAllowedPageSizes()));
         m_enableShowAllCheckBox.setSelected(m_config.getSettings().getRepresentationSettings().getPageSizeShowAll());
+        m_enableLazyLoadingCheckBox
+            .setSelected(m_config.getSettings().getRepresentationSettings().getEnableLazyLoading());
         m_enableJumpToPageCheckBox
             .setSelected(m_config.getSettings().getRepresentationSettings().getEnableJumpToPage());
         m_displayRowColorsCheckBox
@@ -547,6 +553,8 @@ private JPanel initInteractivity() {
         gbcP.gridy++;
         gbcP.gridwidth = 2;
         pagingPanel.add(m_enableShowAllCheckBox, gbcP);
+        gbcP.gridy++;
+        pagingPanel.add(m_enableLazyLoadingCheckBox, gbcP);
 
         final JPanel selectionPanel = new JPanel(new GridBagLayout());
         // section name change not in table view
@@ -665,6 +673,8 @@ private void enablePagingFields() {
         m_enablePageSizeChangeCheckBox.setEnabled(enableGlobal);
         m_allowedPageSizesField.setEnabled(enableGlobal && enableSizeChange);
         m_enableShowAllCheckBox.setEnabled(enableGlobal && enableSizeChange);
+        // tiles are only requested page by page if paging is enabled
+        m_enableLazyLoadingCheckBox.setEnabled(enableGlobal);
         m_enableJumpToPageCheckBox.setEnabled(enableGlobal);
         checkRowsAndPage();
     }
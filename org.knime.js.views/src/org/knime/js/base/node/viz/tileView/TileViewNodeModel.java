@@ -55,17 +55,32 @@
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.container.ColumnRearranger;
 import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeLogger;
 import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.interactive.ViewRequestHandlingException;
 import org.knime.core.node.port.PortObject;
+import org.knime.js.base.node.viz.pagedTable.LazyTableCache;
+import org.knime.js.base.node.viz.pagedTable.PagedTableViewRequest;
+import org.knime.js.base.node.viz.pagedTable.PagedTableViewResponse;
+import org.knime.js.base.util.table.RowKeySet;
 import org.knime.js.core.JSONDataTable;
+import org.knime.js.core.JSONViewRequestHandler;
 import org.knime.js.core.node.table.AbstractTableNodeModel;
+import org.knime.js.core.settings.table.TableRepresentationSettings;
 
 /**
  * @author Alison Walter, KNIME GmbH, Konstanz, Germany
  */
-public class TileViewNodeModel extends AbstractTableNodeModel<TileViewRepresentation, TileViewValue> {
+public class TileViewNodeModel extends AbstractTableNodeModel<TileViewRepresentation, TileViewValue>
+    implements JSONViewRequestHandler<PagedTableViewRequest, PagedTableViewResponse> {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(TileViewNodeModel.class);
+
+    private LazyTableCache m_cache;
 
     /**
      * @param viewName The name of the interactive view
@@ -98,6 +113,18 @@ public String getJavascriptObjectID() {
         return "org.knime.js.base.node.viz.tileView";
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TileViewRepresentation getViewRepresentation() {
+        final TileViewRepresentation rep = super.getViewRepresentation();
+        if (m_cache == null && rep.getSettings().getEnableLazyLoading()) {
+            initializeCache(rep);
+        }
+        return rep;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -107,24 +134,37 @@ protected PortObject[] performExecute(final PortObject[] inObjects, final Execut
         BufferedDataTable out = (BufferedDataTable)inObjects[0];
         synchronized (getLock()) {
             final TileViewRepresentation viewRepresentation = getViewRepresentation();
+            final TableRepresentationSettings settings = m_config.getSettings().getRepresentationSettings();
+            double tableCreationFraction = 0.5;
+            if (settings.getEnableLazyLoading() && settings.getEnableSelection()) {
+                tableCreationFraction = 0.05;
+            } else if (!settings.getEnableLazyLoading() && !settings.getEnableSelection()) {
+                tableCreationFraction = 1.0;
+            }
             if (viewRepresentation.getSettings().getTable() == null) {
                 m_table = (BufferedDataTable)inObjects[0];
                 final JSONDataTable jsonTable = createJSONTableFromBufferedDataTable(m_table,
-                    exec.createSubExecutionContext(0.5));
+                    exec.createSubExecutionContext(tableCreationFraction));
                 viewRepresentation.getSettings().setTable(jsonTable);
                 copyConfigToRepresentation();
             }
+            if (m_cache == null && settings.getEnableLazyLoading()) {
+                // tiles are requested page by page, image cells are only rendered for the requested page
+                initializeCache(viewRepresentation);
+            }
 
-            if (m_config.getSettings().getRepresentationSettings().getEnableSelection()) {
+            if (settings.getEnableSelection()) {
                 final TileViewValue viewValue = getViewValue();
                 List<String> selectionList = null;
                 if (viewValue != null) {
                     if (viewValue.getSettings().getSelection() != null) {
-                        selectionList = Arrays.asList(viewValue.getSettings().getSelection());
+                        // hashed lookup, the appender calls contains() for every row
+                        selectionList = RowKeySet.of(viewValue.getSettings().getSelection()).asList();
                     }
                 }
                 final ColumnRearranger rearranger = createColumnAppender(m_table.getDataTableSpec(), selectionList);
-                out = exec.createColumnRearrangeTable(m_table, rearranger, exec.createSubExecutionContext(0.5));
+                out = exec.createColumnRearrangeTable(m_table, rearranger,
+                    exec.createSubExecutionContext(1 - tableCreationFraction));
             }
             viewRepresentation.getSettings().setSubscriptionFilterIds(
                 getSubscriptionFilterIds(m_table.getDataTableSpec()));
@@ -133,6 +173,13 @@ protected PortObject[] performExecute(final PortObject[] inObjects, final Execut
         return new PortObject[]{out};
     }
 
+    private void initializeCache(final TileViewRepresentation rep) {
+        if (rep == null || rep.getSettings() == null) {
+            return;
+        }
+        m_cache = new LazyTableCache(m_table, rep.getSettings());
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -141,6 +188,47 @@ protected void validateSettings(final NodeSettingsRO settings) throws InvalidSet
         m_config.loadSettings(settings);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void performReset() {
+        if (m_cache != null) {
+            m_cache.clear();
+            m_cache = null;
+        }
+        super.performReset();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PagedTableViewRequest createEmptyViewRequest() {
+        return new PagedTableViewRequest();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PagedTableViewResponse handleRequest(final PagedTableViewRequest request, final ExecutionMonitor exec)
+        throws ViewRequestHandlingException, InterruptedException, CanceledExecutionException {
+        final PagedTableViewResponse response = new PagedTableViewResponse(request);
+        try {
+            m_cache.fillResponse(request, getJsonDataTableBuilder(m_table), response, exec);
+        } catch (CanceledExecutionException e) {
+            // request was cancelled, no need for special treatment
+            throw e;
+        } catch (Exception e) {
+            // wrap all other exceptions for proper error handling
+            LOGGER.error("Tile request could not be processed: " + e.getMessage(), e);
+            response.setError(e.getMessage());
+            throw new ViewRequestHandlingException(e);
+        }
+        return response;
+    }
+
     @Override
     protected ColumnRearranger createColumnAppender(final DataTableSpec spec, final List<String> selectionList) {
         final String newColName = m_config.getSettings().getSelectionColumnName();
@@ -0,0 +1,335 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   17 Oct 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.js.base.util.table;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.StringValue;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.container.filter.TableFilter;
+import org.knime.core.data.time.localdate.LocalDateValue;
+import org.knime.core.data.time.localdatetime.LocalDateTimeValue;
+import org.knime.core.data.time.localtime.LocalTimeValue;
+import org.knime.core.data.time.zoneddatetime.ZonedDateTimeValue;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.js.core.CSSUtils;
+import org.knime.js.core.JSONDataTableSpec;
+import org.knime.js.core.JSONDataTableSpec.JSTypes;
+import org.knime.js.core.datasets.JSONKeyedValues2DDataset;
+import org.knime.js.core.datasets.JSONKeyedValuesRow;
+
+/**
+ * Builds the keyed datasets of the plot views directly from the rows of a table, without creating a
+ * {@link org.knime.js.core.JSONDataTable} first. Numeric cells are read as doubles, date&amp;time cells are converted
+ * to epoch milliseconds and nominal cells are mapped to the ordinal of their value in the column domain by a lookup
+ * map which is built once per column.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+public final class KeyedDatasetBuilder {
+
+    private static final int NUMERIC = 0;
+    private static final int DATE_TIME = 1;
+    private static final int NOMINAL = 2;
+
+    private final DataTableSpec m_spec;
+    private final int[] m_colIndices;
+    private final int[] m_kinds;
+    private final Map<String, Integer>[] m_ordinals;
+    private final JSONDataTableSpec m_jsonSpec;
+    private final boolean[] m_containsMissingValues;
+    private boolean m_omitUnsupportedValues;
+    private boolean m_hasUnsupportedValues;
+
+    /**
+     * Creates a builder for all numeric, date&amp;time and string columns of the given spec.
+     *
+     * @param spec the spec of the tables the rows are read from
+     */
+    public KeyedDatasetBuilder(final DataTableSpec spec) {
+        this(spec, getSupportedColumns(spec));
+    }
+
+    /**
+     * @param spec the spec of the tables the rows are read from
+     * @param columns the names of the columns to include, in the order of the dataset
+     */
+    @SuppressWarnings("unchecked")
+    public KeyedDatasetBuilder(final DataTableSpec spec, final String... columns) {
+        m_spec = spec;
+        m_colIndices = spec.columnsToIndices(columns);
+        m_jsonSpec = new JSONDataTableSpec(new DataTableSpec(
+            Arrays.stream(m_colIndices).mapToObj(spec::getColumnSpec).toArray(DataColumnSpec[]::new)), 0);
+        m_kinds = new int[columns.length];
+        m_ordinals = new Map[columns.length];
+        m_containsMissingValues = new boolean[columns.length];
+        final List<LinkedHashSet<Object>> possibleValues = m_jsonSpec.getPossibleValues();
+        for (int col = 0; col < columns.length; col++) {
+            final DataType type = spec.getColumnSpec(m_colIndices[col]).getType();
+            if (type.isCompatible(DoubleValue.class)) {
+                m_kinds[col] = NUMERIC;
+            } else if (type.isCompatible(LocalDateTimeValue.class) || type.isCompatible(LocalDateValue.class)
+                || type.isCompatible(LocalTimeValue.class) || type.isCompatible(ZonedDateTimeValue.class)) {
+                m_kinds[col] = DATE_TIME;
+            } else {
+                m_kinds[col] = NOMINAL;
+                m_ordinals[col] = new HashMap<>();
+                if (possibleValues != null && possibleValues.get(col) != null) {
+                    int ordinal = 0;
+                    for (Object value : possibleValues.get(col)) {
+                        if (value != null) {
+                            m_ordinals[col].putIfAbsent(value.toString(), ordinal);
+                        }
+                        ordinal++;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Sets whether NaN and infinite values are put into the dataset as missing values. Defaults to false.
+     *
+     * @param omit true if unsupported values are to be omitted
+     * @return this builder
+     */
+    public KeyedDatasetBuilder setOmitUnsupportedValues(final boolean omit) {
+        m_omitUnsupportedValues = omit;
+        return this;
+    }
+
+    /**
+     * Creates the dataset rows of the first rows of the given table.
+     *
+     * @param table the table to read, its spec must be the spec of this builder
+     * @param maxRows the maximum number of rows to read
+     * @param exec the monitor to report progress to and check for cancellation
+     * @return the dataset rows in the order of the table
+     * @throws CanceledExecutionException if the execution was canceled
+     */
+    public JSONKeyedValuesRow[] createRows(final BufferedDataTable table, final int maxRows,
+        final ExecutionMonitor exec) throws CanceledExecutionException {
+        final int numRows = (int)Math.min(table.size(), Math.max(0, maxRows));
+        final JSONKeyedValuesRow[] rows = new JSONKeyedValuesRow[numRows];
+        if (numRows == 0) {
+            return rows;
+        }
+        try (CloseableRowIterator it = table.filter(TableFilter.filterRangeOfRows(0, numRows - 1L)).iterator()) {
+            for (int i = 0; i < numRows && it.hasNext(); i++) {
+                rows[i] = createRow(it.next());
+                reportProgress(exec, i, numRows);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Creates the dataset rows of the given rows.
+     *
+     * @param rows the rows to read, their cells must match the spec of this builder
+     * @param exec the monitor to report progress to and check for cancellation
+     * @return the dataset rows in the given order
+     * @throws CanceledExecutionException if the execution was canceled
+     */
+    public JSONKeyedValuesRow[] createRows(final DataRow[] rows, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        final JSONKeyedValuesRow[] result = new JSONKeyedValuesRow[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            result[i] = createRow(rows[i]);
+            reportProgress(exec, i, rows.length);
+        }
+        return result;
+    }
+
+    /**
+     * Creates a dataset of the given rows with the symbols of the nominal columns and the formats of the
+     * date&amp;time columns set.
+     *
+     * @param id the id of the dataset
+     * @param rows the dataset rows created by this builder
+     * @return the dataset
+     */
+    public JSONKeyedValues2DDataset createDataset(final String id, final JSONKeyedValuesRow[] rows) {
+        final JSONKeyedValues2DDataset dataset = new JSONKeyedValues2DDataset(id, m_jsonSpec.getColNames(), rows);
+        final List<LinkedHashSet<Object>> possibleValues = m_jsonSpec.getPossibleValues();
+        for (int col = 0; col < m_kinds.length; col++) {
+            if (m_jsonSpec.getColTypes()[col].equals(JSTypes.STRING) && possibleValues != null
+                && possibleValues.get(col) != null) {
+                dataset.setSymbol(getSymbolMap(possibleValues.get(col)), col);
+            }
+            if (m_jsonSpec.getColTypes()[col].equals(JSTypes.DATE_TIME)) {
+                dataset.setDateTimeFormat(m_jsonSpec.getKnimeTypes()[col], col);
+            }
+        }
+        return dataset;
+    }
+
+    /**
+     * @return the spec of the included columns, the number of rows is not set
+     */
+    public JSONDataTableSpec getSpec() {
+        return m_jsonSpec;
+    }
+
+    /**
+     * @return the names of the included columns which contained a missing value in any of the read rows
+     */
+    public String[] getMissingValueColumns() {
+        final String[] colNames = m_jsonSpec.getColNames();
+        return IntStream.range(0, colNames.length).filter(i -> m_containsMissingValues[i])
+            .mapToObj(i -> colNames[i]).toArray(String[]::new);
+    }
+
+    /**
+     * @return true if any of the read rows contained a missing, NaN or infinite value which was omitted, only
+     *         tracked if {@link #setOmitUnsupportedValues(boolean)} is set
+     */
+    public boolean hasUnsupportedValues() {
+        return m_hasUnsupportedValues;
+    }
+
+    private JSONKeyedValuesRow createRow(final DataRow row) {
+        final Double[] values = new Double[m_colIndices.length];
+        for (int col = 0; col < m_colIndices.length; col++) {
+            final DataCell cell = row.getCell(m_colIndices[col]);
+            if (cell.isMissing()) {
+                m_containsMissingValues[col] = true;
+                m_hasUnsupportedValues |= m_omitUnsupportedValues;
+                continue;
+            }
+            final double value;
+            if (m_kinds[col] == NUMERIC) {
+                value = ((DoubleValue)cell).getDoubleValue();
+            } else if (m_kinds[col] == DATE_TIME) {
+                value = toDouble(cell);
+            } else {
+                final Integer ordinal = m_ordinals[col].get(((StringValue)cell).getStringValue());
+                value = ordinal == null ? -1 : ordinal;
+            }
+            if (m_omitUnsupportedValues && (Double.isNaN(value) || Double.isInfinite(value))) {
+                m_hasUnsupportedValues = true;
+                continue;
+            }
+            values[col] = value;
+        }
+        final JSONKeyedValuesRow result = new JSONKeyedValuesRow(row.getKey().getString(), values);
+        result.setColor(CSSUtils.cssHexStringFromColor(m_spec.getRowColor(row).getColor()));
+        return result;
+    }
+
+    private static void reportProgress(final ExecutionMonitor exec, final int row, final int numRows)
+        throws CanceledExecutionException {
+        if ((row & 0x3FF) == 0) {
+            exec.checkCanceled();
+            exec.setProgress(((double)row) / numRows,
+                () -> "Creating dataset, processing row " + row + " of " + numRows + ".");
+        }
+    }
+
+    /**
+     * @param cell a numeric or date&amp;time cell
+     * @return the value of the cell as it is displayed on the axis of the view, {@link Double#NaN} for missing or
+     *         unsupported cells
+     */
+    public static double toDouble(final DataCell cell) {
+        if (cell == null || cell.isMissing()) {
+            return Double.NaN;
+        }
+        if (cell instanceof DoubleValue) {
+            return ((DoubleValue)cell).getDoubleValue();
+        }
+        if (cell instanceof LocalDateTimeValue) {
+            return ((LocalDateTimeValue)cell).getLocalDateTime().toInstant(ZoneOffset.UTC).toEpochMilli();
+        }
+        if (cell instanceof LocalDateValue) {
+            return ((LocalDateValue)cell).getLocalDate().atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+        }
+        if (cell instanceof LocalTimeValue) {
+            return ((LocalTimeValue)cell).getLocalTime().atDate(LocalDate.now()).toInstant(ZoneOffset.UTC)
+                .toEpochMilli();
+        }
+        if (cell instanceof ZonedDateTimeValue) {
+            return ((ZonedDateTimeValue)cell).getZonedDateTime().toInstant().toEpochMilli();
+        }
+        return Double.NaN;
+    }
+
+    /**
+     * @param spec a table spec
+     * @return the names of all columns which can be shown in a plot, i.e. numeric, date&amp;time and string columns
+     */
+    public static String[] getSupportedColumns(final DataTableSpec spec) {
+        return spec.stream().filter(c -> c.getType().isCompatible(DoubleValue.class)
+            || c.getType().isCompatible(StringValue.class)).map(DataColumnSpec::getName).toArray(String[]::new);
+    }
+
+    private static Map<String, String> getSymbolMap(final LinkedHashSet<Object> possibleValues) {
+        final Map<String, String> symbolMap = new HashMap<>();
+        int ordinal = 0;
+        for (Object value : possibleValues) {
+            symbolMap.put(Integer.toString(ordinal), value.toString());
+            ordinal++;
+        }
+        return symbolMap;
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   17 Oct 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.js.base.util.table;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Immutable set of row keys backed by an open-addressing (linear probing) hash table. Used to look up selected row
+ * keys when appending selection columns, so that the lookup cost per output row does not depend on the number of
+ * selected rows.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+public final class RowKeySet {
+
+    private static final RowKeySet EMPTY = new RowKeySet(new String[0]);
+
+    private final String[] m_keys;
+    private final String[] m_slots;
+    private final int[] m_hashes;
+    private final int m_mask;
+    private final int m_size;
+
+    private RowKeySet(final String[] keys) {
+        m_keys = keys;
+        // keep the load factor at or below 0.5
+        int capacity = Integer.highestOneBit(Math.max(2, keys.length) * 2 - 1) << 1;
+        m_slots = new String[capacity];
+        m_hashes = new int[capacity];
+        m_mask = capacity - 1;
+        int size = 0;
+        for (String key : keys) {
+            if (key != null && add(key)) {
+                size++;
+            }
+        }
+        m_size = size;
+    }
+
+    /**
+     * Creates a new set from the given row keys. Null entries are ignored.
+     *
+     * @param keys the row keys, may be null
+     * @return a new set containing the given keys
+     */
+    public static RowKeySet of(final String... keys) {
+        if (keys == null || keys.length == 0) {
+            return EMPTY;
+        }
+        return new RowKeySet(keys);
+    }
+
+    /**
+     * Creates a new set from the given row keys. Null entries are ignored.
+     *
+     * @param keys the row keys, may be null
+     * @return a new set containing the given keys
+     */
+    public static RowKeySet of(final Collection<String> keys) {
+        if (keys == null || keys.isEmpty()) {
+            return EMPTY;
+        }
+        return new RowKeySet(keys.toArray(new String[keys.size()]));
+    }
+
+    private static int hash(final String key) {
+        int h = key.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private boolean add(final String key) {
+        int hash = hash(key);
+        int slot = hash & m_mask;
+        while (m_slots[slot] != null) {
+            if (m_hashes[slot] == hash && m_slots[slot].equals(key)) {
+                return false;
+            }
+            slot = (slot + 1) & m_mask;
+        }
+        m_slots[slot] = key;
+        m_hashes[slot] = hash;
+        return true;
+    }
+
+    /**
+     * @param key the row key to look up
+     * @return true if the key is contained in this set, false otherwise
+     */
+    public boolean contains(final String key) {
+        if (key == null || m_size == 0) {
+            return false;
+        }
+        int hash = hash(key);
+        int slot = hash & m_mask;
+        String candidate;
+        while ((candidate = m_slots[slot]) != null) {
+            if (m_hashes[slot] == hash && candidate.equals(key)) {
+                return true;
+            }
+            slot = (slot + 1) & m_mask;
+        }
+        return false;
+    }
+
+    /**
+     * Counts the slots inspected when looking up a key, including the empty slot ending an unsuccessful lookup. Used
+     * to check that the lookup cost does not grow with the size of the set.
+     *
+     * @param key the row key to look up
+     * @return the number of inspected slots
+     */
+    int countProbes(final String key) {
+        int hash = hash(key);
+        int slot = hash & m_mask;
+        int probes = 1;
+        String candidate;
+        while ((candidate = m_slots[slot]) != null) {
+            if (m_hashes[slot] == hash && candidate.equals(key)) {
+                return probes;
+            }
+            slot = (slot + 1) & m_mask;
+            probes++;
+        }
+        return probes;
+    }
+
+    /**
+     * @return the number of distinct row keys in this set
+     */
+    public int size() {
+        return m_size;
+    }
+
+    /**
+     * @return true if this set does not contain any row keys
+     */
+    public boolean isEmpty() {
+        return m_size == 0;
+    }
+
+    /**
+     * Returns an unmodifiable list view of the row keys this set was created from, in their original order. In
+     * contrast to {@link Arrays#asList(Object...)} its {@link List#contains(Object)} is answered by this set. This can
+     * be passed to APIs expecting a selection list.
+     *
+     * @return an unmodifiable list view of the row keys
+     */
+    public List<String> asList() {
+        return new RowKeyList();
+    }
+
+    private final class RowKeyList extends AbstractList<String> implements RandomAccess {
+
+        @Override
+        public String get(final int index) {
+            return m_keys[index];
+        }
+
+        @Override
+        public int size() {
+            return m_keys.length;
+        }
+
+        @Override
+        public boolean contains(final Object o) {
+            return o instanceof String && RowKeySet.this.contains((String)o);
+        }
+    }
+}
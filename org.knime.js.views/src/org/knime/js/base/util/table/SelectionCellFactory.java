@@ -0,0 +1,137 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   17 Oct 2026 (KNIME GmbH, Konstanz, Germany): created
+ */
+package org.knime.js.base.util.table;
+
+import java.util.Collection;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.container.SingleCellFactory;
+import org.knime.core.data.def.BooleanCell;
+
+/**
+ * Cell factory appending a boolean selection column, shared by the table backed views. The selected row keys are
+ * put into a {@link RowKeySet} once, so that appending the column is linear in the number of rows regardless of the
+ * number of selected rows.
+ *
+ * @author KNIME GmbH, Konstanz, Germany
+ */
+public final class SelectionCellFactory extends SingleCellFactory {
+
+    private final RowKeySet m_selection;
+    private final RowKeySet m_includedRows;
+    private final long m_maxRows;
+    private long m_rowIndex = 0;
+
+    /**
+     * Creates a factory returning a missing cell for all rows after the first <code>maxRows</code> rows.
+     *
+     * @param outColumnSpec the spec of the appended column
+     * @param selection the selected row keys, may be null
+     * @param maxRows the number of rows that were displayed in the view
+     */
+    public SelectionCellFactory(final DataColumnSpec outColumnSpec, final Collection<String> selection,
+        final long maxRows) {
+        super(outColumnSpec);
+        m_selection = RowKeySet.of(selection);
+        m_includedRows = null;
+        m_maxRows = maxRows;
+    }
+
+    /**
+     * Creates a factory returning a missing cell for all rows which are not part of the given included rows.
+     *
+     * @param outColumnSpec the spec of the appended column
+     * @param selection the selected row keys, may be null
+     * @param includedRows the row keys of all rows that were displayed in the view
+     */
+    public SelectionCellFactory(final DataColumnSpec outColumnSpec, final Collection<String> selection,
+        final Collection<String> includedRows) {
+        super(outColumnSpec);
+        m_selection = RowKeySet.of(selection);
+        m_includedRows = RowKeySet.of(includedRows);
+        m_maxRows = Long.MAX_VALUE;
+    }
+
+    /**
+     * Creates the spec of a boolean selection column with a name unique in the given spec.
+     *
+     * @param spec the spec of the table the column is appended to
+     * @param columnName the configured name of the selection column, may be null or empty
+     * @param defaultColumnName the name to use if no column name is configured
+     * @return the spec of the selection column
+     */
+    public static DataColumnSpec createSelectionColumnSpec(final DataTableSpec spec, final String columnName,
+        final String defaultColumnName) {
+        String newColName = columnName;
+        if (newColName == null || newColName.trim().isEmpty()) {
+            newColName = defaultColumnName;
+        }
+        newColName = DataTableSpec.getUniqueColumnName(spec, newColName);
+        return new DataColumnSpecCreator(newColName, DataType.getType(BooleanCell.class)).createSpec();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DataCell getCell(final DataRow row) {
+        if (++m_rowIndex > m_maxRows) {
+            return DataType.getMissingCell();
+        }
+        String rowKey = row.getKey().getString();
+        if (m_includedRows != null && !m_includedRows.contains(rowKey)) {
+            return DataType.getMissingCell();
+        }
+        return BooleanCell.get(m_selection.contains(rowKey));
+    }
+}